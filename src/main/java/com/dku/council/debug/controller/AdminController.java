@@ -1,8 +1,11 @@
 package com.dku.council.debug.controller;
 
 import com.dku.council.domain.batch.LectureDumpScheduler;
+import com.dku.council.domain.batch.PostBackfillScheduler;
 import com.dku.council.domain.batch.ScheduleInfoScheduler;
 import com.dku.council.domain.batch.TicketScheduler;
+import com.dku.council.domain.comment.service.CommentService;
+import com.dku.council.domain.post.service.PostSearchService;
 import com.dku.council.global.auth.role.AdminAuth;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +22,9 @@ public class AdminController {
     private final ScheduleInfoScheduler scheduleInfoScheduler;
     private final LectureDumpScheduler lectureDumpScheduler;
     private final TicketScheduler ticketScheduler;
+    private final CommentService commentService;
+    private final PostBackfillScheduler postBackfillScheduler;
+    private final PostSearchService postSearchService;
 
     /**
      * 대학교 학사 일정을 업데이트합니다.
@@ -49,4 +55,38 @@ public class AdminController {
     public void dumpTickets() {
         ticketScheduler.dumpToDb();
     }
+
+    /**
+     * 모든 게시글의 댓글 개수를 다시 계산합니다.
+     * <p>댓글 개수는 댓글 작성/삭제 시 갱신되지만, 값이 어긋난 경우 직접 다시 계산할 수 있습니다.</p>
+     */
+    @PostMapping("/recount/comment")
+    @AdminAuth
+    public void recountComments() {
+        commentService.recountComments();
+    }
+
+    /**
+     * 기존 게시글의 본문을 별도 테이블로 옮기고, 본문 요약과 검색 색인이 없는 게시글을 채웁니다.
+     * <p>서버 시작 시와 주기적으로 자동 처리되지만, 직접 처리할 수 있습니다. 처리에 시간이 좀 걸릴 수 있습니다.</p>
+     */
+    @PostMapping("/fill/excerpt")
+    @AdminAuth
+    public void fillExcerpts() {
+        postBackfillScheduler.backfill();
+    }
+
+    /**
+     * 모든 게시글의 검색 색인을 다시 만듭니다.
+     * <p>게시글 작성/삭제 시 색인이 갱신되고 기존 게시글은 자동으로 색인되지만, 색인이 어긋난 경우 직접 다시 만들 수 있습니다.
+     * 처리에 시간이 좀 걸릴 수 있습니다.</p>
+     */
+    @PostMapping("/reindex/post")
+    @AdminAuth
+    public void reindexPosts() {
+        Long lastId = 0L;
+        while (lastId != null) {
+            lastId = postSearchService.reindex(lastId, 100);
+        }
+    }
 }
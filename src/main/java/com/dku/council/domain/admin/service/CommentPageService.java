@@ -4,6 +4,7 @@ import com.dku.council.domain.comment.exception.CommentNotFoundException;
 import com.dku.council.domain.comment.model.CommentStatus;
 import com.dku.council.domain.comment.model.entity.Comment;
 import com.dku.council.domain.comment.repository.CommentRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class CommentPageService {
     private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
 
     public Comment findOne(Long id){
         return commentRepository.findById(id).orElseThrow(CommentNotFoundException::new);
@@ -20,11 +22,17 @@ public class CommentPageService {
 
     public void active(Long id){
         Comment comment = findOne(id);
+        if (comment.getStatus() != CommentStatus.ACTIVE) {
+            postRepository.increaseCommentCount(comment.getPost().getId(), 1);
+        }
         comment.updateStatus(CommentStatus.ACTIVE);
     }
 
     public void delete(Long id){
         Comment comment = findOne(id);
+        if (comment.getStatus() == CommentStatus.ACTIVE) {
+            postRepository.increaseCommentCount(comment.getPost().getId(), -1);
+        }
         comment.updateStatus(CommentStatus.DELETED_BY_ADMIN);
     }
 }
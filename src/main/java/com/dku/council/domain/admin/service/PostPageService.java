@@ -2,10 +2,13 @@ package com.dku.council.domain.admin.service;
 
 import com.dku.council.domain.admin.dto.PostPageDto;
 import com.dku.council.domain.post.exception.PostNotFoundException;
+import com.dku.council.domain.post.model.PostChangedEvent;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.repository.post.*;
 import com.dku.council.domain.post.repository.spec.PostSpec;
+import com.dku.council.domain.post.service.PostSearchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -21,6 +24,8 @@ public class PostPageService {
     private final VocRepository vocRepository;
     private final PetitionRepository petitionRepository;
     private final GeneralForumRepository generalForumRepository;
+    private final PostSearchService searchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<PostPageDto> list(String keyword, String type, String status, Pageable pageable) {
         if (type != null) {
@@ -48,16 +53,22 @@ public class PostPageService {
     public void delete(Long id) {
         Post post = findOne(id);
         post.markAsDeleted(true);
+        searchService.remove(id);
+        eventPublisher.publishEvent(new PostChangedEvent(post));
     }
 
     public void blind(Long id) {
         Post post = findOne(id);
         post.blind();
+        searchService.remove(id);
+        eventPublisher.publishEvent(new PostChangedEvent(post));
     }
 
     public void active(Long id) {
         Post post = findOne(id);
         post.unblind();
+        searchService.index(post);
+        eventPublisher.publishEvent(new PostChangedEvent(post));
     }
 
 }
@@ -3,19 +3,30 @@ package com.dku.council.domain.batch;
 import com.dku.council.domain.bus.model.BusStation;
 import com.dku.council.domain.bus.service.BusService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class BusArrivalScheduler {
 
     private final BusService busService;
 
+    /**
+     * 모든 정류소의 도착 정보를 동시에 갱신한다. 한 정류소의 갱신이 실패해도 나머지 정류소는 갱신된다.
+     */
     @Scheduled(fixedDelayString = "${bus.cache-time}")
     public void schedule() {
-        for (BusStation station : BusStation.values()) {
-            busService.cacheBusArrival(station);
-        }
+        Flux.fromArray(BusStation.values())
+                .flatMap(station -> busService.refreshBusArrival(station)
+                        .onErrorResume(e -> {
+                            log.warn("Failed to refresh bus arrivals of {}", station, e);
+                            return Mono.empty();
+                        }))
+                .blockLast();
     }
 }
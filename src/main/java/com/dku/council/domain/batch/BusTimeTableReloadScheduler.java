@@ -0,0 +1,19 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.infra.bus.predict.impl.BusTimeTablePredictService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BusTimeTableReloadScheduler {
+
+    private final BusTimeTablePredictService predictService;
+
+    @Scheduled(fixedDelayString = "${app.bus.timetable-reload-delay:60000}",
+            initialDelayString = "${app.bus.timetable-reload-delay:60000}")
+    public void schedule() {
+        predictService.reloadIfChanged();
+    }
+}
@@ -0,0 +1,28 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.bus.holiday.service.HolidayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+public class HolidayCalendarScheduler {
+
+    private final HolidayService holidayService;
+    private final Clock clock;
+
+    /**
+     * 올해와 다음 해의 휴일 달력을 미리 계산한다. 매일 실행되지만, 해가 바뀐 뒤 처음 실행될 때만 새로 계산한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.bus.holiday-calendar-cron:0 0 0 * * *}")
+    public void schedule() {
+        holidayService.prepareCalendars(LocalDate.now(clock).getYear());
+    }
+}
@@ -0,0 +1,21 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.timetable.service.LectureIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 서버가 수업 목록을 다시 가져온 경우에도 이 서버의 수업 검색 색인이 갱신되도록 주기적으로 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LectureIndexRefreshScheduler {
+
+    private final LectureIndexService service;
+
+    @Scheduled(fixedDelayString = "${dku.lecture.index-refresh-delay:300000}")
+    public void refresh() {
+        service.refreshIfChanged();
+    }
+}
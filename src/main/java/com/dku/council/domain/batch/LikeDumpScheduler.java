@@ -1,9 +1,13 @@
 package com.dku.council.domain.batch;
 
+import com.dku.council.domain.like.model.LikeDumpResult;
 import com.dku.council.domain.like.model.LikeTarget;
 import com.dku.council.domain.like.service.impl.CachedLikeServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -13,12 +17,37 @@ import org.springframework.stereotype.Component;
 public class LikeDumpScheduler {
 
     private final CachedLikeServiceImpl service;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.post.like.dump-chunk-size:500}")
+    private final int chunkSize;
 
     @Scheduled(fixedDelayString = "${app.post.like.dump-delay}")
     public void dumpToDB() {
         for (LikeTarget target : LikeTarget.values()) {
-            if (service.dumpToDB(target) > 0) {
-                log.info("{} likes in memory dump to DB.", target);
+            long users = 0;
+            long entries = 0;
+            int chunks = 0;
+
+            LikeDumpResult result;
+            do {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                result = service.dumpChunkToDB(target, chunkSize);
+                sample.stop(meterRegistry.timer("like.dump.chunk", "target", target.name()));
+
+                if (result.getUsers() > 0) {
+                    users += result.getUsers();
+                    entries += result.getEntries();
+                    chunks++;
+                    meterRegistry.counter("like.dump.entries", "target", target.name())
+                            .increment(result.getEntries());
+                    log.debug("{} likes dump progress: chunk={}, users={}, entries={}", target, chunks, users, entries);
+                }
+            } while (result.isRemaining());
+
+            if (entries > 0) {
+                log.info("{} likes in memory dump to DB. (users={}, entries={}, chunks={})",
+                        target, users, entries, chunks);
             }
         }
     }
@@ -0,0 +1,21 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.infra.nhn.service.NHNTokenManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NHNTokenRefreshScheduler {
+
+    private final NHNTokenManager tokenManager;
+
+    /**
+     * 토큰이 없거나 만료가 가까우면 미리 갱신하여, 업로드 요청이 인증 API를 기다리지 않게 한다.
+     */
+    @Scheduled(fixedDelayString = "${nhn.auth.refresh-check-delay:60000}")
+    public void refreshToken() {
+        tokenManager.refreshIfExpiring();
+    }
+}
@@ -0,0 +1,74 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.post.service.PostExcerptService;
+import com.dku.council.domain.post.service.PostSearchService;
+import com.dku.council.global.config.redis.RedisKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntUnaryOperator;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostBackfillScheduler {
+
+    private final PostExcerptService excerptService;
+    private final PostSearchService searchService;
+    private final RedissonClient redissonClient;
+
+    @Value("${app.post.excerpt-fill-chunk-size:200}")
+    private final int chunkSize;
+
+    /**
+     * 기존 게시글의 데이터를 채운다. 서버가 시작되면 바로 실행되고, 이후 주기적으로 실행된다.
+     * 모든 게시글이 채워진 이후에는 조회 한 번씩으로 끝나며, 다른 서버가 실행중이라면 이번 주기는 건너뛴다.
+     * <ol>
+     *     <li>post 테이블에 남아있는 본문을 별도 테이블로 옮긴다.</li>
+     *     <li>본문 요약이 없는 게시글의 요약을 채운다.</li>
+     *     <li>검색 색인이 없거나 본문을 옮긴 뒤 다시 색인되지 않은 게시글을 색인한다.</li>
+     * </ol>
+     */
+    @Scheduled(fixedDelayString = "${app.post.excerpt-fill-delay:3600000}")
+    public void backfill() {
+        RLock lock = redissonClient.getLock(RedisKeys.POST_BACKFILL_LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.debug("Skip backfilling posts. Another server is backfilling.");
+            return;
+        }
+
+        try {
+            int migrated = repeat(excerptService::migrateBodies);
+            if (migrated > 0) {
+                log.info("Migrated bodies of {} posts.", migrated);
+            }
+
+            int filled = repeat(excerptService::fillExcerpts);
+            if (filled > 0) {
+                log.info("Filled excerpts of {} posts.", filled);
+            }
+
+            int indexed = repeat(searchService::indexPending);
+            if (indexed > 0) {
+                log.info("Indexed {} posts for search.", indexed);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int repeat(IntUnaryOperator chunk) {
+        int total = 0;
+        int processed;
+        do {
+            processed = chunk.applyAsInt(chunkSize);
+            total += processed;
+        } while (processed >= chunkSize);
+        return total;
+    }
+}
@@ -0,0 +1,23 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.post.service.ThumbnailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailJobScheduler {
+
+    private final ThumbnailService service;
+
+    @Scheduled(fixedDelayString = "${app.post.thumbnail.retry-delay:60000}")
+    public void retryStalledJobs() {
+        int submitted = service.retryStalledJobs();
+        if (submitted > 0) {
+            log.info("Resubmitted {} stalled thumbnail jobs.", submitted);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.ticket.service.TicketQueueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketQueueScheduler {
+
+    private final TicketQueueService service;
+
+    @Value("${app.ticket.queue.admit-size:50}")
+    private final int admitSize;
+
+    @Scheduled(fixedDelayString = "${app.ticket.queue.admit-delay:200}")
+    public void admit() {
+        for (Long ticketEventId : service.getQueuedEventIds()) {
+            int admitted = service.admit(ticketEventId, admitSize);
+            if (admitted > 0) {
+                log.debug("Admitted {} users from ticket queue. (event={})", admitted, ticketEventId);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.ticket.queue.requeue-delay:30000}")
+    public void requeueStaleAdmissions() {
+        int requeued = service.requeueStaleAdmissions();
+        if (requeued > 0) {
+            log.warn("Requeued {} users left in admitting state.", requeued);
+        }
+    }
+}
@@ -1,36 +1,130 @@
 package com.dku.council.domain.batch;
 
+import com.dku.council.domain.ticket.exception.NoTicketEventException;
 import com.dku.council.domain.ticket.model.dto.TicketDto;
-import com.dku.council.domain.ticket.model.entity.Ticket;
-import com.dku.council.domain.ticket.model.entity.TicketEvent;
-import com.dku.council.domain.ticket.repository.TicketEventRepository;
 import com.dku.council.domain.ticket.repository.TicketMemoryRepository;
-import com.dku.council.domain.ticket.repository.TicketRepository;
-import com.dku.council.domain.user.model.entity.User;
-import com.dku.council.domain.user.repository.UserRepository;
+import com.dku.council.domain.ticket.service.TicketFlushService;
+import com.dku.council.global.config.redis.RedisKeys;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class TicketScheduler {
 
-    private final TicketRepository persistenceRepository;
+    private static final String FLUSH_LOCK_KEY = RedisKeys.combine(RedisKeys.TICKET_KEY, "flushLock");
+
     private final TicketMemoryRepository memoryRepository;
-    private final TicketEventRepository ticketEventRepository;
-    private final UserRepository userRepository;
+    private final TicketFlushService flushService;
+    private final RedissonClient redissonClient;
+
+    @Value("${app.ticket.flush-chunk-size:500}")
+    private final int chunkSize;
+
+    /**
+     * 이벤트가 진행중인 동안 새로 발급된 티켓만 주기적으로 DB에 반영한다. 메모리의 티켓은 유지된다.
+     * 다른 서버가 반영하는 중이라면 이번 주기는 건너뛴다.
+     */
+    @Scheduled(fixedDelayString = "${app.ticket.flush-delay:10000}")
+    public void flush() {
+        RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.debug("Skip flushing tickets. Another server is flushing.");
+            return;
+        }
+
+        try {
+            for (Long ticketEventId : memoryRepository.getReservedEventIds()) {
+                flushEvent(ticketEventId, false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
 
-    @Transactional
+    /**
+     * 메모리의 모든 티켓을 DB에 반영하고, 반영한 티켓을 메모리에서 제거한다.
+     * 다른 서버가 반영하는 중이라면 끝날 때까지 기다린다.
+     */
     public void dumpToDb() {
-        List<TicketDto> tickets = memoryRepository.flushAllTickets();
-        for (TicketDto dto : tickets) {
-            User user = userRepository.getReferenceById(dto.getUserId());
-            TicketEvent event = ticketEventRepository.getReferenceById(dto.getEventId());
-            Ticket ticket = new Ticket(user, event, dto.getTurn());
-            persistenceRepository.save(ticket);
+        RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+        lock.lock();
+        try {
+            for (Long ticketEventId : memoryRepository.getReservedEventIds()) {
+                flushEvent(ticketEventId, true);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushEvent(Long ticketEventId, boolean evict) {
+        int flushedTurn;
+        try {
+            flushedTurn = flushService.getFlushedTurn(ticketEventId);
+        } catch (NoTicketEventException e) {
+            log.warn("Skip flushing tickets of deleted event. (event={})", ticketEventId);
+            return;
+        }
+
+        // 읽기 전에 발급된 티켓은 모두 읽게 되므로, 이 순번까지는 반영이 보장된다.
+        Integer lastTurn = memoryRepository.getLastTurn(ticketEventId);
+        FlushProgress progress = new FlushProgress(flushedTurn);
+
+        memoryRepository.scanTickets(ticketEventId, evict ? 0 : flushedTurn, chunkSize, chunk -> {
+            progress.saved += saveChunk(ticketEventId, chunk);
+            progress.chunks++;
+            for (TicketDto ticket : chunk) {
+                progress.maxTurn = Math.max(progress.maxTurn, ticket.getTurn());
+            }
+            if (evict) {
+                memoryRepository.removeTickets(ticketEventId, chunk.stream()
+                        .map(TicketDto::getUserId)
+                        .collect(Collectors.toList()));
+            }
+        });
+
+        int newFlushedTurn = lastTurn != null ? lastTurn : progress.maxTurn;
+        if (newFlushedTurn > flushedTurn) {
+            flushService.updateFlushedTurn(ticketEventId, newFlushedTurn);
+        }
+
+        if (progress.saved > 0) {
+            log.info("Tickets in memory dump to DB. (event={}, tickets={}, chunks={}, flushedTurn={})",
+                    ticketEventId, progress.saved, progress.chunks, newFlushedTurn);
+        }
+    }
+
+    /**
+     * chunk를 저장한다. 같은 (이벤트, 순번)의 티켓이 먼저 저장되어 unique 제약에 걸렸다면,
+     * 저장된 순번을 다시 확인하여 나머지만 저장한다.
+     */
+    private int saveChunk(Long ticketEventId, List<TicketDto> chunk) {
+        try {
+            return flushService.saveTickets(ticketEventId, chunk);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Tickets were already saved. Retry with the rest. (event={})", ticketEventId);
+            return flushService.saveTickets(ticketEventId, chunk);
+        }
+    }
+
+    private static class FlushProgress {
+        private int maxTurn;
+        private int saved;
+        private int chunks;
+
+        private FlushProgress(int maxTurn) {
+            this.maxTurn = maxTurn;
         }
     }
 }
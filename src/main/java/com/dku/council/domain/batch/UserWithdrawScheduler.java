@@ -4,6 +4,7 @@ import com.dku.council.domain.comment.model.CommentStatus;
 import com.dku.council.domain.comment.model.entity.Comment;
 import com.dku.council.domain.comment.repository.CommentRepository;
 import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.repository.PostSearchRepository;
 import com.dku.council.domain.post.repository.post.PostRepository;
 import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.domain.user.repository.UserRepository;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.Period;
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
@@ -27,6 +29,7 @@ public class UserWithdrawScheduler {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final PostSearchRepository postSearchRepository;
 
     @Value("${app.user.default-user-id}")
     private final Long defaultUserId;
@@ -46,13 +49,19 @@ public class UserWithdrawScheduler {
             user.emptyOutUserInfo();
 
             Page<Post> posts = postRepository.findAllByUserIdWithNotActive(user.getId(), Pageable.unpaged());
+            List<Long> postIds = new ArrayList<>();
             for (Post post : posts) {
                 post.changeUser(defaultUser);
                 post.markAsDeleted(false);
+                postIds.add(post.getId());
             }
+            postSearchRepository.remove(postIds);
 
             List<Comment> comments = commentRepository.findAllByUserId(user.getId());
             for (Comment comment : comments) {
+                if (comment.getStatus() == CommentStatus.ACTIVE) {
+                    postRepository.increaseCommentCount(comment.getPost().getId(), -1);
+                }
                 comment.changeUser(defaultUser);
                 comment.updateStatus(CommentStatus.DELETED);
             }
@@ -0,0 +1,31 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.post.service.ViewCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountDumpScheduler {
+
+    private final ViewCountService service;
+
+    @Scheduled(fixedDelayString = "${app.post.view-count-dump-delay:60000}")
+    public void dumpToDB() {
+        int posts = service.dumpToDB();
+        if (posts > 0) {
+            log.info("Post views in memory dump to DB. (posts={})", posts);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.post.view-drain-recover-delay:600000}")
+    public void recoverDrainedViews() {
+        int runs = service.recoverDrainedViews();
+        if (runs > 0) {
+            log.warn("Recovered unfinished post view drains. (runs={})", runs);
+        }
+    }
+}
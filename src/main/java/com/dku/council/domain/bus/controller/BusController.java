@@ -2,14 +2,17 @@ package com.dku.council.domain.bus.controller;
 
 import com.dku.council.domain.bus.model.BusStation;
 import com.dku.council.domain.bus.model.dto.ResponseBusArrivalDto;
+import com.dku.council.domain.bus.service.BusArrivalStreamService;
 import com.dku.council.domain.bus.service.BusService;
 import com.dku.council.infra.bus.exception.InvalidBusStationException;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.constraints.NotBlank;
 
@@ -20,6 +23,7 @@ import javax.validation.constraints.NotBlank;
 public class BusController {
 
     private final BusService service;
+    private final BusArrivalStreamService streamService;
 
     /**
      * 예상 버스 도착 시간을 조회합니다.
@@ -36,4 +40,21 @@ public class BusController {
         }
         return service.listBusArrival(station);
     }
+
+    /**
+     * 예상 버스 도착 시간을 SSE로 구독합니다. 연결 직후 현재 도착 정보를 보내고,
+     * 이후 서버가 도착 정보를 새로 가져올 때마다 "arrival" 이벤트로 조회 API와 같은 형식의 데이터를 보냅니다.
+     * 연결은 일정 시간이 지나면 끊기므로, 클라이언트는 다시 연결해야 합니다.
+     *
+     * @param stationName 버스 정류장 이름. 가능한 값: 단국대정문, 곰상
+     * @return 버스 도착 정보 이벤트 스트림
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBusArrivalTime(@NotBlank @RequestParam String stationName) {
+        BusStation station = BusStation.of(stationName);
+        if (station == null) {
+            throw new InvalidBusStationException();
+        }
+        return streamService.subscribe(station, service.listBusArrival(station));
+    }
 }
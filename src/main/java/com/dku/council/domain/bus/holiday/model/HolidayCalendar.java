@@ -0,0 +1,51 @@
+package com.dku.council.domain.bus.holiday.model;
+
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * 한 해의 휴일(일요일 + 법정공휴일)을 미리 계산해둔 달력. 날짜를 day of year 비트로 보관하여 O(1)로 조회한다.
+ * 만들어진 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회할 수 있다.
+ */
+public class HolidayCalendar {
+
+    @Getter
+    private final int year;
+    private final BitSet days = new BitSet(367);
+
+    /**
+     * @param year     연도
+     * @param holidays 법정공휴일 목록. 다른 연도의 날짜는 무시한다.
+     */
+    public HolidayCalendar(int year, Collection<LocalDate> holidays) {
+        this.year = year;
+        for (LocalDate holiday : holidays) {
+            if (holiday.getYear() == year) {
+                days.set(holiday.getDayOfYear());
+            }
+        }
+
+        LocalDate sunday = LocalDate.of(year, 1, 1).with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        for (; sunday.getYear() == year; sunday = sunday.plusWeeks(1)) {
+            days.set(sunday.getDayOfYear());
+        }
+    }
+
+    /**
+     * 휴일인지 확인한다.
+     *
+     * @param date 확인할 날짜. 달력과 같은 연도여야 한다.
+     * @return 휴일이면 true, 아니면 false
+     */
+    public boolean isHoliday(LocalDate date) {
+        if (date.getYear() != year) {
+            throw new IllegalArgumentException("Not in " + year + ": " + date);
+        }
+        return days.get(date.getDayOfYear());
+    }
+}
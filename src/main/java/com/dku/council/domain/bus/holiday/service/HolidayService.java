@@ -1,15 +1,19 @@
 package com.dku.council.domain.bus.holiday.service;
 
 import com.dku.council.domain.bus.holiday.model.Holiday;
+import com.dku.council.domain.bus.holiday.model.HolidayCalendar;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.dku.council.domain.bus.holiday.model.Holiday.SubstitutionType.NONE;
 
@@ -18,21 +22,40 @@ import static com.dku.council.domain.bus.holiday.model.Holiday.SubstitutionType.
 public class HolidayService {
 
     private final HolidayParser holidayParser;
-    private List<Holiday> holidays = null;
+    private final Map<Integer, HolidayCalendar> calendars = new ConcurrentHashMap<>();
+    private volatile List<Holiday> holidays = null;
 
 
     /**
      * 법정공휴일(일요일 + 외에 지정된 법정공휴일)인지 확인한다.
+     * 연도별 휴일 달력은 처음 조회할 때 한 번만 계산된다.
      *
      * @param localDate 확인할 날짜
      * @return 휴일이면 true, 아니면 false
      */
     public boolean isHoliday(LocalDate localDate) {
-        if (localDate.getDayOfWeek() == DayOfWeek.SUNDAY) {
-            return true;
-        }
+        return getCalendar(localDate.getYear()).isHoliday(localDate);
+    }
 
-        return getHolidays(localDate.getYear()).contains(localDate);
+    /**
+     * year년 휴일 달력을 가져온다. 없다면 계산하여 보관한다.
+     *
+     * @param year 연도
+     * @return 휴일 달력
+     */
+    public HolidayCalendar getCalendar(int year) {
+        return calendars.computeIfAbsent(year, y -> new HolidayCalendar(y, getHolidays(y)));
+    }
+
+    /**
+     * year년과 다음 해의 휴일 달력을 미리 계산하고, 작년보다 오래된 달력은 버린다.
+     *
+     * @param year 올해 연도
+     */
+    public void prepareCalendars(int year) {
+        getCalendar(year);
+        getCalendar(year + 1);
+        calendars.keySet().removeIf(y -> y < year - 1);
     }
 
     /**
@@ -42,18 +65,14 @@ public class HolidayService {
      * @return 모든 법정공휴일
      */
     public Set<LocalDate> getHolidays(int year) {
-        if (holidays == null) {
-            holidays = holidayParser.parse("/holidays");
-            Collections.sort(holidays);
-        }
-
+        List<Holiday> rules = getHolidayRules();
         Set<LocalDate> holidaySet = new HashSet<>();
-        for (Holiday holiday : holidays) {
+        for (Holiday holiday : rules) {
             LocalDate day = holiday.getDay(year);
             holidaySet.add(day);
         }
 
-        for (Holiday holiday : holidays) {
+        for (Holiday holiday : rules) {
             Holiday.SubstitutionType type = holiday.getSubstitutionType();
             if (type != NONE) {
                 LocalDate day = holiday.getDay(year);
@@ -72,6 +91,22 @@ public class HolidayService {
         return holidaySet;
     }
 
+    private List<Holiday> getHolidayRules() {
+        List<Holiday> result = holidays;
+        if (result == null) {
+            synchronized (this) {
+                result = holidays;
+                if (result == null) {
+                    List<Holiday> parsed = new ArrayList<>(holidayParser.parse("/holidays"));
+                    Collections.sort(parsed);
+                    result = List.copyOf(parsed);
+                    holidays = result;
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * 대체공휴일을 적용한 날짜 계산
      *
@@ -0,0 +1,65 @@
+package com.dku.council.domain.bus.model;
+
+import com.dku.council.domain.bus.model.dto.BusArrivalDto;
+import com.dku.council.domain.bus.model.dto.ResponseBusArrivalDto;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 서버 메모리에 보관하는 정류소별 버스 도착 정보. 여러 요청이 같은 인스턴스를 공유한다.
+ * 경과 시간으로 보정한 응답은 초 단위로 달라지므로, 같은 초에 들어온 요청끼리는 한 번 만든 응답을 재사용한다.
+ */
+public class BusArrivalSnapshot {
+
+    @Getter
+    private final CachedBusArrivals arrivals;
+
+    private volatile Rendered rendered;
+
+    public BusArrivalSnapshot(CachedBusArrivals arrivals) {
+        this.arrivals = arrivals;
+    }
+
+    public Instant getCapturedAt() {
+        return arrivals.getCapturedAt();
+    }
+
+    /**
+     * 도착 정보를 가져온 뒤 지난 시간만큼 도착 예정 시간을 보정한 응답을 만든다.
+     *
+     * @param now 현재 시각
+     * @return 버스 도착 정보 응답. 공유되는 객체이므로 수정해선 안된다.
+     */
+    public ResponseBusArrivalDto toResponse(Instant now) {
+        long elapsedSeconds = Math.max(Duration.between(getCapturedAt(), now).getSeconds(), 0);
+
+        Rendered current = rendered;
+        if (current == null || current.elapsedSeconds != elapsedSeconds) {
+            current = new Rendered(elapsedSeconds, render(Duration.ofSeconds(elapsedSeconds)));
+            rendered = current;
+        }
+        return current.response;
+    }
+
+    private ResponseBusArrivalDto render(Duration elapsed) {
+        List<BusArrivalDto> busArrivalDtos = arrivals.getArrivals().stream()
+                .map(arrival -> arrival.elapsed(elapsed))
+                .map(BusArrivalDto::new)
+                .collect(Collectors.toUnmodifiableList());
+        return new ResponseBusArrivalDto(getCapturedAt(), busArrivalDtos);
+    }
+
+    private static class Rendered {
+        private final long elapsedSeconds;
+        private final ResponseBusArrivalDto response;
+
+        private Rendered(long elapsedSeconds, ResponseBusArrivalDto response) {
+            this.elapsedSeconds = elapsedSeconds;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.dku.council.domain.bus.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서버 메모리의 버스 도착 정보가 더 최신 정보로 바뀌었을 때 발행하는 이벤트.
+ * 다른 서버에서 가져온 도착 정보를 전달받은 경우에도 발행된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BusArrivalUpdatedEvent {
+    private final BusStation station;
+    private final BusArrivalSnapshot snapshot;
+}
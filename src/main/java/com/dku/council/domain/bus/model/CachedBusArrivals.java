@@ -6,10 +6,34 @@ import lombok.RequiredArgsConstructor;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @RequiredArgsConstructor
 public class CachedBusArrivals {
     private final Instant capturedAt;
     private final List<BusArrival> arrivals;
+
+    /**
+     * provider별로 도착 정보를 실제로 가져온 시각. 실패한 provider의 정보를 이전 정보로 대신했다면
+     * 갱신 시각이 아닌 원래 가져왔던 시각이 남는다.
+     */
+    private final Map<String, Instant> providerCapturedAt;
+
+    public CachedBusArrivals(Instant capturedAt, List<BusArrival> arrivals) {
+        this(capturedAt, arrivals, Map.of());
+    }
+
+    /**
+     * provider의 도착 정보를 실제로 가져온 시각을 반환한다. 기록이 없으면 전체 수집 시각을 사용한다.
+     *
+     * @param providerPrefix provider prefix
+     * @return 도착 정보를 가져온 시각
+     */
+    public Instant capturedAtOf(String providerPrefix) {
+        if (providerCapturedAt == null) {
+            return capturedAt;
+        }
+        return providerCapturedAt.getOrDefault(providerPrefix, capturedAt);
+    }
 }
@@ -27,4 +27,14 @@ public interface BusArrivalRepository {
      * @return 캐시된 버스 도착 정보
      */
     CachedBusArrivals cacheArrivals(String stationId, List<BusArrival> arrivals, Instant now);
+
+    /**
+     * provider별 수집 시각을 포함한 버스 도착 정보를 그대로 캐시한다.
+     *
+     * @param stationId 정류장 id
+     * @param arrivals  버스 도착 정보
+     * @param now       현재 시간
+     * @return 캐시된 버스 도착 정보
+     */
+    CachedBusArrivals cacheArrivals(String stationId, CachedBusArrivals arrivals, Instant now);
 }
@@ -3,10 +3,12 @@ package com.dku.council.domain.bus.repository.impl;
 import com.dku.council.domain.bus.model.CachedBusArrivals;
 import com.dku.council.domain.bus.repository.BusArrivalRepository;
 import com.dku.council.global.base.AbstractKeyValueCacheRepository;
+import com.dku.council.global.cache.CacheCodec;
 import com.dku.council.global.config.redis.RedisKeys;
 import com.dku.council.global.model.CacheObject;
 import com.dku.council.infra.bus.model.BusArrival;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
@@ -18,8 +20,17 @@ import java.util.Optional;
 public class BusArrivalRedisRepository extends AbstractKeyValueCacheRepository implements BusArrivalRepository {
 
     protected BusArrivalRedisRepository(StringRedisTemplate redisTemplate,
-                                        ObjectMapper objectMapper) {
-        super(redisTemplate, objectMapper, RedisKeys.BUS_ARRIVAL_KEY);
+                                        ObjectMapper objectMapper,
+                                        MeterRegistry meterRegistry) {
+        super(redisTemplate, objectMapper, meterRegistry, RedisKeys.BUS_ARRIVAL_KEY);
+    }
+
+    /**
+     * 도착 정보 목록은 크기가 크므로 압축해서 저장한다.
+     */
+    @Override
+    protected <T> CacheCodec<T> createCodec(Class<T> type) {
+        return CacheCodec.compressed(super.createCodec(type));
     }
 
     public Optional<CachedBusArrivals> getArrivals(String stationId, Instant now) {
@@ -28,8 +39,11 @@ public class BusArrivalRedisRepository extends AbstractKeyValueCacheRepository i
     }
 
     public CachedBusArrivals cacheArrivals(String stationId, List<BusArrival> arrivals, Instant now) {
-        CachedBusArrivals cachePayload = new CachedBusArrivals(now, arrivals);
-        set(stationId, cachePayload, now);
-        return cachePayload;
+        return cacheArrivals(stationId, new CachedBusArrivals(now, arrivals), now);
+    }
+
+    public CachedBusArrivals cacheArrivals(String stationId, CachedBusArrivals arrivals, Instant now) {
+        set(stationId, arrivals, now);
+        return arrivals;
     }
 }
@@ -0,0 +1,121 @@
+package com.dku.council.domain.bus.service;
+
+import com.dku.council.domain.bus.model.BusArrivalSnapshot;
+import com.dku.council.domain.bus.model.BusArrivalUpdatedEvent;
+import com.dku.council.domain.bus.model.BusStation;
+import com.dku.council.domain.bus.model.CachedBusArrivals;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.dku.council.global.config.redis.RedisKeys.BUS_ARRIVAL_CHANNEL;
+
+/**
+ * 정류소별 최신 버스 도착 정보를 서버 메모리에 보관한다. 도착 정보를 새로 가져온 서버는
+ * Redis pub/sub으로 다른 서버에 도착 정보를 함께 보내므로, 각 서버는 Redis를 조회하지 않고 응답할 수 있다.
+ * <p>도착 정보가 바뀌면 {@link BusArrivalUpdatedEvent}를 발행한다.</p>
+ */
+@Slf4j
+@Service
+public class BusArrivalSnapshotService implements MessageListener {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<BusStation, BusArrivalSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BusArrivalSnapshotService(StringRedisTemplate redisTemplate,
+                                     RedisMessageListenerContainer listenerContainer,
+                                     ObjectMapper objectMapper,
+                                     ApplicationEventPublisher eventPublisher) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        listenerContainer.addMessageListener(this, new ChannelTopic(BUS_ARRIVAL_CHANNEL));
+    }
+
+    /**
+     * 이 서버에 보관된 도착 정보를 가져온다.
+     *
+     * @param station 정류소
+     * @return 도착 정보. 아직 받은 적이 없다면 빈 값 반환.
+     */
+    public Optional<BusArrivalSnapshot> find(BusStation station) {
+        return Optional.ofNullable(snapshots.get(station));
+    }
+
+    /**
+     * 도착 정보를 이 서버에만 반영한다. 보관된 정보보다 최신인 경우에만 바꾼다.
+     *
+     * @param station  정류소
+     * @param snapshot 도착 정보
+     * @return 도착 정보가 바뀌었는지 여부
+     */
+    public boolean update(BusStation station, BusArrivalSnapshot snapshot) {
+        BusArrivalSnapshot result = snapshots.merge(station, snapshot, (old, latest) ->
+                latest.getCapturedAt().isAfter(old.getCapturedAt()) ? latest : old);
+        if (result != snapshot) {
+            return false;
+        }
+
+        eventPublisher.publishEvent(new BusArrivalUpdatedEvent(station, snapshot));
+        return true;
+    }
+
+    /**
+     * 도착 정보를 이 서버에 반영하고, 다른 모든 서버에도 전달한다.
+     *
+     * @param station  정류소
+     * @param snapshot 도착 정보
+     */
+    public void publish(BusStation station, BusArrivalSnapshot snapshot) {
+        update(station, snapshot);
+        try {
+            String message = objectMapper.writeValueAsString(
+                    new UpdateMessage(nodeId, station, snapshot.getArrivals()));
+            redisTemplate.convertAndSend(BUS_ARRIVAL_CHANNEL, message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        UpdateMessage update;
+        try {
+            update = objectMapper.readValue(message.getBody(), UpdateMessage.class);
+        } catch (IOException e) {
+            log.warn("Invalid bus arrival message", e);
+            return;
+        }
+
+        if (update.getNodeId().equals(nodeId)) {
+            return;
+        }
+        update(update.getStation(), new BusArrivalSnapshot(update.getArrivals()));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class UpdateMessage {
+        private final String nodeId;
+        private final BusStation station;
+        private final CachedBusArrivals arrivals;
+    }
+}
@@ -0,0 +1,107 @@
+package com.dku.council.domain.bus.service;
+
+import com.dku.council.domain.bus.model.BusArrivalUpdatedEvent;
+import com.dku.council.domain.bus.model.BusStation;
+import com.dku.council.domain.bus.model.dto.ResponseBusArrivalDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 버스 도착 정보를 구독한 클라이언트에게 SSE로 전달한다. 도착 정보가 바뀔 때마다
+ * 한 번만 JSON으로 직렬화하여 정류소의 모든 구독자에게 같은 내용을 보낸다.
+ */
+@Slf4j
+@Service
+public class BusArrivalStreamService {
+
+    public static final String EVENT_NAME = "arrival";
+
+    private final Map<BusStation, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final ObjectMapper objectMapper;
+    private final Duration streamTimeout;
+
+    public BusArrivalStreamService(Clock clock,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${bus.stream-timeout:10m}") Duration streamTimeout) {
+        this.clock = clock;
+        this.objectMapper = objectMapper;
+        this.streamTimeout = streamTimeout;
+        for (BusStation station : BusStation.values()) {
+            List<SseEmitter> stationEmitters = new CopyOnWriteArrayList<>();
+            emitters.put(station, stationEmitters);
+            meterRegistry.gaugeCollectionSize("bus.stream.subscribers",
+                    Tags.of("station", station.name()), stationEmitters);
+        }
+    }
+
+    /**
+     * 정류소의 도착 정보를 구독한다. 구독 직후 현재 도착 정보를 한 번 보낸다.
+     *
+     * @param station 정류소
+     * @param current 현재 도착 정보
+     * @return 도착 정보를 보낼 SseEmitter
+     */
+    public SseEmitter subscribe(BusStation station, ResponseBusArrivalDto current) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        List<SseEmitter> stationEmitters = emitters.get(station);
+        emitter.onCompletion(() -> stationEmitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> stationEmitters.remove(emitter));
+
+        stationEmitters.add(emitter);
+        send(stationEmitters, emitter, serialize(current));
+        return emitter;
+    }
+
+    @EventListener
+    public void onBusArrivalUpdated(BusArrivalUpdatedEvent event) {
+        List<SseEmitter> stationEmitters = emitters.get(event.getStation());
+        if (stationEmitters.isEmpty()) {
+            return;
+        }
+
+        String data = serialize(event.getSnapshot().toResponse(Instant.now(clock)));
+        for (SseEmitter emitter : stationEmitters) {
+            send(stationEmitters, emitter, data);
+        }
+    }
+
+    private String serialize(ResponseBusArrivalDto response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void send(List<SseEmitter> stationEmitters, SseEmitter emitter, String data) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 클라이언트는 구독 목록에서 제외한다.
+            stationEmitters.remove(emitter);
+            log.debug("Failed to send bus arrival event", e);
+        }
+    }
+}
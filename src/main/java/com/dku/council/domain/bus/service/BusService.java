@@ -1,20 +1,23 @@
 package com.dku.council.domain.bus.service;
 
+import com.dku.council.domain.bus.model.BusArrivalSnapshot;
 import com.dku.council.domain.bus.model.BusStation;
 import com.dku.council.domain.bus.model.CachedBusArrivals;
-import com.dku.council.domain.bus.model.dto.BusArrivalDto;
 import com.dku.council.domain.bus.model.dto.ResponseBusArrivalDto;
 import com.dku.council.domain.bus.repository.BusArrivalRepository;
 import com.dku.council.infra.bus.model.BusArrival;
 import com.dku.council.infra.bus.service.OpenApiBusService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -23,50 +26,59 @@ public class BusService {
     private final Clock clock;
     private final OpenApiBusService openApiBusService;
     private final BusArrivalRepository memoryRepository;
+    private final BusArrivalSnapshotService snapshotService;
 
+    @Value("${bus.snapshot-max-age:2m}")
+    private final Duration snapshotMaxAge;
+
+    /**
+     * 정류소의 버스 도착 정보를 가져온다. 서버 메모리에 보관된 도착 정보가 있으면 그대로 사용하고,
+     * 없거나 갱신 메시지를 놓쳐 너무 오래되었다면 Redis에서 가져온다.
+     *
+     * @param station 정류소
+     * @return 버스 도착 정보
+     */
     public ResponseBusArrivalDto listBusArrival(BusStation station) {
         Instant now = Instant.now(clock);
-        String stationName = station.name();
-
-        CachedBusArrivals cached = memoryRepository.getArrivals(stationName, now)
-                .orElseGet(() -> {
-                    List<BusArrival> arrivals = openApiBusService.retrieveBusArrival(station);
-                    return memoryRepository.cacheArrivals(stationName, arrivals, now);
-                });
-
-        Duration diff = Duration.between(cached.getCapturedAt(), now);
-
-        List<BusArrivalDto> busArrivalDtos = cached.getArrivals().stream()
-                .map(arrival -> interpolation(arrival, diff))
-                .map(BusArrivalDto::new)
-                .collect(Collectors.toList());
-        return new ResponseBusArrivalDto(cached.getCapturedAt(), busArrivalDtos);
+        BusArrivalSnapshot snapshot = snapshotService.find(station)
+                .filter(s -> Duration.between(s.getCapturedAt(), now).compareTo(snapshotMaxAge) <= 0)
+                .orElseGet(() -> loadSnapshot(station, now));
+        return snapshot.toResponse(now);
     }
 
-    private static BusArrival interpolation(BusArrival arrival, Duration diff) {
-        Integer predictTime1 = arrival.getPredictTimeSec1();
-        Integer predictTime2 = arrival.getPredictTimeSec2();
-
-        if (predictTime1 != null) {
-            predictTime1 -= (int) diff.getSeconds();
-            predictTime1 = Math.max(predictTime1, 0);
-        }
-
-        if (predictTime2 != null) {
-            predictTime2 -= (int) diff.getSeconds();
-            predictTime2 = Math.max(predictTime2, 0);
+    private BusArrivalSnapshot loadSnapshot(BusStation station, Instant now) {
+        String stationName = station.name();
+        Optional<CachedBusArrivals> cached = memoryRepository.getArrivals(stationName, now);
+        if (cached.isPresent()) {
+            BusArrivalSnapshot snapshot = new BusArrivalSnapshot(cached.get());
+            snapshotService.update(station, snapshot);
+            return snapshot;
         }
 
-        return new BusArrival(arrival.getStatus(), arrival.getStationOrder(),
-                arrival.getLocationNo1(), predictTime1, arrival.getPlateNo1(),
-                arrival.getLocationNo2(), predictTime2, arrival.getPlateNo2(), arrival.getBusNo());
+        List<BusArrival> arrivals = openApiBusService.retrieveBusArrival(station);
+        BusArrivalSnapshot snapshot = new BusArrivalSnapshot(memoryRepository.cacheArrivals(stationName, arrivals, now));
+        snapshotService.publish(station, snapshot);
+        return snapshot;
     }
 
-    public void cacheBusArrival(BusStation station) {
+    /**
+     * 정류소의 버스 도착 정보를 새로 가져와 캐시하고, 모든 서버에 전달한다. 가져오지 못한 provider의 정보는
+     * 마지막으로 캐시된 도착 정보로 대신하며, 이때 provider가 원래 응답했던 시각을 함께 캐시한다.
+     *
+     * @param station 정류소
+     * @return 캐시된 버스 도착 정보
+     */
+    public Mono<CachedBusArrivals> refreshBusArrival(BusStation station) {
         Instant now = Instant.now(clock);
         String stationName = station.name();
 
-        List<BusArrival> arrivals = openApiBusService.retrieveBusArrival(station);
-        memoryRepository.cacheArrivals(stationName, arrivals, now);
+        return Mono.fromCallable(() -> memoryRepository.getArrivals(stationName, now))
+                .flatMap(lastGood -> openApiBusService.retrieveBusArrival(station, lastGood.orElse(null)))
+                .publishOn(Schedulers.boundedElastic())
+                .map(arrivals -> {
+                    CachedBusArrivals cached = memoryRepository.cacheArrivals(stationName, arrivals, now);
+                    snapshotService.publish(station, new BusArrivalSnapshot(cached));
+                    return cached;
+                });
     }
 }
@@ -17,6 +17,7 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Table(indexes = @Index(name = "idx_comment_post_created_at", columnList = "post_id,createdAt,comment_id"))
 public class Comment extends BaseEntity {
 
     @Id
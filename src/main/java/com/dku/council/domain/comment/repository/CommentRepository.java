@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -17,6 +18,20 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "and (c.status='ACTIVE' or c.status='EDITED') ")
     Page<Comment> findAllByPostId(@Param("postId") Long postId, Pageable pageable);
 
+    /**
+     * 커서 이후에 작성된 댓글을 작성순으로 가져옵니다. (createdAt, id) keyset 페이징이므로
+     * offset과 count 쿼리 없이 조회합니다. createdAt이 null이면 처음부터 가져옵니다.
+     */
+    @Query("select c from Comment c " +
+            "where c.post.id=:postId and c.post.status='ACTIVE' " +
+            "and (c.status='ACTIVE' or c.status='EDITED') " +
+            "and (:createdAt is null or c.createdAt > :createdAt " +
+            "or (c.createdAt = :createdAt and c.id > :id)) " +
+            "order by c.createdAt asc, c.id asc")
+    List<Comment> findAllByPostIdAfter(@Param("postId") Long postId,
+                                       @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                       Pageable pageable);
+
     @Query("select c from Comment c " +
             "where c.post.id=:postId and c.post.status='ACTIVE' " +
             "and c.user.id=:userId " +
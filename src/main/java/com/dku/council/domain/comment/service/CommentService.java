@@ -10,23 +10,34 @@ import com.dku.council.domain.comment.repository.CommentRepository;
 import com.dku.council.domain.like.model.LikeTarget;
 import com.dku.council.domain.like.service.LikeService;
 import com.dku.council.domain.post.exception.PostNotFoundException;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.repository.post.PostRepository;
 import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.domain.user.repository.UserRepository;
 import com.dku.council.global.error.exception.NotGrantedException;
+import com.dku.council.global.error.exception.OutOfRangeException;
 import com.dku.council.global.error.exception.UserNotFoundException;
+import com.dku.council.global.model.Cursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class CommentService {
 
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final LikeService likeService;
@@ -59,14 +70,55 @@ public class CommentService {
      */
     public Page<CommentDto> list(Long postId, Long userId, Pageable pageable, CommentMapper mapper) {
         postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
-        return commentRepository.findAllByPostId(postId, pageable)
-                .map(e -> {
-                    CommentDto dto = new CommentDto(e, User.ANONYMITY,
-                            likeService.getCountOfLikes(e.getId(), LikeTarget.COMMENT),
-                            e.getUser().getId().equals(userId),
-                            likeService.isLiked(e.getId(), userId, LikeTarget.COMMENT));
-                    return mapper == null ? dto : mapper.map(e, dto);
-                });
+        Page<Comment> comments = commentRepository.findAllByPostId(postId, pageable);
+        return comments.map(dtoMapper(comments.getContent(), userId, mapper));
+    }
+
+    /**
+     * 댓글 목록을 커서 기반으로 작성순 조회합니다. offset과 count 쿼리를 사용하지 않으므로
+     * 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회할 수 있습니다.
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지에서 받은 커서. null이면 첫 페이지를 조회한다.
+     * @param size   페이지 크기
+     * @param mapper dto 매핑 함수. null이면 익명으로 채워집니다.
+     * @return 커서 페이지
+     */
+    public ResponseCursorPage<CommentDto> listByCursor(Long postId, Long userId, String cursor, int size,
+                                                       CommentMapper mapper) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new OutOfRangeException("size=1~" + MAX_CURSOR_PAGE_SIZE);
+        }
+        postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
+
+        Cursor after = Cursor.decode(cursor);
+        List<Comment> rows = commentRepository.findAllByPostIdAfter(postId,
+                after == null ? null : after.getCreatedAt(),
+                after == null ? null : after.getId(),
+                PageRequest.of(0, size + 1));
+
+        return ResponseCursorPage.of(rows, size, page -> page.stream()
+                .map(dtoMapper(page, userId, mapper))
+                .collect(Collectors.toList()));
+    }
+
+    private Function<Comment, CommentDto> dtoMapper(List<Comment> comments, Long userId, CommentMapper mapper) {
+        List<Long> commentIds = comments.stream()
+                .map(Comment::getId)
+                .collect(Collectors.toList());
+        Map<Long, Integer> likes = likeService.getCountsOfLikes(commentIds, LikeTarget.COMMENT);
+        Map<Long, Boolean> liked = userId == null
+                ? Map.of()
+                : likeService.areLiked(commentIds, userId, LikeTarget.COMMENT);
+
+        return e -> {
+            CommentDto dto = new CommentDto(e, User.ANONYMITY,
+                    likes.getOrDefault(e.getId(), 0),
+                    e.getUser().getId().equals(userId),
+                    liked.getOrDefault(e.getId(), false));
+            return mapper == null ? dto : mapper.map(e, dto);
+        };
     }
 
     /**
@@ -87,6 +139,7 @@ public class CommentService {
 
         comment.changePost(post);
         comment = commentRepository.save(comment);
+        postRepository.increaseCommentCount(post.getId(), 1);
         return comment.getId();
     }
 
@@ -127,6 +180,7 @@ public class CommentService {
      */
     public Long delete(Long commentId, Long userId, boolean isAdmin) {
         Comment comment = commentRepository.findById(commentId).orElseThrow(CommentNotFoundException::new);
+        boolean wasActive = comment.getStatus() == CommentStatus.ACTIVE;
 
         if (isAdmin) {
             comment.updateStatus(CommentStatus.DELETED_BY_ADMIN);
@@ -136,9 +190,21 @@ public class CommentService {
             throw new NotGrantedException();
         }
 
+        if (wasActive) {
+            postRepository.increaseCommentCount(comment.getPost().getId(), -1);
+        }
         return commentId;
     }
 
+    /**
+     * 모든 게시글의 댓글 개수를 다시 계산합니다. 비정규화된 댓글 개수가 어긋났을 때 사용합니다.
+     *
+     * @return 갱신된 게시글 수
+     */
+    public int recountComments() {
+        return postRepository.recountComments();
+    }
+
     @FunctionalInterface
     public interface CommentMapper {
         CommentDto map(Comment entity, CommentDto parent);
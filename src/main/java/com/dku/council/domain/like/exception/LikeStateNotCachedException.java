@@ -0,0 +1,11 @@
+package com.dku.council.domain.like.exception;
+
+import com.dku.council.global.error.exception.LocalizedMessageException;
+import org.springframework.http.HttpStatus;
+
+public class LikeStateNotCachedException extends LocalizedMessageException {
+
+    public LikeStateNotCachedException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "failed.like-not-cached");
+    }
+}
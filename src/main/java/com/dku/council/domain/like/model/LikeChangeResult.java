@@ -0,0 +1,24 @@
+package com.dku.council.domain.like.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class LikeChangeResult {
+
+    /**
+     * 상태가 실제로 바뀌었는지. 이미 같은 상태였다면 false.
+     */
+    private final boolean changed;
+
+    /**
+     * 변경 후 '좋아요' 상태
+     */
+    private final LikeState state;
+
+    /**
+     * 변경 후 '좋아요' 개수
+     */
+    private final int count;
+}
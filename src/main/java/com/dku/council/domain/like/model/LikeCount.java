@@ -0,0 +1,11 @@
+package com.dku.council.domain.like.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class LikeCount {
+    private final Long elementId;
+    private final Long count;
+}
@@ -0,0 +1,25 @@
+package com.dku.council.domain.like.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class LikeDumpResult {
+    public static final LikeDumpResult EMPTY = new LikeDumpResult(0, 0, false);
+
+    /**
+     * 처리한 사용자 수
+     */
+    private final int users;
+
+    /**
+     * 처리한 '좋아요' 데이터 수
+     */
+    private final int entries;
+
+    /**
+     * 메모리에 아직 가져오지 않은 사용자가 남아있는지 여부
+     */
+    private final boolean remaining;
+}
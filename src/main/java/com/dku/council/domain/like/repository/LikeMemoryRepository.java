@@ -1,32 +1,29 @@
 package com.dku.council.domain.like.repository;
 
+import com.dku.council.domain.like.model.LikeChangeResult;
 import com.dku.council.domain.like.model.LikeEntry;
+import com.dku.council.domain.like.model.LikeState;
 import com.dku.council.domain.like.model.LikeTarget;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 public interface LikeMemoryRepository {
 
     /**
-     * '좋아요' 추가
+     * '좋아요' 상태를 변경한다. 상태 확인, 변경 기록, 개수 증감을 한 번에 원자적으로 처리하므로
+     * 같은 요청이 동시에 여러 번 들어와도 개수는 한 번만 바뀐다.
+     * 좋아요 여부나 개수가 캐싱되어있지 않다면 아무것도 변경하지 않고 null을 반환한다.
      *
      * @param elementId 요소 ID
      * @param userId    사용자 ID
      * @param target    요소 타입
+     * @param state     변경할 상태
+     * @return 변경 결과. 좋아요 여부나 개수가 캐싱되어있지 않다면 null 반환.
      */
-    void like(Long elementId, Long userId, LikeTarget target);
-
-    /**
-     * '좋아요' 취소 처리. 실제로 삭제되진않고 취소되었다고
-     * 마킹만 해둔다. 그래야 나중에 캐싱되어있는지 확인할 수 있기 때문이다.
-     *
-     * @param elementId 요소 ID
-     * @param userId    사용자 ID
-     * @param target    요소 타입
-     */
-    void cancelLike(Long elementId, Long userId, LikeTarget target);
+    LikeChangeResult changeLikeState(Long elementId, Long userId, LikeTarget target, LikeState state);
 
     /**
      * 메모리에서 사용자가 '좋아요'를 눌렀는지 확인한다.
@@ -40,6 +37,16 @@ public interface LikeMemoryRepository {
      */
     Boolean isLiked(Long elementId, Long userId, LikeTarget target);
 
+    /**
+     * 메모리에서 사용자가 여러 요소에 '좋아요'를 눌렀는지 한 번에 확인한다.
+     *
+     * @param elementIds 요소 ID 목록
+     * @param userId     사용자 ID
+     * @param target     요소 타입
+     * @return 요소 ID별 좋아요 여부. 캐싱되어있지 않은 요소는 포함하지 않는다.
+     */
+    Map<Long, Boolean> areLiked(Collection<Long> elementIds, Long userId, LikeTarget target);
+
     /**
      * 좋아요 여부를 메모리에 캐싱한다.
      *
@@ -50,6 +57,26 @@ public interface LikeMemoryRepository {
      */
     void setIsLiked(Long elementId, Long userId, LikeTarget target, boolean isLiked);
 
+    /**
+     * 좋아요 여부가 캐싱되어있지 않은 경우에만 메모리에 캐싱한다.
+     * DB에서 읽은 값이 그 사이에 변경된 최신 상태를 덮어쓰지 않도록 할 때 사용한다.
+     *
+     * @param elementId 요소 ID
+     * @param userId    사용자 ID
+     * @param target    요소 타입
+     * @param isLiked   좋아요 여부
+     */
+    void setIsLikedIfAbsent(Long elementId, Long userId, LikeTarget target, boolean isLiked);
+
+    /**
+     * 여러 요소의 좋아요 여부를 한 번에 캐싱한다. 이미 캐싱되어있는 요소는 덮어쓰지 않는다.
+     *
+     * @param likes  요소 ID별 좋아요 여부
+     * @param userId 사용자 ID
+     * @param target 요소 타입
+     */
+    void setAllIsLikedIfAbsent(Map<Long, Boolean> likes, Long userId, LikeTarget target);
+
     /**
      * 메모리에 캐싱된 좋아요 개수 확인.
      *
@@ -60,32 +87,34 @@ public interface LikeMemoryRepository {
     int getCachedLikeCount(Long elementId, LikeTarget target);
 
     /**
-     * 좋아요 개수 캐싱
+     * 메모리에 캐싱된 여러 요소의 좋아요 개수를 한 번에 확인.
      *
-     * @param elementId 요소 ID
-     * @param count     좋아요 개수
-     * @param target    요소 타입
+     * @param elementIds 요소 ID 목록
+     * @param target     요소 타입
+     * @return 요소 ID별 캐싱된 좋아요 개수. 캐싱되어있지 않은 요소는 포함하지 않는다.
      */
-    void setLikeCount(Long elementId, int count, LikeTarget target, Duration expiresAfter);
+    Map<Long, Integer> getCachedLikeCounts(Collection<Long> elementIds, LikeTarget target);
 
     /**
-     * 좋아요 개수 1 증가
+     * 좋아요 개수 캐싱. 이미 캐싱되어있다면 덮어쓰지 않는다.
      *
      * @param elementId 요소 ID
+     * @param count     좋아요 개수
      * @param target    요소 타입
      */
-    void increaseLikeCount(Long elementId, LikeTarget target);
+    void setLikeCount(Long elementId, int count, LikeTarget target, Duration expiresAfter);
 
     /**
-     * 좋아요 개수 1 감소
+     * 여러 요소의 좋아요 개수를 한 번에 캐싱. 이미 캐싱되어있는 요소는 덮어쓰지 않는다.
      *
-     * @param elementId 요소 ID
-     * @param target    요소 타입
+     * @param counts 요소 ID별 좋아요 개수
+     * @param target 요소 타입
      */
-    void decreaseLikeCount(Long elementId, LikeTarget target);
+    void setLikeCounts(Map<Long, Integer> counts, LikeTarget target, Duration expiresAfter);
 
     /**
      * 캐싱된 모든 '좋아요' 데이터중에서 특정 유저의 것들만 가져오고, 모두 삭제한다.
+     * 가져오기와 삭제는 원자적으로 처리된다.
      *
      * @param userId 사용자 ID
      * @param target 요소 타입
@@ -94,10 +123,30 @@ public interface LikeMemoryRepository {
     List<LikeEntry> getAllLikesAndClear(Long userId, LikeTarget target);
 
     /**
-     * 메모리에 저장된 모든 '좋아요' 데이터를 가져오고, 모두 삭제한다.
+     * 메모리에 저장된 '좋아요' 데이터를 최대 maxUsers명의 사용자 단위로 가져오고, 가져온 데이터는 삭제한다.
+     * 가져오기와 삭제는 원자적으로 처리되므로, 도중에 추가된 '좋아요'는 다음 호출에서 가져오게 된다.
+     *
+     * @param target   요소 타입
+     * @param maxUsers 한 번에 가져올 최대 사용자 수
+     * @return 사용자 ID별 '좋아요' entities. 더 가져올 데이터가 없거나, 고른 사용자를 모두 다른 서버가
+     * 먼저 가져갔다면 빈 map 반환.
+     */
+    Map<Long, List<LikeEntry>> drainLikes(LikeTarget target, int maxUsers);
+
+    /**
+     * 메모리에 영속성 DB로 반영할 '좋아요' 데이터가 남아있는지 확인한다.
      *
      * @param target 요소 타입
-     * @return '좋아요' entities
+     * @return '좋아요'를 가진 사용자가 한 명이라도 남아있으면 true
+     */
+    boolean hasLikes(LikeTarget target);
+
+    /**
+     * 가져왔던 '좋아요' 데이터를 메모리에 되돌린다. DB 반영에 실패했을 때 사용한다.
+     * 그 사이에 새로 기록된 '좋아요' 상태가 있다면 새로운 상태를 유지한다.
+     *
+     * @param likes  사용자 ID별 '좋아요' entities
+     * @param target 요소 타입
      */
-    Map<Long, List<LikeEntry>> getAllLikesAndClear(LikeTarget target);
+    void restoreLikes(Map<Long, List<LikeEntry>> likes, LikeTarget target);
 }
@@ -1,5 +1,6 @@
 package com.dku.council.domain.like.repository;
 
+import com.dku.council.domain.like.model.LikeCount;
 import com.dku.council.domain.like.model.LikeTarget;
 import com.dku.council.domain.like.model.entity.LikeElement;
 import org.springframework.data.domain.Page;
@@ -9,6 +10,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LikePersistenceRepository extends JpaRepository<LikeElement, Long> {
@@ -23,14 +26,30 @@ public interface LikePersistenceRepository extends JpaRepository<LikeElement, Lo
 
     int countByElementIdAndTarget(Long elementId, LikeTarget target);
 
+    @Query("select new com.dku.council.domain.like.model.LikeCount(l.elementId, count(l)) " +
+            "from LikeElement l " +
+            "where l.elementId in :elementIds " +
+            "and l.target = :target " +
+            "group by l.elementId")
+    List<LikeCount> countAllByElementIds(@Param("elementIds") Collection<Long> elementIds,
+                                         @Param("target") LikeTarget target);
+
+    @Query("select l.elementId from LikeElement l " +
+            "where l.elementId in :elementIds " +
+            "and l.user.id = :userId " +
+            "and l.target = :target")
+    List<Long> findLikedElementIds(@Param("elementIds") Collection<Long> elementIds,
+                                   @Param("userId") Long userId,
+                                   @Param("target") LikeTarget target);
+
     @Modifying
     @Query("delete from LikeElement l " +
-            "where l.elementId = :elementId " +
+            "where l.elementId in :elementIds " +
             "and l.user.id = :userId " +
             "and l.target = :target")
-    void deleteByElementIdAndUserId(@Param("elementId") Long elementId,
-                                    @Param("userId") Long userId,
-                                    @Param("target") LikeTarget target);
+    void deleteAllByElementIdsAndUserId(@Param("elementIds") Collection<Long> elementIds,
+                                        @Param("userId") Long userId,
+                                        @Param("target") LikeTarget target);
 
     @Query("select l from LikeElement l " +
             "where l.user.id = :userId and l.target = :target")
@@ -1,15 +1,24 @@
 package com.dku.council.domain.like.repository.impl;
 
+import com.dku.council.domain.like.model.LikeChangeResult;
 import com.dku.council.domain.like.model.LikeEntry;
 import com.dku.council.domain.like.model.LikeState;
 import com.dku.council.domain.like.model.LikeTarget;
 import com.dku.council.domain.like.repository.LikeMemoryRepository;
 import com.dku.council.global.config.redis.RedisKeys;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,28 +29,72 @@ import static com.dku.council.global.config.redis.RedisKeys.combine;
 
 @Repository
 @RequiredArgsConstructor
+@SuppressWarnings({"rawtypes", "unchecked"})
 public class LikeRedisRepository implements LikeMemoryRepository {
 
-    private final StringRedisTemplate redisTemplate;
+    /**
+     * 캐싱된 좋아요 여부를 확인하고, 상태가 바뀌는 경우에만 기록 및 개수를 증감한다.
+     * 좋아요 여부나 개수가 캐싱되어있지 않다면 아무것도 바꾸지 않는다.
+     * 결과는 [변경 여부(1/0, 캐싱 안됨 -1), 개수] 형태이다.
+     * KEYS: [likePosts hash, like hash, likeUsers set, likeCount], ARGV: [elementId, userId, state, delta]
+     */
+    private static final RedisScript<List> CHANGE_STATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], ARGV[1])\n" +
+                    "local count = redis.call('GET', KEYS[4])\n" +
+                    "if not current or not count then\n" +
+                    "    return {-1, -1}\n" +
+                    "end\n" +
+                    "if current == ARGV[3] then\n" +
+                    "    return {0, tonumber(count)}\n" +
+                    "end\n" +
+                    "redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])\n" +
+                    "redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])\n" +
+                    "redis.call('SADD', KEYS[3], ARGV[2])\n" +
+                    "return {1, redis.call('INCRBY', KEYS[4], ARGV[4])}", List.class);
 
-    @Override
-    public void like(Long elementId, Long userId, LikeTarget target) {
-        String key = combine(RedisKeys.LIKE_KEY, target, userId);
-        redisTemplate.opsForHash().put(key, elementId.toString(), LikeState.LIKED.toString());
+    /**
+     * 한 사용자의 '좋아요' 데이터를 가져오고 삭제한다.
+     * KEYS: [like hash, likeUsers set], ARGV: [userId]
+     */
+    private static final RedisScript<List> DRAIN_USER_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[1])\n" +
+                    "redis.call('DEL', KEYS[1])\n" +
+                    "redis.call('SREM', KEYS[2], ARGV[1])\n" +
+                    "return entries", List.class);
 
-        key = combine(RedisKeys.LIKE_USERS_KEY, target);
-        redisTemplate.opsForSet().add(key, userId.toString());
-        setIsLiked(elementId, userId, target, true);
-    }
+    /**
+     * 주어진 사용자들의 '좋아요' 데이터를 가져온 뒤 삭제한다. 다른 서버가 먼저 꺼내간 사용자는 건너뛴다.
+     * 결과는 [userId, [elementId, state, ...], userId, [...], ...] 형태이다.
+     * KEYS: [likeUsers set, like hash of ARGV[1], like hash of ARGV[2], ...], ARGV: [userId, ...]
+     */
+    private static final RedisScript<List> DRAIN_USERS_SCRIPT = new DefaultRedisScript<>(
+            "local result = {}\n" +
+                    "for i, user in ipairs(ARGV) do\n" +
+                    "    if redis.call('SREM', KEYS[1], user) == 1 then\n" +
+                    "        result[#result + 1] = user\n" +
+                    "        result[#result + 1] = redis.call('HGETALL', KEYS[i + 1])\n" +
+                    "        redis.call('DEL', KEYS[i + 1])\n" +
+                    "    end\n" +
+                    "end\n" +
+                    "return result", List.class);
+
+    private final StringRedisTemplate redisTemplate;
 
     @Override
-    public void cancelLike(Long elementId, Long userId, LikeTarget target) {
-        String key = combine(RedisKeys.LIKE_KEY, target, userId);
-        redisTemplate.opsForHash().put(key, elementId.toString(), LikeState.CANCELLED.toString());
+    public LikeChangeResult changeLikeState(Long elementId, Long userId, LikeTarget target, LikeState state) {
+        List<String> keys = List.of(
+                combine(RedisKeys.LIKE_POSTS_KEY, target, userId),
+                combine(RedisKeys.LIKE_KEY, target, userId),
+                combine(RedisKeys.LIKE_USERS_KEY, target),
+                combine(RedisKeys.LIKE_COUNT_KEY, target, elementId));
+        String delta = state == LikeState.LIKED ? "1" : "-1";
 
-        key = combine(RedisKeys.LIKE_USERS_KEY, target);
-        redisTemplate.opsForSet().add(key, userId.toString());
-        setIsLiked(elementId, userId, target, false);
+        List<Long> result = redisTemplate.execute(CHANGE_STATE_SCRIPT, keys,
+                elementId.toString(), userId.toString(), state.name(), delta);
+        if (result == null || result.get(0) == -1) {
+            return null;
+        }
+        return new LikeChangeResult(result.get(0) == 1, state, result.get(1).intValue());
     }
 
     @Override
@@ -54,6 +107,13 @@ public class LikeRedisRepository implements LikeMemoryRepository {
         redisTemplate.opsForHash().put(key, elementId.toString(), value);
     }
 
+    @Override
+    public void setIsLikedIfAbsent(Long elementId, Long userId, LikeTarget target, boolean isLiked) {
+        String key = combine(RedisKeys.LIKE_POSTS_KEY, target, userId);
+        String value = isLiked ? LikeState.LIKED.name() : LikeState.CANCELLED.name();
+        redisTemplate.opsForHash().putIfAbsent(key, elementId.toString(), value);
+    }
+
     @Override
     public Boolean isLiked(Long elementId, Long userId, LikeTarget target) {
         String key = combine(RedisKeys.LIKE_POSTS_KEY, target, userId);
@@ -64,6 +124,42 @@ public class LikeRedisRepository implements LikeMemoryRepository {
         return value.equals(LikeState.LIKED.name());
     }
 
+    @Override
+    public Map<Long, Boolean> areLiked(Collection<Long> elementIds, Long userId, LikeTarget target) {
+        Map<Long, Boolean> result = new HashMap<>();
+        if (elementIds.isEmpty()) {
+            return result;
+        }
+
+        String key = combine(RedisKeys.LIKE_POSTS_KEY, target, userId);
+        List<Long> ids = new ArrayList<>(elementIds);
+        List<Object> fields = ids.stream()
+                .map(Object::toString)
+                .collect(Collectors.toList());
+
+        List<Object> values = redisTemplate.opsForHash().multiGet(key, fields);
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                result.put(ids.get(i), value.equals(LikeState.LIKED.name()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void setAllIsLikedIfAbsent(Map<Long, Boolean> likes, Long userId, LikeTarget target) {
+        String key = combine(RedisKeys.LIKE_POSTS_KEY, target, userId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Map.Entry<Long, Boolean> ent : likes.entrySet()) {
+                String value = ent.getValue() ? LikeState.LIKED.name() : LikeState.CANCELLED.name();
+                conn.hSetNX(key, ent.getKey().toString(), value);
+            }
+            return null;
+        });
+    }
+
     @Override
     public int getCachedLikeCount(Long elementId, LikeTarget target) {
         String key = combine(RedisKeys.LIKE_COUNT_KEY, target, elementId);
@@ -77,54 +173,119 @@ public class LikeRedisRepository implements LikeMemoryRepository {
     @Override
     public void setLikeCount(Long elementId, int count, LikeTarget target, Duration expiresAfter) {
         String key = combine(RedisKeys.LIKE_COUNT_KEY, target, elementId);
-        redisTemplate.opsForValue().set(key, String.valueOf(count));
-        redisTemplate.expire(key, expiresAfter);
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), expiresAfter);
     }
 
     @Override
-    public void increaseLikeCount(Long elementId, LikeTarget target) {
-        String key = combine(RedisKeys.LIKE_COUNT_KEY, target, elementId);
-        redisTemplate.opsForValue().increment(key);
+    public Map<Long, Integer> getCachedLikeCounts(Collection<Long> elementIds, LikeTarget target) {
+        Map<Long, Integer> result = new HashMap<>();
+        if (elementIds.isEmpty()) {
+            return result;
+        }
+
+        List<Long> ids = new ArrayList<>(elementIds);
+        List<String> keys = ids.stream()
+                .map(id -> combine(RedisKeys.LIKE_COUNT_KEY, target, id))
+                .collect(Collectors.toList());
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return result;
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values.get(i);
+            if (value != null) {
+                result.put(ids.get(i), Integer.parseInt(value));
+            }
+        }
+        return result;
     }
 
     @Override
-    public void decreaseLikeCount(Long elementId, LikeTarget target) {
-        String key = combine(RedisKeys.LIKE_COUNT_KEY, target, elementId);
-        redisTemplate.opsForValue().decrement(key);
+    public void setLikeCounts(Map<Long, Integer> counts, LikeTarget target, Duration expiresAfter) {
+        Expiration expiration = Expiration.from(expiresAfter);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Map.Entry<Long, Integer> ent : counts.entrySet()) {
+                String key = combine(RedisKeys.LIKE_COUNT_KEY, target, ent.getKey());
+                conn.set(key, ent.getValue().toString(), expiration, RedisStringCommands.SetOption.SET_IF_ABSENT);
+            }
+            return null;
+        });
     }
 
     @Override
     public List<LikeEntry> getAllLikesAndClear(Long userId, LikeTarget target) {
         String key = combine(RedisKeys.LIKE_KEY, target, userId);
-        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
-        redisTemplate.delete(key);
-
-        key = combine(RedisKeys.LIKE_USERS_KEY, target);
-        redisTemplate.opsForSet().remove(key, userId.toString());
-
-        return entries.entrySet().stream()
-                .map(entry -> {
-                    Long postId = Long.valueOf((String) entry.getKey());
-                    LikeState state = LikeState.of((String) entry.getValue());
-                    return new LikeEntry(postId, state);
-                })
-                .collect(Collectors.toList());
+        String usersKey = combine(RedisKeys.LIKE_USERS_KEY, target);
+
+        List<Object> entries = redisTemplate.execute(DRAIN_USER_SCRIPT, List.of(key, usersKey), userId.toString());
+        return parseEntries(entries);
     }
 
     @Override
-    public Map<Long, List<LikeEntry>> getAllLikesAndClear(LikeTarget target) {
-        String key = combine(RedisKeys.LIKE_USERS_KEY, target);
-        Set<String> members = redisTemplate.opsForSet().members(key);
+    public Map<Long, List<LikeEntry>> drainLikes(LikeTarget target, int maxUsers) {
+        Map<Long, List<LikeEntry>> likes = new HashMap<>();
+        String usersKey = combine(RedisKeys.LIKE_USERS_KEY, target);
+        Set<String> users = redisTemplate.opsForSet().distinctRandomMembers(usersKey, maxUsers);
+        if (users == null || users.isEmpty()) {
+            return likes;
+        }
+
+        // 스크립트가 사용하는 key는 모두 KEYS로 넘겨야 하므로, 꺼낼 사용자를 먼저 고른 뒤 스크립트에서 다시 확인한다.
+        List<String> userIds = new ArrayList<>(users);
+        List<String> keys = new ArrayList<>(userIds.size() + 1);
+        keys.add(usersKey);
+        for (String userId : userIds) {
+            keys.add(combine(RedisKeys.LIKE_KEY, target, userId));
+        }
 
-        if (members == null) {
-            return new HashMap<>();
+        List<Object> result = redisTemplate.execute(DRAIN_USERS_SCRIPT, keys, userIds.toArray());
+        if (result == null) {
+            return likes;
         }
 
-        return members.stream()
-                .map(Long::valueOf)
-                .collect(Collectors.toMap(
-                        userId -> userId,
-                        userId -> getAllLikesAndClear(userId, target)
-                ));
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            Long userId = Long.valueOf((String) result.get(i));
+            likes.put(userId, parseEntries((List<Object>) result.get(i + 1)));
+        }
+        return likes;
+    }
+
+    @Override
+    public boolean hasLikes(LikeTarget target) {
+        String usersKey = combine(RedisKeys.LIKE_USERS_KEY, target);
+        return Boolean.TRUE.equals(redisTemplate.hasKey(usersKey));
+    }
+
+    @Override
+    public void restoreLikes(Map<Long, List<LikeEntry>> likes, LikeTarget target) {
+        String usersKey = combine(RedisKeys.LIKE_USERS_KEY, target);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Map.Entry<Long, List<LikeEntry>> ent : likes.entrySet()) {
+                String key = combine(RedisKeys.LIKE_KEY, target, ent.getKey());
+                for (LikeEntry likeEntry : ent.getValue()) {
+                    conn.hSetNX(key, likeEntry.getElementId().toString(), likeEntry.getState().name());
+                }
+                conn.sAdd(usersKey, ent.getKey().toString());
+            }
+            return null;
+        });
+    }
+
+    private static List<LikeEntry> parseEntries(List<Object> entries) {
+        List<LikeEntry> result = new ArrayList<>();
+        if (entries == null) {
+            return result;
+        }
+
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            Long elementId = Long.valueOf((String) entries.get(i));
+            LikeState state = LikeState.of((String) entries.get(i + 1));
+            result.add(new LikeEntry(elementId, state));
+        }
+        return result;
     }
 }
@@ -4,6 +4,9 @@ import com.dku.council.domain.like.model.LikeTarget;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.Map;
+
 // TODO POST, Comment로 분리
 public interface LikeService {
 
@@ -35,6 +38,17 @@ public interface LikeService {
      */
     boolean isLiked(Long elementId, Long userId, LikeTarget target);
 
+    /**
+     * 여러 요소에 '좋아요'를 했었는지 한 번에 확인.
+     * 메모리에 캐싱되어있지 않은 요소들은 한 번의 쿼리로 가져와 캐싱한다.
+     *
+     * @param elementIds 요소 ID 목록
+     * @param userId     사용자 ID
+     * @param target     요소 타입
+     * @return 요소 ID별 좋아요 여부
+     */
+    Map<Long, Boolean> areLiked(Collection<Long> elementIds, Long userId, LikeTarget target);
+
     /**
      * '좋아요'누른 요소들 목록 가져오기
      *
@@ -62,4 +76,14 @@ public interface LikeService {
      * @return 좋아요 개수
      */
     int getCountOfLikes(Long elementId, LikeTarget target);
+
+    /**
+     * 여러 요소의 '좋아요' 개수를 한 번에 가져오기.
+     * 메모리에 캐싱되어있지 않은 요소들은 한 번의 쿼리로 가져와 캐싱한다.
+     *
+     * @param elementIds 요소 ID 목록
+     * @param target     요소 타입
+     * @return 요소 ID별 좋아요 개수
+     */
+    Map<Long, Integer> getCountsOfLikes(Collection<Long> elementIds, LikeTarget target);
 }
@@ -1,5 +1,9 @@
 package com.dku.council.domain.like.service.impl;
 
+import com.dku.council.domain.like.exception.LikeStateNotCachedException;
+import com.dku.council.domain.like.model.LikeChangeResult;
+import com.dku.council.domain.like.model.LikeCount;
+import com.dku.council.domain.like.model.LikeDumpResult;
 import com.dku.council.domain.like.model.LikeEntry;
 import com.dku.council.domain.like.model.LikeState;
 import com.dku.council.domain.like.model.LikeTarget;
@@ -15,15 +19,27 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CachedLikeServiceImpl implements LikeService {
 
+    /**
+     * 캐싱되어있지 않아 좋아요 상태를 바꾸지 못했을 때 캐싱 후 다시 시도하는 것을 포함한 최대 시도 횟수.
+     */
+    private static final int MAX_CHANGE_ATTEMPTS = 3;
+
     private final LikeMemoryRepository memoryRepository;
     private final UserRepository userRepository;
     private final LikePersistenceRepository persistenceRepository;
@@ -35,18 +51,29 @@ public class CachedLikeServiceImpl implements LikeService {
     @Override
     @Transactional(readOnly = true)
     public void like(Long elementId, Long userId, LikeTarget target) {
-        if (!isLiked(elementId, userId, target)) {
-            memoryRepository.like(elementId, userId, target);
-            memoryRepository.increaseLikeCount(elementId, target);
-        }
+        changeLikeState(elementId, userId, target, LikeState.LIKED);
     }
 
     @Override
     @Transactional(readOnly = true)
     public void cancelLike(Long elementId, Long userId, LikeTarget target) {
-        if (isLiked(elementId, userId, target)) {
-            memoryRepository.cancelLike(elementId, userId, target);
-            memoryRepository.decreaseLikeCount(elementId, target);
+        changeLikeState(elementId, userId, target, LikeState.CANCELLED);
+    }
+
+    /**
+     * 메모리에 좋아요 여부나 개수가 캐싱되어있지 않다면 DB에서 읽어 캐싱한 뒤 다시 시도한다.
+     * 캐싱한 직후 만료되는 등으로 {@link #MAX_CHANGE_ATTEMPTS}번 모두 실패하면 변경을 버리지 않고 예외를 던진다.
+     */
+    private void changeLikeState(Long elementId, Long userId, LikeTarget target, LikeState state) {
+        LikeChangeResult result = memoryRepository.changeLikeState(elementId, userId, target, state);
+        int attempts = 1;
+        while (result == null) {
+            if (attempts++ >= MAX_CHANGE_ATTEMPTS) {
+                throw new LikeStateNotCachedException();
+            }
+            isLiked(elementId, userId, target);
+            getCountOfLikes(elementId, target);
+            result = memoryRepository.changeLikeState(elementId, userId, target, state);
         }
     }
 
@@ -56,11 +83,37 @@ public class CachedLikeServiceImpl implements LikeService {
         Boolean liked = memoryRepository.isLiked(elementId, userId, target);
         if (liked == null) {
             liked = persistenceRepository.findByElementIdAndUserId(elementId, userId, target).isPresent();
-            memoryRepository.setIsLiked(elementId, userId, target, liked);
+            memoryRepository.setIsLikedIfAbsent(elementId, userId, target, liked);
         }
         return liked;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Boolean> areLiked(Collection<Long> elementIds, Long userId, LikeTarget target) {
+        if (elementIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, Boolean> result = new HashMap<>(memoryRepository.areLiked(elementIds, userId, target));
+        List<Long> missed = findMissed(elementIds, result);
+        if (missed.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, Boolean> loaded = new HashMap<>();
+        for (Long elementId : missed) {
+            loaded.put(elementId, false);
+        }
+        for (Long elementId : persistenceRepository.findLikedElementIds(missed, userId, target)) {
+            loaded.put(elementId, true);
+        }
+
+        memoryRepository.setAllIsLikedIfAbsent(loaded, userId, target);
+        result.putAll(loaded);
+        return result;
+    }
+
     @Override
     @Transactional
     public Page<Long> getLikedElementIds(Long userId, Pageable pageable, LikeTarget target) {
@@ -78,15 +131,13 @@ public class CachedLikeServiceImpl implements LikeService {
 
     private void dumpByUserId(Long userId, LikeTarget target) {
         List<LikeEntry> allLikes = memoryRepository.getAllLikesAndClear(userId, target);
-
-        User user = userRepository.getReferenceById(userId);
-        for (LikeEntry ent : allLikes) {
-            if (ent.getState() == LikeState.LIKED) {
-                persistenceRepository.save(new LikeElement(user, ent.getElementId(), target));
-            } else {
-                persistenceRepository.deleteByElementIdAndUserId(ent.getElementId(), userId, target);
-            }
+        if (allLikes.isEmpty()) {
+            return;
         }
+
+        Map<Long, List<LikeEntry>> likes = Map.of(userId, allLikes);
+        restoreOnRollback(likes, target);
+        writeLikes(likes, target);
     }
 
     @Override
@@ -100,25 +151,105 @@ public class CachedLikeServiceImpl implements LikeService {
         return count;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getCountsOfLikes(Collection<Long> elementIds, LikeTarget target) {
+        if (elementIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, Integer> result = new HashMap<>(memoryRepository.getCachedLikeCounts(elementIds, target));
+        List<Long> missed = findMissed(elementIds, result);
+        if (missed.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, Integer> loaded = new HashMap<>();
+        for (Long elementId : missed) {
+            loaded.put(elementId, 0);
+        }
+        for (LikeCount count : persistenceRepository.countAllByElementIds(missed, target)) {
+            loaded.put(count.getElementId(), count.getCount().intValue());
+        }
+
+        memoryRepository.setLikeCounts(loaded, target, countCacheTime);
+        result.putAll(loaded);
+        return result;
+    }
+
+    private static List<Long> findMissed(Collection<Long> elementIds, Map<Long, ?> cached) {
+        return new HashSet<>(elementIds).stream()
+                .filter(id -> !cached.containsKey(id))
+                .collect(Collectors.toList());
+    }
+
     /**
-     * 영속성 DB에 실제로 데이터를 반영한다.
+     * 메모리에 캐싱된 '좋아요'를 최대 maxUsers명의 사용자 단위로 영속성 DB에 반영한다.
+     * 한 번의 호출이 하나의 트랜잭션으로 처리되며, 반영에 실패하면 가져온 데이터를 메모리에 되돌린다.
      *
-     * @return 처리한 entity 개수
+     * @param target   요소 타입
+     * @param maxUsers 한 번에 처리할 최대 사용자 수
+     * @return 처리 결과. 다른 서버가 먼저 가져가 이번에 처리한 사용자가 없더라도 남은 사용자가 있다면 remaining이 true
      */
     @Transactional
-    public long dumpToDB(LikeTarget target) {
-        Map<Long, List<LikeEntry>> allLikes = memoryRepository.getAllLikesAndClear(target);
-        for (Map.Entry<Long, List<LikeEntry>> ent : allLikes.entrySet()) {
-            User user = userRepository.getReferenceById(ent.getKey());
-            for (LikeEntry likeEntry : ent.getValue()) {
+    public LikeDumpResult dumpChunkToDB(LikeTarget target, int maxUsers) {
+        Map<Long, List<LikeEntry>> likes = memoryRepository.drainLikes(target, maxUsers);
+        boolean remaining = memoryRepository.hasLikes(target);
+        if (likes.isEmpty()) {
+            return remaining ? new LikeDumpResult(0, 0, true) : LikeDumpResult.EMPTY;
+        }
+
+        restoreOnRollback(likes, target);
+        int entries = writeLikes(likes, target);
+        return new LikeDumpResult(likes.size(), entries, remaining);
+    }
+
+    /**
+     * 사용자별로 기존 '좋아요'를 한 번에 삭제한 뒤, LIKED 상태인 것들만 batch로 다시 추가한다.
+     * 같은 데이터를 여러 번 반영해도 결과가 같으므로 메모리에 되돌린 데이터를 다시 반영해도 안전하다.
+     */
+    private int writeLikes(Map<Long, List<LikeEntry>> likes, LikeTarget target) {
+        List<LikeElement> elements = new ArrayList<>();
+        int entries = 0;
+
+        for (Map.Entry<Long, List<LikeEntry>> ent : likes.entrySet()) {
+            Long userId = ent.getKey();
+            List<LikeEntry> userLikes = ent.getValue();
+            if (userLikes.isEmpty()) {
+                continue;
+            }
+
+            List<Long> elementIds = userLikes.stream()
+                    .map(LikeEntry::getElementId)
+                    .collect(Collectors.toList());
+            persistenceRepository.deleteAllByElementIdsAndUserId(elementIds, userId, target);
+
+            User user = userRepository.getReferenceById(userId);
+            for (LikeEntry likeEntry : userLikes) {
                 if (likeEntry.getState() == LikeState.LIKED) {
-                    persistenceRepository.save(new LikeElement(user, likeEntry.getElementId(), target));
-                } else if (likeEntry.getState() == LikeState.CANCELLED) {
-                    persistenceRepository.deleteByElementIdAndUserId(likeEntry.getElementId(), ent.getKey(), target);
+                    elements.add(new LikeElement(user, likeEntry.getElementId(), target));
                 }
             }
+            entries += userLikes.size();
         }
 
-        return allLikes.size();
+        persistenceRepository.saveAll(elements);
+        persistenceRepository.flush();
+        return entries;
+    }
+
+    private void restoreOnRollback(Map<Long, List<LikeEntry>> likes, LikeTarget target) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    memoryRepository.restoreLikes(likes, target);
+                }
+            }
+        });
     }
 }
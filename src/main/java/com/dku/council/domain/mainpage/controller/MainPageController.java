@@ -1,17 +1,23 @@
 package com.dku.council.domain.mainpage.controller;
 
+import com.dku.council.domain.mainpage.model.MainPageSnapshot;
 import com.dku.council.domain.mainpage.model.dto.request.RequestCarouselImageDto;
 import com.dku.council.domain.mainpage.model.dto.response.CarouselImageResponse;
 import com.dku.council.domain.mainpage.model.dto.response.MainPageResponseDto;
 import com.dku.council.domain.mainpage.model.dto.response.ScheduleResponseDto;
 import com.dku.council.domain.mainpage.service.MainPageService;
+import com.dku.council.domain.mainpage.service.MainPageSnapshotService;
 import com.dku.council.domain.mainpage.service.ScheduleService;
 import com.dku.council.global.auth.role.AdminAuth;
 import com.dku.council.global.config.jackson.JacksonDateTimeFormatter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
@@ -24,16 +30,25 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MainPageController {
     private final MainPageService mainPageService;
+    private final MainPageSnapshotService snapshotService;
     private final ScheduleService scheduleService;
 
     /**
      * 메인 페이지 화면 데이터. 캐러셀이미지 & 총학소식 & 청원 & 회의록
      *
+     * <p>미리 만들어둔 응답을 반환하며, If-None-Match 헤더의 ETag가 같으면 304를 반환합니다.</p>
+     *
      * @return 총학소식, 청원, 회의록 최신 5개의 데이터를 반환합니다.
      */
     @GetMapping
-    public MainPageResponseDto index() {
-        return mainPageService.mainPageInfo();
+    @ApiResponse(responseCode = "200",
+            content = @Content(schema = @Schema(implementation = MainPageResponseDto.class)))
+    public ResponseEntity<byte[]> index() {
+        MainPageSnapshot snapshot = snapshotService.getSnapshot();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.getEtag())
+                .body(snapshot.getBody());
     }
 
     /**
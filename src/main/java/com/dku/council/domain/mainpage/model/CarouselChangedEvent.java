@@ -0,0 +1,7 @@
+package com.dku.council.domain.mainpage.model;
+
+/**
+ * 캐러셀 이미지가 등록, 삭제, 수정되었을 때 발행하는 이벤트.
+ */
+public class CarouselChangedEvent {
+}
@@ -0,0 +1,21 @@
+package com.dku.council.domain.mainpage.model;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 미리 JSON으로 직렬화해둔 메인 페이지 응답. ETag는 본문의 MD5 해시로 만들기 때문에
+ * 어느 서버에서 만들어도 같은 본문이면 같은 ETag를 가진다.
+ * <p>여러 요청이 같은 인스턴스를 공유하므로 body를 수정해선 안된다.</p>
+ */
+@Getter
+public class MainPageSnapshot {
+
+    private final byte[] body;
+    private final String etag;
+
+    public MainPageSnapshot(byte[] body) {
+        this.body = body;
+        this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+}
@@ -0,0 +1,24 @@
+package com.dku.council.domain.mainpage.repository;
+
+import com.dku.council.domain.mainpage.model.MainPageSnapshot;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface MainPageSnapshotMemoryRepository {
+
+    /**
+     * 저장된 메인 페이지 스냅샷을 가져온다.
+     *
+     * @return 스냅샷. 없거나 만료되었다면 빈 값 반환.
+     */
+    Optional<MainPageSnapshot> find();
+
+    /**
+     * 메인 페이지 스냅샷을 저장한다. 다른 서버에 캐싱된 이전 스냅샷은 무효화된다.
+     *
+     * @param snapshot     스냅샷
+     * @param expiresAfter 스냅샷 유지시간
+     */
+    void save(MainPageSnapshot snapshot, Duration expiresAfter);
+}
@@ -0,0 +1,56 @@
+package com.dku.council.domain.mainpage.repository.impl;
+
+import com.dku.council.domain.mainpage.model.MainPageSnapshot;
+import com.dku.council.domain.mainpage.repository.MainPageSnapshotMemoryRepository;
+import com.dku.council.global.cache.NearCache;
+import com.dku.council.global.cache.NearCacheManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.dku.council.global.config.redis.RedisKeys.MAIN_PAGE_SNAPSHOT_KEY;
+
+@Repository
+public class MainPageSnapshotRedisRepository implements MainPageSnapshotMemoryRepository {
+
+    private static final String NEAR_CACHE_KEY = "snapshot";
+
+    private final StringRedisTemplate redisTemplate;
+    private final NearCache<MainPageSnapshot> nearCache;
+
+    public MainPageSnapshotRedisRepository(StringRedisTemplate redisTemplate,
+                                           NearCacheManager nearCacheManager,
+                                           @Value("${app.main-page.near-cache-time:1m}") Duration nearCacheTime) {
+        this.redisTemplate = redisTemplate;
+        this.nearCache = nearCacheManager.create(MAIN_PAGE_SNAPSHOT_KEY, 1, nearCacheTime);
+    }
+
+    @Override
+    public Optional<MainPageSnapshot> find() {
+        Optional<MainPageSnapshot> cached = nearCache.get(NEAR_CACHE_KEY);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        String json = redisTemplate.opsForValue().get(MAIN_PAGE_SNAPSHOT_KEY);
+        if (json == null) {
+            return Optional.empty();
+        }
+
+        MainPageSnapshot snapshot = new MainPageSnapshot(json.getBytes(StandardCharsets.UTF_8));
+        nearCache.put(NEAR_CACHE_KEY, snapshot);
+        return Optional.of(snapshot);
+    }
+
+    @Override
+    public void save(MainPageSnapshot snapshot, Duration expiresAfter) {
+        String json = new String(snapshot.getBody(), StandardCharsets.UTF_8);
+        redisTemplate.opsForValue().set(MAIN_PAGE_SNAPSHOT_KEY, json, expiresAfter);
+        nearCache.invalidate(NEAR_CACHE_KEY);
+        nearCache.put(NEAR_CACHE_KEY, snapshot);
+    }
+}
@@ -2,6 +2,7 @@ package com.dku.council.domain.mainpage.service;
 
 import com.dku.council.domain.mainpage.exception.CarouselNotFoundException;
 import com.dku.council.domain.mainpage.exception.InvalidCarouselTypeException;
+import com.dku.council.domain.mainpage.model.CarouselChangedEvent;
 import com.dku.council.domain.mainpage.model.dto.PetitionSummary;
 import com.dku.council.domain.mainpage.model.dto.PostSummary;
 import com.dku.council.domain.mainpage.model.dto.request.RequestCarouselImageDto;
@@ -16,6 +17,7 @@ import com.dku.council.infra.nhn.model.FileRequest;
 import com.dku.council.infra.nhn.service.FileUploadService;
 import com.dku.council.infra.nhn.service.ObjectUploadContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,6 +38,7 @@ public class MainPageService {
     private final PetitionRepository petitionRepository;
     private final NewsRepository newsRepository;
     private final ConferenceRepository conferenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 캐러셀 이미지 목록을 가져옵니다. 정렬기준 : 최신 등록일
@@ -69,6 +72,7 @@ public class MainPageService {
                 .build();
 
         carouselImageRepository.save(carouselImage);
+        eventPublisher.publishEvent(new CarouselChangedEvent());
     }
 
     /**
@@ -81,6 +85,7 @@ public class MainPageService {
 
         fileUploadService.newContext().deleteFile(carouselImage.getFileId());
         carouselImageRepository.delete(carouselImage);
+        eventPublisher.publishEvent(new CarouselChangedEvent());
     }
 
     public MainPageResponseDto mainPageInfo() {
@@ -115,5 +120,6 @@ public class MainPageService {
         CarouselImage carouselImage = carouselImageRepository.findById(carouselId)
                 .orElseThrow(CarouselNotFoundException::new);
         carouselImage.editRedirectUrl(redirectUrl);
+        eventPublisher.publishEvent(new CarouselChangedEvent());
     }
 }
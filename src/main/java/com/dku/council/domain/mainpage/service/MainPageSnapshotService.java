@@ -0,0 +1,125 @@
+package com.dku.council.domain.mainpage.service;
+
+import com.dku.council.domain.mainpage.model.CarouselChangedEvent;
+import com.dku.council.domain.mainpage.model.MainPageSnapshot;
+import com.dku.council.domain.mainpage.repository.MainPageSnapshotMemoryRepository;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.entity.posttype.Conference;
+import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.domain.post.model.entity.posttype.Petition;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 메인 페이지 응답을 미리 직렬화한 스냅샷으로 관리한다. 스냅샷은 메모리와 Redis에 보관되며,
+ * 메인 페이지에 보이는 게시글이나 캐러셀이 바뀌면 커밋 이후 별도 스레드에서 다시 만든다.
+ * <p>청원 D-day처럼 이벤트 없이 바뀌는 값도 있으므로 스냅샷은 일정 시간이 지나면 만료된다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MainPageSnapshotService {
+
+    private static final Set<Class<?>> MAIN_PAGE_POST_TYPES = Set.of(News.class, Conference.class, Petition.class);
+
+    private final MainPageService mainPageService;
+    private final MainPageSnapshotMemoryRepository memoryRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.main-page.snapshot-expires:10m}")
+    private final Duration snapshotExpires;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final Object rebuildLock = new Object();
+
+    /**
+     * 메인 페이지 스냅샷을 가져온다. 스냅샷이 없을 때만 DB에서 조회하여 만든다.
+     * 여러 요청이 동시에 스냅샷이 없는 것을 발견하더라도 한 번만 만든다.
+     *
+     * @return 메인 페이지 스냅샷
+     */
+    public MainPageSnapshot getSnapshot() {
+        Optional<MainPageSnapshot> snapshot = memoryRepository.find();
+        if (snapshot.isPresent()) {
+            return snapshot.get();
+        }
+
+        synchronized (rebuildLock) {
+            return memoryRepository.find().orElseGet(this::rebuild);
+        }
+    }
+
+    /**
+     * DB에서 메인 페이지 데이터를 조회하여 스냅샷을 다시 만들고 저장한다.
+     *
+     * @return 새로 만든 스냅샷
+     */
+    public MainPageSnapshot rebuild() {
+        synchronized (rebuildLock) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                byte[] body = objectMapper.writeValueAsBytes(mainPageService.mainPageInfo());
+                MainPageSnapshot snapshot = new MainPageSnapshot(body);
+                memoryRepository.save(snapshot, snapshotExpires);
+                return snapshot;
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                sample.stop(meterRegistry.timer("mainpage.snapshot.rebuild"));
+            }
+        }
+    }
+
+    /**
+     * 스냅샷을 별도 스레드에서 다시 만든다. 아직 시작하지 않은 요청이 있다면 하나로 합쳐진다.
+     */
+    public void requestRebuild() {
+        if (!rebuildRequested.compareAndSet(false, true)) {
+            return;
+        }
+
+        rebuildExecutor.execute(() -> {
+            // 다시 만드는 도중에 들어온 변경은 다음 요청으로 반영되도록 먼저 해제한다.
+            rebuildRequested.set(false);
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Failed to rebuild main page snapshot", e);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (MAIN_PAGE_POST_TYPES.contains(event.getPostType())) {
+            requestRebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCarouselChanged(CarouselChangedEvent event) {
+        requestRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdown();
+    }
+}
@@ -3,10 +3,10 @@ package com.dku.council.domain.mainpage.service;
 import com.dku.council.domain.mainpage.model.dto.response.ScheduleResponseDto;
 import com.dku.council.domain.mainpage.model.entity.Schedule;
 import com.dku.council.domain.mainpage.repository.ScheduleRepository;
-import com.dku.council.infra.dku.model.DkuAuth;
+import com.dku.council.infra.dku.model.DkuLoginTarget;
 import com.dku.council.infra.dku.model.ScheduleInfo;
-import com.dku.council.infra.dku.scrapper.DkuAuthenticationService;
 import com.dku.council.infra.dku.scrapper.DkuScheduleService;
+import com.dku.council.infra.dku.scrapper.DkuSessionPool;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -23,15 +23,9 @@ import java.util.stream.Collectors;
 public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
-    private final DkuAuthenticationService dkuAuthenticationService;
+    private final DkuSessionPool dkuSessionPool;
     private final DkuScheduleService dkuScheduleService;
 
-    @Value("${dku.static-crawler.id}")
-    private final String id;
-
-    @Value("${dku.static-crawler.password}")
-    private final String password;
-
     @Value("${dku.schedule.half-range}")
     private final Period halfRange;
 
@@ -47,8 +41,8 @@ public class ScheduleService {
         LocalDate start = YearMonth.from(now.minus(halfRange)).atDay(1);
         LocalDate end = YearMonth.from(now.plus(halfRange)).atEndOfMonth();
 
-        DkuAuth auth = dkuAuthenticationService.loginPortal(id, password);
-        List<ScheduleInfo> schedules = dkuScheduleService.crawlSchedule(auth, start, end);
+        List<ScheduleInfo> schedules = dkuSessionPool.execute(DkuLoginTarget.PORTAL,
+                auth -> dkuScheduleService.crawlSchedule(auth, start, end));
 
         List<Schedule> entities = schedules.stream()
                 .map(e -> Schedule.builder()
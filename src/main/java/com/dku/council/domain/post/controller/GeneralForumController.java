@@ -8,6 +8,7 @@ import com.dku.council.domain.like.service.LikeService;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateGeneralForumDto;
 import com.dku.council.domain.post.model.dto.response.GeneralForumCommentDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponseGeneralForumDto;
 import com.dku.council.domain.post.model.dto.response.ResponsePage;
 import com.dku.council.domain.post.service.post.GeneralForumService;
@@ -57,6 +58,25 @@ public class GeneralForumController {
         return new ResponsePage<>(list);
     }
 
+    /**
+     * 게시글 목록을 커서 기반으로 최신순 조회
+     * <p>페이지 번호 대신 이전 응답의 nextCursor를 전달하여 다음 페이지를 조회합니다.
+     * 전체 개수를 세지 않으므로 뒤쪽 페이지도 빠르게 조회할 수 있습니다. 검색어는 지원하지 않습니다.</p>
+     *
+     * @param tagIds   조회할 태그 목록. or 조건으로 검색된다. 지정하지않으면 모든 게시글 조회.
+     * @param cursor   이전 페이지의 nextCursor. 지정하지 않으면 첫 페이지 조회.
+     * @param size     페이지 크기. 지정하지 않으면 20개, 최대 100개.
+     * @param bodySize 게시글 본문 길이. (글자 단위) 지정하지 않으면 50 글자.
+     * @return 커서 페이징된 자유게시판 목록
+     */
+    @GetMapping("/cursor")
+    public ResponseCursorPage<SummarizedGenericPostDto> listByCursor(@RequestParam(required = false) List<Long> tagIds,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "20") int size,
+                                                                     @RequestParam(defaultValue = "50") int bodySize) {
+        return forumService.listByCursor(tagIds, cursor, size, bodySize);
+    }
+
     /**
      * 내가 쓴 글 조회
      */
@@ -151,6 +171,27 @@ public class GeneralForumController {
         return new ResponsePage<>(comments);
     }
 
+    /**
+     * 댓글 목록을 커서 기반으로 작성순 조회
+     * <p>페이지 번호 대신 이전 응답의 nextCursor를 전달하여 다음 페이지를 조회합니다.</p>
+     *
+     * @param postId 댓글을 조회할 게시글 id
+     * @param cursor 이전 페이지의 nextCursor. 지정하지 않으면 첫 페이지 조회.
+     * @param size   페이지 크기. 지정하지 않으면 20개, 최대 100개.
+     */
+    @GetMapping("/comment/{postId}/cursor")
+    @UserAuth
+    public ResponseCursorPage<CommentDto> listCommentByCursor(AppAuthentication auth,
+                                                              @PathVariable Long postId,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") int size) {
+        return commentService.listByCursor(postId, auth.getUserId(), cursor, size,
+                (ent, dto) -> {
+                    User user = ent.getUser();
+                    return new GeneralForumCommentDto(ent, dto, user.getNickname(), user.getMajor().getName());
+                });
+    }
+
     /**
      * 게시글에 댓글 생성
      *
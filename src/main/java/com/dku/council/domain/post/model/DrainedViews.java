@@ -0,0 +1,20 @@
+package com.dku.council.domain.post.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DB에 반영하기 위해 Redis에서 가져온 조회수 묶음. runId는 가져올 때마다 새로 만들어진다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class DrainedViews {
+    private final String runId;
+    private final Map<Long, Integer> views;
+
+    public boolean isEmpty() {
+        return views.isEmpty();
+    }
+}
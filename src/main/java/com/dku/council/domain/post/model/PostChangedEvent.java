@@ -0,0 +1,28 @@
+package com.dku.council.domain.post.model;
+
+import com.dku.council.domain.post.model.entity.Post;
+import lombok.Getter;
+import org.hibernate.Hibernate;
+
+/**
+ * 게시글이 작성, 삭제, blind 처리되는 등 목록에 보이는 내용이 바뀌었을 때 발행하는 이벤트.
+ */
+@Getter
+public class PostChangedEvent {
+
+    private final Class<?> postType;
+
+    /**
+     * 바뀐 게시글 ID. 여러 게시글이 한 번에 바뀐 경우 null
+     */
+    private final Long postId;
+
+    public PostChangedEvent(Post post) {
+        this(Hibernate.getClass(post), post.getId());
+    }
+
+    public PostChangedEvent(Class<?> postType, Long postId) {
+        this.postType = postType;
+        this.postId = postId;
+    }
+}
@@ -0,0 +1,23 @@
+package com.dku.council.domain.post.model;
+
+public enum ThumbnailJobStatus {
+    /**
+     * 썸네일 생성을 기다리는 상태
+     */
+    PENDING,
+
+    /**
+     * 한 서버가 작업을 가져가서 썸네일을 만들고 있는 상태
+     */
+    RUNNING,
+
+    /**
+     * 썸네일이 만들어져 첨부파일에 반영된 상태
+     */
+    DONE,
+
+    /**
+     * 재시도 횟수를 넘겼거나 이미지를 읽을 수 없어서 포기한 상태
+     */
+    FAILED
+}
@@ -0,0 +1,16 @@
+package com.dku.council.domain.post.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 첨부파일의 썸네일 생성 작업이 등록되었을 때 발행하는 이벤트.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ThumbnailRequestedEvent {
+
+    private final List<Long> jobIds;
+}
@@ -3,6 +3,7 @@ package com.dku.council.domain.post.model.dto.list;
 import com.dku.council.domain.post.model.dto.PostFileDto;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.tag.model.dto.TagDto;
+import com.dku.council.global.util.HtmlUtil;
 import com.dku.council.infra.nhn.service.ObjectUploadContext;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
@@ -48,16 +49,16 @@ public class SummarizedGenericPostDto {
     private final boolean isBlinded;
 
 
-    public SummarizedGenericPostDto(ObjectUploadContext context, int bodySize, int likes, Post post) {
+    public SummarizedGenericPostDto(ObjectUploadContext context, int bodySize, int likes, int views, Post post) {
         this.id = post.getId();
         this.title = post.getTitle();
         this.author = post.getDisplayingUsername();
-        this.body = slice(post.getBody(), bodySize);
+        this.body = summarize(post, bodySize);
         this.createdAt = post.getCreatedAt();
         this.likes = likes;
         this.files = PostFileDto.listOf(context, post.getFiles());
-        this.views = post.getViews();
-        this.commentCount = post.getComments().size(); // 댓글 개수 캐싱 필요
+        this.views = views;
+        this.commentCount = post.getCommentCount();
         this.tag = post.getPostTags().stream()
                 .map(e -> new TagDto(e.getTag()))
                 .collect(Collectors.toList());
@@ -78,6 +79,17 @@ public class SummarizedGenericPostDto {
         this.isBlinded = copy.isBlinded();
     }
 
+    /**
+     * 요청한 길이가 저장된 요약보다 길고 본문도 요약보다 길 때만 본문을 불러와서 자른다.
+     */
+    private static String summarize(Post post, int bodySize) {
+        String excerpt = post.getExcerpt();
+        if (excerpt == null || excerpt.length() >= Math.min(bodySize, post.getBodyLength())) {
+            return slice(excerpt, bodySize);
+        }
+        return HtmlUtil.toExcerpt(post.getBody(), bodySize);
+    }
+
     private static String slice(String text, int maxLen) {
         if (text == null) {
             return null;
@@ -0,0 +1,48 @@
+package com.dku.council.domain.post.model.dto.response;
+
+import com.dku.council.global.base.BaseEntity;
+import com.dku.council.global.model.Cursor;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class ResponseCursorPage<T> implements Serializable {
+
+    @Schema(description = "컨텐츠")
+    private final List<T> content;
+
+    @Schema(description = "다음 페이지가 있는지?", example = "true")
+    private final boolean hasNext;
+
+    @Schema(description = "다음 페이지를 조회할 때 사용할 커서. 다음 페이지가 없으면 null", example = "MjAyMy0wMy0wM1QwMzowMzowM18xMjM")
+    private final String nextCursor;
+
+    @Schema(description = "페이지 컨텐츠 개수", example = "20")
+    private final int size;
+
+    public ResponseCursorPage(List<T> content, boolean hasNext, String nextCursor, int size) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.size = size;
+    }
+
+    /**
+     * size + 1개까지 조회한 결과로 페이지를 만든다. size개를 넘게 조회되었다면 다음 페이지가 있는 것으로 판단한다.
+     *
+     * @param rows   size + 1개까지 조회한 엔티티 목록
+     * @param size   페이지 크기
+     * @param mapper 페이지에 포함될 엔티티 목록을 dto 목록으로 변환하는 함수
+     */
+    public static <E extends BaseEntity, T> ResponseCursorPage<T> of(List<E> rows, int size,
+                                                                     Function<List<E>, List<T>> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? Cursor.of(page.get(page.size() - 1)).encode() : null;
+        return new ResponseCursorPage<>(mapper.apply(page), hasNext, nextCursor, size);
+    }
+}
@@ -50,7 +50,8 @@ public class ResponseSingleGenericPostDto {
     @Schema(description = "블라인드 여부", example = "false")
     private final boolean isBlinded;
 
-    public ResponseSingleGenericPostDto(ObjectUploadContext context, int likes, boolean isMine, boolean isLiked, Post post) {
+    public ResponseSingleGenericPostDto(ObjectUploadContext context, int likes, int views, boolean isMine,
+                                        boolean isLiked, Post post) {
         this.id = post.getId();
         this.title = post.getTitle();
         this.body = post.getBody();
@@ -59,7 +60,7 @@ public class ResponseSingleGenericPostDto {
                 .map(e -> new TagDto(e.getTag()))
                 .collect(Collectors.toList());
         this.likes = likes;
-        this.views = post.getViews();
+        this.views = views;
         this.createdAt = post.getCreatedAt();
         this.files = PostFileDto.listOf(context, post.getFiles());
         this.isMine = isMine;
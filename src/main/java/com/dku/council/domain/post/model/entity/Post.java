@@ -7,8 +7,11 @@ import com.dku.council.domain.report.model.entity.Report;
 import com.dku.council.domain.tag.model.entity.PostTag;
 import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.global.base.BaseEntity;
+import com.dku.council.global.util.HtmlUtil;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Where;
 
@@ -29,11 +32,17 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 @Getter
 @DynamicUpdate
+@Table(indexes = @Index(name = "idx_post_created_at", columnList = "createdAt,post_id"))
 @Inheritance(strategy = SINGLE_TABLE)
 @DiscriminatorColumn(name = "type")
 @NoArgsConstructor(access = PROTECTED)
 public abstract class Post extends BaseEntity {
 
+    /**
+     * 목록 조회용으로 저장하는 본문 요약의 최대 길이
+     */
+    public static final int EXCERPT_LENGTH = 200;
+
     @Id
     @GeneratedValue
     @Column(name = "post_id")
@@ -43,17 +52,40 @@ public abstract class Post extends BaseEntity {
     @JoinColumn(name = "user_id")
     private User user;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "post", orphanRemoval = true)
     private List<PostTag> postTags = new ArrayList<>();
 
     private String title;
 
-    @Lob
-    private String body;
+    /**
+     * 본문. 목록 조회에서 불러오지 않도록 별도 테이블에 저장하며, {@link #getBody()}로 필요할 때만 불러온다.
+     */
+    @Getter(AccessLevel.NONE)
+    @OneToOne(fetch = LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "post_body_id")
+    private PostBody body;
+
+    /**
+     * HTML을 제거한 본문 요약. 목록 조회에서는 본문 대신 이 값을 사용한다.
+     */
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
+    /**
+     * HTML을 제거한 본문 전체의 글자 수. 요약보다 긴 본문을 요청받았을 때만 본문을 불러오기 위해 저장한다.
+     */
+    private int bodyLength;
+
+    /**
+     * 현재 제목과 본문으로 검색 색인이 만들어졌는지 여부. 본문이 바뀌면 false가 되어 다시 색인할 대상이 된다.
+     */
+    private boolean searchIndexed;
 
     @Enumerated(STRING)
     private PostStatus status;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "post", cascade = CascadeType.PERSIST, orphanRemoval = true)
     private List<PostFile> files = new ArrayList<>();
 
@@ -66,17 +98,42 @@ public abstract class Post extends BaseEntity {
 
     private int views;
 
+    /**
+     * ACTIVE 상태인 댓글 개수. 목록 조회에서 댓글을 불러오지 않도록 비정규화하여 관리한다.
+     * 값은 {@link com.dku.council.domain.post.repository.post.PostRepository#increaseCommentCount}로만 변경한다.
+     */
+    private int commentCount;
+
 
     protected Post(User user, String title, String body, int views) {
         this.user = user;
         this.title = title;
-        this.body = body;
         this.views = views;
         this.status = PostStatus.ACTIVE;
+        changeBody(body);
+    }
+
+    public String getBody() {
+        if (body == null) {
+            return null;
+        }
+        return body.getContent();
+    }
+
+    public void changeBody(String body) {
+        this.body = body == null ? null : new PostBody(body);
+        this.searchIndexed = false;
+        updateExcerpt();
+    }
+
+    public void updateExcerpt() {
+        String text = HtmlUtil.toText(getBody());
+        this.excerpt = HtmlUtil.truncate(text, EXCERPT_LENGTH);
+        this.bodyLength = text == null ? 0 : text.length();
     }
 
-    public void increaseViewCount() {
-        views++;
+    public void markSearchIndexed() {
+        this.searchIndexed = true;
     }
 
     public void markAsDeleted(boolean byAdmin) {
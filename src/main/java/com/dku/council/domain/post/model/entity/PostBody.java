@@ -0,0 +1,31 @@
+package com.dku.council.domain.post.model.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+import javax.persistence.*;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 게시글 본문. 목록 조회에서 본문을 불러오지 않도록 게시글과 별도 테이블에 저장한다.
+ */
+@Entity
+@Getter
+@BatchSize(size = 100)
+@NoArgsConstructor(access = PROTECTED)
+public class PostBody {
+
+    @Id
+    @GeneratedValue
+    @Column(name = "post_body_id")
+    private Long id;
+
+    @Lob
+    private String content;
+
+    public PostBody(String content) {
+        this.content = content;
+    }
+}
@@ -40,6 +40,14 @@ public class PostFile extends BaseEntity {
         this.mimeType = mimeType;
     }
 
+    public void changeThumbnail(String thumbnailId) {
+        this.thumbnailId = thumbnailId;
+    }
+
+    public boolean isImage() {
+        return mimeType != null && mimeType.toLowerCase().startsWith("image/");
+    }
+
     public void changePost(Post post) {
         if (this.post != null) {
             this.post.getFiles().remove(this);
@@ -0,0 +1,48 @@
+package com.dku.council.domain.post.model.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 게시글 검색용 역색인. 게시글마다 토큰 하나당 한 행을 가지며, weight는 제목/본문 등장 횟수로 계산된 가중치이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_post_search_token", columnList = "postType,token,postId"),
+        @Index(name = "idx_post_search_post", columnList = "postId")
+})
+public class PostSearchToken {
+
+    /**
+     * 게시글 하나를 색인할 때 토큰 수만큼 행이 추가되므로, ID를 미리 여러 개 할당받아 batch insert 되도록 한다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_search_token_seq")
+    @SequenceGenerator(name = "post_search_token_seq", sequenceName = "post_search_token_seq", allocationSize = 1000)
+    @Column(name = "post_search_token_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    @Column(nullable = false, length = 31)
+    private String postType;
+
+    @Column(nullable = false, length = 8)
+    private String token;
+
+    private int weight;
+
+    public PostSearchToken(Long postId, String postType, String token, int weight) {
+        this.postId = postId;
+        this.postType = postType;
+        this.token = token;
+        this.weight = weight;
+    }
+}
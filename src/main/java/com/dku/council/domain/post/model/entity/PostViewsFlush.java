@@ -0,0 +1,34 @@
+package com.dku.council.domain.post.model.entity;
+
+import com.dku.council.global.base.BaseEntity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * DB에 반영한 조회수 묶음. 조회수 반영과 같은 트랜잭션에서 저장하므로,
+ * 이 기록이 있는 묶음은 다시 반영하지 않고 Redis에서 지우기만 하면 된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_views_flush_run_id", columnNames = "runId")
+})
+public class PostViewsFlush extends BaseEntity {
+
+    @Id
+    @GeneratedValue
+    @Column(name = "post_views_flush_id")
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String runId;
+
+    public PostViewsFlush(String runId) {
+        this.runId = runId;
+    }
+}
@@ -0,0 +1,66 @@
+package com.dku.council.domain.post.model.entity;
+
+import com.dku.council.domain.post.model.ThumbnailJobStatus;
+import com.dku.council.global.base.BaseEntity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+import static javax.persistence.EnumType.STRING;
+import static javax.persistence.FetchType.LAZY;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 첨부파일의 썸네일 생성 작업. 요청 스레드 밖에서 처리되며, 처리되지 못한 작업은 DB에 남아 있다가 다시 시도된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_thumbnail_job_status", columnList = "status,lastModifiedAt")
+})
+public class ThumbnailJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue
+    @Column(name = "thumbnail_job_id")
+    private Long id;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "post_file_id", nullable = false)
+    private PostFile postFile;
+
+    @Enumerated(STRING)
+    @Column(nullable = false, length = 15)
+    private ThumbnailJobStatus status;
+
+    private int attempts;
+
+    public ThumbnailJob(PostFile postFile) {
+        this.postFile = postFile;
+        this.status = ThumbnailJobStatus.PENDING;
+    }
+
+    public void complete(String thumbnailId) {
+        this.postFile.changeThumbnail(thumbnailId);
+        this.status = ThumbnailJobStatus.DONE;
+    }
+
+    /**
+     * 실패 횟수를 늘리고 다시 PENDING 상태로 돌린다. maxAttempts번 실패하면 더 이상 시도하지 않는다.
+     */
+    public void fail(int maxAttempts) {
+        this.attempts++;
+        if (this.attempts >= maxAttempts) {
+            this.status = ThumbnailJobStatus.FAILED;
+        } else {
+            this.status = ThumbnailJobStatus.PENDING;
+        }
+    }
+
+    public void giveUp() {
+        this.attempts++;
+        this.status = ThumbnailJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,34 @@
+package com.dku.council.domain.post.repository;
+
+import com.dku.council.domain.post.model.entity.Post;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+public interface PostSearchRepository {
+
+    /**
+     * 게시글의 제목과 본문을 색인한다. 이미 색인된 게시글이라면 기존 색인을 교체한다.
+     *
+     * @param post 게시글
+     */
+    void index(Post post);
+
+    /**
+     * 게시글들의 색인을 제거한다.
+     *
+     * @param postIds 게시글 ID 목록
+     */
+    void remove(Collection<Long> postIds);
+
+    /**
+     * 검색어를 포함하는 게시글만 조회하는 조건을 만든다. 검색어의 모든 토큰을 포함하는 게시글만 조회하며,
+     * 정렬을 지정하지 않으면 제목에 등장한 토큰일수록, 많이 등장한 토큰일수록 앞에 정렬된다.
+     * 다른 조건, 페이징과 함께 한 번의 쿼리로 조회되므로 검색 결과 개수에 제한이 없다.
+     *
+     * @param postType 게시글 타입
+     * @param keyword  검색어
+     * @return 검색 조건
+     */
+    <T extends Post> Specification<T> search(Class<T> postType, String keyword);
+}
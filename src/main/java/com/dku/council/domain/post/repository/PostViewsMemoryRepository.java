@@ -0,0 +1,66 @@
+package com.dku.council.domain.post.repository;
+
+import com.dku.council.domain.post.model.DrainedViews;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface PostViewsMemoryRepository {
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수를 1 증가시킨다.
+     *
+     * @param postId 게시글 ID
+     */
+    void increaseViews(Long postId);
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수를 가져온다. DB에 반영하는 중인 조회수도 포함된다.
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 ID별 반영되지 않은 조회수. 없는 게시글은 포함하지 않는다.
+     */
+    Map<Long, Integer> getBufferedViews(Collection<Long> postIds);
+
+    /**
+     * DB에 반영할 조회수를 새 묶음으로 가져온다. 묶음마다 고유한 runId가 붙으므로 여러 서버가 동시에 가져가도
+     * 같은 조회수를 두 번 가져가지 않는다. 가져온 조회수는 {@link #clearDrainedViews(String)}나
+     * {@link #restoreDrainedViews(String)}를 호출하기 전까지 {@link #getBufferedViews(Collection)}에 계속 포함된다.
+     *
+     * @param now 현재 시각
+     * @return 반영할 조회수 묶음
+     */
+    DrainedViews drainViews(Instant now);
+
+    /**
+     * 가져간 조회수 묶음을 다시 읽는다. 이미 정리된 묶음이면 비어있다.
+     *
+     * @param runId 묶음 ID
+     * @return 게시글 ID별 조회수
+     */
+    Map<Long, Integer> getDrainedViews(String runId);
+
+    /**
+     * before 이전에 가져간 뒤 정리되지 않은 묶음의 ID를 가져온다.
+     *
+     * @param before 기준 시각
+     * @return 묶음 ID 목록
+     */
+    List<String> findDrainedRunsBefore(Instant before);
+
+    /**
+     * DB 반영이 끝난 조회수 묶음을 삭제한다. 이미 정리된 묶음이면 아무것도 하지 않는다.
+     *
+     * @param runId 묶음 ID
+     */
+    void clearDrainedViews(String runId);
+
+    /**
+     * DB 반영에 실패한 조회수 묶음을 다시 반영 대기 상태로 되돌린다. 이미 정리된 묶음이면 아무것도 하지 않는다.
+     *
+     * @param runId 묶음 ID
+     */
+    void restoreDrainedViews(String runId);
+}
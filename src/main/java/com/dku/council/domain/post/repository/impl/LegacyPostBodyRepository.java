@@ -0,0 +1,75 @@
+package com.dku.council.domain.post.repository.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 본문을 별도 테이블로 옮기기 전에 post 테이블의 body 컬럼에 저장된 본문을 읽는다.
+ * 새로 만든 DB에는 body 컬럼이 없으므로, 컬럼이 있을 때만 조회한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class LegacyPostBodyRepository {
+
+    private final EntityManager entityManager;
+    private final DataSource dataSource;
+
+    private volatile Boolean columnExists;
+
+    /**
+     * 아직 별도 테이블로 옮기지 않은 본문을 게시글 ID 순으로 가져온다.
+     *
+     * @param limit 최대 개수
+     * @return 게시글 ID별 본문. body 컬럼이 없는 DB라면 빈 map
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, String> findAll(int limit) {
+        Map<Long, String> result = new LinkedHashMap<>();
+        if (!hasLegacyColumn()) {
+            return result;
+        }
+
+        List<Object[]> rows = entityManager.createNativeQuery("select p.post_id, p.body from post p " +
+                        "where p.post_body_id is null and p.body is not null " +
+                        "order by p.post_id")
+                .setMaxResults(limit)
+                .getResultList();
+        for (Object[] row : rows) {
+            result.put(((Number) row[0]).longValue(), (String) row[1]);
+        }
+        return result;
+    }
+
+    private boolean hasLegacyColumn() {
+        if (columnExists == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                DatabaseMetaData metaData = connection.getMetaData();
+                columnExists = hasColumn(connection, metaData, "post", "body")
+                        || hasColumn(connection, metaData, "POST", "BODY");
+            } catch (SQLException e) {
+                log.warn("Failed to check the legacy post.body column.", e);
+                return false;
+            }
+        }
+        return columnExists;
+    }
+
+    private static boolean hasColumn(Connection connection, DatabaseMetaData metaData,
+                                     String table, String column) throws SQLException {
+        try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(), table, column)) {
+            return columns.next();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.dku.council.domain.post.repository.impl;
+
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.PostSearchToken;
+import com.dku.council.domain.post.repository.PostSearchRepository;
+import com.dku.council.domain.post.repository.post.PostSearchTokenRepository;
+import com.dku.council.global.util.HtmlUtil;
+import com.dku.council.global.util.NGramTokenizer;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * bi-gram 역색인 테이블을 이용한 게시글 검색 구현.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NGramPostSearchRepository implements PostSearchRepository {
+
+    /**
+     * 제목에 등장한 토큰의 가중치. 본문에 등장한 토큰의 가중치는 1이다.
+     */
+    public static final int TITLE_WEIGHT = 5;
+
+    private final PostSearchTokenRepository tokenRepository;
+
+    @Override
+    public void index(Post post) {
+        tokenRepository.deleteAllByPostIdIn(List.of(post.getId()));
+
+        Map<String, Integer> weights = new HashMap<>();
+        NGramTokenizer.tokenize(post.getTitle())
+                .forEach((token, count) -> weights.merge(token, count * TITLE_WEIGHT, Integer::sum));
+        NGramTokenizer.tokenize(HtmlUtil.toText(post.getBody()))
+                .forEach((token, count) -> weights.merge(token, count, Integer::sum));
+
+        String postType = Hibernate.getClass(post).getSimpleName();
+        List<PostSearchToken> tokens = new ArrayList<>(weights.size());
+        for (Map.Entry<String, Integer> ent : weights.entrySet()) {
+            tokens.add(new PostSearchToken(post.getId(), postType, ent.getKey(), ent.getValue()));
+        }
+        tokenRepository.saveAll(tokens);
+    }
+
+    @Override
+    public void remove(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        tokenRepository.deleteAllByPostIdIn(postIds);
+    }
+
+    @Override
+    public <T extends Post> Specification<T> search(Class<T> postType, String keyword) {
+        Set<String> tokens = NGramTokenizer.tokenizeQuery(keyword);
+        if (tokens.isEmpty()) {
+            return (root, query, builder) -> builder.disjunction();
+        }
+
+        String type = postType.getSimpleName();
+        List<String> bigrams = new ArrayList<>();
+        for (String token : tokens) {
+            if (token.codePointCount(0, token.length()) > 1) {
+                bigrams.add(token);
+            }
+        }
+
+        // 한 글자 검색어는 그 글자로 시작하거나 끝나는 bi-gram으로 찾는다.
+        String letter = bigrams.isEmpty() ? tokens.iterator().next() : null;
+        return (root, query, builder) -> {
+            Expression<Long> id = root.get("id");
+
+            Subquery<Long> matched = query.subquery(Long.class);
+            Root<PostSearchToken> token = matched.from(PostSearchToken.class);
+            matched.select(token.get("postId"))
+                    .where(matchTokens(builder, token, type, bigrams, letter))
+                    .groupBy(token.get("postId"));
+            if (letter == null) {
+                matched.having(builder.equal(builder.count(token), (long) bigrams.size()));
+            }
+
+            if (query.getOrderList().isEmpty()) {
+                Subquery<Integer> score = query.subquery(Integer.class);
+                Root<PostSearchToken> scored = score.from(PostSearchToken.class);
+                score.select(builder.sum(scored.get("weight")))
+                        .where(builder.equal(scored.get("postId"), id),
+                                matchTokens(builder, scored, type, bigrams, letter));
+                query.orderBy(builder.desc(score), builder.desc(id));
+            }
+            return id.in(matched);
+        };
+    }
+
+    private static Predicate matchTokens(CriteriaBuilder builder, Root<PostSearchToken> token,
+                                         String type, List<String> bigrams, String letter) {
+        Predicate tokenMatched = letter == null
+                ? token.get("token").in(bigrams)
+                : builder.or(builder.like(token.get("token"), letter + "%"),
+                builder.like(token.get("token"), "%" + letter));
+        return builder.and(builder.equal(token.get("postType"), type), tokenMatched);
+    }
+}
@@ -0,0 +1,166 @@
+package com.dku.council.domain.post.repository.impl;
+
+import com.dku.council.domain.post.model.DrainedViews;
+import com.dku.council.domain.post.repository.PostViewsMemoryRepository;
+import com.dku.council.global.config.redis.RedisKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.*;
+
+import static com.dku.council.global.config.redis.RedisKeys.combine;
+
+@Repository
+@RequiredArgsConstructor
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class PostViewsRedisRepository implements PostViewsMemoryRepository {
+
+    private static final String VIEWS_KEY = RedisKeys.POST_VIEWS_KEY;
+    private static final String DRAINED_VIEWS_KEY = combine(RedisKeys.POST_VIEWS_KEY, "drained");
+    private static final String DRAINED_RUNS_KEY = combine(RedisKeys.POST_VIEWS_KEY, "drainedRuns");
+
+    /**
+     * 반영 대기중인 조회수를 묶음 전용 hash로 옮기고, 묶음 ID를 가져간 시각과 함께 기록한 뒤 가져온다.
+     * KEYS: [views hash, drained views hash, drained runs zset], ARGV: [runId, drained millis]
+     */
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then\n" +
+                    "    return {}\n" +
+                    "end\n" +
+                    "redis.call('RENAME', KEYS[1], KEYS[2])\n" +
+                    "redis.call('ZADD', KEYS[3], ARGV[2], ARGV[1])\n" +
+                    "return redis.call('HGETALL', KEYS[2])", List.class);
+
+    /**
+     * 묶음의 조회수를 반영 대기중 hash에 더하고 묶음을 삭제한다.
+     * KEYS: [views hash, drained views hash, drained runs zset], ARGV: [runId]
+     */
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[2])\n" +
+                    "for i = 1, #entries, 2 do\n" +
+                    "    redis.call('HINCRBY', KEYS[1], entries[i], entries[i + 1])\n" +
+                    "end\n" +
+                    "redis.call('DEL', KEYS[2])\n" +
+                    "redis.call('ZREM', KEYS[3], ARGV[1])\n" +
+                    "return #entries / 2", Long.class);
+
+    /**
+     * 묶음을 삭제한다.
+     * KEYS: [drained views hash, drained runs zset], ARGV: [runId]
+     */
+    private static final RedisScript<Long> CLEAR_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1])\n" +
+                    "return redis.call('ZREM', KEYS[2], ARGV[1])", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void increaseViews(Long postId) {
+        redisTemplate.opsForHash().increment(VIEWS_KEY, postId.toString(), 1);
+    }
+
+    @Override
+    public Map<Long, Integer> getBufferedViews(Collection<Long> postIds) {
+        Map<Long, Integer> result = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return result;
+        }
+
+        List<Long> ids = new ArrayList<>(postIds);
+        String[] fields = ids.stream()
+                .map(Object::toString)
+                .toArray(String[]::new);
+        Set<String> runIds = redisTemplate.opsForZSet().range(DRAINED_RUNS_KEY, 0, -1);
+
+        List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.hMGet(VIEWS_KEY, fields);
+            if (runIds != null) {
+                for (String runId : runIds) {
+                    conn.hMGet(drainedKey(runId), fields);
+                }
+            }
+            return null;
+        });
+
+        for (Object value : values) {
+            List<String> views = (List<String>) value;
+            for (int i = 0; i < ids.size(); i++) {
+                int count = parseCount(views.get(i));
+                if (count > 0) {
+                    result.merge(ids.get(i), count, Integer::sum);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public DrainedViews drainViews(Instant now) {
+        String runId = UUID.randomUUID().toString();
+        List<Object> entries = redisTemplate.execute(DRAIN_SCRIPT,
+                List.of(VIEWS_KEY, drainedKey(runId), DRAINED_RUNS_KEY),
+                runId, String.valueOf(now.toEpochMilli()));
+        return new DrainedViews(runId, toViews(entries));
+    }
+
+    @Override
+    public Map<Long, Integer> getDrainedViews(String runId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(drainedKey(runId));
+        Map<Long, Integer> result = new HashMap<>();
+        for (Map.Entry<Object, Object> ent : entries.entrySet()) {
+            result.put(Long.valueOf((String) ent.getKey()), parseCount((String) ent.getValue()));
+        }
+        return result;
+    }
+
+    @Override
+    public List<String> findDrainedRunsBefore(Instant before) {
+        Set<String> runIds = redisTemplate.opsForZSet()
+                .rangeByScore(DRAINED_RUNS_KEY, Double.NEGATIVE_INFINITY, before.toEpochMilli());
+        if (runIds == null) {
+            return List.of();
+        }
+        return new ArrayList<>(runIds);
+    }
+
+    @Override
+    public void clearDrainedViews(String runId) {
+        redisTemplate.execute(CLEAR_SCRIPT, List.of(drainedKey(runId), DRAINED_RUNS_KEY), runId);
+    }
+
+    @Override
+    public void restoreDrainedViews(String runId) {
+        redisTemplate.execute(RESTORE_SCRIPT, List.of(VIEWS_KEY, drainedKey(runId), DRAINED_RUNS_KEY), runId);
+    }
+
+    private static String drainedKey(String runId) {
+        return combine(DRAINED_VIEWS_KEY, runId);
+    }
+
+    private static Map<Long, Integer> toViews(List<Object> entries) {
+        Map<Long, Integer> result = new HashMap<>();
+        if (entries == null) {
+            return result;
+        }
+
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            Long postId = Long.valueOf((String) entries.get(i));
+            result.put(postId, parseCount((String) entries.get(i + 1)));
+        }
+        return result;
+    }
+
+    private static int parseCount(String value) {
+        if (value == null) {
+            return 0;
+        }
+        return Integer.parseInt(value);
+    }
+}
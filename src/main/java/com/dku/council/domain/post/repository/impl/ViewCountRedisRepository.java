@@ -1,32 +1,36 @@
 package com.dku.council.domain.post.repository.impl;
 
 import com.dku.council.domain.post.repository.ViewCountMemoryRepository;
-import com.dku.council.global.base.AbstractKeyValueCacheRepository;
 import com.dku.council.global.config.redis.RedisKeys;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
-import java.time.Instant;
 
 @Repository
-public class ViewCountRedisRepository extends AbstractKeyValueCacheRepository implements ViewCountMemoryRepository {
+public class ViewCountRedisRepository implements ViewCountMemoryRepository {
 
-    public ViewCountRedisRepository(StringRedisTemplate redisTemplate,
-                                    ObjectMapper objectMapper) {
-        super(redisTemplate, objectMapper, RedisKeys.POST_VIEW_COUNT_SET_KEY);
-    }
+    private final StringRedisTemplate redisTemplate;
+    private final Counter addedCounter;
+    private final Counter duplicatedCounter;
 
-    @Override
-    public boolean isAlreadyContains(Long postId, String userIdentifier, Instant now) {
-        String key = RedisKeys.combine(postId, userIdentifier);
-        return get(key, String.class, now).isPresent();
+    public ViewCountRedisRepository(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.addedCounter = meterRegistry.counter("post.view.dedup", "result", "added");
+        this.duplicatedCounter = meterRegistry.counter("post.view.dedup", "result", "duplicated");
     }
 
     @Override
-    public void put(Long postId, String userIdentifier, Duration expiresAfter, Instant now) {
-        String key = RedisKeys.combine(postId, userIdentifier);
-        set(key, "", now, expiresAfter);
+    public boolean addIfAbsent(Long postId, String userIdentifier, Duration expiresAfter) {
+        String key = RedisKeys.combine(RedisKeys.POST_VIEWED_KEY, postId, userIdentifier);
+        Boolean added = redisTemplate.opsForValue().setIfAbsent(key, "", expiresAfter);
+        if (Boolean.TRUE.equals(added)) {
+            addedCounter.increment();
+            return true;
+        }
+        duplicatedCounter.increment();
+        return false;
     }
 }
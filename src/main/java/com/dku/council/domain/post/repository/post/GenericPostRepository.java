@@ -10,6 +10,9 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface GenericPostRepository<T extends Post> extends JpaRepository<T, Long>, JpaSpecificationExecutor<T> {
@@ -38,4 +41,31 @@ public interface GenericPostRepository<T extends Post> extends JpaRepository<T,
             "where p.id=:id and p.status='BLINDED'")
     Optional<T> findBlindedPostById(@Param("id") Long id);
 
+    /**
+     * 커서 이전에 작성된 ACTIVE상태인 post를 최신순으로 가져옵니다. (createdAt, id) keyset 페이징이므로
+     * offset과 count 쿼리 없이 조회합니다. createdAt이 null이면 처음부터 가져옵니다.
+     */
+    @EntityGraph(attributePaths = {"user", "user.major"})
+    @Query("select p from #{#entityName} p " +
+            "where p.status='ACTIVE' " +
+            "and (:createdAt is null or p.createdAt < :createdAt " +
+            "or (p.createdAt = :createdAt and p.id < :id)) " +
+            "order by p.createdAt desc, p.id desc")
+    List<T> findActiveBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                             Pageable pageable);
+
+    /**
+     * 태그 중 하나라도 달린 post만 {@link #findActiveBefore}와 같은 방식으로 가져옵니다.
+     */
+    @EntityGraph(attributePaths = {"user", "user.major"})
+    @Query("select p from #{#entityName} p " +
+            "where p.status='ACTIVE' " +
+            "and exists (select pt.id from PostTag pt where pt.post = p and pt.tag.id in :tagIds) " +
+            "and (:createdAt is null or p.createdAt < :createdAt " +
+            "or (p.createdAt = :createdAt and p.id < :id)) " +
+            "order by p.createdAt desc, p.id desc")
+    List<T> findActiveBeforeWithTags(@Param("tagIds") Collection<Long> tagIds,
+                                     @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                     Pageable pageable);
+
 }
\ No newline at end of file
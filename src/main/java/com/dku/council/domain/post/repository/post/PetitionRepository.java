@@ -21,7 +21,7 @@ public interface PetitionRepository extends GenericPostRepository<Petition>{
     @Query("update Petition p set p.extraStatus = 'EXPIRED' " +
             "where p.extraStatus = 'ACTIVE' " +
             "and p.createdAt <= :lessThanCreatedAt")
-    void updateExpiredPetition(@Param("lessThanCreatedAt") LocalDateTime lessThanCreatedAt);
+    int updateExpiredPetition(@Param("lessThanCreatedAt") LocalDateTime lessThanCreatedAt);
 
     /**
      * UserID를 통해 ACTIVE상태인 post를 가져옵니다.
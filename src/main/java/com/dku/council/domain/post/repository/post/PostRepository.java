@@ -4,9 +4,12 @@ import com.dku.council.domain.post.model.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -46,4 +49,49 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "and p.status='ACTIVE'")
     Long countAllByUserId(@Param("userId") Long userId);
 
-}
\ No newline at end of file
+    /**
+     * 여러 게시글의 조회수를 한 번에 증가시킵니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Post p set p.views = p.views + :delta where p.id in :ids")
+    void increaseViews(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    /**
+     * 게시글의 댓글 개수를 delta만큼 증가시킵니다. 음수를 전달하면 감소합니다.
+     */
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :postId")
+    void increaseCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * 모든 게시글의 댓글 개수를 ACTIVE 상태인 댓글 기준으로 다시 계산합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Post p set p.commentCount = " +
+            "(select count(c) from Comment c where c.post = p and c.status = 'ACTIVE')")
+    int recountComments();
+
+    /**
+     * 본문 요약이 채워지지 않은 게시글을 ID 순으로 가져옵니다. 활성화 여부와 상관없이 가져옵니다.
+     */
+    @Query("select p from Post p " +
+            "where p.excerpt is null and p.body is not null " +
+            "order by p.id")
+    List<Post> findAllWithoutExcerpt(Pageable pageable);
+
+    /**
+     * 검색 색인이 만들어지지 않은 ACTIVE상태인 post를 ID 순으로 가져옵니다.
+     */
+    @Query("select p from Post p " +
+            "where p.searchIndexed = false and p.status = 'ACTIVE' " +
+            "order by p.id")
+    List<Post> findActiveNotSearchIndexed(Pageable pageable);
+
+    /**
+     * afterId 이후의 ACTIVE상태인 post를 ID 순으로 가져옵니다.
+     */
+    @Query("select p from Post p " +
+            "where p.id > :afterId and p.status = 'ACTIVE' " +
+            "order by p.id")
+    List<Post> findActiveAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
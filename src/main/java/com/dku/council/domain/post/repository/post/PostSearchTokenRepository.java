@@ -0,0 +1,16 @@
+package com.dku.council.domain.post.repository.post;
+
+import com.dku.council.domain.post.model.entity.PostSearchToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface PostSearchTokenRepository extends JpaRepository<PostSearchToken, Long> {
+
+    @Modifying
+    @Query("delete from PostSearchToken t where t.postId in :postIds")
+    void deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+}
@@ -0,0 +1,18 @@
+package com.dku.council.domain.post.repository.post;
+
+import com.dku.council.domain.post.model.entity.PostViewsFlush;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface PostViewsFlushRepository extends JpaRepository<PostViewsFlush, Long> {
+
+    boolean existsByRunId(String runId);
+
+    @Modifying
+    @Query("delete from PostViewsFlush f where f.createdAt < :before")
+    int deleteAllCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,40 @@
+package com.dku.council.domain.post.repository.post;
+
+import com.dku.council.domain.post.model.entity.ThumbnailJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ThumbnailJobRepository extends JpaRepository<ThumbnailJob, Long> {
+
+    @Query("select j from ThumbnailJob j join fetch j.postFile where j.id = :id")
+    Optional<ThumbnailJob> findWithFileById(@Param("id") Long id);
+
+    /**
+     * before 이후로 상태가 바뀌지 않은 PENDING, RUNNING 작업의 ID를 오래된 순으로 가져옵니다.
+     */
+    @Query("select j.id from ThumbnailJob j " +
+            "where j.status in ('PENDING', 'RUNNING') and j.lastModifiedAt < :before " +
+            "order by j.id")
+    List<Long> findStalledIdsBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * PENDING 작업이나 staleBefore 이후로 진행되지 않은 RUNNING 작업을 RUNNING 상태로 가져갑니다.
+     * 여러 서버가 같은 작업을 가져가려고 해도 한 서버만 성공합니다.
+     *
+     * @return 가져갔으면 1, 다른 서버가 가져갔거나 끝난 작업이면 0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update ThumbnailJob j set j.status = 'RUNNING', j.lastModifiedAt = :now " +
+            "where j.id = :id and (j.status = 'PENDING' " +
+            "or (j.status = 'RUNNING' and j.lastModifiedAt < :staleBefore))")
+    int claim(@Param("id") Long id,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -7,6 +7,7 @@ import com.dku.council.domain.tag.model.entity.PostTag;
 import org.springframework.data.jpa.domain.Specification;
 
 import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
 import java.util.List;
 
 
@@ -39,7 +40,7 @@ public class PostSpec {
         return (root, query, builder) ->
                 builder.or(
                         builder.like(root.get("title"), pattern),
-                        builder.like(root.get("body"), pattern)
+                        builder.like(root.join("body", JoinType.LEFT).get("content"), pattern)
                 );
     }
 
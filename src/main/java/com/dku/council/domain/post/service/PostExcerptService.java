@@ -0,0 +1,57 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.repository.impl.LegacyPostBodyRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class PostExcerptService {
+
+    private final PostRepository postRepository;
+    private final LegacyPostBodyRepository legacyBodyRepository;
+
+    /**
+     * 본문 요약이 비어있는 게시글을 chunkSize개까지 찾아 요약을 채운다.
+     * 요약을 채운 게시글은 다음 조회 대상에서 빠지므로, 반환값이 chunkSize보다 작아질 때까지 반복 호출하면 된다.
+     *
+     * @param chunkSize 한 번에 처리할 게시글 수
+     * @return 요약을 채운 게시글 수
+     */
+    @Transactional
+    public int fillExcerpts(int chunkSize) {
+        List<Post> posts = postRepository.findAllWithoutExcerpt(PageRequest.of(0, chunkSize));
+        for (Post post : posts) {
+            post.updateExcerpt();
+        }
+        return posts.size();
+    }
+
+    /**
+     * post 테이블에 남아있는 기존 본문을 chunkSize개까지 찾아 별도 테이블로 옮기고, 요약과 본문 길이를 다시 계산한다.
+     * 옮긴 게시글은 다음 조회 대상에서 빠지므로, 반환값이 chunkSize보다 작아질 때까지 반복 호출하면 된다.
+     * 이미 옮긴 게시글이나 body 컬럼이 없는 DB에서는 아무것도 하지 않는다.
+     *
+     * @param chunkSize 한 번에 처리할 게시글 수
+     * @return 본문을 옮긴 게시글 수
+     */
+    @Transactional
+    public int migrateBodies(int chunkSize) {
+        Map<Long, String> bodies = legacyBodyRepository.findAll(chunkSize);
+        if (bodies.isEmpty()) {
+            return 0;
+        }
+
+        for (Post post : postRepository.findAllById(bodies.keySet())) {
+            post.changeBody(bodies.get(post.getId()));
+        }
+        return bodies.size();
+    }
+}
@@ -0,0 +1,92 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.repository.PostSearchRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private final PostSearchRepository searchRepository;
+    private final PostRepository postRepository;
+
+    /**
+     * 검색어를 포함하는 게시글만 조회하는 Specification을 만든다. 정렬을 지정하지 않으면 관련도 순으로 정렬된다.
+     *
+     * @param postType 게시글 타입
+     * @param keyword  검색어. 지정하지 않으면 모든 게시글을 조회한다.
+     * @return 검색 조건
+     */
+    public <T extends Post> Specification<T> withKeyword(Class<T> postType, String keyword) {
+        if (keyword == null || keyword.isBlank() || keyword.equals("null")) {
+            return Specification.where(null);
+        }
+
+        return searchRepository.search(postType, keyword);
+    }
+
+    /**
+     * 게시글을 검색 색인에 추가한다. 이미 색인된 게시글이라면 다시 색인한다.
+     *
+     * @param post 게시글
+     */
+    @Transactional
+    public void index(Post post) {
+        searchRepository.index(post);
+        post.markSearchIndexed();
+    }
+
+    /**
+     * 게시글을 검색 색인에서 제거한다. 삭제되거나 블라인드된 게시글은 검색되지 않는다.
+     *
+     * @param postId 게시글 ID
+     */
+    @Transactional
+    public void remove(Long postId) {
+        searchRepository.remove(List.of(postId));
+    }
+
+    /**
+     * afterId 이후의 ACTIVE 상태인 게시글을 chunkSize개까지 다시 색인한다.
+     *
+     * @param afterId   이전에 색인한 마지막 게시글 ID
+     * @param chunkSize 한 번에 색인할 게시글 수
+     * @return 이번에 색인한 마지막 게시글 ID. 더 이상 색인할 게시글이 없으면 null
+     */
+    @Transactional
+    public Long reindex(Long afterId, int chunkSize) {
+        List<Post> posts = postRepository.findActiveAfter(afterId, PageRequest.of(0, chunkSize));
+        if (posts.isEmpty()) {
+            return null;
+        }
+
+        for (Post post : posts) {
+            index(post);
+        }
+        return posts.get(posts.size() - 1).getId();
+    }
+
+    /**
+     * 아직 색인되지 않았거나 색인 이후 본문이 바뀐 ACTIVE 상태인 게시글을 chunkSize개까지 색인한다.
+     * 색인한 게시글은 다음 조회 대상에서 빠지므로, 반환값이 chunkSize보다 작아질 때까지 반복 호출하면 된다.
+     *
+     * @param chunkSize 한 번에 색인할 게시글 수
+     * @return 색인한 게시글 수
+     */
+    @Transactional
+    public int indexPending(int chunkSize) {
+        List<Post> posts = postRepository.findActiveNotSearchIndexed(PageRequest.of(0, chunkSize));
+        for (Post post : posts) {
+            index(post);
+        }
+        return posts.size();
+    }
+}
@@ -0,0 +1,91 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.entity.PostFile;
+import com.dku.council.domain.post.model.entity.ThumbnailJob;
+import com.dku.council.domain.post.repository.post.ThumbnailJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 썸네일 생성 작업의 상태를 DB에 기록한다. 실제 썸네일 생성은 {@link ThumbnailService}가 담당한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ThumbnailJobService {
+
+    private final ThumbnailJobRepository repository;
+
+    @Value("${app.post.thumbnail.max-attempts:3}")
+    private final int maxAttempts;
+
+
+    /**
+     * 이미지 첨부파일마다 썸네일 생성 작업을 등록한다.
+     *
+     * @param files 저장된 첨부파일 목록
+     * @return 등록된 작업 ID 목록
+     */
+    @Transactional
+    public List<Long> createJobs(List<PostFile> files) {
+        List<Long> jobIds = new ArrayList<>();
+        for (PostFile file : files) {
+            if (file.isImage()) {
+                jobIds.add(repository.save(new ThumbnailJob(file)).getId());
+            }
+        }
+        return jobIds;
+    }
+
+    /**
+     * 작업을 RUNNING 상태로 바꾸고 첨부파일을 가져온다. 여러 서버가 같은 작업을 처리하지 않도록,
+     * PENDING 작업이나 staleBefore 이후로 진행되지 않은 RUNNING 작업만 가져갈 수 있다.
+     *
+     * @param jobId       작업 ID
+     * @param now         현재 시각
+     * @param staleBefore 이 시각 이전에 시작된 RUNNING 작업은 처리하던 서버가 멈춘 것으로 본다.
+     * @return 작업 대상 첨부파일. 다른 서버가 가져갔거나 이미 끝난 작업이면 empty
+     */
+    @Transactional
+    public Optional<PostFile> claim(Long jobId, LocalDateTime now, LocalDateTime staleBefore) {
+        if (repository.claim(jobId, now, staleBefore) == 0) {
+            return Optional.empty();
+        }
+        return repository.findWithFileById(jobId)
+                .map(ThumbnailJob::getPostFile);
+    }
+
+    @Transactional
+    public void complete(Long jobId, String thumbnailId) {
+        repository.findWithFileById(jobId)
+                .ifPresent(job -> job.complete(thumbnailId));
+    }
+
+    @Transactional
+    public void fail(Long jobId) {
+        repository.findById(jobId)
+                .ifPresent(job -> job.fail(maxAttempts));
+    }
+
+    @Transactional
+    public void giveUp(Long jobId) {
+        repository.findById(jobId)
+                .ifPresent(ThumbnailJob::giveUp);
+    }
+
+    /**
+     * before 이후로 진행되지 않은 작업을 가져온다. 요청 직후 처리되지 못했거나 실패한 PENDING 작업과,
+     * 처리하던 서버가 멈춰서 RUNNING 상태로 남은 작업이 대상이다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findStalledJobs(LocalDateTime before, int limit) {
+        return repository.findStalledIdsBefore(before, PageRequest.of(0, limit));
+    }
+}
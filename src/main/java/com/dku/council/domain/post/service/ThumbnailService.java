@@ -1,58 +1,251 @@
 package com.dku.council.domain.post.service;
 
+import com.dku.council.domain.post.model.ThumbnailRequestedEvent;
+import com.dku.council.domain.post.model.entity.PostFile;
 import com.dku.council.infra.nhn.model.FileRequest;
-import com.dku.council.infra.nhn.model.UploadedFile;
 import com.dku.council.infra.nhn.service.FileUploadService;
+import com.dku.council.infra.nhn.service.ObjectStorageService;
 import com.dku.council.infra.nhn.service.ObjectUploadContext;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 이미지 첨부파일의 썸네일을 요청 스레드 밖에서 만든다. 작업은 {@link ThumbnailJobService}를 통해 DB에 기록되고,
+ * 커밋 이후 크기가 제한된 큐에 들어가 전용 스레드에서 처리된다. 큐가 가득 차서 들어가지 못한 작업이나
+ * 실패한 작업은 DB에 PENDING 상태로 남아 있다가 {@link #retryStalledJobs()}로 다시 처리된다.
+ * 처리하기 전에 작업을 RUNNING 상태로 가져가므로 여러 서버가 같은 작업을 처리하지 않으며,
+ * app.post.thumbnail.retry-after 동안 끝나지 않은 RUNNING 작업은 서버가 멈춘 것으로 보고 다시 처리한다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ThumbnailService {
 
+    private final ThumbnailJobService jobService;
+    private final FileUploadService fileUploadService;
+    private final ObjectStorageService storageService;
     private final ObjectUploadContext uploadContext;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
 
-    @Value("${app.post.thumbnail.size}")
     private final int size;
+    private final int[] variantSizes;
+    private final String format;
+    private final MediaType mediaType;
+    private final float quality;
+    private final Duration retryAfter;
 
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> queuedJobs = ConcurrentHashMap.newKeySet();
 
-    public String createThumbnail(FileUploadService.Context uploadCtx, UploadedFile file) {
-        if (!file.getMimeType().getType().equalsIgnoreCase("image")) {
-            return null;
+    public ThumbnailService(ThumbnailJobService jobService,
+                            FileUploadService fileUploadService,
+                            ObjectStorageService storageService,
+                            ObjectUploadContext uploadContext,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry,
+                            Clock clock,
+                            @Value("${app.post.thumbnail.size}") int size,
+                            @Value("${app.post.thumbnail.variant-sizes:}") int[] variantSizes,
+                            @Value("${app.post.thumbnail.format:jpg}") String format,
+                            @Value("${app.post.thumbnail.quality:0.8}") float quality,
+                            @Value("${app.post.thumbnail.workers:2}") int workers,
+                            @Value("${app.post.thumbnail.queue-capacity:100}") int queueCapacity,
+                            @Value("${app.post.thumbnail.retry-after:5m}") Duration retryAfter) {
+        this.jobService = jobService;
+        this.fileUploadService = fileUploadService;
+        this.storageService = storageService;
+        this.uploadContext = uploadContext;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.size = size;
+        this.variantSizes = variantSizes;
+        this.format = format;
+        this.mediaType = MediaTypeFactory.getMediaType("thumb." + format)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        this.quality = quality;
+        this.retryAfter = retryAfter;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("thumbnail-"));
+        meterRegistry.gauge("post.thumbnail.queue", executor, e -> e.getQueue().size());
+    }
+
+    /**
+     * 작은 크기 썸네일의 object 이름. 기본 썸네일 이름의 확장자 앞에 _크기를 붙인다.
+     * (thumb-{uuid}.jpg -> thumb-{uuid}_64.jpg)
+     *
+     * @param thumbnailId 기본 썸네일 ID
+     * @param size        썸네일 크기
+     * @return 썸네일 object 이름
+     */
+    public static String variantName(String thumbnailId, int size) {
+        int extIdx = thumbnailId.lastIndexOf('.');
+        if (extIdx < 0) {
+            return thumbnailId + "_" + size;
+        }
+        return thumbnailId.substring(0, extIdx) + "_" + size + thumbnailId.substring(extIdx);
+    }
+
+    /**
+     * 이미지 첨부파일의 썸네일 생성을 요청한다. 썸네일이 만들어지면 {@link PostFile#getThumbnailId()}가 채워진다.
+     *
+     * @param files 저장된 첨부파일 목록
+     */
+    public void requestThumbnails(List<PostFile> files) {
+        List<Long> jobIds = jobService.createJobs(files);
+        if (!jobIds.isEmpty()) {
+            eventPublisher.publishEvent(new ThumbnailRequestedEvent(jobIds));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onThumbnailRequested(ThumbnailRequestedEvent event) {
+        event.getJobIds().forEach(this::submit);
+    }
+
+    /**
+     * 요청 직후 처리되지 못했거나 실패한 작업을 큐에 다시 넣는다. 큐에 남은 자리만큼만 가져온다.
+     *
+     * @return 큐에 넣은 작업 수
+     */
+    public int retryStalledJobs() {
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return 0;
+        }
+
+        LocalDateTime before = LocalDateTime.now(clock).minus(retryAfter);
+        int submitted = 0;
+        for (Long jobId : jobService.findStalledJobs(before, capacity)) {
+            if (submit(jobId)) {
+                submitted++;
+            }
+        }
+        return submitted;
+    }
+
+    private boolean submit(Long jobId) {
+        if (!queuedJobs.add(jobId)) {
+            return false;
         }
 
         try {
-            ByteArrayOutputStream outStream = new ByteArrayOutputStream();
-            InputStream fileInStream = file.getFile().getInputStream();
-            Thumbnails.of(fileInStream)
-                    .size(size, size)
-                    .outputFormat("png")
-                    .toOutputStream(outStream);
+            executor.execute(() -> {
+                try {
+                    process(jobId);
+                } finally {
+                    queuedJobs.remove(jobId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            queuedJobs.remove(jobId);
+            meterRegistry.counter("post.thumbnail.rejected").increment();
+            log.debug("Thumbnail queue is full. Job {} will be retried later.", jobId);
+            return false;
+        }
+    }
 
-            InputStream inStream = new ByteArrayInputStream(outStream.toByteArray());
-            FileRequest req = new FileRequest(file.getOriginalName(), MediaType.IMAGE_PNG, () -> inStream);
+    private void process(Long jobId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Optional<PostFile> file = jobService.claim(jobId, now, now.minus(retryAfter));
+        if (file.isEmpty()) {
+            return;
+        }
 
-            String thumbnailId = uploadContext.makeObjectId("thumb", "png");
-            uploadCtx.uploadFileWithName(req, thumbnailId);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            String thumbnailId = createThumbnails(file.get());
+            if (thumbnailId == null) {
+                result = "unsupported";
+                jobService.giveUp(jobId);
+            } else {
+                jobService.complete(jobId, thumbnailId);
+            }
+        } catch (IOException | RuntimeException e) {
+            result = "failure";
+            log.warn("Failed to create thumbnail. (job={})", jobId, e);
+            jobService.fail(jobId);
+        } finally {
+            sample.stop(meterRegistry.timer("post.thumbnail.create", "result", result));
+        }
+    }
 
-            fileInStream.close();
-            inStream.close();
-            outStream.close();
+    /**
+     * 원본 이미지를 한 번만 읽어서 기본 크기와 작은 크기의 썸네일을 모두 만들어 업로드한다.
+     *
+     * @param file 첨부파일
+     * @return 기본 썸네일 ID. 이미지를 읽을 수 없으면 null
+     */
+    private String createThumbnails(PostFile file) throws IOException {
+        BufferedImage source;
+        try (InputStream inStream = storageService.downloadObject(file.getFileId())) {
+            source = ImageIO.read(inStream);
+        }
+        if (source == null) {
+            return null;
+        }
+
+        FileUploadService.Context uploadCtx = fileUploadService.newContext();
+        String thumbnailId = uploadContext.makeObjectId("thumb", format);
+        upload(uploadCtx, file, thumbnailId, encode(source, size));
+        for (int variantSize : variantSizes) {
+            upload(uploadCtx, file, variantName(thumbnailId, variantSize), encode(source, variantSize));
+        }
+        return thumbnailId;
+    }
 
-            return thumbnailId;
-        } catch (IOException e) {
-            e.printStackTrace();
+    private byte[] encode(BufferedImage source, int size) throws IOException {
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+        Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(source)
+                .size(size, size)
+                .outputFormat(format);
+        if (!"png".equalsIgnoreCase(format)) {
+            // JPEG은 알파 채널을 지원하지 않으므로 RGB로 바꾼 뒤 압축 품질을 적용한다.
+            builder.imageType(BufferedImage.TYPE_INT_RGB)
+                    .outputQuality(quality);
         }
+        builder.toOutputStream(outStream);
+        return outStream.toByteArray();
+    }
+
+    private void upload(FileUploadService.Context uploadCtx, PostFile file, String objectName, byte[] content) {
+        FileRequest req = new FileRequest(file.getFileName(), mediaType, () -> new ByteArrayInputStream(content));
+        uploadCtx.uploadFileWithName(req, objectName);
+    }
 
-        return null;
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
     }
 }
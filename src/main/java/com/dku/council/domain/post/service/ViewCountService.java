@@ -1,39 +1,158 @@
 package com.dku.council.domain.post.service;
 
+import com.dku.council.domain.post.model.DrainedViews;
 import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.PostViewsFlush;
+import com.dku.council.domain.post.repository.PostViewsMemoryRepository;
 import com.dku.council.domain.post.repository.ViewCountMemoryRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.post.repository.post.PostViewsFlushRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class ViewCountService {
 
-    private final ViewCountMemoryRepository memoryRepository;
     private final Clock clock;
+    private final ViewCountMemoryRepository memoryRepository;
+    private final PostViewsMemoryRepository viewsMemoryRepository;
+    private final PostRepository postRepository;
+    private final PostViewsFlushRepository flushRepository;
 
     @Value("${app.post.view-counting-expires}")
     private final Duration expiresAfter;
 
+    @Value("${app.post.view-drain-timeout:10m}")
+    private final Duration drainTimeout;
+
+    @Value("${app.post.view-flush-retention:1d}")
+    private final Duration flushRetention;
+
     /**
      * 조회수 증가 처리. 동일성은 (remoteAddress, postId)로 구분하며, n분에 1회씩만 증가시킬 수 있다.
      * n분은 post.view-counting-duration 설정을 통해 분 단위로 조절할 수 있다.
+     * 증가한 조회수는 메모리에 모아두었다가 {@link #dumpToDB()}를 통해 DB에 반영된다.
      *
      * @param post          증가 대상 post
      * @param remoteAddress client의 remote address
      */
     public void increasePostViews(Post post, String remoteAddress) {
+        if (memoryRepository.addIfAbsent(post.getId(), remoteAddress, expiresAfter)) {
+            viewsMemoryRepository.increaseViews(post.getId());
+        }
+    }
+
+    /**
+     * DB에 반영되지 않은 조회수까지 포함한 조회수를 가져온다.
+     *
+     * @param post 게시글
+     * @return 조회수
+     */
+    public int getPostViews(Post post) {
+        return getPostViews(List.of(post)).get(post.getId());
+    }
+
+    /**
+     * DB에 반영되지 않은 조회수까지 포함한 조회수를 한 번에 가져온다.
+     *
+     * @param posts 게시글 목록
+     * @return 게시글 ID별 조회수
+     */
+    public Map<Long, Integer> getPostViews(List<? extends Post> posts) {
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .collect(Collectors.toList());
+        Map<Long, Integer> buffered = viewsMemoryRepository.getBufferedViews(postIds);
+
+        Map<Long, Integer> result = new HashMap<>();
+        for (Post post : posts) {
+            result.put(post.getId(), post.getViews() + buffered.getOrDefault(post.getId(), 0));
+        }
+        return result;
+    }
+
+    /**
+     * 메모리에 모아둔 조회수를 DB에 반영한다. 같은 증가량을 가진 게시글끼리 묶어 한 번에 update하며,
+     * 반영한 묶음의 ID를 같은 트랜잭션에서 기록한다. 반영에 실패하면 가져온 조회수를 메모리에 되돌린다.
+     * 트랜잭션은 app.post.view-drain-timeout 안에 끝나야 하며, 그보다 오래 남은 묶음은
+     * {@link #recoverDrainedViews()}가 정리한다.
+     *
+     * @return 조회수가 반영된 게시글 수
+     */
+    @Transactional(timeout = 60)
+    public int dumpToDB() {
+        DrainedViews drained = viewsMemoryRepository.drainViews(Instant.now(clock));
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        Map<Integer, List<Long>> postIdsByDelta = new TreeMap<>();
+        for (Map.Entry<Long, Integer> ent : drained.getViews().entrySet()) {
+            postIdsByDelta.computeIfAbsent(ent.getValue(), k -> new ArrayList<>()).add(ent.getKey());
+        }
+
+        for (Map.Entry<Integer, List<Long>> ent : postIdsByDelta.entrySet()) {
+            postRepository.increaseViews(ent.getValue(), ent.getKey());
+        }
+        flushRepository.save(new PostViewsFlush(drained.getRunId()));
+
+        clearOnCommit(drained.getRunId());
+        return drained.getViews().size();
+    }
+
+    /**
+     * 서버가 반영 도중에 종료되어 app.post.view-drain-timeout이 지나도록 정리되지 않은 조회수 묶음을 정리한다.
+     * DB에 반영 기록이 있는 묶음은 삭제만 하고, 기록이 없는 묶음은 반영 대기 상태로 되돌린다.
+     *
+     * @return 정리한 묶음 수
+     */
+    @Transactional
+    public int recoverDrainedViews() {
         Instant now = Instant.now(clock);
-        if (!memoryRepository.isAlreadyContains(post.getId(), remoteAddress, now)) {
-            memoryRepository.put(post.getId(), remoteAddress, expiresAfter, now);
-            post.increaseViewCount();
+        List<String> runIds = viewsMemoryRepository.findDrainedRunsBefore(now.minus(drainTimeout));
+        for (String runId : runIds) {
+            if (flushRepository.existsByRunId(runId)) {
+                viewsMemoryRepository.clearDrainedViews(runId);
+            } else {
+                viewsMemoryRepository.restoreDrainedViews(runId);
+            }
         }
+
+        flushRepository.deleteAllCreatedBefore(LocalDateTime.now(clock).minus(flushRetention));
+        return runIds.size();
+    }
+
+    private void clearOnCommit(String runId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            viewsMemoryRepository.clearDrainedViews(runId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    viewsMemoryRepository.clearDrainedViews(runId);
+                } else {
+                    viewsMemoryRepository.restoreDrainedViews(runId);
+                }
+            }
+        });
     }
 }
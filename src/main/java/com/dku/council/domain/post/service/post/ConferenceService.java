@@ -5,7 +5,6 @@ import com.dku.council.domain.post.model.dto.list.SummarizedConferenceDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateConferenceDto;
 import com.dku.council.domain.post.model.entity.posttype.Conference;
 import com.dku.council.domain.post.repository.post.ConferenceRepository;
-import com.dku.council.domain.post.repository.spec.PostSpec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,7 +19,7 @@ public class ConferenceService {
 
 
     public Page<SummarizedConferenceDto> list(String keyword, Pageable pageable, int bodySize) {
-        Specification<Conference> spec = PostSpec.withTitleOrBody(keyword);
+        Specification<Conference> spec = postService.withKeyword(Conference.class, keyword);
         return postService.list(repository, spec, pageable, bodySize, SummarizedConferenceDto::new);
     }
 
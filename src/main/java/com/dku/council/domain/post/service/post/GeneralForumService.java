@@ -3,6 +3,7 @@ package com.dku.council.domain.post.service.post;
 import com.dku.council.domain.post.exception.PostCooltimeException;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateGeneralForumDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponseGeneralForumDto;
 import com.dku.council.domain.post.model.entity.posttype.GeneralForum;
 import com.dku.council.domain.post.repository.PostTimeMemoryRepository;
@@ -51,10 +52,15 @@ public class GeneralForumService {
     public Page<SummarizedGenericPostDto> list(String keyword, List<Long> tagIds, Pageable pageable,
                                                int bodySize) {
         Specification<GeneralForum> spec = PostSpec.withTags(tagIds);
-        spec = spec.and(PostSpec.withTitleOrBody(keyword));
+        spec = spec.and(postService.withKeyword(GeneralForum.class, keyword));
         return postService.list(repository, spec, pageable, bodySize);
     }
 
+    public ResponseCursorPage<SummarizedGenericPostDto> listByCursor(List<Long> tagIds, String cursor, int size,
+                                                                     int bodySize) {
+        return postService.listByCursor(repository, tagIds, cursor, size, bodySize, (dto, post) -> dto);
+    }
+
     public ResponseGeneralForumDto findOne(Long id, Long userId, UserRole role, String address) {
         return postService.findOne(repository, id, userId, role, address, ResponseGeneralForumDto::new);
     }
@@ -73,7 +79,7 @@ public class GeneralForumService {
 
     @Transactional(readOnly = true)
     public Page<SummarizedGenericPostDto> listMyPosts(Long userId, Pageable pageable, int bodySize) {
-        return repository.findAllByUserId(userId, pageable)
-                .map(post -> postService.makeListDto(bodySize, post));
+        Page<GeneralForum> posts = repository.findAllByUserId(userId, pageable);
+        return postService.makeListDtos(posts, bodySize, (dto, post) -> dto);
     }
 }
@@ -3,13 +3,16 @@ package com.dku.council.domain.post.service.post;
 import com.dku.council.domain.like.model.LikeTarget;
 import com.dku.council.domain.like.service.LikeService;
 import com.dku.council.domain.post.exception.PostNotFoundException;
+import com.dku.council.domain.post.model.PostChangedEvent;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateGenericPostDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponseSingleGenericPostDto;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.model.entity.PostFile;
 import com.dku.council.domain.post.repository.post.GenericPostRepository;
 import com.dku.council.domain.post.repository.spec.PostSpec;
+import com.dku.council.domain.post.service.PostSearchService;
 import com.dku.council.domain.post.service.ThumbnailService;
 import com.dku.council.domain.post.service.ViewCountService;
 import com.dku.council.domain.tag.service.TagService;
@@ -17,13 +20,17 @@ import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.domain.user.repository.UserRepository;
 import com.dku.council.global.auth.role.UserRole;
 import com.dku.council.global.error.exception.NotGrantedException;
+import com.dku.council.global.error.exception.OutOfRangeException;
 import com.dku.council.global.error.exception.UserNotFoundException;
+import com.dku.council.global.model.Cursor;
 import com.dku.council.infra.nhn.model.FileRequest;
 import com.dku.council.infra.nhn.model.UploadedFile;
 import com.dku.council.infra.nhn.service.FileUploadService;
 import com.dku.council.infra.nhn.service.ObjectUploadContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.Nullable;
@@ -31,18 +38,26 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GenericPostService<E extends Post> {
 
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     protected final UserRepository userRepository;
     protected final TagService tagService;
     protected final ViewCountService viewCountService;
     protected final LikeService likeService;
+    protected final PostSearchService searchService;
+    protected final ApplicationEventPublisher eventPublisher;
 
     protected final FileUploadService fileUploadService;
     protected final ObjectUploadContext uploadContext;
@@ -53,17 +68,14 @@ public class GenericPostService<E extends Post> {
     public Page<SummarizedGenericPostDto> list(GenericPostRepository<E> repository, Specification<E> spec,
                                                Pageable pageable, int bodySize) {
         Page<E> result = list(repository, spec, pageable);
-        return result.map((post) -> makeListDto(bodySize, post));
+        return makeListDtos(result, bodySize, (dto, post) -> dto);
     }
 
     @Transactional(readOnly = true)
     public <T> Page<T> list(GenericPostRepository<E> repository, Specification<E> spec, Pageable pageable, int bodySize,
                             PostResultMapper<T, SummarizedGenericPostDto, E> mapper) {
         Page<E> result = list(repository, spec, pageable);
-        return result.map((post) -> {
-            SummarizedGenericPostDto dto = makeListDto(bodySize, post);
-            return mapper.map(dto, post);
-        });
+        return makeListDtos(result, bodySize, mapper);
     }
 
     private Page<E> list(GenericPostRepository<E> repository, Specification<E> spec, Pageable pageable) {
@@ -76,9 +88,86 @@ public class GenericPostService<E extends Post> {
         return repository.findAll(spec, pageable);
     }
 
-    public SummarizedGenericPostDto makeListDto(int bodySize, E post) {
-        int likes = likeService.getCountOfLikes(post.getId(), LikeTarget.POST);
-        return new SummarizedGenericPostDto(uploadContext, bodySize, likes, post);
+    /**
+     * 검색어를 포함하는 게시글만 조회하는 조건을 만듭니다. 정렬을 지정하지 않으면 관련도 순으로 정렬됩니다.
+     *
+     * @param postType 게시글 타입
+     * @param keyword  제목이나 내용에 포함된 검색어. null이면 모든 게시글을 조회합니다.
+     * @return 검색 조건
+     */
+    public Specification<E> withKeyword(Class<E> postType, String keyword) {
+        return searchService.withKeyword(postType, keyword);
+    }
+
+    /**
+     * 게시글 목록을 dto로 변환합니다. 좋아요 개수와 조회수는 페이지 단위로 한 번에 가져옵니다.
+     *
+     * @param posts    게시글 목록
+     * @param bodySize 요약할 본문 길이
+     * @param mapper   dto 매핑 함수
+     * @return 변환된 게시글 목록
+     */
+    public <T> Page<T> makeListDtos(Page<E> posts, int bodySize,
+                                    PostResultMapper<T, SummarizedGenericPostDto, E> mapper) {
+        return posts.map(listDtoMapper(posts.getContent(), bodySize, mapper));
+    }
+
+    private <T> List<T> makeListDtos(List<E> posts, int bodySize,
+                                     PostResultMapper<T, SummarizedGenericPostDto, E> mapper) {
+        return posts.stream()
+                .map(listDtoMapper(posts, bodySize, mapper))
+                .collect(Collectors.toList());
+    }
+
+    private <T> Function<E, T> listDtoMapper(List<E> posts, int bodySize,
+                                             PostResultMapper<T, SummarizedGenericPostDto, E> mapper) {
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .collect(Collectors.toList());
+        Map<Long, Integer> likes = likeService.getCountsOfLikes(postIds, LikeTarget.POST);
+        Map<Long, Integer> views = viewCountService.getPostViews(posts);
+
+        return (post) -> {
+            int likeCount = likes.getOrDefault(post.getId(), 0);
+            int viewCount = views.getOrDefault(post.getId(), post.getViews());
+            SummarizedGenericPostDto dto = new SummarizedGenericPostDto(uploadContext, bodySize,
+                    likeCount, viewCount, post);
+            return mapper.map(dto, post);
+        };
+    }
+
+    /**
+     * 커서 기반으로 게시글 목록을 최신순으로 조회합니다. offset과 count 쿼리를 사용하지 않으므로
+     * 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회할 수 있습니다.
+     *
+     * @param repository 조회할 게시글 repository
+     * @param tagIds     조회할 태그 목록. or 조건으로 검색된다. null이거나 비어있으면 모든 게시글 조회.
+     * @param cursor     이전 페이지에서 받은 커서. null이면 첫 페이지를 조회한다.
+     * @param size       페이지 크기
+     * @param bodySize   요약할 본문 길이
+     * @param mapper     dto 매핑 함수
+     * @return 커서 페이지
+     */
+    @Transactional(readOnly = true)
+    public <T> ResponseCursorPage<T> listByCursor(GenericPostRepository<E> repository, @Nullable List<Long> tagIds,
+                                                  @Nullable String cursor, int size, int bodySize,
+                                                  PostResultMapper<T, SummarizedGenericPostDto, E> mapper) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new OutOfRangeException("size=1~" + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        Cursor after = Cursor.decode(cursor);
+        LocalDateTime createdAt = after == null ? null : after.getCreatedAt();
+        Long id = after == null ? null : after.getId();
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<E> rows;
+        if (tagIds == null || tagIds.isEmpty()) {
+            rows = repository.findActiveBefore(createdAt, id, limit);
+        } else {
+            rows = repository.findActiveBeforeWithTags(tagIds, createdAt, id, limit);
+        }
+        return ResponseCursorPage.of(rows, size, page -> makeListDtos(page, bodySize, mapper));
     }
 
     /**
@@ -97,6 +186,9 @@ public class GenericPostService<E extends Post> {
         attachFiles(dto.getFiles(), post);
 
         E savedPost = repository.save(post);
+        thumbnailService.requestThumbnails(savedPost.getFiles());
+        searchService.index(savedPost);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost));
         return savedPost.getId();
     }
 
@@ -105,20 +197,14 @@ public class GenericPostService<E extends Post> {
                 FileRequest.ofList(dtoFiles),
                 post.getClass().getSimpleName());
 
-        FileUploadService.Context uploadCtx = fileUploadService.newContext();
         List<PostFile> postFiles = new ArrayList<>();
 
         for (UploadedFile file : files) {
-            PostFile.PostFileBuilder builder = PostFile.builder()
+            postFiles.add(PostFile.builder()
                     .fileName(file.getOriginalName())
                     .mimeType(file.getMimeType().toString())
-                    .fileId(file.getFileId());
-
-            String thumbnailId = thumbnailService.createThumbnail(uploadCtx, file);
-            if (thumbnailId != null) {
-                builder.thumbnailId(thumbnailId);
-            }
-            postFiles.add(builder.build());
+                    .fileId(file.getFileId())
+                    .build());
         }
 
         for (PostFile file : postFiles) {
@@ -135,14 +221,14 @@ public class GenericPostService<E extends Post> {
      * @param remoteAddress 요청자 IP Address. 조회수 카운팅에 사용된다.
      * @return 게시글 정보
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public ResponseSingleGenericPostDto findOne(GenericPostRepository<E> repository, Long postId, @Nullable Long userId,
                                                 UserRole role, String remoteAddress) {
         E post = viewPost(repository, postId, remoteAddress, role);
         return makePostDto(userId, post);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public <T> T findOne(GenericPostRepository<E> repository, Long postId, Long userId, UserRole role,
                          String remoteAddress, PostResultMapper<T, ResponseSingleGenericPostDto, E> mapper) {
         E post = viewPost(repository, postId, remoteAddress, role);
@@ -157,6 +243,7 @@ public class GenericPostService<E extends Post> {
 
     private ResponseSingleGenericPostDto makePostDto(@Nullable Long userId, E post) {
         int likes = likeService.getCountOfLikes(post.getId(), LikeTarget.POST);
+        int views = viewCountService.getPostViews(post);
         boolean isMine = false;
         boolean isLiked = false;
 
@@ -165,7 +252,7 @@ public class GenericPostService<E extends Post> {
             isLiked = likeService.isLiked(post.getId(), userId, LikeTarget.POST);
         }
 
-        return new ResponseSingleGenericPostDto(uploadContext, likes, isMine, isLiked, post);
+        return new ResponseSingleGenericPostDto(uploadContext, likes, views, isMine, isLiked, post);
     }
 
     /**
@@ -175,7 +262,7 @@ public class GenericPostService<E extends Post> {
      * @param remoteAddress 요청자 IP Address. 조회수 카운팅에 사용된다.
      * @return 게시글 Entity
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public E viewPost(GenericPostRepository<E> repository, Long postId, String remoteAddress, UserRole role) {
         E post = findPost(repository, postId, role);
         viewCountService.increasePostViews(post, remoteAddress);
@@ -219,6 +306,8 @@ public class GenericPostService<E extends Post> {
         } else {
             throw new NotGrantedException();
         }
+        searchService.remove(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(post));
     }
 
     /**
@@ -230,6 +319,8 @@ public class GenericPostService<E extends Post> {
     public void blind(GenericPostRepository<E> repository, Long postId) {
         E post = repository.findById(postId).orElseThrow(PostNotFoundException::new);
         post.blind();
+        searchService.remove(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(post));
     }
 
     /**
@@ -241,6 +332,8 @@ public class GenericPostService<E extends Post> {
     public void unblind(GenericPostRepository<E> repository, Long postId) {
         E post = repository.findBlindedPostById(postId).orElseThrow(PostNotFoundException::new);
         post.unblind();
+        searchService.index(post);
+        eventPublisher.publishEvent(new PostChangedEvent(post));
     }
 
 
@@ -23,7 +23,7 @@ public class NewsService {
     private final NewsRepository repository;
 
     public Page<SummarizedGenericPostDto> list(String keyword, List<Long> tagIds, Pageable pageable, int bodySize) {
-        Specification<News> spec = PostSpec.withTitleOrBody(keyword);
+        Specification<News> spec = postService.withKeyword(News.class, keyword);
         spec = spec.and(PostSpec.withTags(tagIds));
         return postService.list(repository, spec, pageable, bodySize);
     }
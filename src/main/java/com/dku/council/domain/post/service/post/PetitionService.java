@@ -4,7 +4,7 @@ import com.dku.council.domain.post.exception.DuplicateAgreementException;
 import com.dku.council.domain.post.exception.ExpiredPetitionException;
 import com.dku.council.domain.post.exception.PostCooltimeException;
 import com.dku.council.domain.post.model.PetitionStatus;
-import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
+import com.dku.council.domain.post.model.PostChangedEvent;
 import com.dku.council.domain.post.model.dto.list.SummarizedPetitionDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreatePetitionDto;
 import com.dku.council.domain.post.model.dto.response.ResponsePetitionDto;
@@ -17,6 +17,7 @@ import com.dku.council.domain.statistic.service.PetitionStatisticService;
 import com.dku.council.global.auth.role.UserRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -39,6 +40,7 @@ public class PetitionService {
     private final PetitionStatisticService statisticService;
     private final PostTimeMemoryRepository postTimeMemoryRepository;
     private final PetitionRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Clock clock;
 
@@ -55,7 +57,7 @@ public class PetitionService {
     @Transactional(readOnly = true)
     public Page<SummarizedPetitionDto> listPetition(String keyword, List<Long> tagIds, PetitionStatus status,
                                                     int bodySize, Pageable pageable) {
-        Specification<Petition> spec = PostSpec.withTitleOrBody(keyword);
+        Specification<Petition> spec = postService.withKeyword(Petition.class, keyword);
         spec = spec.and(PostSpec.withPetitionStatus(status));
         spec = spec.and(PostSpec.withTags(tagIds));
         return postService.list(repository, spec, pageable, bodySize, (dto, post) ->
@@ -95,6 +97,7 @@ public class PetitionService {
         Petition post = postService.findPost(repository, postId, UserRole.ADMIN);
         post.replyAnswer(answer);
         post.updatePetitionStatus(PetitionStatus.ANSWERED);
+        eventPublisher.publishEvent(new PostChangedEvent(post));
     }
 
     @Transactional
@@ -111,6 +114,7 @@ public class PetitionService {
         int countAgree = statisticService.count(postId);
         if (post.getExtraStatus() == PetitionStatus.ACTIVE && countAgree + 1 >= thresholdCommentCount) {
             post.updatePetitionStatus(PetitionStatus.WAITING);
+            eventPublisher.publishEvent(new PostChangedEvent(post));
         }
 
         statisticService.save(postId, userId);
@@ -126,10 +130,8 @@ public class PetitionService {
 
     @Transactional(readOnly = true)
     public Page<SummarizedPetitionDto> listMyPosts(Long userId, Pageable pageable, int bodySize) {
-        return repository.findAllByUserId(userId, pageable)
-                .map(post -> {
-                    SummarizedGenericPostDto dto = postService.makeListDto(bodySize, post);
-                    return new SummarizedPetitionDto(dto, post, expiresTime, statisticService.count(post.getId()));
-                });
+        Page<Petition> posts = repository.findAllByUserId(userId, pageable);
+        return postService.makeListDtos(posts, bodySize, (dto, post) ->
+                new SummarizedPetitionDto(dto, post, expiresTime, statisticService.count(post.getId())));
     }
 }
@@ -5,7 +5,6 @@ import com.dku.council.domain.post.model.dto.request.RequestCreateRuleDto;
 import com.dku.council.domain.post.model.dto.response.ResponseSingleGenericPostDto;
 import com.dku.council.domain.post.model.entity.posttype.Rule;
 import com.dku.council.domain.post.repository.post.RuleRepository;
-import com.dku.council.domain.post.repository.spec.PostSpec;
 import com.dku.council.global.auth.role.UserRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,7 +20,7 @@ public class RuleService {
 
 
     public Page<SummarizedRuleDto> list(String keyword, Pageable pageable, int bodySize) {
-        Specification<Rule> spec = PostSpec.withTitleOrBody(keyword);
+        Specification<Rule> spec = postService.withKeyword(Rule.class, keyword);
         return postService.list(repository, spec, pageable, bodySize, SummarizedRuleDto::new);
     }
 
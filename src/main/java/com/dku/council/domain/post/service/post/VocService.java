@@ -26,14 +26,14 @@ public class VocService {
 
 
     public Page<SummarizedVocDto> list(String keyword, List<Long> tagIds, Pageable pageable, int bodySize) {
-        Specification<Voc> spec = PostSpec.withTitleOrBody(keyword);
+        Specification<Voc> spec = postService.withKeyword(Voc.class, keyword);
         spec = spec.and(PostSpec.withTags(tagIds));
         return postService.list(repository, spec, pageable, bodySize, SummarizedVocDto::new);
     }
 
     public Page<SummarizedVocDto> listMine(String keyword, List<Long> tagIds, Long userId, Pageable pageable,
                                            int bodySize) {
-        Specification<Voc> spec = PostSpec.withTitleOrBody(keyword);
+        Specification<Voc> spec = postService.withKeyword(Voc.class, keyword);
         spec = spec.and(PostSpec.withTags(tagIds));
         spec = spec.and(PostSpec.withAuthor(userId));
         return postService.list(repository, spec, pageable, bodySize, SummarizedVocDto::new);
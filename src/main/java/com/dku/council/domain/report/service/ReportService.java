@@ -1,9 +1,11 @@
 package com.dku.council.domain.report.service;
 
 import com.dku.council.domain.post.exception.PostNotFoundException;
+import com.dku.council.domain.post.model.PostChangedEvent;
 import com.dku.council.domain.post.model.dto.request.RequestCreateReportDto;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.post.service.PostSearchService;
 import com.dku.council.domain.report.exception.AlreadyReportedException;
 import com.dku.council.domain.report.exception.CannotReportMineException;
 import com.dku.council.domain.report.exception.PostedByAdminException;
@@ -19,6 +21,7 @@ import com.dku.council.domain.user.repository.UserRepository;
 import com.dku.council.global.error.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -39,6 +42,8 @@ public class ReportService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final MessageSource messageSource;
+    private final PostSearchService searchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.report.count}")
     private final int reportCountThreshold;
@@ -63,6 +68,8 @@ public class ReportService {
 
         if (reportRepository.countByPostId(postId) >= reportCountThreshold) {
             post.blind();
+            searchService.remove(post.getId());
+            eventPublisher.publishEvent(new PostChangedEvent(post));
         }
     }
 
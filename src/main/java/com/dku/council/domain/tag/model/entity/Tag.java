@@ -3,6 +3,7 @@ package com.dku.council.domain.tag.model.entity;
 import com.dku.council.global.base.BaseEntity;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -10,6 +11,7 @@ import java.util.List;
 
 import static lombok.AccessLevel.PROTECTED;
 
+@BatchSize(size = 100)
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
@@ -4,8 +4,10 @@ import com.dku.council.domain.ticket.model.dto.TicketEventDto;
 import com.dku.council.domain.ticket.model.dto.request.RequestEnrollDto;
 import com.dku.council.domain.ticket.model.dto.request.RequestNewTicketEventDto;
 import com.dku.council.domain.ticket.model.dto.response.ResponseCaptchaKeyDto;
+import com.dku.council.domain.ticket.model.dto.response.ResponseTicketQueueDto;
 import com.dku.council.domain.ticket.model.dto.response.ResponseTicketTurnDto;
 import com.dku.council.domain.ticket.service.TicketEventService;
+import com.dku.council.domain.ticket.service.TicketQueueService;
 import com.dku.council.domain.ticket.service.TicketService;
 import com.dku.council.global.auth.jwt.AppAuthentication;
 import com.dku.council.global.auth.role.AdminAuth;
@@ -31,6 +33,7 @@ public class TicketController {
     private final Clock clock;
     private final TicketService ticketService;
     private final TicketEventService ticketEventService;
+    private final TicketQueueService ticketQueueService;
     private final CaptchaService captchaService;
 
     /**
@@ -124,4 +127,36 @@ public class TicketController {
         captchaService.verifyCaptcha(dto.getCaptchaKey(), dto.getCaptchaValue());
         return ticketService.enroll(auth.getUserId(), dto.getEventId(), now);
     }
+
+    /**
+     * 티켓 신청 대기열 등록하기
+     * <p>티켓 이벤트 신청 대기열에 등록하고 대기 순서를 바로 반환합니다.
+     * 대기열은 등록한 순서대로 일정한 속도로 처리되며, 처리 결과는 대기 상태 조회로 확인합니다.</p>
+     * <p>Captcha는 인증 실패시 키부터 다시 요청해야합니다.</p>
+     *
+     * @param dto 티켓 신청 정보
+     * @return 대기 상태
+     */
+    @PostMapping("/queue")
+    @UserAuth
+    public ResponseTicketQueueDto enqueue(AppAuthentication auth,
+                                          @Valid @RequestBody RequestEnrollDto dto) {
+        Instant now = Instant.now(clock);
+
+        captchaService.verifyCaptcha(dto.getCaptchaKey(), dto.getCaptchaValue());
+        return ticketQueueService.enqueue(auth.getUserId(), dto.getEventId(), now);
+    }
+
+    /**
+     * 티켓 신청 대기 상태 조회
+     * <p>대기중이라면 내 앞의 대기 인원을, 처리되었다면 예매 번호나 실패 사유를 보여줍니다.</p>
+     *
+     * @param eventId 티켓 이벤트 아이디
+     * @return 대기 상태
+     */
+    @GetMapping("/queue/{eventId}")
+    @UserAuth
+    public ResponseTicketQueueDto queueStatus(AppAuthentication auth, @PathVariable Long eventId) {
+        return ticketQueueService.getStatus(auth.getUserId(), eventId);
+    }
 }
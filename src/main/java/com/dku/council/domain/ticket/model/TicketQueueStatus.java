@@ -0,0 +1,28 @@
+package com.dku.council.domain.ticket.model;
+
+public enum TicketQueueStatus {
+    /**
+     * 대기열에서 입장을 기다리는 상태입니다.
+     */
+    WAITING,
+
+    /**
+     * 대기열에서 나와 입장 처리중인 상태입니다. 처리가 끝나면 ENROLLED나 FAILED가 됩니다.
+     */
+    ADMITTING,
+
+    /**
+     * 입장하여 티켓 신청이 완료된 상태입니다.
+     */
+    ENROLLED,
+
+    /**
+     * 입장했지만 티켓 신청에 실패한 상태입니다. (재학생이 아닌 경우, 이미 신청한 경우 등)
+     */
+    FAILED,
+
+    /**
+     * 대기열에 등록되지 않은 상태입니다.
+     */
+    NONE
+}
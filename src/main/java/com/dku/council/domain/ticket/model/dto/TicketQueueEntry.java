@@ -0,0 +1,15 @@
+package com.dku.council.domain.ticket.model.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode
+public class TicketQueueEntry {
+    private final Long userId;
+    private final Instant enqueuedAt;
+}
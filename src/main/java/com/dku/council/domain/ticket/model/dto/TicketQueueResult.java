@@ -0,0 +1,27 @@
+package com.dku.council.domain.ticket.model.dto;
+
+import com.dku.council.domain.ticket.model.TicketQueueStatus;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode
+public class TicketQueueResult {
+    private final TicketQueueStatus status;
+    private final int turn;
+    private final String failedCode;
+
+    public static TicketQueueResult admitting() {
+        return new TicketQueueResult(TicketQueueStatus.ADMITTING, -1, null);
+    }
+
+    public static TicketQueueResult enrolled(int turn) {
+        return new TicketQueueResult(TicketQueueStatus.ENROLLED, turn, null);
+    }
+
+    public static TicketQueueResult failed(String failedCode) {
+        return new TicketQueueResult(TicketQueueStatus.FAILED, -1, failedCode);
+    }
+}
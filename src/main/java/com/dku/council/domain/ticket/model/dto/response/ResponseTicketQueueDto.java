@@ -0,0 +1,41 @@
+package com.dku.council.domain.ticket.model.dto.response;
+
+import com.dku.council.domain.ticket.model.TicketQueueStatus;
+import com.dku.council.domain.ticket.model.dto.TicketQueueResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class ResponseTicketQueueDto {
+
+    @Schema(description = "대기 상태", example = "WAITING")
+    private final TicketQueueStatus status;
+
+    @Schema(description = "내 앞의 대기 인원. 대기중이 아니면 -1", example = "120")
+    private final long position;
+
+    @Schema(description = "예매 순서. 신청이 완료되지 않았으면 -1", example = "-1")
+    private final int turn;
+
+    @Schema(description = "신청 실패 사유 코드", example = "NotAttendingException")
+    private final String failedCode;
+
+    private ResponseTicketQueueDto(TicketQueueStatus status, long position, int turn, String failedCode) {
+        this.status = status;
+        this.position = position;
+        this.turn = turn;
+        this.failedCode = failedCode;
+    }
+
+    public static ResponseTicketQueueDto waiting(long position) {
+        return new ResponseTicketQueueDto(TicketQueueStatus.WAITING, position, -1, null);
+    }
+
+    public static ResponseTicketQueueDto none() {
+        return new ResponseTicketQueueDto(TicketQueueStatus.NONE, -1, -1, null);
+    }
+
+    public static ResponseTicketQueueDto of(TicketQueueResult result) {
+        return new ResponseTicketQueueDto(result.getStatus(), -1, result.getTurn(), result.getFailedCode());
+    }
+}
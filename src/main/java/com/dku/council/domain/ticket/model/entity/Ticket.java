@@ -14,6 +14,9 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ticket_event_turn", columnNames = {"event_id", "turn"})
+})
 public class Ticket extends BaseEntity {
 
     @Id
@@ -29,6 +29,11 @@ public class TicketEvent extends BaseEntity {
 
     private int totalTickets;
 
+    /**
+     * DB에 모두 반영된 마지막 티켓 순번. 이 순번 이하의 티켓은 다시 반영하지 않는다.
+     */
+    private int flushedTurn;
+
     @OneToMany(mappedBy = "event", cascade = CascadeType.PERSIST, orphanRemoval = true)
     private List<Ticket> tickets = new ArrayList<>();
 
@@ -38,4 +43,10 @@ public class TicketEvent extends BaseEntity {
         this.endAt = endAt;
         this.totalTickets = totalTickets;
     }
+
+    public void updateFlushedTurn(int turn) {
+        if (turn > this.flushedTurn) {
+            this.flushedTurn = turn;
+        }
+    }
 }
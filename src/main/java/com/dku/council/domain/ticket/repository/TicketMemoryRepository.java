@@ -3,17 +3,21 @@ package com.dku.council.domain.ticket.repository;
 import com.dku.council.domain.ticket.model.dto.TicketDto;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface TicketMemoryRepository {
 
     /**
-     * 티켓을 발급한다.
+     * 티켓을 발급한다. 중복 확인과 순번 발급은 원자적으로 처리되며, 이미 발급한 경우 순번을 소모하지 않는다.
      *
      * @param userId              사용자 ID
      * @param ticketEventId       티켓 이벤트 ID
      * @param expiresNextKeyAfter 다음 티켓 아이디 캐싱 만료 시간
-     * @return 발급된 티켓 순번. 이미 발급한 경우 -1 반환.
+     * @return 발급된 티켓 순번.
+     * @throws com.dku.council.domain.ticket.exception.AlreadyRequestedTicketException 이미 발급한 경우
      */
     int enroll(Long userId, Long ticketEventId, Duration expiresNextKeyAfter);
 
@@ -36,9 +40,35 @@ public interface TicketMemoryRepository {
     int saveMyTicket(Long userId, Long ticketEventId, int turn);
 
     /**
-     * 모든 티켓을 가져오고, 캐시를 비운다.
+     * 티켓이 발급된 이벤트 목록을 가져온다.
      *
-     * @return 티켓 목록
+     * @return 티켓 이벤트 ID 목록
      */
-    List<TicketDto> flushAllTickets();
+    Set<Long> getReservedEventIds();
+
+    /**
+     * 마지막으로 발급된 티켓 순번을 가져온다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @return 마지막 티켓 순번. 발급 정보가 만료되었다면 null 반환.
+     */
+    Integer getLastTurn(Long ticketEventId);
+
+    /**
+     * 발급된 티켓을 순번 순으로 읽어 chunk 단위로 전달한다. afterTurn 이하의 티켓은 읽지 않는다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param afterTurn     이 순번보다 큰 티켓만 전달한다.
+     * @param chunkSize     chunk 크기
+     * @param chunkConsumer chunk를 처리할 consumer
+     */
+    void scanTickets(Long ticketEventId, int afterTurn, int chunkSize, Consumer<List<TicketDto>> chunkConsumer);
+
+    /**
+     * 티켓을 메모리에서 제거한다. 이벤트에 남은 티켓이 없다면 발급된 이벤트 목록에서도 제거한다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param userIds       제거할 사용자 ID 목록
+     */
+    void removeTickets(Long ticketEventId, Collection<Long> userIds);
 }
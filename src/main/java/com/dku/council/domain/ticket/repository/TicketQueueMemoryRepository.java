@@ -0,0 +1,77 @@
+package com.dku.council.domain.ticket.repository;
+
+import com.dku.council.domain.ticket.model.dto.TicketQueueEntry;
+import com.dku.council.domain.ticket.model.dto.TicketQueueResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+public interface TicketQueueMemoryRepository {
+
+    /**
+     * 대기열에 등록한다. 이미 등록되어있다면 기존 순서를 유지한다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param userId        사용자 ID
+     * @param now           등록 시각. 먼저 등록한 사용자부터 입장한다.
+     * @return 내 앞의 대기 인원
+     */
+    long enqueue(Long ticketEventId, Long userId, Instant now);
+
+    /**
+     * 대기열에서 내 앞의 대기 인원을 조회한다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param userId        사용자 ID
+     * @return 내 앞의 대기 인원. 대기열에 없다면 null 반환.
+     */
+    Long getPosition(Long ticketEventId, Long userId);
+
+    /**
+     * 대기열에서 먼저 등록한 순서대로 최대 count명을 꺼낸다.
+     * 꺼낸 사용자는 결과가 저장되기 전까지 입장 처리중인 상태로 조회되며, 꺼낸 시각이 함께 기록된다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param count         꺼낼 최대 인원
+     * @param now           꺼낸 시각
+     * @return 꺼낸 대기열 항목
+     */
+    List<TicketQueueEntry> poll(Long ticketEventId, int count, Instant now);
+
+    /**
+     * before 이전에 꺼냈지만 아직 결과가 저장되지 않은 사용자를 원래 등록 시각으로 대기열에 되돌린다.
+     * 입장 처리 도중 서버가 종료되어 입장 처리중인 상태로 남은 사용자를 복구하는 데 사용한다.
+     *
+     * @param before 기준 시각
+     * @return 대기열에 되돌린 인원
+     */
+    int requeueStaleAdmissions(Instant before);
+
+    /**
+     * 대기중인 사용자가 있는 티켓 이벤트 목록을 가져온다.
+     *
+     * @return 티켓 이벤트 ID 목록
+     */
+    Set<Long> getQueuedEventIds();
+
+    /**
+     * 입장 처리 결과를 저장하고, 입장 처리중 상태에서 벗어난다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param userId        사용자 ID
+     * @param result        처리 결과
+     * @param expiresAfter  결과 보관 시간
+     */
+    void saveResult(Long ticketEventId, Long userId, TicketQueueResult result, Duration expiresAfter);
+
+    /**
+     * 입장 처리 결과를 가져온다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param userId        사용자 ID
+     * @return 처리 결과. 없다면 null 반환.
+     */
+    TicketQueueResult getResult(Long ticketEventId, Long userId);
+}
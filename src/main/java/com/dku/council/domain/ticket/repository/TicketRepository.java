@@ -2,9 +2,17 @@ package com.dku.council.domain.ticket.repository;
 
 import com.dku.council.domain.ticket.model.entity.Ticket;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
     Optional<Ticket> findByUserIdAndEventId(Long userId, Long eventId);
+
+    @Query("select t.turn from Ticket t where t.event.id = :eventId and t.turn in :turns")
+    List<Integer> findTurnsByEventIdAndTurnIn(@Param("eventId") Long eventId,
+                                              @Param("turns") Collection<Integer> turns);
 }
@@ -3,12 +3,15 @@ package com.dku.council.domain.ticket.repository.impl;
 import com.dku.council.domain.ticket.model.dto.TicketEventDto;
 import com.dku.council.domain.ticket.model.entity.TicketEvent;
 import com.dku.council.domain.ticket.repository.TicketEventMemoryRepository;
+import com.dku.council.global.cache.NearCache;
+import com.dku.council.global.cache.NearCacheManager;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,11 +21,21 @@ import java.util.stream.Collectors;
 import static com.dku.council.global.config.redis.RedisKeys.TICKET_EVENTS_KEY;
 
 @Repository
-@RequiredArgsConstructor
 public class TicketEventRedisRepository implements TicketEventMemoryRepository {
 
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final NearCache<TicketEventDto> nearCache;
+
+    public TicketEventRedisRepository(StringRedisTemplate redisTemplate,
+                                      ObjectMapper objectMapper,
+                                      NearCacheManager nearCacheManager,
+                                      @Value("${app.ticket.event-near-cache-size:100}") int nearCacheSize,
+                                      @Value("${app.ticket.event-near-cache-time:30s}") Duration nearCacheTime) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.nearCache = nearCacheManager.create(TICKET_EVENTS_KEY, nearCacheSize, nearCacheTime);
+    }
 
     @Override
     public List<TicketEventDto> findAll() {
@@ -55,6 +68,9 @@ public class TicketEventRedisRepository implements TicketEventMemoryRepository {
         }
 
         redisTemplate.opsForHash().putAll(TICKET_EVENTS_KEY, map);
+        for (TicketEventDto dto : list) {
+            cacheLocally(dto);
+        }
         return list;
     }
 
@@ -68,17 +84,26 @@ public class TicketEventRedisRepository implements TicketEventMemoryRepository {
             throw new RuntimeException(e);
         }
         redisTemplate.opsForHash().put(TICKET_EVENTS_KEY, event.getId().toString(), value);
+        cacheLocally(dto);
         return dto;
     }
 
     @Override
     public Optional<TicketEventDto> findById(Long id) {
+        Optional<TicketEventDto> cached = nearCache.get(id.toString());
+        if (cached.isPresent()) {
+            return cached;
+        }
+
         Object value = redisTemplate.opsForHash().get(TICKET_EVENTS_KEY, id.toString());
         if (value == null) {
             return Optional.empty();
         }
         try {
             TicketEventDto result = objectMapper.readValue((String) value, TicketEventDto.class);
+            if (result != null) {
+                nearCache.put(id.toString(), result);
+            }
             return Optional.ofNullable(result);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
@@ -88,5 +113,12 @@ public class TicketEventRedisRepository implements TicketEventMemoryRepository {
     @Override
     public void deleteById(Long id) {
         redisTemplate.opsForHash().delete(TICKET_EVENTS_KEY, id.toString());
+        nearCache.invalidate(id.toString());
+    }
+
+    private void cacheLocally(TicketEventDto dto) {
+        String key = dto.getId().toString();
+        nearCache.invalidate(key);
+        nearCache.put(key, dto);
     }
 }
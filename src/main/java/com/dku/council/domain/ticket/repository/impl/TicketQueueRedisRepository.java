@@ -0,0 +1,209 @@
+package com.dku.council.domain.ticket.repository.impl;
+
+import com.dku.council.domain.ticket.model.TicketQueueStatus;
+import com.dku.council.domain.ticket.model.dto.TicketQueueEntry;
+import com.dku.council.domain.ticket.model.dto.TicketQueueResult;
+import com.dku.council.domain.ticket.repository.TicketQueueMemoryRepository;
+import com.dku.council.global.config.redis.RedisKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.dku.council.global.config.redis.RedisKeys.*;
+
+@Repository
+@RequiredArgsConstructor
+public class TicketQueueRedisRepository implements TicketQueueMemoryRepository {
+
+    private static final String RESULT_DELIMITER = ":";
+
+    /**
+     * 대기열 등록과 대기중인 이벤트 등록을 한 번에 처리하고, 내 앞의 대기 인원을 반환한다.
+     * KEYS: [queue zset, queued event set], ARGV: [userId, enqueued millis, ticketEventId]
+     */
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[1], 'NX', ARGV[2], ARGV[1])\n" +
+                    "redis.call('SADD', KEYS[2], ARGV[3])\n" +
+                    "return redis.call('ZRANK', KEYS[1], ARGV[1])", Long.class);
+
+    /**
+     * 대기열 앞에서부터 꺼내면서 입장 처리중 상태와 등록 시각을 기록하고, 꺼낸 시각과 함께 입장 처리중 목록에 넣는다.
+     * 대기열이 비면 대기중인 이벤트에서 제거한다.
+     * KEYS: [queue zset, queued event set, result hash, admitting zset],
+     * ARGV: [count, ticketEventId, admitting value, polled millis]
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POLL_SCRIPT = new DefaultRedisScript<>(
+            "local polled = redis.call('ZPOPMIN', KEYS[1], ARGV[1])\n" +
+                    "for i = 1, #polled, 2 do\n" +
+                    "    redis.call('HSET', KEYS[3], polled[i], ARGV[3] .. ':' .. polled[i + 1])\n" +
+                    "    redis.call('ZADD', KEYS[4], ARGV[4], ARGV[2] .. ':' .. polled[i])\n" +
+                    "end\n" +
+                    "if redis.call('ZCARD', KEYS[1]) == 0 then\n" +
+                    "    redis.call('SREM', KEYS[2], ARGV[2])\n" +
+                    "end\n" +
+                    "return polled", List.class);
+
+    /**
+     * 입장 처리 결과를 저장하고 입장 처리중 목록에서 제거한다.
+     * KEYS: [result hash, admitting zset], ARGV: [userId, result value, expires millis, admitting member]
+     */
+    private static final RedisScript<Long> SAVE_RESULT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])\n" +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[3])\n" +
+                    "return redis.call('ZREM', KEYS[2], ARGV[4])", Long.class);
+
+    /**
+     * 입장 처리중인 채로 남은 사용자를 원래 등록 시각으로 대기열에 되돌린다.
+     * 그 사이에 결과가 저장되어 입장 처리중 목록에서 빠졌다면 아무것도 하지 않는다.
+     * KEYS: [admitting zset, result hash, queue zset, queued event set],
+     * ARGV: [admitting member, userId, ticketEventId]
+     */
+    private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then\n" +
+                    "    return 0\n" +
+                    "end\n" +
+                    "local value = redis.call('HGET', KEYS[2], ARGV[2])\n" +
+                    "if not value then\n" +
+                    "    return 0\n" +
+                    "end\n" +
+                    "local delimiter = string.find(value, ':', 1, true)\n" +
+                    "if not delimiter or string.sub(value, 1, delimiter - 1) ~= 'ADMITTING' then\n" +
+                    "    return 0\n" +
+                    "end\n" +
+                    "redis.call('ZADD', KEYS[3], 'NX', string.sub(value, delimiter + 1), ARGV[2])\n" +
+                    "redis.call('SADD', KEYS[4], ARGV[3])\n" +
+                    "redis.call('HDEL', KEYS[2], ARGV[2])\n" +
+                    "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public long enqueue(Long ticketEventId, Long userId, Instant now) {
+        String key = RedisKeys.combine(TICKET_QUEUE_KEY, ticketEventId);
+        List<String> keys = List.of(key, TICKET_QUEUE_EVENTS_KEY);
+
+        Long rank = redisTemplate.execute(ENQUEUE_SCRIPT, keys, userId.toString(),
+                String.valueOf(now.toEpochMilli()), ticketEventId.toString());
+        return rank == null ? 0 : rank;
+    }
+
+    @Override
+    public Long getPosition(Long ticketEventId, Long userId) {
+        String key = RedisKeys.combine(TICKET_QUEUE_KEY, ticketEventId);
+        return redisTemplate.opsForZSet().rank(key, userId.toString());
+    }
+
+    @Override
+    public List<TicketQueueEntry> poll(Long ticketEventId, int count, Instant now) {
+        String key = RedisKeys.combine(TICKET_QUEUE_KEY, ticketEventId);
+        String resultKey = RedisKeys.combine(TICKET_QUEUE_RESULT_KEY, ticketEventId);
+        List<String> keys = List.of(key, TICKET_QUEUE_EVENTS_KEY, resultKey, TICKET_QUEUE_ADMITTING_KEY);
+
+        List<?> polled = redisTemplate.execute(POLL_SCRIPT, keys, String.valueOf(count),
+                ticketEventId.toString(), TicketQueueStatus.ADMITTING.name(), String.valueOf(now.toEpochMilli()));
+
+        List<TicketQueueEntry> entries = new ArrayList<>();
+        if (polled == null) {
+            return entries;
+        }
+
+        for (int i = 0; i + 1 < polled.size(); i += 2) {
+            Long userId = Long.parseLong((String) polled.get(i));
+            long enqueuedMillis = (long) Double.parseDouble((String) polled.get(i + 1));
+            entries.add(new TicketQueueEntry(userId, Instant.ofEpochMilli(enqueuedMillis)));
+        }
+        return entries;
+    }
+
+    @Override
+    public Set<Long> getQueuedEventIds() {
+        Set<String> members = redisTemplate.opsForSet().members(TICKET_QUEUE_EVENTS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream()
+                .map(Long::parseLong)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void saveResult(Long ticketEventId, Long userId, TicketQueueResult result, Duration expiresAfter) {
+        String key = RedisKeys.combine(TICKET_QUEUE_RESULT_KEY, ticketEventId);
+        redisTemplate.execute(SAVE_RESULT_SCRIPT, List.of(key, TICKET_QUEUE_ADMITTING_KEY),
+                userId.toString(), serialize(result), String.valueOf(expiresAfter.toMillis()),
+                admittingMember(ticketEventId, userId));
+    }
+
+    @Override
+    public TicketQueueResult getResult(Long ticketEventId, Long userId) {
+        String key = RedisKeys.combine(TICKET_QUEUE_RESULT_KEY, ticketEventId);
+        Object value = redisTemplate.opsForHash().get(key, userId.toString());
+        if (value == null) {
+            return null;
+        }
+        return deserialize((String) value);
+    }
+
+    @Override
+    public int requeueStaleAdmissions(Instant before) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .rangeByScore(TICKET_QUEUE_ADMITTING_KEY, Double.NEGATIVE_INFINITY, before.toEpochMilli());
+        if (members == null) {
+            return 0;
+        }
+
+        int requeued = 0;
+        for (String member : members) {
+            String[] tokens = member.split(RESULT_DELIMITER, 2);
+            String ticketEventId = tokens[0];
+            List<String> keys = List.of(TICKET_QUEUE_ADMITTING_KEY,
+                    RedisKeys.combine(TICKET_QUEUE_RESULT_KEY, ticketEventId),
+                    RedisKeys.combine(TICKET_QUEUE_KEY, ticketEventId),
+                    TICKET_QUEUE_EVENTS_KEY);
+
+            Long result = redisTemplate.execute(REQUEUE_SCRIPT, keys, member, tokens[1], ticketEventId);
+            if (result != null && result > 0) {
+                requeued++;
+            }
+        }
+        return requeued;
+    }
+
+    private static String admittingMember(Long ticketEventId, Long userId) {
+        return ticketEventId + RESULT_DELIMITER + userId;
+    }
+
+    private static String serialize(TicketQueueResult result) {
+        switch (result.getStatus()) {
+            case ENROLLED:
+                return result.getStatus().name() + RESULT_DELIMITER + result.getTurn();
+            case FAILED:
+                return result.getStatus().name() + RESULT_DELIMITER + result.getFailedCode();
+            default:
+                return result.getStatus().name();
+        }
+    }
+
+    private static TicketQueueResult deserialize(String value) {
+        String[] tokens = value.split(RESULT_DELIMITER, 2);
+        TicketQueueStatus status = TicketQueueStatus.valueOf(tokens[0]);
+        switch (status) {
+            case ENROLLED:
+                return TicketQueueResult.enrolled(Integer.parseInt(tokens[1]));
+            case FAILED:
+                return TicketQueueResult.failed(tokens[1]);
+            default:
+                return TicketQueueResult.admitting();
+        }
+    }
+}
@@ -5,17 +5,22 @@ import com.dku.council.domain.ticket.model.dto.TicketDto;
 import com.dku.council.domain.ticket.repository.TicketMemoryRepository;
 import com.dku.council.global.config.redis.RedisKeys;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static com.dku.council.global.config.redis.RedisKeys.*;
 
@@ -23,41 +28,58 @@ import static com.dku.council.global.config.redis.RedisKeys.*;
 @RequiredArgsConstructor
 public class TicketRedisRepository implements TicketMemoryRepository {
 
+    /**
+     * 중복 확인, 순번 발급, 순번 만료시간 설정, 예약 이벤트 등록을 한 번에 처리한다.
+     * 이미 발급한 경우 순번을 소모하지 않고 -1을 반환한다.
+     * KEYS: [ticket hash, next id key, reservation set, turn zset], ARGV: [userId, ticketEventId, expires millis]
+     */
+    private static final RedisScript<Long> ENROLL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then\n" +
+                    "    return -1\n" +
+                    "end\n" +
+                    "local turn = redis.call('INCR', KEYS[2])\n" +
+                    "redis.call('PEXPIRE', KEYS[2], ARGV[3])\n" +
+                    "redis.call('HSET', KEYS[1], ARGV[1], turn)\n" +
+                    "redis.call('ZADD', KEYS[4], turn, ARGV[1])\n" +
+                    "redis.call('SADD', KEYS[3], ARGV[2])\n" +
+                    "return turn", Long.class);
+
+    /**
+     * 티켓과 순번 색인을 함께 저장한다.
+     * KEYS: [ticket hash, turn zset], ARGV: [userId, turn]
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])\n" +
+                    "redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])\n" +
+                    "return 0", Long.class);
+
+    /**
+     * 티켓과 순번 색인을 제거하고, 남은 티켓이 없다면 예약 이벤트에서 제거한다.
+     * KEYS: [ticket hash, reservation set, turn zset], ARGV: [ticketEventId, userIds...]
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HDEL', KEYS[1], unpack(ARGV, 2))\n" +
+                    "redis.call('ZREM', KEYS[3], unpack(ARGV, 2))\n" +
+                    "if redis.call('HLEN', KEYS[1]) == 0 then\n" +
+                    "    redis.call('SREM', KEYS[2], ARGV[1])\n" +
+                    "end\n" +
+                    "return 0", Long.class);
+
     private final StringRedisTemplate redisTemplate;
-    private final RedissonClient redissonClient;
 
     @Override
     public int enroll(Long userId, Long ticketEventId, Duration expiresNextKeyAfter) {
         String key = RedisKeys.combine(TICKET_KEY, ticketEventId);
-        RLock lock = redissonClient.getLock(key + ":lock");
-
-        try {
-            if (lock != null && !lock.tryLock(20, 3, TimeUnit.SECONDS))
-                throw new RuntimeException("It waited for 20 seconds, but can't acquire lock");
-
-            String nextIdKey = RedisKeys.combine(TICKET_NEXT_KEY, ticketEventId);
-            Long size = redisTemplate.opsForValue().increment(nextIdKey);
-
-            if (size == null) {
-                size = 1L;
-                redisTemplate.opsForValue().set(nextIdKey, size.toString());
-            }
-            redisTemplate.expire(nextIdKey, expiresNextKeyAfter);
-
-            if (!redisTemplate.opsForHash().putIfAbsent(key, userId.toString(), Long.toString(size))) {
-                throw new AlreadyRequestedTicketException();
-            } else {
-                redisTemplate.opsForSet().add(TICKET_RESERVATION_SET_KEY, ticketEventId.toString());
-            }
-
-            return size.intValue();
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        } finally {
-            if (lock != null && lock.isLocked() && lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
+        String nextIdKey = RedisKeys.combine(TICKET_NEXT_KEY, ticketEventId);
+        String turnKey = RedisKeys.combine(TICKET_TURN_KEY, ticketEventId);
+        List<String> keys = List.of(key, nextIdKey, TICKET_RESERVATION_SET_KEY, turnKey);
+
+        Long turn = redisTemplate.execute(ENROLL_SCRIPT, keys, userId.toString(), ticketEventId.toString(),
+                String.valueOf(expiresNextKeyAfter.toMillis()));
+        if (turn == null || turn == -1) {
+            throw new AlreadyRequestedTicketException();
         }
+        return turn.intValue();
     }
 
     @Override
@@ -73,31 +95,98 @@ public class TicketRedisRepository implements TicketMemoryRepository {
     @Override
     public int saveMyTicket(Long userId, Long ticketEventId, int turn) {
         String key = RedisKeys.combine(TICKET_KEY, ticketEventId);
-        redisTemplate.opsForHash().put(key, userId.toString(), String.valueOf(turn));
+        String turnKey = RedisKeys.combine(TICKET_TURN_KEY, ticketEventId);
+        redisTemplate.execute(SAVE_SCRIPT, List.of(key, turnKey), userId.toString(), String.valueOf(turn));
         return turn;
     }
 
     @Override
-    public List<TicketDto> flushAllTickets() {
-        List<TicketDto> tickets = new ArrayList<>();
+    public Set<Long> getReservedEventIds() {
         Set<String> members = redisTemplate.opsForSet().members(TICKET_RESERVATION_SET_KEY);
-
         if (members == null) {
-            return tickets;
+            return Set.of();
+        }
+        return members.stream()
+                .map(Long::parseLong)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Integer getLastTurn(Long ticketEventId) {
+        String nextIdKey = RedisKeys.combine(TICKET_NEXT_KEY, ticketEventId);
+        String value = redisTemplate.opsForValue().get(nextIdKey);
+        if (value == null) {
+            return null;
+        }
+        return Integer.parseInt(value);
+    }
+
+    @Override
+    public void scanTickets(Long ticketEventId, int afterTurn, int chunkSize, Consumer<List<TicketDto>> chunkConsumer) {
+        String turnKey = RedisKeys.combine(TICKET_TURN_KEY, ticketEventId);
+        rebuildTurnIndexIfMissing(ticketEventId, turnKey);
+
+        // 순번은 이벤트 안에서 겹치지 않으므로, offset 대신 마지막 순번 다음부터 읽어야 chunk를 처리하며 제거해도 빠지는 티켓이 없다.
+        int minTurn = afterTurn + 1;
+        while (true) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(turnKey, minTurn, Double.POSITIVE_INFINITY, 0, chunkSize);
+            if (tuples == null || tuples.isEmpty()) {
+                return;
+            }
+
+            List<TicketDto> chunk = new ArrayList<>(tuples.size());
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                int turn = tuple.getScore().intValue();
+                chunk.add(new TicketDto(Long.parseLong(tuple.getValue()), ticketEventId, turn));
+                minTurn = turn + 1;
+            }
+            chunkConsumer.accept(chunk);
+
+            if (tuples.size() < chunkSize) {
+                return;
+            }
         }
+    }
 
-        for (String member : members) {
-            Long ticketEventId = Long.parseLong(member);
-            String key = RedisKeys.combine(TICKET_KEY, ticketEventId);
-            for (Map.Entry<Object, Object> entry : redisTemplate.opsForHash().entries(key).entrySet()) {
-                Long userId = Long.parseLong((String) entry.getKey());
-                int turn = Integer.parseInt((String) entry.getValue());
-                tickets.add(new TicketDto(userId, ticketEventId, turn));
+    /**
+     * 순번 색인이 없던 때에 발급된 티켓이 남아있다면, 티켓을 한 번 훑어 순번 색인을 다시 만든다.
+     * 티켓과 순번 색인은 항상 함께 변경되므로 개수가 같다면 훑지 않는다.
+     */
+    private void rebuildTurnIndexIfMissing(Long ticketEventId, String turnKey) {
+        String key = RedisKeys.combine(TICKET_KEY, ticketEventId);
+        Long tickets = redisTemplate.opsForHash().size(key);
+        Long indexed = redisTemplate.opsForZSet().zCard(turnKey);
+        if (tickets == null || indexed == null || tickets <= indexed) {
+            return;
+        }
+
+        ScanOptions options = ScanOptions.scanOptions().count(1000).build();
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(key, options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                double turn = Double.parseDouble((String) entry.getValue());
+                redisTemplate.opsForZSet().add(turnKey, (String) entry.getKey(), turn);
             }
-            redisTemplate.delete(key);
+        }
+    }
+
+    @Override
+    public void removeTickets(Long ticketEventId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
         }
 
-        redisTemplate.delete(TICKET_RESERVATION_SET_KEY);
-        return tickets;
+        String key = RedisKeys.combine(TICKET_KEY, ticketEventId);
+        String turnKey = RedisKeys.combine(TICKET_TURN_KEY, ticketEventId);
+        List<String> keys = List.of(key, TICKET_RESERVATION_SET_KEY, turnKey);
+
+        Object[] args = new Object[userIds.size() + 1];
+        args[0] = ticketEventId.toString();
+        int i = 1;
+        for (Long userId : userIds) {
+            args[i++] = userId.toString();
+        }
+        redisTemplate.execute(REMOVE_SCRIPT, keys, args);
     }
 }
@@ -0,0 +1,86 @@
+package com.dku.council.domain.ticket.service;
+
+import com.dku.council.domain.ticket.exception.NoTicketEventException;
+import com.dku.council.domain.ticket.model.dto.TicketDto;
+import com.dku.council.domain.ticket.model.entity.Ticket;
+import com.dku.council.domain.ticket.model.entity.TicketEvent;
+import com.dku.council.domain.ticket.repository.TicketEventRepository;
+import com.dku.council.domain.ticket.repository.TicketRepository;
+import com.dku.council.domain.user.model.entity.User;
+import com.dku.council.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리에 발급된 티켓을 DB에 반영한다. chunk마다 별도의 트랜잭션으로 처리되므로
+ * 중간에 실패하더라도 이미 반영된 chunk는 유지되며, 다시 반영할 때 중복 저장되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketFlushService {
+
+    private final TicketRepository persistenceRepository;
+    private final TicketEventRepository ticketEventRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * DB에 모두 반영된 마지막 티켓 순번을 가져온다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @return 마지막 티켓 순번
+     */
+    @Transactional(readOnly = true)
+    public int getFlushedTurn(Long ticketEventId) {
+        return ticketEventRepository.findById(ticketEventId)
+                .orElseThrow(NoTicketEventException::new)
+                .getFlushedTurn();
+    }
+
+    /**
+     * 티켓 chunk를 DB에 저장한다. 이미 저장된 순번의 티켓은 건너뛴다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param tickets       저장할 티켓 목록
+     * @return 새로 저장된 티켓 수
+     */
+    @Transactional
+    public int saveTickets(Long ticketEventId, List<TicketDto> tickets) {
+        List<Integer> turns = tickets.stream()
+                .map(TicketDto::getTurn)
+                .collect(Collectors.toList());
+        Set<Integer> savedTurns = new HashSet<>(persistenceRepository.findTurnsByEventIdAndTurnIn(ticketEventId, turns));
+
+        TicketEvent event = ticketEventRepository.getReferenceById(ticketEventId);
+        List<Ticket> entities = new ArrayList<>(tickets.size());
+        for (TicketDto dto : tickets) {
+            if (savedTurns.contains(dto.getTurn())) {
+                continue;
+            }
+            User user = userRepository.getReferenceById(dto.getUserId());
+            entities.add(new Ticket(user, event, dto.getTurn()));
+        }
+
+        persistenceRepository.saveAll(entities);
+        return entities.size();
+    }
+
+    /**
+     * DB에 모두 반영된 마지막 티켓 순번을 갱신한다. 기존보다 작은 순번으로는 갱신하지 않는다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param turn          마지막 티켓 순번
+     */
+    @Transactional
+    public void updateFlushedTurn(Long ticketEventId, int turn) {
+        ticketEventRepository.findById(ticketEventId)
+                .orElseThrow(NoTicketEventException::new)
+                .updateFlushedTurn(turn);
+    }
+}
@@ -0,0 +1,127 @@
+package com.dku.council.domain.ticket.service;
+
+import com.dku.council.domain.ticket.model.dto.TicketQueueEntry;
+import com.dku.council.domain.ticket.model.dto.TicketQueueResult;
+import com.dku.council.domain.ticket.model.dto.response.ResponseTicketQueueDto;
+import com.dku.council.domain.ticket.model.dto.response.ResponseTicketTurnDto;
+import com.dku.council.domain.ticket.repository.TicketQueueMemoryRepository;
+import com.dku.council.global.error.exception.LocalizedMessageException;
+import com.dku.council.global.error.exception.UnexpectedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 티켓 신청 대기열. 신청 요청은 대기열에 등록만 하고 바로 응답하며,
+ * 실제 신청은 {@link #admit(Long, int)}를 통해 일정한 속도로 처리된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketQueueService {
+
+    private final Clock clock;
+    private final TicketQueueMemoryRepository memoryRepository;
+    private final TicketService ticketService;
+
+    @Value("${app.ticket.queue.result-expires:1h}")
+    private final Duration resultExpires;
+
+    @Value("${app.ticket.queue.admit-timeout:1m}")
+    private final Duration admitTimeout;
+
+    /**
+     * 대기열에 등록한다. 이미 처리된 사용자라면 처리 결과를 반환한다.
+     *
+     * @param userId        사용자 ID
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param now           신청 시각
+     * @return 대기 상태
+     */
+    public ResponseTicketQueueDto enqueue(Long userId, Long ticketEventId, Instant now) {
+        ticketService.findEnrollableEvent(ticketEventId, now);
+
+        TicketQueueResult result = memoryRepository.getResult(ticketEventId, userId);
+        if (result != null) {
+            return ResponseTicketQueueDto.of(result);
+        }
+
+        long position = memoryRepository.enqueue(ticketEventId, userId, now);
+        return ResponseTicketQueueDto.waiting(position);
+    }
+
+    /**
+     * 대기 상태를 조회한다.
+     *
+     * @param userId        사용자 ID
+     * @param ticketEventId 티켓 이벤트 ID
+     * @return 대기 상태
+     */
+    public ResponseTicketQueueDto getStatus(Long userId, Long ticketEventId) {
+        Long position = memoryRepository.getPosition(ticketEventId, userId);
+        if (position != null) {
+            return ResponseTicketQueueDto.waiting(position);
+        }
+
+        TicketQueueResult result = memoryRepository.getResult(ticketEventId, userId);
+        if (result != null) {
+            return ResponseTicketQueueDto.of(result);
+        }
+        return ResponseTicketQueueDto.none();
+    }
+
+    /**
+     * 대기중인 사용자가 있는 티켓 이벤트 목록을 가져온다.
+     *
+     * @return 티켓 이벤트 ID 목록
+     */
+    public Set<Long> getQueuedEventIds() {
+        return memoryRepository.getQueuedEventIds();
+    }
+
+    /**
+     * 대기열 앞에서부터 최대 count명을 입장시켜 티켓을 신청한다.
+     * 신청 기간은 대기열에 등록한 시각을 기준으로 확인한다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param count         입장시킬 최대 인원
+     * @return 입장한 인원
+     */
+    public int admit(Long ticketEventId, int count) {
+        List<TicketQueueEntry> entries = memoryRepository.poll(ticketEventId, count, Instant.now(clock));
+        for (TicketQueueEntry entry : entries) {
+            TicketQueueResult result = enroll(ticketEventId, entry);
+            memoryRepository.saveResult(ticketEventId, entry.getUserId(), result, resultExpires);
+        }
+        return entries.size();
+    }
+
+    /**
+     * 대기열에서 꺼낸 뒤 app.ticket.queue.admit-timeout이 지나도록 결과가 저장되지 않은 사용자를 대기열에 되돌린다.
+     * 입장 처리 도중 서버가 종료되었거나 예외로 중단된 경우, 사용자가 입장 처리중인 상태로 남지 않게 한다.
+     *
+     * @return 대기열에 되돌린 인원
+     */
+    public int requeueStaleAdmissions() {
+        return memoryRepository.requeueStaleAdmissions(Instant.now(clock).minus(admitTimeout));
+    }
+
+    private TicketQueueResult enroll(Long ticketEventId, TicketQueueEntry entry) {
+        try {
+            ResponseTicketTurnDto turn = ticketService.enroll(entry.getUserId(), ticketEventId, entry.getEnqueuedAt());
+            return TicketQueueResult.enrolled(turn.getTurn());
+        } catch (LocalizedMessageException e) {
+            return TicketQueueResult.failed(e.getCode());
+        } catch (Exception e) {
+            log.error("Failed to admit ticket queue entry. (event={}, user={})", ticketEventId, entry.getUserId(), e);
+            return TicketQueueResult.failed(new UnexpectedException(e).getCode());
+        }
+    }
+}
@@ -43,18 +43,9 @@ public class TicketService {
     }
 
     public ResponseTicketTurnDto enroll(Long userId, Long ticketEventId, Instant now) {
-        TicketEventDto event = ticketEventService.findEventById(ticketEventId);
-        Instant eventFrom = DateUtil.toInstant(event.getFrom());
+        TicketEventDto event = findEnrollableEvent(ticketEventId, now);
         Instant eventTo = DateUtil.toInstant(event.getTo());
 
-        if (now.isBefore(eventFrom)) {
-            throw new BeforeTicketPeriodException();
-        }
-        
-        if (now.isAfter(eventTo)) {
-            throw new AfterTicketPeriodException();
-        }
-
         UserInfo userInfo = userInfoService.getUserInfo(userId);
         if (!userInfo.getAcademicStatus().equals(AcademicStatus.ATTENDING.getLabel())) {
             throw new NotAttendingException();
@@ -64,4 +55,28 @@ public class TicketService {
         int turn = memoryRepository.enroll(userId, ticketEventId, expiresNextKeyAfter);
         return new ResponseTicketTurnDto(turn);
     }
+
+    /**
+     * 현재 신청 가능한 티켓 이벤트인지 확인하고 가져온다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param now           신청 시각
+     * @return 티켓 이벤트
+     * @throws BeforeTicketPeriodException 신청 기간 전인 경우
+     * @throws AfterTicketPeriodException  신청 기간이 지난 경우
+     */
+    public TicketEventDto findEnrollableEvent(Long ticketEventId, Instant now) {
+        TicketEventDto event = ticketEventService.findEventById(ticketEventId);
+        Instant eventFrom = DateUtil.toInstant(event.getFrom());
+        Instant eventTo = DateUtil.toInstant(event.getTo());
+
+        if (now.isBefore(eventFrom)) {
+            throw new BeforeTicketPeriodException();
+        }
+
+        if (now.isAfter(eventTo)) {
+            throw new AfterTicketPeriodException();
+        }
+        return event;
+    }
 }
@@ -1,14 +1,13 @@
 package com.dku.council.domain.timetable.controller;
 
 import com.dku.council.domain.post.model.dto.response.ResponsePage;
+import com.dku.council.domain.timetable.model.LectureSearchCondition;
 import com.dku.council.domain.timetable.model.dto.request.CreateTimeTableRequestDto;
 import com.dku.council.domain.timetable.model.dto.request.UpdateTimeTableNameRequestDto;
 import com.dku.council.domain.timetable.model.dto.request.UpdateTimeTableRequestDto;
 import com.dku.council.domain.timetable.model.dto.response.LectureTemplateDto;
 import com.dku.council.domain.timetable.model.dto.response.ListTimeTableDto;
 import com.dku.council.domain.timetable.model.dto.response.TimeTableDto;
-import com.dku.council.domain.timetable.model.entity.LectureTemplate;
-import com.dku.council.domain.timetable.repository.spec.LectureTemplateSpec;
 import com.dku.council.domain.timetable.service.TimeTableService;
 import com.dku.council.global.auth.jwt.AppAuthentication;
 import com.dku.council.global.auth.role.UserAuth;
@@ -17,12 +16,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.List;
 
+import static com.dku.council.global.config.jackson.JacksonDateTimeFormatter.TIME_FORMAT_PATTERN;
+
 @Tag(name = "시간표", description = "수업 시간표 관련 API")
 @RestController
 @RequiredArgsConstructor
@@ -33,13 +36,38 @@ public class TimeTableController {
 
     /**
      * 수업 목록 조회
-     * <p>수업 목록을 조회합니다. 검색 키워드를 지정할 수 있으며, 지정하지 않으면 모든 수업 목록을 조회합니다.</p>
+     * <p>수업 목록을 조회합니다. 검색 키워드를 지정할 수 있으며, 지정하지 않으면 모든 수업 목록을 조회합니다.
+     * 키워드는 수업명의 일부나 초성(예: ㅈㄹㄱㅈ)으로 검색할 수 있으며, 수업명이 키워드로 시작하는 수업이 먼저 나옵니다.
+     * 요일과 시간을 지정하면 해당 요일, 시간 범위 안에 수업 시간이 있는 수업만 조회합니다. 정렬은 지원하지 않습니다.</p>
+     *
+     * @param keyword 수업명 검색 키워드
+     * @param major   학과
+     * @param grade   학년
+     * @param credit  학점
+     * @param day     요일
+     * @param from    이 시각 이후에 시작하는 수업만 조회 (HH:mm:ss)
+     * @param to      이 시각 이전에 끝나는 수업만 조회 (HH:mm:ss)
      */
     @GetMapping("/lecture")
-    public ResponsePage<LectureTemplateDto> listLectures(@RequestParam(required = false) String keyword,
-                                                         @ParameterObject Pageable pageable) {
-        Specification<LectureTemplate> spec = LectureTemplateSpec.withTitle(keyword);
-        return new ResponsePage<>(timeTableService.listLectures(spec, pageable));
+    public ResponsePage<LectureTemplateDto> listLectures(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String major,
+            @RequestParam(required = false) Integer grade,
+            @RequestParam(required = false) Integer credit,
+            @RequestParam(required = false) DayOfWeek day,
+            @RequestParam(required = false) @DateTimeFormat(pattern = TIME_FORMAT_PATTERN) LocalTime from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = TIME_FORMAT_PATTERN) LocalTime to,
+            @ParameterObject Pageable pageable) {
+        LectureSearchCondition condition = LectureSearchCondition.builder()
+                .keyword(keyword)
+                .major(major)
+                .grade(grade)
+                .credit(credit)
+                .day(day)
+                .from(from)
+                .to(to)
+                .build();
+        return new ResponsePage<>(timeTableService.listLectures(condition, pageable));
     }
 
     /**
@@ -0,0 +1,21 @@
+package com.dku.council.domain.timetable.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수업 목록의 버전. 수업이 추가되면 maxId가, 삭제되면 count가, 수정되면 lastModifiedAt이 바뀐다.
+ */
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class LectureCatalogVersion {
+    private final Long count;
+    private final Long maxId;
+    private final LocalDateTime lastModifiedAt;
+}
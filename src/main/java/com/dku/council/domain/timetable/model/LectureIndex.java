@@ -0,0 +1,152 @@
+package com.dku.council.domain.timetable.model;
+
+import com.dku.council.domain.timetable.model.dto.TimePromise;
+import com.dku.council.domain.timetable.model.dto.response.LectureTemplateDto;
+import com.dku.council.domain.timetable.model.entity.LectureTemplate;
+import com.dku.council.global.util.HangulUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 수업 목록을 검색하기 위한 메모리 색인. 생성 이후 바뀌지 않으므로 여러 스레드가 동시에 검색해도 안전하다.
+ * 응답 DTO와 수업 시간은 만들 때 미리 변환해두므로, 검색할 때는 JSON을 파싱하지 않는다.
+ * <p>수업명 검색은 공백과 대소문자를 무시하며, 검색어의 초성만 입력된 글자는 수업명 글자의 초성과 비교한다.
+ * 수업명이 검색어로 시작하는 수업이 먼저 나오고, 그 외에는 색인을 만들 때의 순서를 따른다.</p>
+ */
+public class LectureIndex {
+
+    public static final LectureIndex EMPTY = new LectureIndex(List.of());
+
+    private final List<Entry> entries;
+
+    private LectureIndex(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * 수업 목록으로 색인을 만든다.
+     *
+     * @param mapper    수업 시간 파싱에 사용할 ObjectMapper
+     * @param templates 수업 목록
+     * @return 색인
+     */
+    public static LectureIndex build(ObjectMapper mapper, List<LectureTemplate> templates) {
+        List<Entry> entries = new ArrayList<>(templates.size());
+        for (LectureTemplate template : templates) {
+            entries.add(new Entry(new LectureTemplateDto(mapper, template)));
+        }
+        return new LectureIndex(List.copyOf(entries));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 조건에 맞는 수업을 찾는다.
+     *
+     * @param condition 검색 조건
+     * @return 검색된 수업 목록
+     */
+    public List<LectureTemplateDto> search(LectureSearchCondition condition) {
+        char[] keyword = normalize(condition.getKeyword());
+        List<LectureTemplateDto> prefixMatched = new ArrayList<>();
+        List<LectureTemplateDto> infixMatched = new ArrayList<>();
+
+        for (Entry entry : entries) {
+            if (!entry.matchesFilter(condition)) {
+                continue;
+            }
+
+            int position = entry.indexOf(keyword);
+            if (position == 0) {
+                prefixMatched.add(entry.dto);
+            } else if (position > 0) {
+                infixMatched.add(entry.dto);
+            }
+        }
+
+        prefixMatched.addAll(infixMatched);
+        return prefixMatched;
+    }
+
+    private static char[] normalize(String text) {
+        if (text == null) {
+            return new char[0];
+        }
+
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char ch : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (!Character.isWhitespace(ch)) {
+                sb.append(ch);
+            }
+        }
+        return sb.toString().toCharArray();
+    }
+
+    private static class Entry {
+        private final LectureTemplateDto dto;
+        private final char[] name;
+        private final char[] choseong;
+
+        private Entry(LectureTemplateDto dto) {
+            this.dto = dto;
+            this.name = normalize(dto.getName());
+            this.choseong = HangulUtil.toChoseong(new String(name)).toCharArray();
+        }
+
+        private boolean matchesFilter(LectureSearchCondition condition) {
+            if (condition.getMajor() != null && !condition.getMajor().equals(dto.getMajor())) {
+                return false;
+            }
+            if (condition.getGrade() != null && !condition.getGrade().equals(dto.getGrade())) {
+                return false;
+            }
+            if (condition.getCredit() != null && !condition.getCredit().equals(dto.getCredit())) {
+                return false;
+            }
+            if (condition.getDay() == null && condition.getFrom() == null && condition.getTo() == null) {
+                return true;
+            }
+
+            for (TimePromise time : dto.getTimes()) {
+                if (matchesTime(condition, time)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean matchesTime(LectureSearchCondition condition, TimePromise time) {
+            return (condition.getDay() == null || condition.getDay() == time.getWeek()) &&
+                    (condition.getFrom() == null || !time.getStart().isBefore(condition.getFrom())) &&
+                    (condition.getTo() == null || !time.getEnd().isAfter(condition.getTo()));
+        }
+
+        /**
+         * @return 수업명에서 검색어가 처음 나타나는 위치. 없으면 -1
+         */
+        private int indexOf(char[] keyword) {
+            for (int i = 0; i + keyword.length <= name.length; i++) {
+                if (matchesAt(keyword, i)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean matchesAt(char[] keyword, int offset) {
+            for (int j = 0; j < keyword.length; j++) {
+                char ch = keyword[j];
+                if (ch != name[offset + j] &&
+                        !(ch == choseong[offset + j] && HangulUtil.isChoseong(ch))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
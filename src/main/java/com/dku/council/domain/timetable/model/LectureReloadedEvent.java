@@ -0,0 +1,7 @@
+package com.dku.council.domain.timetable.model;
+
+/**
+ * 수업 목록을 학교 포털에서 다시 가져와 DB에 반영했을 때 발행하는 이벤트.
+ */
+public class LectureReloadedEvent {
+}
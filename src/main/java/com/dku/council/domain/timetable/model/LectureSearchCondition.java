@@ -0,0 +1,43 @@
+package com.dku.council.domain.timetable.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * 수업 검색 조건. 지정하지 않은(null) 조건은 검사하지 않는다.
+ */
+@Getter
+@Builder
+public class LectureSearchCondition {
+
+    public static final LectureSearchCondition ALL = LectureSearchCondition.builder().build();
+
+    /**
+     * 수업명 검색어. 초성만 입력하거나 초성과 글자를 섞어서 입력할 수 있다.
+     */
+    private final String keyword;
+
+    private final String major;
+
+    private final Integer grade;
+
+    private final Integer credit;
+
+    /**
+     * 이 요일에 수업이 있는 수업만 찾는다. 시간과 함께 지정하면 해당 요일의 수업 시간만 검사한다.
+     */
+    private final DayOfWeek day;
+
+    /**
+     * 이 시각 이후에 시작하는 수업 시간이 있는 수업만 찾는다.
+     */
+    private final LocalTime from;
+
+    /**
+     * 이 시각 이전에 끝나는 수업 시간이 있는 수업만 찾는다.
+     */
+    private final LocalTime to;
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.util.Objects;
 
 import static lombok.AccessLevel.PROTECTED;
 
@@ -63,4 +64,31 @@ public class LectureTemplate extends BaseEntity {
         this.credit = credit;
         this.timesJson = timesJson;
     }
+
+    /**
+     * 수업 내용이 source와 같은지 확인한다. ID와 생성/수정 시각은 비교하지 않는다.
+     */
+    public boolean hasSameContent(LectureTemplate source) {
+        return grade == source.grade &&
+                Objects.equals(major, source.major) &&
+                Objects.equals(lectureId, source.lectureId) &&
+                Objects.equals(category, source.category) &&
+                Objects.equals(name, source.name) &&
+                Objects.equals(professor, source.professor) &&
+                Objects.equals(classNumber, source.classNumber) &&
+                Objects.equals(credit, source.credit) &&
+                Objects.equals(timesJson, source.timesJson);
+    }
+
+    public void update(LectureTemplate source) {
+        this.major = source.major;
+        this.grade = source.grade;
+        this.lectureId = source.lectureId;
+        this.category = source.category;
+        this.name = source.name;
+        this.professor = source.professor;
+        this.classNumber = source.classNumber;
+        this.credit = source.credit;
+        this.timesJson = source.timesJson;
+    }
 }
@@ -1,8 +1,20 @@
 package com.dku.council.domain.timetable.repository;
 
+import com.dku.council.domain.timetable.model.LectureCatalogVersion;
 import com.dku.council.domain.timetable.model.entity.LectureTemplate;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
-public interface LectureTemplateRepository extends JpaRepository<LectureTemplate, Long>, JpaSpecificationExecutor<LectureTemplate> {
+public interface LectureTemplateRepository extends JpaRepository<LectureTemplate, Long> {
+
+    /**
+     * 수업 목록의 버전을 가져온다. 수업이 추가, 수정, 삭제되면 값이 바뀌므로
+     * 수업 목록이 바뀌었는지 확인하는 데 사용한다.
+     *
+     * @return 수업 목록 버전
+     */
+    @Query("select new com.dku.council.domain.timetable.model.LectureCatalogVersion(" +
+            "count(l), max(l.id), max(l.lastModifiedAt)) " +
+            "from LectureTemplate l")
+    LectureCatalogVersion findVersion();
 }
@@ -0,0 +1,88 @@
+package com.dku.council.domain.timetable.service;
+
+import com.dku.council.domain.timetable.model.LectureCatalogVersion;
+import com.dku.council.domain.timetable.model.LectureIndex;
+import com.dku.council.domain.timetable.model.LectureReloadedEvent;
+import com.dku.council.domain.timetable.model.entity.LectureTemplate;
+import com.dku.council.domain.timetable.repository.LectureTemplateRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 수업 검색 색인을 관리한다. 색인은 처음 사용할 때 만들며, 수업 목록을 다시 가져오면 새로 만들어 한 번에 교체한다.
+ * 다른 서버에서 수업 목록을 다시 가져온 경우는 {@link #refreshIfChanged()}로 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LectureIndexService {
+
+    private final ObjectMapper objectMapper;
+    private final LectureTemplateRepository repository;
+    private final MeterRegistry meterRegistry;
+
+    private volatile LectureIndex index;
+    private volatile LectureCatalogVersion indexedVersion;
+
+    /**
+     * 수업 검색 색인을 가져온다. 아직 만들지 않았다면 DB에서 수업 목록을 조회하여 만든다.
+     *
+     * @return 수업 검색 색인
+     */
+    public LectureIndex getIndex() {
+        LectureIndex result = index;
+        if (result == null) {
+            synchronized (this) {
+                result = index;
+                if (result == null) {
+                    result = rebuild();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * DB에서 수업 목록을 조회하여 색인을 다시 만들고 교체한다.
+     *
+     * @return 새로 만든 색인
+     */
+    public synchronized LectureIndex rebuild() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        LectureCatalogVersion version = repository.findVersion();
+        List<LectureTemplate> lectures = repository.findAll();
+        LectureIndex result = LectureIndex.build(objectMapper, lectures);
+
+        index = result;
+        indexedVersion = version;
+        sample.stop(meterRegistry.timer("lecture.index.rebuild"));
+        log.info("Lecture index rebuilt. (lectures={})", result.size());
+        return result;
+    }
+
+    /**
+     * 색인을 만든 이후 DB의 수업 목록이 바뀌었다면 색인을 다시 만든다.
+     *
+     * @return 다시 만들었는지 여부
+     */
+    public boolean refreshIfChanged() {
+        if (index != null && Objects.equals(indexedVersion, repository.findVersion())) {
+            return false;
+        }
+        rebuild();
+        return true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLectureReloaded(LectureReloadedEvent event) {
+        rebuild();
+    }
+}
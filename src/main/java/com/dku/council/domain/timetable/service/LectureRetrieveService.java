@@ -1,48 +1,99 @@
 package com.dku.council.domain.timetable.service;
 
+import com.dku.council.domain.timetable.model.LectureReloadedEvent;
 import com.dku.council.domain.timetable.model.dto.TimePromise;
 import com.dku.council.domain.timetable.model.entity.LectureTemplate;
 import com.dku.council.domain.timetable.repository.LectureTemplateRepository;
-import com.dku.council.infra.dku.model.DkuAuth;
+import com.dku.council.infra.dku.model.DkuLoginTarget;
 import com.dku.council.infra.dku.model.MajorSubject;
 import com.dku.council.infra.dku.model.Subject;
-import com.dku.council.infra.dku.scrapper.DkuAuthenticationService;
 import com.dku.council.infra.dku.scrapper.DkuLectureService;
+import com.dku.council.infra.dku.scrapper.DkuSessionPool;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class LectureRetrieveService {
 
+    private static final int DELETE_CHUNK_SIZE = 500;
+
     private final ObjectMapper mapper;
-    private final DkuAuthenticationService dkuAuthenticationService;
+    private final DkuSessionPool dkuSessionPool;
     private final DkuLectureService dkuLectureService;
     private final LectureTemplateRepository lectureTemplateRepository;
-
-    @Value("${dku.static-crawler.id}")
-    private final String id;
-
-    @Value("${dku.static-crawler.password}")
-    private final String password;
+    private final ApplicationEventPublisher eventPublisher;
 
 
+    /**
+     * 대학 강의 목록을 크롤링하여 DB에 반영한다. 기존 수업 목록과 (과목 번호, 분반)을 기준으로 비교하여
+     * 추가, 수정, 삭제된 수업만 반영하므로, 반영하는 도중에도 다른 트랜잭션은 이전 수업 목록을 볼 수 있다.
+     *
+     * @param now 기준 학기
+     */
     public void reloadLectures(YearMonth now) {
-        DkuAuth auth = dkuAuthenticationService.loginWebInfo(id, password);
-        List<LectureTemplate> lectures = dkuLectureService.crawlLecture(auth, now).stream()
+        List<LectureTemplate> lectures = dkuSessionPool.execute(DkuLoginTarget.WEBINFO,
+                auth -> dkuLectureService.crawlLecture(auth, now)).stream()
                 .map(this::mapToLecture)
                 .collect(Collectors.toList());
 
-        lectureTemplateRepository.deleteAll();
-        lectureTemplateRepository.saveAll(lectures);
+        Map<String, LectureTemplate> existing = new HashMap<>();
+        List<Long> deleteIds = new ArrayList<>();
+        for (LectureTemplate lecture : lectureTemplateRepository.findAll()) {
+            if (existing.putIfAbsent(lectureKey(lecture), lecture) != null) {
+                deleteIds.add(lecture.getId());
+            }
+        }
+
+        List<LectureTemplate> inserts = new ArrayList<>();
+        Set<String> crawledKeys = new HashSet<>();
+        int updates = 0;
+        for (LectureTemplate lecture : lectures) {
+            String key = lectureKey(lecture);
+            if (!crawledKeys.add(key)) {
+                continue;
+            }
+
+            LectureTemplate old = existing.remove(key);
+            if (old == null) {
+                inserts.add(lecture);
+            } else if (!old.hasSameContent(lecture)) {
+                old.update(lecture);
+                updates++;
+            }
+        }
+        existing.values().forEach(lecture -> deleteIds.add(lecture.getId()));
+
+        for (int i = 0; i < deleteIds.size(); i += DELETE_CHUNK_SIZE) {
+            lectureTemplateRepository.deleteAllByIdInBatch(
+                    deleteIds.subList(i, Math.min(i + DELETE_CHUNK_SIZE, deleteIds.size())));
+        }
+        lectureTemplateRepository.saveAll(inserts);
+
+        log.info("Lectures reloaded. (inserted={}, updated={}, deleted={})",
+                inserts.size(), updates, deleteIds.size());
+        if (!inserts.isEmpty() || updates > 0 || !deleteIds.isEmpty()) {
+            eventPublisher.publishEvent(new LectureReloadedEvent());
+        }
+    }
+
+    private static String lectureKey(LectureTemplate lecture) {
+        return lecture.getLectureId() + "-" + lecture.getClassNumber();
     }
 
     private LectureTemplate mapToLecture(Subject subject) {
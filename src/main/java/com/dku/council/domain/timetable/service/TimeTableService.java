@@ -3,16 +3,15 @@ package com.dku.council.domain.timetable.service;
 import com.dku.council.domain.timetable.exception.TimeConflictException;
 import com.dku.council.domain.timetable.exception.TimeTableNotFoundException;
 import com.dku.council.domain.timetable.exception.TooSmallTimeException;
+import com.dku.council.domain.timetable.model.LectureSearchCondition;
 import com.dku.council.domain.timetable.model.dto.TimePromise;
 import com.dku.council.domain.timetable.model.dto.request.CreateTimeTableRequestDto;
 import com.dku.council.domain.timetable.model.dto.request.RequestScheduleDto;
 import com.dku.council.domain.timetable.model.dto.response.LectureTemplateDto;
 import com.dku.council.domain.timetable.model.dto.response.ListTimeTableDto;
 import com.dku.council.domain.timetable.model.dto.response.TimeTableDto;
-import com.dku.council.domain.timetable.model.entity.LectureTemplate;
 import com.dku.council.domain.timetable.model.entity.TimeSchedule;
 import com.dku.council.domain.timetable.model.entity.TimeTable;
-import com.dku.council.domain.timetable.repository.LectureTemplateRepository;
 import com.dku.council.domain.timetable.repository.TimeScheduleRepository;
 import com.dku.council.domain.timetable.repository.TimeTableRepository;
 import com.dku.council.domain.user.model.entity.User;
@@ -21,8 +20,8 @@ import com.dku.council.global.error.exception.UserNotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,15 +39,27 @@ public class TimeTableService {
 
     private final ObjectMapper objectMapper;
     private final UserRepository userRepository;
-    private final LectureTemplateRepository lectureTemplateRepository;
+    private final LectureIndexService lectureIndexService;
     private final TimeTableRepository timeTableRepository;
     private final TimeScheduleRepository timeScheduleRepository;
 
 
-    @Transactional(readOnly = true)
-    public Page<LectureTemplateDto> listLectures(Specification<LectureTemplate> spec, Pageable pageable) {
-        Page<LectureTemplate> lectures = lectureTemplateRepository.findAll(spec, pageable);
-        return lectures.map(e -> new LectureTemplateDto(objectMapper, e));
+    /**
+     * 수업 목록을 메모리 색인에서 검색한다.
+     *
+     * @param condition 검색 조건
+     * @param pageable  페이징 정보. 정렬은 지원하지 않는다.
+     * @return 검색된 수업 목록
+     */
+    public Page<LectureTemplateDto> listLectures(LectureSearchCondition condition, Pageable pageable) {
+        List<LectureTemplateDto> lectures = lectureIndexService.getIndex().search(condition);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(lectures, pageable, lectures.size());
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), lectures.size());
+        int to = Math.min(from + pageable.getPageSize(), lectures.size());
+        return new PageImpl<>(lectures.subList(from, to), pageable, lectures.size());
     }
 
     @Transactional(readOnly = true)
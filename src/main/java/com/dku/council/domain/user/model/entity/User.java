@@ -5,6 +5,7 @@ import com.dku.council.domain.user.service.UserInfoService;
 import com.dku.council.global.auth.role.UserRole;
 import com.dku.council.global.base.BaseEntity;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import javax.persistence.*;
@@ -13,6 +14,7 @@ import javax.validation.constraints.NotNull;
 import static javax.persistence.EnumType.STRING;
 import static javax.persistence.FetchType.LAZY;
 
+@BatchSize(size = 100)
 @Entity
 @Table(name = "dku_user",
         indexes = {
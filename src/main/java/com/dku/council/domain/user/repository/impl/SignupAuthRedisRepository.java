@@ -4,6 +4,7 @@ import com.dku.council.domain.user.repository.SignupAuthRepository;
 import com.dku.council.global.base.AbstractKeyValueCacheRepository;
 import com.dku.council.global.config.redis.RedisKeys;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
@@ -19,8 +20,9 @@ public class SignupAuthRedisRepository extends AbstractKeyValueCacheRepository i
 
     protected SignupAuthRedisRepository(StringRedisTemplate redisTemplate,
                                         ObjectMapper objectMapper,
+                                        MeterRegistry meterRegistry,
                                         @Value("${app.auth.signup-expires}") Duration cacheDuration) {
-        super(redisTemplate, objectMapper, RedisKeys.SIGNUP_AUTH_KEY);
+        super(redisTemplate, objectMapper, meterRegistry, RedisKeys.SIGNUP_AUTH_KEY);
         this.cacheDuration = cacheDuration;
     }
 
@@ -5,6 +5,7 @@ import com.dku.council.domain.user.repository.UserFindRepository;
 import com.dku.council.global.base.AbstractKeyValueCacheRepository;
 import com.dku.council.global.config.redis.RedisKeys;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
@@ -20,8 +21,9 @@ public class UserFindRedisRepository extends AbstractKeyValueCacheRepository imp
 
     protected UserFindRedisRepository(StringRedisTemplate redisTemplate,
                                       ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry,
                                       @Value("${app.auth.find-expires}") Duration cacheDuration) {
-        super(redisTemplate, objectMapper, RedisKeys.USER_FIND_AUTH_KEY);
+        super(redisTemplate, objectMapper, meterRegistry, RedisKeys.USER_FIND_AUTH_KEY);
         this.cacheDuration = cacheDuration;
     }
 
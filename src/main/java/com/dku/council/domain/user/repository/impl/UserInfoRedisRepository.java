@@ -3,8 +3,12 @@ package com.dku.council.domain.user.repository.impl;
 import com.dku.council.domain.user.model.UserInfo;
 import com.dku.council.domain.user.repository.UserInfoMemoryRepository;
 import com.dku.council.global.base.AbstractKeyValueCacheRepository;
+import com.dku.council.global.cache.NearCache;
+import com.dku.council.global.cache.NearCacheManager;
 import com.dku.council.global.config.redis.RedisKeys;
+import com.dku.council.global.model.CacheObject;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
@@ -17,26 +21,45 @@ import java.util.Optional;
 public class UserInfoRedisRepository extends AbstractKeyValueCacheRepository implements UserInfoMemoryRepository {
 
     private final Duration cacheDuration;
+    private final NearCache<UserInfo> nearCache;
 
     protected UserInfoRedisRepository(StringRedisTemplate redisTemplate,
                                       ObjectMapper objectMapper,
-                                      @Value("${app.user.info-cache-time}") Duration cacheDuration) {
-        super(redisTemplate, objectMapper, RedisKeys.USER_INFO_CACHE_KEY);
+                                      MeterRegistry meterRegistry,
+                                      NearCacheManager nearCacheManager,
+                                      @Value("${app.user.info-cache-time}") Duration cacheDuration,
+                                      @Value("${app.user.info-near-cache-size:10000}") int nearCacheSize,
+                                      @Value("${app.user.info-near-cache-time:30s}") Duration nearCacheTime) {
+        super(redisTemplate, objectMapper, meterRegistry, RedisKeys.USER_INFO_CACHE_KEY);
         this.cacheDuration = cacheDuration;
+        this.nearCache = nearCacheManager.create(RedisKeys.USER_INFO_CACHE_KEY, nearCacheSize, nearCacheTime);
     }
 
     @Override
     public Optional<UserInfo> getUserInfo(Long userId, Instant now) {
-        return get(userId.toString(), UserInfo.class, now);
+        String key = userId.toString();
+        Optional<UserInfo> cached = nearCache.get(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<CacheObject<UserInfo>> cacheObject = getCacheObject(key, UserInfo.class, now);
+        cacheObject.ifPresent(obj -> nearCache.put(key, obj.getValue(), obj.getExpiresAt()));
+        return cacheObject.map(CacheObject::getValue);
     }
 
     @Override
     public void setUserInfo(Long userId, UserInfo userInfo, Instant now) {
-        set(userId.toString(), userInfo, now, cacheDuration);
+        String key = userId.toString();
+        CacheObject<UserInfo> obj = set(key, userInfo, now, cacheDuration);
+        nearCache.invalidate(key);
+        nearCache.put(key, userInfo, obj.getExpiresAt());
     }
 
     @Override
     public void removeUserInfo(Long userId) {
-        remove(userId.toString());
+        String key = userId.toString();
+        remove(key);
+        nearCache.invalidate(key);
     }
 }
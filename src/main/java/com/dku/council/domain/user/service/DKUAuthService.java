@@ -14,8 +14,9 @@ import com.dku.council.domain.user.repository.UserRepository;
 import com.dku.council.domain.user.util.CodeGenerator;
 import com.dku.council.global.error.exception.UserNotFoundException;
 import com.dku.council.infra.dku.model.DkuAuth;
+import com.dku.council.infra.dku.model.DkuLoginTarget;
 import com.dku.council.infra.dku.model.StudentInfo;
-import com.dku.council.infra.dku.scrapper.DkuAuthenticationService;
+import com.dku.council.infra.dku.scrapper.DkuSessionPool;
 import com.dku.council.infra.dku.scrapper.DkuStudentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -33,7 +34,7 @@ public class DKUAuthService {
 
     private final Clock clock;
     private final DkuStudentService crawlerService;
-    private final DkuAuthenticationService authenticationService;
+    private final DkuSessionPool sessionPool;
     private final UserRepository userRepository;
     private final UserInfoService userInfoService;
     private final SignupAuthRepository dkuAuthRepository;
@@ -112,7 +113,7 @@ public class DKUAuthService {
     }
 
     private DkuUserInfo retrieveDkuUserInfo(String id, String pwd) {
-        DkuAuth auth = authenticationService.loginWebInfo(id, pwd);
+        DkuAuth auth = sessionPool.login(DkuLoginTarget.WEBINFO, id, pwd);
         StudentInfo studentInfo = crawlerService.crawlStudentInfo(auth);
         return new DkuUserInfo(studentInfo);
     }
@@ -6,6 +6,7 @@ import com.dku.council.domain.like.service.LikeService;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.post.service.ViewCountService;
 import com.dku.council.infra.nhn.service.ObjectUploadContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -13,6 +14,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class MyPostService {
@@ -21,23 +26,31 @@ public class MyPostService {
     private final ObjectUploadContext uploadContext;
     private final LikeService likeService;
     private final CommentRepository commentRepository;
+    private final ViewCountService viewCountService;
 
 
     @Transactional
     public Page<SummarizedGenericPostDto> listMyLikedPosts(Long userId, Pageable pageable, int bodySize) {
         Page<Long> likedPosts = likeService.getLikedElementIds(userId, pageable, LikeTarget.POST);
-        return postRepository.findPageById(likedPosts.getContent(), pageable)
-                .map(post -> mapToListDto(post, bodySize));
+        Page<Post> posts = postRepository.findPageById(likedPosts.getContent(), pageable);
+        return mapToListDto(posts, bodySize);
     }
 
     @Transactional(readOnly = true)
     public Page<SummarizedGenericPostDto> listMyCommentedPosts(Long userId, Pageable pageable, int bodySize) {
-        return commentRepository.findAllCommentedByUserId(userId, pageable)
-                .map(post -> mapToListDto(post, bodySize));
+        Page<Post> posts = commentRepository.findAllCommentedByUserId(userId, pageable);
+        return mapToListDto(posts, bodySize);
     }
 
-    private SummarizedGenericPostDto mapToListDto(Post post, int bodySize) {
-        return new SummarizedGenericPostDto(uploadContext, bodySize,
-                likeService.getCountOfLikes(post.getId(), LikeTarget.POST), post);
+    private Page<SummarizedGenericPostDto> mapToListDto(Page<Post> posts, int bodySize) {
+        List<Long> postIds = posts.getContent().stream()
+                .map(Post::getId)
+                .collect(Collectors.toList());
+        Map<Long, Integer> likes = likeService.getCountsOfLikes(postIds, LikeTarget.POST);
+        Map<Long, Integer> views = viewCountService.getPostViews(posts.getContent());
+
+        return posts.map(post -> new SummarizedGenericPostDto(uploadContext, bodySize,
+                likes.getOrDefault(post.getId(), 0),
+                views.getOrDefault(post.getId(), post.getViews()), post));
     }
 }
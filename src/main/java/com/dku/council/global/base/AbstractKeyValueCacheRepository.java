@@ -1,67 +1,122 @@
 package com.dku.council.global.base;
 
+import com.dku.council.global.cache.CacheCodec;
+import com.dku.council.global.config.redis.RedisKeys;
 import com.dku.council.global.model.CacheObject;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
-@RequiredArgsConstructor
+/**
+ * 키마다 별도의 Redis key에 값을 캐싱한다. 만료 시간이 있다면 Redis에도 TTL을 설정하므로 만료된 값이 남지 않는다.
+ * <p>저장되는 값은 8byte 만료 시각(epoch millis) 뒤에 {@link CacheCodec}으로 변환한 값을 붙인 형태이다.
+ * codec은 타입마다 한 번만 만들어지며, {@link #createCodec(Class)}를 재정의하여 바꿀 수 있다.</p>
+ */
 public abstract class AbstractKeyValueCacheRepository {
+
+    private static final int HEADER_SIZE = Long.BYTES;
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
     private final String cacheRootKey;
+    private final Map<Class<?>, CacheCodec<?>> codecs = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final DistributionSummary payloadSize;
+    private final Timer decodeTimer;
 
 
+    protected AbstractKeyValueCacheRepository(StringRedisTemplate redisTemplate,
+                                              ObjectMapper objectMapper,
+                                              MeterRegistry meterRegistry,
+                                              String cacheRootKey) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheRootKey = cacheRootKey;
+        this.hitCounter = meterRegistry.counter("cache.redis.requests", "cache", cacheRootKey, "result", "hit");
+        this.missCounter = meterRegistry.counter("cache.redis.requests", "cache", cacheRootKey, "result", "miss");
+        this.payloadSize = DistributionSummary.builder("cache.redis.payload")
+                .baseUnit("bytes")
+                .tag("cache", cacheRootKey)
+                .register(meterRegistry);
+        this.decodeTimer = meterRegistry.timer("cache.redis.decode", "cache", cacheRootKey);
+    }
+
+    /**
+     * 타입에 맞는 codec을 만든다. 기본값은 JSON이다.
+     */
+    protected <T> CacheCodec<T> createCodec(Class<T> type) {
+        return CacheCodec.json(objectMapper, type);
+    }
+
     protected <T> CacheObject<T> set(String key, T data, Instant now) {
         return set(key, data, now, null);
     }
 
     protected <T> CacheObject<T> set(String key, T data, Instant now, Duration duration) {
-        Instant expiredAt;
-        if (duration != null) {
-            expiredAt = now.plus(duration);
-        } else {
-            expiredAt = Instant.MAX;
+        Instant expiresAt = expiresAt(now, duration);
+        byte[] rawKey = rawKey(key);
+        byte[] value = encode(data, expiresAt);
+
+        redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(rawKey, value, expiration(duration), SetOption.upsert()));
+        return new CacheObject<>(expiresAt, data);
+    }
+
+    protected <T> void setAll(Map<String, T> data, Instant now, Duration duration) {
+        if (data.isEmpty()) {
+            return;
         }
 
-        CacheObject<T> obj = new CacheObject<>(expiredAt, data);
-        String value;
-        try {
-            value = objectMapper.writeValueAsString(obj);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+        Instant expiresAt = expiresAt(now, duration);
+        Expiration expiration = expiration(duration);
+        Map<byte[], byte[]> values = new LinkedHashMap<>();
+        for (Map.Entry<String, T> entry : data.entrySet()) {
+            values.put(rawKey(entry.getKey()), encode(entry.getValue(), expiresAt));
         }
-        redisTemplate.opsForHash().put(cacheRootKey, key, value);
-        return obj;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<byte[], byte[]> entry : values.entrySet()) {
+                connection.stringCommands().set(entry.getKey(), entry.getValue(), expiration, SetOption.upsert());
+            }
+            return null;
+        });
     }
 
     public <T> Optional<CacheObject<T>> getCacheObject(String key, Class<T> clazz, Instant now) {
-        JavaType type = objectMapper.getTypeFactory().constructType(clazz);
-        return getCacheObject(key, type, now);
-    }
+        byte[] value = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(rawKey(key)));
 
-    public <T> Optional<CacheObject<T>> getCacheObject(String key, JavaType type, Instant now) {
-        Object value = redisTemplate.opsForHash().get(cacheRootKey, key);
-        if (value == null) {
-            return Optional.empty();
-        }
-        try {
-            type = objectMapper.getTypeFactory().constructParametricType(CacheObject.class, type);
-            CacheObject<T> auth = objectMapper.readValue((String) value, type);
-            if (now.isAfter(auth.getExpiresAt())) {
+        CacheObject<T> obj = decode(value, clazz, now);
+        if (obj == null) {
+            if (value != null) {
                 remove(key);
-                return Optional.empty();
             }
-            return Optional.of(auth);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+            return Optional.empty();
         }
+        return Optional.of(obj);
     }
 
     public <T> Optional<T> get(String key, Class<T> clazz, Instant now) {
@@ -69,12 +124,94 @@ public abstract class AbstractKeyValueCacheRepository {
                 .map(CacheObject::getValue);
     }
 
-    public <T> Optional<T> get(String key, JavaType type, Instant now) {
-        Optional<CacheObject<T>> cacheObject = getCacheObject(key, type, now);
-        return cacheObject.map(CacheObject::getValue);
+    /**
+     * 여러 키의 값을 한 번에 가져온다.
+     *
+     * @return 키별 값. 없거나 만료된 키는 포함되지 않는다.
+     */
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> clazz, Instant now) {
+        Map<String, T> result = new HashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        List<String> keyList = new ArrayList<>(keys);
+        byte[][] rawKeys = keyList.stream()
+                .map(this::rawKey)
+                .toArray(byte[][]::new);
+        List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.stringCommands().mGet(rawKeys));
+        if (values == null) {
+            return result;
+        }
+
+        for (int i = 0; i < keyList.size(); i++) {
+            CacheObject<T> obj = decode(values.get(i), clazz, now);
+            if (obj != null) {
+                result.put(keyList.get(i), obj.getValue());
+            }
+        }
+        return result;
     }
 
     protected boolean remove(String key) {
-        return redisTemplate.opsForHash().delete(cacheRootKey, key) > 0;
+        Long deleted = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.keyCommands().del(rawKey(key)));
+        return deleted != null && deleted > 0;
+    }
+
+    private <T> byte[] encode(T data, Instant expiresAt) {
+        @SuppressWarnings("unchecked")
+        CacheCodec<T> codec = codecOf((Class<T>) data.getClass());
+        byte[] payload = codec.encode(data);
+
+        long expiresAtMillis = expiresAt.equals(Instant.MAX) ? NO_EXPIRY : expiresAt.toEpochMilli();
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .putLong(expiresAtMillis)
+                .put(payload)
+                .array();
+    }
+
+    private <T> CacheObject<T> decode(byte[] value, Class<T> clazz, Instant now) {
+        if (value == null || value.length < HEADER_SIZE) {
+            missCounter.increment();
+            return null;
+        }
+
+        long expiresAtMillis = ByteBuffer.wrap(value).getLong();
+        Instant expiresAt = expiresAtMillis == NO_EXPIRY ? Instant.MAX : Instant.ofEpochMilli(expiresAtMillis);
+        if (now.isAfter(expiresAt)) {
+            missCounter.increment();
+            return null;
+        }
+
+        hitCounter.increment();
+        payloadSize.record(value.length);
+        byte[] payload = Arrays.copyOfRange(value, HEADER_SIZE, value.length);
+        T data = decodeTimer.record(() -> codecOf(clazz).decode(payload));
+        return new CacheObject<>(expiresAt, data);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CacheCodec<T> codecOf(Class<T> type) {
+        return (CacheCodec<T>) codecs.computeIfAbsent(type, this::createCodec);
+    }
+
+    private byte[] rawKey(String key) {
+        return RedisKeys.combine(cacheRootKey, key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Instant expiresAt(Instant now, Duration duration) {
+        if (duration == null) {
+            return Instant.MAX;
+        }
+        return now.plus(duration);
+    }
+
+    private static Expiration expiration(Duration duration) {
+        if (duration == null) {
+            return Expiration.persistent();
+        }
+        return Expiration.milliseconds(Math.max(1, duration.toMillis()));
     }
 }
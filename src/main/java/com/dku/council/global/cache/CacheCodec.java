@@ -0,0 +1,29 @@
+package com.dku.council.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 캐시 값을 Redis에 저장할 byte 배열로 변환한다.
+ *
+ * @param <T> 값 타입
+ */
+public interface CacheCodec<T> {
+
+    byte[] encode(T value);
+
+    T decode(byte[] payload);
+
+    /**
+     * 타입별로 미리 만들어둔 ObjectReader/ObjectWriter로 JSON 변환하는 codec을 만든다.
+     */
+    static <T> CacheCodec<T> json(ObjectMapper objectMapper, Class<T> type) {
+        return new JsonCacheCodec<>(objectMapper, type);
+    }
+
+    /**
+     * 변환된 값을 gzip으로 압축하는 codec을 만든다. 크기가 큰 값에 사용한다.
+     */
+    static <T> CacheCodec<T> compressed(CacheCodec<T> codec) {
+        return new GzipCacheCodec<>(codec);
+    }
+}
@@ -0,0 +1,37 @@
+package com.dku.council.global.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+class GzipCacheCodec<T> implements CacheCodec<T> {
+
+    private final CacheCodec<T> codec;
+
+    GzipCacheCodec(CacheCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        byte[] raw = codec.encode(value);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public T decode(byte[] payload) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return codec.decode(gzip.readAllBytes());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
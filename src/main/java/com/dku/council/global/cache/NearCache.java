@@ -0,0 +1,143 @@
+package com.dku.council.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.Getter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 앞단에 두는 프로세스 내부 캐시. 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 버리고,
+ * 각 항목은 ttl이 지나면 만료된다. 값이 바뀌면 {@link #invalidate(String)}로 다른 서버의 캐시도 함께 비운다.
+ * <p>invalidation 메시지를 놓치더라도 ttl이 지나면 Redis에서 다시 가져오므로, 오래된 값은 최대 ttl동안만 보인다.
+ * 캐싱하는 값은 공유되므로 불변 객체여야 한다.</p>
+ *
+ * @param <V> 캐싱할 값 타입
+ */
+public class NearCache<V> {
+
+    @Getter
+    private final String name;
+    private final Duration ttl;
+    private final Clock clock;
+    private final NearCacheManager manager;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Map<String, Entry<V>> entries;
+
+    NearCache(String name, int maxSize, Duration ttl, Clock clock, NearCacheManager manager,
+              Counter hitCounter, Counter missCounter) {
+        this.name = name;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.manager = manager;
+        this.hitCounter = hitCounter;
+        this.missCounter = missCounter;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐싱된 값을 가져온다.
+     *
+     * @param key 키
+     * @return 캐싱된 값. 없거나 만료되었다면 빈 값 반환.
+     */
+    public Optional<V> get(String key) {
+        Instant now = Instant.now(clock);
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && now.isBefore(entry.expiresAt)) {
+                hitCounter.increment();
+                return Optional.of(entry.value);
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 값을 이 서버에만 캐싱한다.
+     *
+     * @param key   키
+     * @param value 값
+     */
+    public void put(String key, V value) {
+        put(key, value, Instant.MAX);
+    }
+
+    /**
+     * 값을 이 서버에만 캐싱한다. ttl과 값의 만료 시각 중 빠른 시각에 만료된다.
+     *
+     * @param key       키
+     * @param value     값
+     * @param expiresAt 값의 만료 시각
+     */
+    public void put(String key, V value, Instant expiresAt) {
+        Instant localExpiresAt = Instant.now(clock).plus(ttl);
+        if (expiresAt.isBefore(localExpiresAt)) {
+            localExpiresAt = expiresAt;
+        }
+
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, localExpiresAt));
+        }
+    }
+
+    /**
+     * 모든 서버에서 캐싱된 값을 지운다.
+     *
+     * @param key 키
+     */
+    public void invalidate(String key) {
+        evict(key);
+        manager.publishInvalidation(name, key);
+    }
+
+    /**
+     * 모든 서버에서 캐싱된 값을 모두 지운다.
+     */
+    public void invalidateAll() {
+        clear();
+        manager.publishInvalidation(name, null);
+    }
+
+    void evict(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final Instant expiresAt;
+
+        private Entry(V value, Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.dku.council.global.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.dku.council.global.config.redis.RedisKeys.KEY_DELIMITER;
+import static com.dku.council.global.config.redis.RedisKeys.NEAR_CACHE_INVALIDATION_CHANNEL;
+
+/**
+ * {@link NearCache}를 생성하고, Redis pub/sub으로 서버간 invalidation 메시지를 주고받는다.
+ * 메시지는 "서버 ID:캐시 이름:키" 형식이며, 키가 비어있으면 캐시 전체를 비운다.
+ */
+@Slf4j
+@Component
+public class NearCacheManager implements MessageListener {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, NearCache<?>> caches = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    public NearCacheManager(StringRedisTemplate redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry,
+                            Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        listenerContainer.addMessageListener(this, new ChannelTopic(NEAR_CACHE_INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시를 생성한다.
+     *
+     * @param name    캐시 이름. 서버간 invalidation에 사용되므로 고유해야 한다.
+     * @param maxSize 최대 항목 수
+     * @param ttl     항목 만료 시간
+     * @param <V>     캐싱할 값 타입
+     * @return 생성된 캐시
+     */
+    public <V> NearCache<V> create(String name, int maxSize, Duration ttl) {
+        NearCache<V> cache = new NearCache<>(name, maxSize, ttl, clock, this,
+                meterRegistry.counter("cache.near", "cache", name, "result", "hit"),
+                meterRegistry.counter("cache.near", "cache", name, "result", "miss"));
+
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalArgumentException("Duplicated near cache name: " + name);
+        }
+        meterRegistry.gauge("cache.near.size", Tags.of("cache", name),
+                cache, NearCache::size);
+        return cache;
+    }
+
+    /**
+     * 이 서버의 모든 캐시를 비운다. 다른 서버에는 전파하지 않는다.
+     */
+    public void clearAll() {
+        caches.values().forEach(NearCache::clear);
+    }
+
+    void publishInvalidation(String cacheName, String key) {
+        String message = nodeId + KEY_DELIMITER + cacheName + KEY_DELIMITER + (key == null ? "" : key);
+        redisTemplate.convertAndSend(NEAR_CACHE_INVALIDATION_CHANNEL, message);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] tokens = new String(message.getBody(), StandardCharsets.UTF_8).split(KEY_DELIMITER, 3);
+        if (tokens.length < 3 || tokens[0].equals(nodeId)) {
+            return;
+        }
+
+        NearCache<?> cache = caches.get(tokens[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (tokens[2].isEmpty()) {
+            cache.clear();
+        } else {
+            cache.evict(tokens[2]);
+        }
+        log.debug("Near cache invalidated. (cache={}, key={})", tokens[1], tokens[2]);
+    }
+}
@@ -3,8 +3,13 @@ package com.dku.council.global.config.redis;
 public class RedisKeys {
     public static final String KEY_DELIMITER = ":";
 
-    public static final String POST_VIEW_COUNT_SET_KEY = "postViewSet";
+    public static final String NEAR_CACHE_INVALIDATION_CHANNEL = "nearCacheInvalidation";
+    public static final String BUS_ARRIVAL_CHANNEL = "busArrivalUpdated";
+
+    public static final String POST_VIEWED_KEY = "postViewed";
+    public static final String POST_VIEWS_KEY = "postViews";
     public static final String POST_WRITE_KEY = "postWrite";
+    public static final String POST_BACKFILL_LOCK_KEY = "postBackfillLock";
 
     public static final String LIKE_KEY = "like";
     public static final String LIKE_POSTS_KEY = "likePosts";
@@ -13,10 +18,17 @@ public class RedisKeys {
 
     public static final String BUS_ARRIVAL_KEY = "busArrival";
 
+    public static final String MAIN_PAGE_SNAPSHOT_KEY = "mainPageSnapshot";
+
     public static final String TICKET_EVENTS_KEY = "ticketEvents";
     public static final String TICKET_RESERVATION_SET_KEY = "ticketReservations";
     public static final String TICKET_NEXT_KEY = "ticketNextId";
     public static final String TICKET_KEY = "ticket";
+    public static final String TICKET_TURN_KEY = "ticketTurn";
+    public static final String TICKET_QUEUE_KEY = "ticketQueue";
+    public static final String TICKET_QUEUE_EVENTS_KEY = "ticketQueueEvents";
+    public static final String TICKET_QUEUE_RESULT_KEY = "ticketQueueResult";
+    public static final String TICKET_QUEUE_ADMITTING_KEY = "ticketQueueAdmitting";
 
     public static final String SIGNUP_AUTH_KEY = "signupAuth";
     public static final String USER_FIND_AUTH_KEY = "userFindAuth";
@@ -0,0 +1,59 @@
+package com.dku.council.global.config.redis;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisServerCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Properties;
+
+/**
+ * Redis의 key 개수와 메모리 사용량을 metric으로 노출한다.
+ * 조회수 중복 확인 기록처럼 만료시간으로 정리되는 key들이 제대로 회수되는지 확인하는 용도이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisMetrics implements MeterBinder {
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("redis.keys", this, RedisMetrics::countKeys)
+                .description("Number of keys in the current Redis database")
+                .register(registry);
+        Gauge.builder("redis.memory.used", this, RedisMetrics::usedMemory)
+                .description("Memory used by Redis")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private double countKeys() {
+        try {
+            Long size = redisTemplate.execute((RedisCallback<Long>) RedisServerCommands::dbSize);
+            return size == null ? Double.NaN : size;
+        } catch (Exception e) {
+            log.debug("Failed to read Redis key count", e);
+            return Double.NaN;
+        }
+    }
+
+    private double usedMemory() {
+        try {
+            Properties info = redisTemplate.execute((RedisCallback<Properties>) conn -> conn.info("memory"));
+            if (info == null || info.getProperty("used_memory") == null) {
+                return Double.NaN;
+            }
+            return Double.parseDouble(info.getProperty("used_memory"));
+        } catch (Exception e) {
+            log.debug("Failed to read Redis memory usage", e);
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.dku.council.global.model;
+
+import com.dku.council.global.base.BaseEntity;
+import com.dku.council.global.error.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) keyset 페이징에 사용하는 커서. 마지막으로 조회한 항목의 생성 시각과 ID를 담는다.
+ * 클라이언트에는 불투명한 문자열로 인코딩하여 전달한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class Cursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static Cursor of(BaseEntity entity) {
+        return new Cursor(entity.getCreatedAt(), entity.getId());
+    }
+
+    /**
+     * 인코딩된 커서를 해석한다.
+     *
+     * @param encoded 인코딩된 커서. null이나 빈 문자열이면 처음부터 조회한다.
+     * @return 커서. 처음부터 조회하는 경우 null
+     * @throws BadRequestException 잘못된 커서인 경우
+     */
+    public static Cursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split(DELIMITER, 2);
+            return new Cursor(LocalDateTime.parse(tokens[0]), Long.parseLong(tokens[1]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException(e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,57 @@
+package com.dku.council.global.util;
+
+/**
+ * 한글 초성 검색을 위한 유틸리티. 초성은 호환용 자모(ㄱ, ㄴ, ...)로 표현한다.
+ */
+public class HangulUtil {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /**
+     * 글자의 초성을 가져온다.
+     *
+     * @param ch 글자
+     * @return 완성형 한글이면 초성, 아니라면 글자 그대로 반환.
+     */
+    public static char getChoseong(char ch) {
+        if (ch < SYLLABLE_BEGIN || ch > SYLLABLE_END) {
+            return ch;
+        }
+        return CHOSEONG[(ch - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG];
+    }
+
+    /**
+     * 글자가 초성으로 쓸 수 있는 자음인지 확인한다.
+     *
+     * @param ch 글자
+     * @return 초성 여부
+     */
+    public static boolean isChoseong(char ch) {
+        for (char choseong : CHOSEONG) {
+            if (choseong == ch) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 문자열의 모든 글자를 초성으로 바꾼다. 완성형 한글이 아닌 글자는 그대로 둔다.
+     *
+     * @param text 문자열
+     * @return 초성 문자열
+     */
+    public static String toChoseong(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = getChoseong(chars[i]);
+        }
+        return new String(chars);
+    }
+}
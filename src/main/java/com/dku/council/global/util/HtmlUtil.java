@@ -0,0 +1,51 @@
+package com.dku.council.global.util;
+
+import org.jsoup.Jsoup;
+
+public class HtmlUtil {
+
+    /**
+     * HTML 태그를 제거한 평문을 반환한다. 연속된 공백은 하나로 합쳐진다.
+     *
+     * @param html HTML 본문
+     * @return 평문. html이 null이면 null
+     */
+    public static String toText(String html) {
+        if (html == null) {
+            return null;
+        }
+        return Jsoup.parse(html).text();
+    }
+
+    /**
+     * HTML 태그를 제거한 평문을 maxLength 글자까지 잘라 반환한다. 연속된 공백은 하나로 합쳐진다.
+     *
+     * @param html      HTML 본문
+     * @param maxLength 최대 글자 수
+     * @return 요약된 평문. html이 null이면 null
+     */
+    public static String toExcerpt(String html, int maxLength) {
+        return truncate(toText(html), maxLength);
+    }
+
+    /**
+     * 평문을 maxLength 글자까지 자른다. surrogate pair가 잘리지 않도록 필요하면 한 글자 덜 자른다.
+     *
+     * @param text      평문
+     * @param maxLength 최대 글자 수
+     * @return 잘린 평문. text가 null이면 null
+     */
+    public static String truncate(String text, int maxLength) {
+        if (text == null) {
+            return null;
+        }
+        if (text.length() <= maxLength) {
+            return text;
+        }
+        int end = maxLength;
+        if (Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(0, end);
+    }
+}
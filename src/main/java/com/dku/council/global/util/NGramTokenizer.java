@@ -0,0 +1,59 @@
+package com.dku.council.global.util;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 색인용 bi-gram 토크나이저. 문자와 숫자가 아닌 문자를 기준으로 단어를 나눈 뒤,
+ * 각 단어를 연속된 두 글자 단위로 자른다. 한 글자 단어는 그대로 토큰이 된다.
+ * 형태소 분석 없이도 한국어 부분 문자열 검색이 가능하다.
+ */
+public class NGramTokenizer {
+
+    private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * 텍스트를 토큰으로 나누고 토큰별 등장 횟수를 센다.
+     *
+     * @param text 텍스트
+     * @return 토큰별 등장 횟수
+     */
+    public static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> tokens = new HashMap<>();
+        forEachToken(text, token -> tokens.merge(token, 1, Integer::sum));
+        return tokens;
+    }
+
+    /**
+     * 검색어를 토큰으로 나눈다. 중복된 토큰은 제거된다.
+     *
+     * @param keyword 검색어
+     * @return 토큰 목록
+     */
+    public static Set<String> tokenizeQuery(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        forEachToken(keyword, tokens::add);
+        return tokens;
+    }
+
+    private static void forEachToken(String text, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+
+        for (String word : DELIMITER.split(text.toLowerCase(Locale.ROOT))) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                consumer.accept(word);
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                consumer.accept(new String(codePoints, i, 2));
+            }
+        }
+    }
+}
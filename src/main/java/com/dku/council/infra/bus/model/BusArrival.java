@@ -6,6 +6,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.time.Duration;
+
 @Getter
 @RequiredArgsConstructor
 @EqualsAndHashCode
@@ -33,4 +35,23 @@ public class BusArrival {
                 bus.getPredictionStationOrder(), predictTimeSec, "",
                 null, null, null, bus.getName());
     }
-}
\ No newline at end of file
+
+    /**
+     * 정보를 가져온 뒤 지난 시간만큼 도착 예정 시간을 줄인 도착 정보를 만든다.
+     *
+     * @param elapsed 정보를 가져온 뒤 지난 시간
+     * @return 보정된 도착 정보
+     */
+    public BusArrival elapsed(Duration elapsed) {
+        return new BusArrival(status, stationOrder,
+                locationNo1, subtract(predictTimeSec1, elapsed), plateNo1,
+                locationNo2, subtract(predictTimeSec2, elapsed), plateNo2, busNo);
+    }
+
+    private static Integer subtract(Integer predictTimeSec, Duration elapsed) {
+        if (predictTimeSec == null) {
+            return null;
+        }
+        return Math.max(predictTimeSec - (int) elapsed.getSeconds(), 0);
+    }
+}
@@ -2,19 +2,17 @@ package com.dku.council.infra.bus.predict.impl;
 
 import com.dku.council.domain.bus.holiday.service.HolidayService;
 import com.dku.council.domain.bus.model.BusStation;
-import com.dku.council.infra.bus.exception.CannotGetTimeTable;
 import com.dku.council.infra.bus.predict.BusArrivalPredictService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.HashMap;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -22,10 +20,35 @@ import java.util.Map;
 public class BusTimeTablePredictService implements BusArrivalPredictService {
 
     public static final long FIRST_TIME_HOUR_OFFSET = 1;
-    private final Map<String, TimeTable> busTimeTables = new HashMap<>();
-    private final TimeTableParser timeTableParser;
+    private final TimeTableLoader timeTableLoader;
     private final HolidayService holidayService;
 
+    private volatile TimeTableIndex index = TimeTableIndex.EMPTY;
+    private String fingerprint;
+
+    @PostConstruct
+    public void init() {
+        reloadIfChanged();
+    }
+
+    /**
+     * 시간표 파일이 바뀌었다면 모든 시간표를 다시 읽어 인덱스를 교체합니다.
+     * 교체는 참조 하나만 바꾸므로, 조회 중인 요청은 이전 인덱스를 계속 사용합니다.
+     *
+     * @return 다시 읽었으면 true
+     */
+    public synchronized boolean reloadIfChanged() {
+        String newFingerprint = timeTableLoader.fingerprint();
+        if (newFingerprint.equals(fingerprint)) {
+            return false;
+        }
+
+        index = timeTableLoader.load();
+        fingerprint = newFingerprint;
+        log.info("Bus time tables loaded. (tables={})", index.size());
+        return true;
+    }
+
     /**
      * 시간표를 기준으로 남은 시간을 예측합니다.
      * 예측할 수 없거나 버스가 없는 경우 null이 반환됩니다.
@@ -37,25 +60,12 @@ public class BusTimeTablePredictService implements BusArrivalPredictService {
      */
     @Nullable
     public Duration remainingNextBusArrival(String busNo, BusStation station, LocalDateTime now) {
-        String weekType = getWeekDayName(now);
-        String stationDirName = station.name().replaceAll("_", "").toLowerCase();
-        String tableFileName = String.format("/bustable/%s/%s/%s.table", weekType, stationDirName, busNo);
-
-        TimeTable table = busTimeTables.get(tableFileName);
-        LocalTime nowTime = now.toLocalTime();
-
+        TimeTable table = index.find(getDayType(now), station, busNo);
         if (table == null) {
-            try {
-                table = timeTableParser.parse(tableFileName);
-            } catch (CannotGetTimeTable e) {
-                if (!(e.getCause() instanceof NullPointerException)) {
-                    log.warn("Cannot parse time table", e);
-                }
-                return null;
-            }
-            busTimeTables.put(busNo, table);
+            return null;
         }
 
+        LocalTime nowTime = now.toLocalTime();
         if (isOutbound(table, nowTime)) {
             return null;
         }
@@ -63,15 +73,15 @@ public class BusTimeTablePredictService implements BusArrivalPredictService {
         return table.remainingNextBusArrival(nowTime);
     }
 
-    private String getWeekDayName(LocalDateTime dateTime) {
+    private DayType getDayType(LocalDateTime dateTime) {
         DayOfWeek week = dateTime.getDayOfWeek();
         if (holidayService.isHoliday(dateTime.toLocalDate())) {
-            return "holiday";
+            return DayType.HOLIDAY;
         }
         if (week == DayOfWeek.SATURDAY) {
-            return "saturday";
+            return DayType.SATURDAY;
         }
-        return "weekday";
+        return DayType.WEEKDAY;
     }
 
     private static boolean isOutbound(TimeTable table, LocalTime now) {
@@ -0,0 +1,32 @@
+package com.dku.council.infra.bus.predict.impl;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시간표 종류. 시간표 파일은 /bustable/{directory}/{정류소}/{버스 번호}.table 경로에 있습니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public enum DayType {
+    WEEKDAY("weekday"),
+    SATURDAY("saturday"),
+    HOLIDAY("holiday");
+
+    private final String directory;
+
+    /**
+     * 디렉토리 이름으로 DayType을 찾습니다.
+     *
+     * @return 찾은 DayType. 없으면 null
+     */
+    public static DayType ofDirectory(String directory) {
+        for (DayType type : values()) {
+            if (type.directory.equals(directory)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
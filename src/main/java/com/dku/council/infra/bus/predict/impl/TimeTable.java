@@ -4,11 +4,29 @@ import java.time.Duration;
 import java.time.LocalTime;
 import java.util.List;
 
+/**
+ * 정류소 하나의 버스 시간표. 도착 시각을 하루 중 초(second of day)로 정렬된 배열에 보관하며, 불변 객체이다.
+ */
 public class TimeTable {
-    private final List<LocalTime> timeTables;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int[] timeTables;
+
+    /**
+     * @param secondsOfDay 오름차순으로 정렬된 도착 시각 (하루 중 초)
+     */
+    public TimeTable(int[] secondsOfDay) {
+        if (secondsOfDay.length == 0) {
+            throw new IllegalArgumentException("Empty time table");
+        }
+        this.timeTables = secondsOfDay.clone();
+    }
 
     public TimeTable(List<LocalTime> timeTables) {
-        this.timeTables = timeTables;
+        this(timeTables.stream()
+                .mapToInt(LocalTime::toSecondOfDay)
+                .toArray());
     }
 
     /**
@@ -18,60 +36,46 @@ public class TimeTable {
      * @return 남은 시간
      */
     public Duration remainingNextBusArrival(LocalTime now) {
-        LocalTime first = timeTables.get(0);
-        if (now.isBefore(first)) {
-            return Duration.between(now, first);
+        long nowNanos = now.toNanoOfDay();
+        long first = toNanos(timeTables[0]);
+        if (nowNanos < first) {
+            return Duration.ofNanos(first - nowNanos);
         }
 
-        LocalTime last = timeTables.get(timeTables.size() - 1);
-        if (isSameInSeconds(now, last) || now.isAfter(last)) {
-            return Duration.ofDays(1).minus(Duration.between(first, now));
+        int nowSecond = now.toSecondOfDay();
+        if (nowSecond >= timeTables[timeTables.length - 1]) {
+            return Duration.ofDays(1).minusNanos(nowNanos - first);
         }
 
+        // 현재 시각(초 단위)보다 늦은 첫 번째 도착 시각을 찾는다.
         int start = 0;
-        int end = timeTables.size() - 1;
+        int end = timeTables.length - 1;
         while (start < end) {
-            int mid = start + (end - start) / 2;
-            LocalTime rangeStart = timeTables.get(mid);
-            LocalTime rangeEnd = timeTables.get(mid + 1);
-
-            if (isInRange(rangeStart, rangeEnd, now)) {
-                return Duration.between(now, rangeEnd);
-            } else if (now.isBefore(rangeStart)) {
+            int mid = (start + end) >>> 1;
+            if (timeTables[mid] > nowSecond) {
                 end = mid;
             } else {
-                start = mid;
+                start = mid + 1;
             }
         }
-        return Duration.ofMinutes(0);
+        return Duration.ofNanos(toNanos(timeTables[start]) - nowNanos);
     }
 
     /**
      * 첫차 시각을 가져옵니다.
      */
     public LocalTime getFirstTime() {
-        return timeTables.get(0);
+        return LocalTime.ofSecondOfDay(timeTables[0]);
     }
 
     /**
      * 막차 시각을 가져옵니다.
      */
     public LocalTime getLastTime() {
-        return timeTables.get(timeTables.size() - 1);
-    }
-
-    private boolean isSameInSeconds(LocalTime a, LocalTime b) {
-        return a.toSecondOfDay() == b.toSecondOfDay();
+        return LocalTime.ofSecondOfDay(timeTables[timeTables.length - 1]);
     }
 
-    /**
-     * 특정 시각이 range에 존재하는지 판단
-     *
-     * @param start (inclusive) start
-     * @param end   (exclusive) end
-     * @param now   대상 시각
-     */
-    private boolean isInRange(LocalTime start, LocalTime end, LocalTime now) {
-        return isSameInSeconds(start, now) || (now.isAfter(start) && now.isBefore(end));
+    private static long toNanos(int secondOfDay) {
+        return secondOfDay * NANOS_PER_SECOND;
     }
 }
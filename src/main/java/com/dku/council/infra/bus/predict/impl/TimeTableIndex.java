@@ -0,0 +1,76 @@
+package com.dku.council.infra.bus.predict.impl;
+
+import com.dku.council.domain.bus.model.BusStation;
+import org.springframework.lang.Nullable;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * (시간표 종류, 정류소, 버스 번호)로 시간표를 찾는 불변 인덱스. 만들어진 후에는 변경되지 않으므로
+ * 여러 스레드에서 동시에 조회할 수 있습니다.
+ */
+public class TimeTableIndex {
+
+    public static final TimeTableIndex EMPTY = new TimeTableIndex(Map.of());
+
+    private final Map<DayType, Map<BusStation, Map<String, TimeTable>>> tables;
+    private final int size;
+
+    private TimeTableIndex(Map<DayType, Map<BusStation, Map<String, TimeTable>>> tables) {
+        this.tables = tables;
+        this.size = tables.values().stream()
+                .flatMap(m -> m.values().stream())
+                .mapToInt(Map::size)
+                .sum();
+    }
+
+    @Nullable
+    public TimeTable find(DayType dayType, BusStation station, String busNo) {
+        Map<BusStation, Map<String, TimeTable>> stations = tables.get(dayType);
+        if (stations == null) {
+            return null;
+        }
+        Map<String, TimeTable> buses = stations.get(station);
+        if (buses == null) {
+            return null;
+        }
+        return buses.get(busNo);
+    }
+
+    /**
+     * 인덱스에 포함된 시간표 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private final Map<DayType, Map<BusStation, Map<String, TimeTable>>> tables = new EnumMap<>(DayType.class);
+
+        public Builder put(DayType dayType, BusStation station, String busNo, TimeTable table) {
+            tables.computeIfAbsent(dayType, k -> new EnumMap<>(BusStation.class))
+                    .computeIfAbsent(station, k -> new HashMap<>())
+                    .put(busNo, table);
+            return this;
+        }
+
+        public TimeTableIndex build() {
+            Map<DayType, Map<BusStation, Map<String, TimeTable>>> result = new EnumMap<>(DayType.class);
+            for (Map.Entry<DayType, Map<BusStation, Map<String, TimeTable>>> dayEntry : tables.entrySet()) {
+                Map<BusStation, Map<String, TimeTable>> stations = new EnumMap<>(BusStation.class);
+                for (Map.Entry<BusStation, Map<String, TimeTable>> stationEntry : dayEntry.getValue().entrySet()) {
+                    stations.put(stationEntry.getKey(), Map.copyOf(stationEntry.getValue()));
+                }
+                result.put(dayEntry.getKey(), Collections.unmodifiableMap(stations));
+            }
+            return new TimeTableIndex(Collections.unmodifiableMap(result));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.dku.council.infra.bus.predict.impl;
+
+import com.dku.council.domain.bus.model.BusStation;
+import com.dku.council.infra.bus.exception.CannotGetTimeTable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 시간표 디렉토리 아래의 모든 시간표 파일을 읽어 {@link TimeTableIndex}를 만듭니다.
+ * 파일 경로는 {location}/{weekday|saturday|holiday}/{정류소}/{버스 번호}.table 입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimeTableLoader {
+
+    private static final String TABLE_EXTENSION = ".table";
+
+    private final TimeTableParser parser;
+
+    @Value("${app.bus.timetable-location:classpath:/bustable}")
+    private final String location;
+
+    private final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+
+    /**
+     * 모든 시간표를 읽어 인덱스를 만듭니다. 읽을 수 없는 시간표는 건너뜁니다.
+     */
+    public TimeTableIndex load() {
+        TimeTableIndex.Builder builder = TimeTableIndex.builder();
+        for (Resource resource : findTableResources()) {
+            String[] segments = pathSegments(resource);
+            DayType dayType = DayType.ofDirectory(segments[0]);
+            BusStation station = stationOfDirectory(segments[1]);
+            if (dayType == null || station == null) {
+                log.warn("Unknown time table path: {}", resource.getDescription());
+                continue;
+            }
+
+            String busNo = segments[2].substring(0, segments[2].length() - TABLE_EXTENSION.length());
+            try (InputStream stream = resource.getInputStream()) {
+                builder.put(dayType, station, busNo, parser.parse(stream, resource.getDescription()));
+            } catch (IOException | CannotGetTimeTable e) {
+                log.warn("Cannot parse time table", e);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 시간표 파일 목록과 수정 시각으로 만든 값. 값이 바뀌었다면 시간표 파일이 추가, 삭제, 수정된 것입니다.
+     */
+    public String fingerprint() {
+        StringBuilder sb = new StringBuilder();
+        for (Resource resource : findTableResources()) {
+            sb.append(resource.getDescription()).append('@');
+            try {
+                sb.append(resource.lastModified()).append(':').append(resource.contentLength());
+            } catch (IOException e) {
+                sb.append('?');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private Resource[] findTableResources() {
+        try {
+            Resource[] resources = resolver.getResources(location + "/*/*/*" + TABLE_EXTENSION);
+            Arrays.sort(resources, Comparator.comparing(Resource::getDescription));
+            return resources;
+        } catch (IOException e) {
+            throw new CannotGetTimeTable(e);
+        }
+    }
+
+    private static String[] pathSegments(Resource resource) {
+        try {
+            String[] segments = resource.getURL().getPath().split("/");
+            return Arrays.copyOfRange(segments, segments.length - 3, segments.length);
+        } catch (IOException e) {
+            throw new CannotGetTimeTable(e);
+        }
+    }
+
+    private static BusStation stationOfDirectory(String directory) {
+        for (BusStation station : BusStation.values()) {
+            if (toDirectoryName(station).equals(directory)) {
+                return station;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 정류소의 시간표 디렉토리 이름. (ex. DKU_GATE -> dkugate)
+     */
+    private static String toDirectoryName(BusStation station) {
+        return station.name().replaceAll("_", "").toLowerCase();
+    }
+}
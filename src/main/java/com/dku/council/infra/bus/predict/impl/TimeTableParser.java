@@ -11,68 +11,91 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Arrays;
 
+/**
+ * 시간표 파일을 파싱합니다. 파싱 상태는 호출마다 따로 가지므로 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
 @Component
 public class TimeTableParser {
 
     private static final DateTimeFormatter LOCAL_TIME_FORMATTER = DateTimeFormatter.ofPattern("H:mm");
-
-    private Duration offset;
-    private List<LocalTime> timeTables;
-
-    private void reset() {
-        this.offset = Duration.ZERO;
-        timeTables = new ArrayList<>();
-    }
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
 
     /**
      * 시간표를 resources로부터 불러옵니다.
      */
     public TimeTable parse(String path) {
-        reset();
+        InputStream stream = TimeTable.class.getResourceAsStream(path);
+        if (stream == null) {
+            throw new CannotGetTimeTable("시간표를 찾을 수 없습니다: " + path);
+        }
+        return parse(stream, path);
+    }
+
+    /**
+     * 시간표를 stream으로부터 불러옵니다. stream은 파싱 후 닫힙니다.
+     *
+     * @param stream 시간표 stream
+     * @param name   오류 메시지에 표시할 시간표 이름
+     */
+    public TimeTable parse(InputStream stream, String name) {
         try (
-                InputStream stream = TimeTable.class.getResourceAsStream(path);
                 InputStreamReader reader = new InputStreamReader(stream, StandardCharsets.UTF_8);
                 BufferedReader bReader = new BufferedReader(reader)
         ) {
+            ParseState state = new ParseState();
             String line;
             while ((line = bReader.readLine()) != null) {
-                parseTableLine(line);
+                state.parseTableLine(line);
             }
+            return state.toTimeTable(name);
+        } catch (CannotGetTimeTable e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new CannotGetTimeTable(e);
+        }
+    }
+
+    private static class ParseState {
+        private Duration offset = Duration.ZERO;
+        private int[] times = new int[64];
+        private int size = 0;
 
-            if (timeTables.isEmpty()) {
-                throw new CannotGetTimeTable("시간표를 불러올 수 없습니다: " + path);
+        private void parseTableLine(String line) {
+            line = line.trim();
+            if (line.startsWith("#") || line.isBlank()) {
+                return;
             }
 
-            if (offset != Duration.ZERO) {
-                timeTables = timeTables.stream()
-                        .map(t -> t.plus(offset))
-                        .collect(Collectors.toList());
+            if (line.startsWith("@")) {
+                String[] token = line.substring(1).split(" ");
+                if (token[0].equalsIgnoreCase("offset")) {
+                    this.offset = Duration.parse(token[1]);
+                }
+                return;
             }
 
-            return new TimeTable(timeTables);
-        } catch (IOException | NullPointerException e) {
-            throw new CannotGetTimeTable(e);
+            if (size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+            }
+            times[size++] = LocalTime.parse(line, LOCAL_TIME_FORMATTER).toSecondOfDay();
         }
-    }
 
-    private void parseTableLine(String line) {
-        line = line.trim();
-        if (line.startsWith("#") || line.isBlank()) {
-            return;
-        }
+        private TimeTable toTimeTable(String name) {
+            if (size == 0) {
+                throw new CannotGetTimeTable("시간표를 불러올 수 없습니다: " + name);
+            }
 
-        if (line.startsWith("@")) {
-            String[] token = line.substring(1).split(" ");
-            if (token[0].equalsIgnoreCase("offset")) {
-                this.offset = Duration.parse(token[1]);
+            int offsetSeconds = (int) offset.getSeconds();
+            int[] result = new int[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = Math.floorMod(times[i] + offsetSeconds, SECONDS_PER_DAY);
+                if (i > 0 && result[i] < result[i - 1]) {
+                    throw new CannotGetTimeTable("시간표가 시간 순서대로 정렬되어있지 않습니다: " + name);
+                }
             }
-            return;
+            return new TimeTable(result);
         }
-
-        timeTables.add(LocalTime.parse(line, LOCAL_TIME_FORMATTER));
     }
 }
@@ -2,6 +2,7 @@ package com.dku.council.infra.bus.provider;
 
 import com.dku.council.domain.bus.model.BusStation;
 import com.dku.council.infra.bus.model.BusArrival;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -10,11 +11,13 @@ public interface BusArrivalProvider {
     /**
      * 버스 정류소에 도착할 예정인 버스들을 가져옵니다.
      * 도착 정보가 없는 버스는 자동으로 예측됩니다.
+     * 요청은 구독할 때 시작되며, 호출한 스레드를 블로킹하지 않습니다.
      *
      * @param station 정류소
-     * @return 도착 예정 버스 목록.
+     * @return 도착 예정 버스 목록. 가져오지 못하면 {@link com.dku.council.infra.bus.exception.CannotGetBusArrivalException}
+     * 오류를 발생시킵니다.
      */
-    List<BusArrival> retrieveBusArrival(BusStation station);
+    Mono<List<BusArrival>> retrieveBusArrival(BusStation station);
 
     /**
      * Provider에서 사용하는 prefix를 지정합니다. 이 prefix는 provider에서 제공해준 버스 도착정보를
@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.util.List;
@@ -35,45 +36,40 @@ public class GGBusProvider implements BusArrivalProvider {
     private final String serviceKey;
 
 
-    public List<BusArrival> retrieveBusArrival(BusStation station) {
-        try {
-            ResponseGGBusArrival response;
-            try {
-                response = request(station.getGgNodeId());
-            } catch (WebClientRequestException e) {
-                if (!(e.getCause() instanceof SslHandshakeTimeoutException)) {
-                    log.warn("Failed retrieve data from GGBus");
-                    throw e;
-                }
-                return List.of();
-            }
-
-            if (response == null) {
-                throw new UnexpectedResponseException("Failed response");
-            }
-
-            ResponseGGBusArrival.Header header = response.getMsgHeader();
-            if (header == null) {
-                return List.of();
-            }
-
-            Integer code = header.getResultCode();
-
-            if (code == 4) {
-                return List.of();
-            }
-
-            if (code != 0) {
-                throw new UnexpectedResponseException(header.getResultMessage());
-            }
-
-            return response.getMsgBody().getBusArrivalList().stream()
-                    .map(BusResponseMapper::to)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-        } catch (Throwable e) {
-            throw new CannotGetBusArrivalException(e);
+    @Override
+    public Mono<List<BusArrival>> retrieveBusArrival(BusStation station) {
+        return request(station.getGgNodeId())
+                .switchIfEmpty(Mono.error(() -> new UnexpectedResponseException("Failed response")))
+                .map(this::toBusArrivals)
+                .onErrorResume(GGBusProvider::isSslHandshakeTimeout, e -> Mono.just(List.of()))
+                .doOnError(WebClientRequestException.class, e -> log.warn("Failed retrieve data from GGBus"))
+                .onErrorMap(e -> !(e instanceof CannotGetBusArrivalException), CannotGetBusArrivalException::new);
+    }
+
+    private List<BusArrival> toBusArrivals(ResponseGGBusArrival response) {
+        ResponseGGBusArrival.Header header = response.getMsgHeader();
+        if (header == null) {
+            return List.of();
+        }
+
+        Integer code = header.getResultCode();
+
+        if (code == 4) {
+            return List.of();
         }
+
+        if (code != 0) {
+            throw new UnexpectedResponseException(header.getResultMessage());
+        }
+
+        return response.getMsgBody().getBusArrivalList().stream()
+                .map(BusResponseMapper::to)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isSslHandshakeTimeout(Throwable e) {
+        return e instanceof WebClientRequestException && e.getCause() instanceof SslHandshakeTimeoutException;
     }
 
     @Override
@@ -81,7 +77,7 @@ public class GGBusProvider implements BusArrivalProvider {
         return "GG_";
     }
 
-    private ResponseGGBusArrival request(String stationId) {
+    private Mono<ResponseGGBusArrival> request(String stationId) {
         URI uri = UriComponentsBuilder.fromHttpUrl(apiPath)
                 .queryParam("serviceKey", serviceKey)
                 .queryParam("stationId", stationId)
@@ -92,7 +88,6 @@ public class GGBusProvider implements BusArrivalProvider {
                 .uri(uri)
                 .accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML)
                 .retrieve()
-                .bodyToMono(ResponseGGBusArrival.class)
-                .block();
+                .bodyToMono(ResponseGGBusArrival.class);
     }
 }
@@ -3,6 +3,7 @@ package com.dku.council.infra.bus.provider;
 import com.dku.council.domain.bus.model.BusStation;
 import com.dku.council.infra.bus.model.BusArrival;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -10,8 +11,8 @@ import java.util.List;
 public class ShuttleBusProvider implements BusArrivalProvider {
 
     @Override
-    public List<BusArrival> retrieveBusArrival(BusStation station) {
-        return List.of();
+    public Mono<List<BusArrival>> retrieveBusArrival(BusStation station) {
+        return Mono.just(List.of());
     }
 
     @Override
@@ -12,6 +12,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.util.List;
@@ -27,27 +28,24 @@ public class TownBusProvider implements BusArrivalProvider {
     private final String apiPath;
 
     @Override
-    public List<BusArrival> retrieveBusArrival(BusStation station) {
-        try {
-            ResponseKakaoBusApi response = request(station.getTownNodeId());
-
-            if (response == null) {
-                throw new UnexpectedResponseException("Failed response");
-            }
-
-            String name = response.getName();
-            if (name == null) {
-                throw new InvalidBusStationException();
-            }
+    public Mono<List<BusArrival>> retrieveBusArrival(BusStation station) {
+        return request(station.getTownNodeId())
+                .switchIfEmpty(Mono.error(() -> new UnexpectedResponseException("Failed response")))
+                .map(TownBusProvider::toBusArrivals)
+                .onErrorMap(e -> !(e instanceof CannotGetBusArrivalException), CannotGetBusArrivalException::new);
+    }
 
-            return response.getLines().stream()
-                    .filter(ResponseKakaoBusApi.BusLine::isRunning)
-                    .map(BusResponseMapper::to)
-                    .filter(TownBusProvider::filter24Bus)
-                    .collect(Collectors.toList());
-        } catch (Throwable e) {
-            throw new CannotGetBusArrivalException(e);
+    private static List<BusArrival> toBusArrivals(ResponseKakaoBusApi response) {
+        String name = response.getName();
+        if (name == null) {
+            throw new InvalidBusStationException();
         }
+
+        return response.getLines().stream()
+                .filter(ResponseKakaoBusApi.BusLine::isRunning)
+                .map(BusResponseMapper::to)
+                .filter(TownBusProvider::filter24Bus)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -63,7 +61,7 @@ public class TownBusProvider implements BusArrivalProvider {
         return true;
     }
 
-    private ResponseKakaoBusApi request(String stationId) {
+    private Mono<ResponseKakaoBusApi> request(String stationId) {
         URI uri = UriComponentsBuilder.fromHttpUrl(apiPath)
                 .queryParam("busstopid", stationId)
                 .build()
@@ -75,7 +73,6 @@ public class TownBusProvider implements BusArrivalProvider {
                 .header("Referer", "https://map.kakao.com/")
                 .header("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/110.0.0.0 Safari/537.36")
                 .retrieve()
-                .bodyToMono(ResponseKakaoBusApi.class)
-                .block();
+                .bodyToMono(ResponseKakaoBusApi.class);
     }
 }
@@ -2,21 +2,32 @@ package com.dku.council.infra.bus.service;
 
 import com.dku.council.domain.bus.model.Bus;
 import com.dku.council.domain.bus.model.BusStation;
+import com.dku.council.domain.bus.model.CachedBusArrivals;
 import com.dku.council.infra.bus.model.BusArrival;
 import com.dku.council.infra.bus.model.BusStatus;
 import com.dku.council.infra.bus.predict.BusArrivalPredictService;
 import com.dku.council.infra.bus.provider.BusArrivalProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OpenApiBusService {
@@ -24,6 +35,13 @@ public class OpenApiBusService {
     private final Clock clock;
     private final BusArrivalPredictService predictService;
     private final List<BusArrivalProvider> providers;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${bus.provider-timeout:3s}")
+    private final Duration providerTimeout;
+
+    @Value("${bus.stale-max-age:10m}")
+    private final Duration staleMaxAge;
 
     /**
      * 버스 도착 정보를 OpenAPI를 통해 가져옵니다.
@@ -32,28 +50,89 @@ public class OpenApiBusService {
      * @return 버스 도착정보 목록
      */
     public List<BusArrival> retrieveBusArrival(BusStation station) {
-        Stream<BusArrival> stream = null;
-        for (BusArrivalProvider provider : providers) {
-            List<BusArrival> busArrivalList = provider.retrieveBusArrival(station);
-            busArrivalList = new ArrayList<>(busArrivalList);
+        return retrieveBusArrival(station, null).block().getArrivals();
+    }
 
-            appendOtherArrivals(provider, busArrivalList, station);
+    /**
+     * 모든 provider에 동시에 요청하여 버스 도착 정보를 가져옵니다. 결과는 provider 순서대로 합쳐집니다.
+     * 제한 시간 안에 응답하지 않거나 실패한 provider는 마지막으로 가져온 도착 정보로 대신하며,
+     * 그마저 없거나 provider가 마지막으로 응답한 지 너무 오래되었다면 예측 정보만 제공합니다.
+     *
+     * @param station  정류소
+     * @param lastGood 마지막으로 가져온 도착 정보. 없으면 null
+     * @return provider별 수집 시각을 포함한 버스 도착정보
+     */
+    public Mono<CachedBusArrivals> retrieveBusArrival(BusStation station, @Nullable CachedBusArrivals lastGood) {
+        return Mono.defer(() -> {
+            Instant now = Instant.now(clock);
+            return Flux.fromIterable(providers)
+                    .flatMapSequential(provider -> retrieveFromProvider(provider, station, lastGood, now))
+                    .collectList()
+                    .map(results -> {
+                        List<BusArrival> arrivals = new ArrayList<>();
+                        Map<String, Instant> providerCapturedAt = new HashMap<>();
+                        for (ProviderArrivals result : results) {
+                            arrivals.addAll(result.arrivals);
+                            providerCapturedAt.put(result.prefix, result.capturedAt);
+                        }
+                        return new CachedBusArrivals(now, arrivals, providerCapturedAt);
+                    });
+        });
+    }
 
-            Stream<BusArrival> resultStream = busArrivalList.stream()
-                    .filter(arrival -> filterBus(provider.getProviderPrefix(), arrival));
+    private Mono<ProviderArrivals> retrieveFromProvider(BusArrivalProvider provider, BusStation station,
+                                                        @Nullable CachedBusArrivals lastGood, Instant now) {
+        String prefix = provider.getProviderPrefix();
+        return Mono.defer(() -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    return provider.retrieveBusArrival(station)
+                            .timeout(providerTimeout)
+                            .defaultIfEmpty(List.of())
+                            .doOnSuccess(arrivals -> sample.stop(providerTimer(prefix, "success")))
+                            .map(arrivals -> new ProviderArrivals(prefix, now, arrivals))
+                            .onErrorResume(e -> {
+                                sample.stop(providerTimer(prefix, "error"));
+                                log.warn("Failed to retrieve bus arrivals from {} at {}: {}", prefix, station, e.toString());
+                                return Mono.just(lastGoodArrivals(prefix, lastGood, now));
+                            });
+                })
+                .map(result -> {
+                    List<BusArrival> busArrivalList = new ArrayList<>(result.arrivals);
+                    appendOtherArrivals(provider, busArrivalList, station);
+                    List<BusArrival> filtered = busArrivalList.stream()
+                            .filter(arrival -> filterBus(prefix, arrival))
+                            .collect(Collectors.toList());
+                    return new ProviderArrivals(prefix, result.capturedAt, filtered);
+                });
+    }
 
-            if (stream == null) {
-                stream = resultStream;
-            } else {
-                stream = Stream.concat(stream, resultStream);
-            }
+    private Timer providerTimer(String prefix, String result) {
+        return meterRegistry.timer("bus.provider.fetch", "provider", prefix, "result", result);
+    }
+
+    /**
+     * 마지막으로 가져온 도착 정보 중 provider가 제공했던 정보만 골라, 지난 시간만큼 보정합니다.
+     * 예측하거나 운행 종료로 채운 정보는 다시 계산하므로 제외합니다. 오래된 정상 응답인지는 갱신 시각이 아닌
+     * provider가 마지막으로 응답한 시각을 기준으로 판단하며, 이 시각은 결과에 그대로 남깁니다.
+     */
+    private ProviderArrivals lastGoodArrivals(String prefix, @Nullable CachedBusArrivals lastGood, Instant now) {
+        if (lastGood == null) {
+            return new ProviderArrivals(prefix, now, List.of());
         }
 
-        if (stream == null) {
-            return List.of();
+        Instant providerCapturedAt = lastGood.capturedAtOf(prefix);
+        if (Duration.between(providerCapturedAt, now).compareTo(staleMaxAge) > 0) {
+            return new ProviderArrivals(prefix, providerCapturedAt, List.of());
         }
 
-        return stream.collect(Collectors.toList());
+        meterRegistry.counter("bus.provider.stale", "provider", prefix).increment();
+        Duration elapsed = Duration.between(lastGood.getCapturedAt(), now);
+        List<BusArrival> arrivals = lastGood.getArrivals().stream()
+                .filter(arrival -> arrival.getStatus() != BusStatus.PREDICT && arrival.getStatus() != BusStatus.STOP)
+                .filter(arrival -> filterBus(prefix, arrival))
+                .map(arrival -> arrival.elapsed(elapsed))
+                .collect(Collectors.toList());
+        return new ProviderArrivals(prefix, providerCapturedAt, arrivals);
     }
 
     /**
@@ -104,4 +183,11 @@ public class OpenApiBusService {
 
         return false;
     }
+
+    @RequiredArgsConstructor
+    private static class ProviderArrivals {
+        private final String prefix;
+        private final Instant capturedAt;
+        private final List<BusArrival> arrivals;
+    }
 }
@@ -0,0 +1,11 @@
+package com.dku.council.infra.dku.exception;
+
+import com.dku.council.global.error.exception.LocalizedMessageException;
+import org.springframework.http.HttpStatus;
+
+public class DkuLoginBusyException extends LocalizedMessageException {
+
+    public DkuLoginBusyException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "failed.dku-login-busy");
+    }
+}
@@ -0,0 +1,13 @@
+package com.dku.council.infra.dku.model;
+
+public enum DkuLoginTarget {
+    /**
+     * 웹정보 시스템 (수업, 학생 정보)
+     */
+    WEBINFO,
+
+    /**
+     * 포털 사이트 (학사 일정)
+     */
+    PORTAL
+}
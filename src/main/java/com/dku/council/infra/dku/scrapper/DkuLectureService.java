@@ -15,6 +15,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
@@ -40,7 +43,7 @@ public class DkuLectureService extends DkuScrapper {
     }
 
     /**
-     * 모든 수업 정보를 크롤링합니다.
+     * 모든 수업 정보를 크롤링합니다. 교양과 전공 시간표를 동시에 요청하고 각각 파싱합니다.
      *
      * @param auth 인증 토큰
      * @return 학사 일정
@@ -49,38 +52,42 @@ public class DkuLectureService extends DkuScrapper {
         String year = String.valueOf(now.getYear());
         String semester = getSemester(now);
 
-        String html = request(auth, year, semester, "2"); // 교양
-        List<Subject> result = new ArrayList<>(parseSubjects(html, "culLctTmtblDscTbl",
-                8, DkuLectureService::parseSubject));
+        Mono<List<Subject>> liberalArts = request(auth, year, semester, "2") // 교양
+                .publishOn(Schedulers.boundedElastic())
+                .map(html -> parseSubjects(html, "culLctTmtblDscTbl",
+                        8, DkuLectureService::parseSubject));
 
-        html = request(auth, year, semester, "1"); // 전공
-        result.addAll(parseSubjects(html, "mjLctTmtblDscTbl",
-                10, DkuLectureService::parseMajorSubject));
+        Mono<List<Subject>> majors = request(auth, year, semester, "1") // 전공
+                .publishOn(Schedulers.boundedElastic())
+                .map(html -> parseSubjects(html, "mjLctTmtblDscTbl",
+                        10, DkuLectureService::parseMajorSubject));
 
-        return result;
-    }
-
-    private String request(DkuAuth auth, String year, String semester, String type) {
-        String result;
-        try {
-            result = makeRequestWebInfo(auth, lectureApiPath)
-                    .body(BodyInserters.fromFormData("yy", year)
-                            .with("semCd", semester)
-                            .with("qrySxn", type)
-                            .with("lesnPlcCd", "1")
-                            .with("collCd", "2000000989"))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-        } catch (Throwable t) {
-            throw new DkuFailedCrawlingException(t);
+        Tuple2<List<Subject>, List<Subject>> subjects = Mono.zip(liberalArts, majors).block();
+        if (subjects == null) {
+            throw new DkuFailedCrawlingException("Failed to crawl");
         }
 
+        List<Subject> result = new ArrayList<>(subjects.getT1().size() + subjects.getT2().size());
+        result.addAll(subjects.getT1());
+        result.addAll(subjects.getT2());
         return result;
     }
 
+    private Mono<String> request(DkuAuth auth, String year, String semester, String type) {
+        return makeRequestWebInfo(auth, lectureApiPath)
+                .body(BodyInserters.fromFormData("yy", year)
+                        .with("semCd", semester)
+                        .with("qrySxn", type)
+                        .with("lesnPlcCd", "1")
+                        .with("collCd", "2000000989"))
+                .retrieve()
+                .bodyToMono(String.class)
+                .switchIfEmpty(Mono.error(() -> new DkuFailedCrawlingException("Failed to crawl")))
+                .onErrorMap(e -> !(e instanceof DkuFailedCrawlingException), DkuFailedCrawlingException::new);
+    }
+
     private List<Subject> parseSubjects(String html, String tableName, int columnCount, TableRowParser parser) {
-        Document doc = Jsoup.parse(html);
+        Document doc = Jsoup.parseBodyFragment(extractTable(html, tableName));
         List<Subject> result = new ArrayList<>();
 
         try {
@@ -110,6 +117,47 @@ public class DkuLectureService extends DkuScrapper {
         }
     }
 
+    /**
+     * 페이지에서 id가 tableId인 table 태그 부분만 잘라냅니다. 페이지 전체가 아닌 시간표 table만 DOM으로 만들기 위해 사용합니다.
+     * table을 찾지 못하면 페이지 전체를 반환합니다.
+     */
+    static String extractTable(String html, String tableId) {
+        String lower = html.toLowerCase();
+        int idIdx = lower.indexOf("id=\"" + tableId.toLowerCase() + "\"");
+        if (idIdx < 0) {
+            return html;
+        }
+
+        // id가 table 태그의 속성이 아니라면 페이지 전체를 파싱한다.
+        int start = lower.lastIndexOf("<table", idIdx);
+        if (start < 0 || lower.indexOf('>', start) < idIdx) {
+            return html;
+        }
+
+        // table 안에 table이 있을 수 있으므로 닫는 태그의 짝을 맞춘다.
+        int depth = 0;
+        int idx = start;
+        while (idx >= 0) {
+            int open = lower.indexOf("<table", idx + 1);
+            int close = lower.indexOf("</table", idx + 1);
+            if (close < 0) {
+                return html;
+            }
+
+            if (open >= 0 && open < close) {
+                depth++;
+                idx = open;
+            } else if (depth == 0) {
+                int end = lower.indexOf('>', close);
+                return end < 0 ? html : html.substring(start, end + 1);
+            } else {
+                depth--;
+                idx = close;
+            }
+        }
+        return html;
+    }
+
     private static Subject parseSubject(Elements cols) {
         return parseSubject(cols, 0);
     }
@@ -0,0 +1,182 @@
+package com.dku.council.infra.dku.scrapper;
+
+import com.dku.council.infra.dku.exception.DkuFailedCrawlingException;
+import com.dku.council.infra.dku.exception.DkuFailedLoginException;
+import com.dku.council.infra.dku.exception.DkuLoginBusyException;
+import com.dku.council.infra.dku.model.DkuAuth;
+import com.dku.council.infra.dku.model.DkuLoginTarget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 크롤러 계정(dku.static-crawler)의 로그인 세션을 재사용한다. 세션은 사용할 때 검증하며,
+ * 크롤링이 실패하면 만료된 것으로 보고 한 번만 다시 로그인한다.
+ * 크롤러 계정이 아닌 로그인을 포함하여, 동시에 진행되는 로그인 수는 dku.session.max-concurrent-logins로 제한한다.
+ */
+@Slf4j
+@Service
+public class DkuSessionPool {
+
+    private final DkuAuthenticationService authenticationService;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final String id;
+    private final String password;
+    private final Duration maxAge;
+    private final Duration loginTimeout;
+
+    private final Semaphore loginPermits;
+    private final Map<DkuLoginTarget, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<DkuLoginTarget, Object> loginLocks = new EnumMap<>(DkuLoginTarget.class);
+
+    public DkuSessionPool(DkuAuthenticationService authenticationService,
+                          Clock clock,
+                          MeterRegistry meterRegistry,
+                          @Value("${dku.static-crawler.id}") String id,
+                          @Value("${dku.static-crawler.password}") String password,
+                          @Value("${dku.session.max-age:20m}") Duration maxAge,
+                          @Value("${dku.session.login-timeout:30s}") Duration loginTimeout,
+                          @Value("${dku.session.max-concurrent-logins:4}") int maxConcurrentLogins) {
+        this.authenticationService = authenticationService;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.id = id;
+        this.password = password;
+        this.maxAge = maxAge;
+        this.loginTimeout = loginTimeout;
+        this.loginPermits = new Semaphore(maxConcurrentLogins);
+        for (DkuLoginTarget target : DkuLoginTarget.values()) {
+            loginLocks.put(target, new Object());
+        }
+    }
+
+    /**
+     * 크롤러 계정의 세션을 가져온다. 캐시된 세션이 없거나 dku.session.max-age보다 오래되었으면 다시 로그인한다.
+     *
+     * @param target 로그인 대상
+     * @return 토큰 쿠키가 포함된 DkuAuth
+     */
+    public DkuAuth acquire(DkuLoginTarget target) {
+        Session cached = findValidSession(target);
+        if (cached != null) {
+            return cached.getAuth();
+        }
+        return refresh(target, null).getAuth();
+    }
+
+    /**
+     * 크롤러 계정의 세션으로 작업을 실행한다. 캐시된 세션으로 크롤링에 실패하면 세션이 만료된 것으로 보고,
+     * 다시 로그인하여 한 번 더 실행한다.
+     *
+     * @param target 로그인 대상
+     * @param task   세션으로 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T execute(DkuLoginTarget target, Function<DkuAuth, T> task) {
+        Session cached = findValidSession(target);
+        if (cached == null) {
+            return task.apply(refresh(target, null).getAuth());
+        }
+
+        try {
+            return task.apply(cached.getAuth());
+        } catch (DkuFailedCrawlingException e) {
+            log.info("Failed to crawl with cached {} session. Retry after login.", target);
+            return task.apply(refresh(target, cached).getAuth());
+        }
+    }
+
+    /**
+     * 크롤러 계정이 아닌 계정으로 로그인한다. 세션은 캐시하지 않고 동시 로그인 수 제한만 적용한다.
+     *
+     * @param target   로그인 대상
+     * @param classId  아이디 (학번)
+     * @param password 비밀번호
+     * @return 토큰 쿠키가 포함된 DkuAuth
+     */
+    public DkuAuth login(DkuLoginTarget target, String classId, String password) {
+        boolean acquired;
+        try {
+            acquired = loginPermits.tryAcquire(loginTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DkuFailedLoginException(e);
+        }
+        if (!acquired) {
+            meterRegistry.counter("dku.login.rejected", "target", target.name()).increment();
+            throw new DkuLoginBusyException();
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            switch (target) {
+                case WEBINFO:
+                    return authenticationService.loginWebInfo(classId, password);
+                case PORTAL:
+                    return authenticationService.loginPortal(classId, password);
+                default:
+                    throw new IllegalArgumentException(target.name());
+            }
+        } finally {
+            sample.stop(meterRegistry.timer("dku.login", "target", target.name()));
+            loginPermits.release();
+        }
+    }
+
+    @Nullable
+    private Session findValidSession(DkuLoginTarget target) {
+        Session session = sessions.get(target);
+        if (session == null || !isValid(session)) {
+            return null;
+        }
+        return session;
+    }
+
+    private boolean isValid(Session session) {
+        return clock.instant().isBefore(session.getLoggedInAt().plus(maxAge));
+    }
+
+    /**
+     * 크롤러 계정으로 다시 로그인한다. 대상마다 한 번에 하나만 로그인하며, 기다리는 동안
+     * 다른 스레드가 새 세션을 만들었다면 로그인하지 않고 그 세션을 사용한다.
+     *
+     * @param target 로그인 대상
+     * @param stale  만료된 것으로 확인된 세션. 없으면 null
+     * @return 새 세션
+     */
+    private Session refresh(DkuLoginTarget target, @Nullable Session stale) {
+        synchronized (loginLocks.get(target)) {
+            Session current = sessions.get(target);
+            if (current != null && current != stale && isValid(current)) {
+                return current;
+            }
+
+            Session session = new Session(login(target, id, password), clock.instant());
+            sessions.put(target, session);
+            return session;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Session {
+        private final DkuAuth auth;
+        private final Instant loggedInAt;
+    }
+}
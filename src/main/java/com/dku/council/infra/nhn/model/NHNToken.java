@@ -0,0 +1,19 @@
+package com.dku.council.infra.nhn.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+
+@Getter
+@RequiredArgsConstructor
+public class NHNToken {
+    private final String id;
+
+    /**
+     * 토큰 만료 시각. 응답에 만료 시각이 없거나 읽을 수 없으면 null
+     */
+    @Nullable
+    private final Instant expiresAt;
+}
@@ -20,5 +20,6 @@ public class ResponseToken {
     @RequiredArgsConstructor(access = PROTECTED)
     public static class Token {
         private final String id;
+        private final String expires;
     }
 }
\ No newline at end of file
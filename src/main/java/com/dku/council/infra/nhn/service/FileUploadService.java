@@ -4,26 +4,50 @@ import com.dku.council.infra.nhn.exception.AlreadyInStorageException;
 import com.dku.council.infra.nhn.exception.InvalidAccessObjectStorageException;
 import com.dku.council.infra.nhn.model.FileRequest;
 import com.dku.council.infra.nhn.model.UploadedFile;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PreDestroy;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class FileUploadService {
 
-    private final NHNAuthService nhnAuthService;
+    private final NHNTokenManager tokenManager;
     private final ObjectStorageService s3service;
     private final ObjectUploadContext uploadContext;
+    private final ExecutorService uploadExecutor;
+
+    public FileUploadService(NHNTokenManager tokenManager,
+                             ObjectStorageService s3service,
+                             ObjectUploadContext uploadContext,
+                             @Value("${nhn.os.upload-concurrency:4}") int uploadConcurrency) {
+        this.tokenManager = tokenManager;
+        this.s3service = s3service;
+        this.uploadContext = uploadContext;
+        this.uploadExecutor = Executors.newFixedThreadPool(uploadConcurrency,
+                new CustomizableThreadFactory("file-upload-"));
+    }
 
 
     public Context newContext() {
-        String token = nhnAuthService.requestToken();
+        String token = tokenManager.getToken();
         return new Context(token);
     }
 
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
     public class Context {
         private final String token;
 
@@ -31,24 +55,65 @@ public class FileUploadService {
             this.token = token;
         }
 
+        /**
+         * 여러 파일을 동시에 업로드합니다. 동시에 업로드하는 파일 수는 nhn.os.upload-concurrency로 제한됩니다.
+         * 하나라도 실패하면 업로드에 성공한 파일을 삭제하고 실패 원인을 던집니다.
+         *
+         * @param files  업로드할 파일 목록
+         * @param prefix object 이름 prefix
+         * @return 업로드된 파일 목록. 요청한 파일 순서와 같습니다.
+         */
         public ArrayList<UploadedFile> uploadFiles(List<FileRequest> files, String prefix) {
-            ArrayList<UploadedFile> postFiles = new ArrayList<>();
+            List<CompletableFuture<UploadedFile>> futures = new ArrayList<>(files.size());
             for (FileRequest req : files) {
-                postFiles.add(uploadFile(req, prefix));
+                futures.add(CompletableFuture.supplyAsync(() -> uploadFile(req, prefix), uploadExecutor));
+            }
+
+            ArrayList<UploadedFile> postFiles = new ArrayList<>(files.size());
+            RuntimeException failure = null;
+            for (CompletableFuture<UploadedFile> future : futures) {
+                try {
+                    postFiles.add(future.join());
+                } catch (CompletionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException ?
+                                (RuntimeException) e.getCause() : new InvalidAccessObjectStorageException(e.getCause());
+                    }
+                }
+            }
+
+            if (failure != null) {
+                postFiles.forEach(this::deleteQuietly);
+                throw failure;
             }
             return postFiles;
         }
 
+        /**
+         * 파일을 업로드합니다. object 이름은 UUID로 만들기 때문에 겹치지 않으므로 존재 여부를 확인하지 않습니다.
+         *
+         * @param file   업로드할 파일
+         * @param prefix object 이름 prefix
+         * @return 업로드된 파일
+         */
         public UploadedFile uploadFile(FileRequest file, String prefix) {
             String originName = file.getOriginalFilename();
             if (originName == null) originName = "";
 
             String ext = originName.substring(originName.lastIndexOf(".") + 1);
-            String fileId;
-            do {
-                fileId = uploadContext.makeObjectId(prefix, ext);
-            } while (s3service.isInObject(fileId));
-            return upload(file, fileId);
+            return uploadFile(file, prefix, ext);
+        }
+
+        /**
+         * 확장자를 지정하여 파일을 업로드합니다.
+         *
+         * @param file      업로드할 파일
+         * @param prefix    object 이름 prefix
+         * @param extension object 이름 확장자
+         * @return 업로드된 파일
+         */
+        public UploadedFile uploadFile(FileRequest file, String prefix, String extension) {
+            return upload(file, uploadContext.makeObjectId(prefix, extension));
         }
 
         public UploadedFile uploadFileWithName(FileRequest file, String objectName) {
@@ -70,5 +135,13 @@ public class FileUploadService {
         public void deleteFile(String fileId) {
             s3service.deleteObject(token, fileId);
         }
+
+        private void deleteQuietly(UploadedFile file) {
+            try {
+                deleteFile(file.getFileId());
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete uploaded file: {}", file.getFileId(), e);
+            }
+        }
     }
 }
@@ -2,6 +2,7 @@ package com.dku.council.infra.nhn.service;
 
 import com.dku.council.infra.nhn.exception.CannotGetTokenException;
 import com.dku.council.infra.nhn.exception.NotInitializedException;
+import com.dku.council.infra.nhn.model.NHNToken;
 import com.dku.council.infra.nhn.model.dto.request.RequestToken;
 import com.dku.council.infra.nhn.model.dto.response.ResponseToken;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,8 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import javax.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.Optional;
 
 @Slf4j
@@ -43,6 +46,16 @@ public class NHNAuthService {
     }
 
     public String requestToken() {
+        return issueToken().getId();
+    }
+
+    /**
+     * 인증 API에 새 토큰을 요청합니다. 요청할 때마다 인증 API를 호출하므로,
+     * 토큰을 재사용하려면 {@link NHNTokenManager}를 사용합니다.
+     *
+     * @return 발급된 토큰과 만료 시각
+     */
+    public NHNToken issueToken() {
         if (tokenRequest == null) {
             throw new NotInitializedException();
         }
@@ -60,17 +73,28 @@ public class NHNAuthService {
             throw new CannotGetTokenException(e);
         }
 
-        String token = Optional.ofNullable(response)
+        ResponseToken.Token token = Optional.ofNullable(response)
                 .map(ResponseToken::getAccess)
                 .map(ResponseToken.Access::getToken)
-                .map(ResponseToken.Token::getId)
                 .orElse(null);
 
-        if (token == null) {
+        if (token == null || token.getId() == null) {
             throw new CannotGetTokenException();
         }
 
-        return token;
+        return new NHNToken(token.getId(), parseExpires(token.getExpires()));
+    }
+
+    private static Instant parseExpires(String expires) {
+        if (expires == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(expires);
+        } catch (DateTimeParseException e) {
+            log.warn("Invalid token expiry: {}", expires);
+            return null;
+        }
     }
 
 }
\ No newline at end of file
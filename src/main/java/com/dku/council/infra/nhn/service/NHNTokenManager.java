@@ -0,0 +1,134 @@
+package com.dku.council.infra.nhn.service;
+
+import com.dku.council.infra.nhn.exception.CannotGetTokenException;
+import com.dku.council.infra.nhn.model.NHNToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * NHN 인증 토큰을 만료 직전까지 재사용한다. 만료가 가까워지면 백그라운드에서 미리 갱신하며,
+ * 동시에 여러 갱신 요청이 들어와도 인증 API는 한 번만 호출한다.
+ * 유효한 토큰이 없을 때만 호출자가 갱신을 기다린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NHNTokenManager {
+
+    private final NHNAuthService authService;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 만료까지 이 시간보다 적게 남으면 백그라운드에서 갱신한다.
+     */
+    @Value("${nhn.auth.refresh-before:10m}")
+    private final Duration refreshBefore;
+
+    /**
+     * 만료까지 이 시간보다 적게 남은 토큰은 사용하지 않는다. 요청 도중 만료되는 것을 막는다.
+     */
+    @Value("${nhn.auth.expiry-margin:1m}")
+    private final Duration expiryMargin;
+
+    /**
+     * 응답에 만료 시각이 없을 때 사용할 토큰 유효 시간
+     */
+    @Value("${nhn.auth.default-ttl:1h}")
+    private final Duration defaultTtl;
+
+    private final ExecutorService refreshExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("nhn-token-"));
+    private final AtomicReference<CompletableFuture<NHNToken>> refreshing = new AtomicReference<>();
+    private volatile NHNToken token;
+
+
+    /**
+     * 사용할 수 있는 토큰을 가져온다. 캐시된 토큰이 없거나 곧 만료되는 경우에만 갱신을 기다린다.
+     *
+     * @return 토큰 ID
+     */
+    public String getToken() {
+        NHNToken current = token;
+        Instant now = clock.instant();
+        if (current != null && now.isBefore(current.getExpiresAt().minus(expiryMargin))) {
+            if (!now.isBefore(current.getExpiresAt().minus(refreshBefore))) {
+                refresh();
+            }
+            return current.getId();
+        }
+
+        try {
+            return refresh().join().getId();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CannotGetTokenException(e.getCause());
+        }
+    }
+
+    /**
+     * 토큰이 없거나 만료가 가까우면 백그라운드에서 갱신한다.
+     */
+    public void refreshIfExpiring() {
+        NHNToken current = token;
+        if (current == null || !clock.instant().isBefore(current.getExpiresAt().minus(refreshBefore))) {
+            refresh().exceptionally(e -> {
+                log.warn("Failed to refresh NHN token", e);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 토큰을 갱신한다. 이미 진행 중인 갱신이 있으면 그 결과를 함께 기다린다.
+     *
+     * @return 갱신된 토큰
+     */
+    public CompletableFuture<NHNToken> refresh() {
+        CompletableFuture<NHNToken> future = new CompletableFuture<>();
+        CompletableFuture<NHNToken> inFlight = refreshing.compareAndExchange(null, future);
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        refreshExecutor.execute(() -> {
+            try {
+                NHNToken issued = authService.issueToken();
+                Instant expiresAt = issued.getExpiresAt();
+                if (expiresAt == null) {
+                    expiresAt = clock.instant().plus(defaultTtl);
+                }
+                token = new NHNToken(issued.getId(), expiresAt);
+                meterRegistry.counter("nhn.token.refresh", "result", "success").increment();
+                future.complete(token);
+            } catch (Throwable e) {
+                meterRegistry.counter("nhn.token.refresh", "result", "failure").increment();
+                future.completeExceptionally(e);
+            } finally {
+                refreshing.set(null);
+            }
+        });
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+}
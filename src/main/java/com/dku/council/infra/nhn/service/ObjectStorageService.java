@@ -3,6 +3,8 @@ package com.dku.council.infra.nhn.service;
 import com.dku.council.infra.nhn.exception.InvalidAccessObjectStorageException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.lang.Nullable;
@@ -21,12 +23,18 @@ public class ObjectStorageService {
     private final ObjectUploadContext uploadContext;
 
 
+    /**
+     * Object가 storage에 있는지 확인합니다. 본문은 받지 않고 HEAD 요청으로 확인합니다.
+     *
+     * @param objectName object 이름
+     * @return 존재 여부
+     */
     public boolean isInObject(String objectName) {
         try {
-            webClient.get()
+            webClient.head()
                     .uri(uploadContext.getObjectUrl(objectName))
                     .retrieve()
-                    .bodyToMono(byte[].class)
+                    .toBodilessEntity()
                     .block();
         } catch (WebClientResponseException e) {
             if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
@@ -36,6 +44,14 @@ public class ObjectStorageService {
         return true;
     }
 
+    /**
+     * Object를 storage에 업로드합니다. 입력 스트림은 메모리에 모으지 않고 읽는 대로 전송합니다.
+     *
+     * @param tokenId     인증 토큰
+     * @param objectName  object 이름
+     * @param inputStream 업로드할 내용
+     * @param contentType 내용의 타입
+     */
     public void uploadObject(String tokenId, String objectName, final InputStream inputStream, @Nullable MediaType contentType) {
         try {
             WebClient.RequestBodySpec spec = webClient.put()
@@ -55,6 +71,28 @@ public class ObjectStorageService {
         }
     }
 
+    /**
+     * Object를 내려받습니다. 내용 전체를 메모리에 받은 뒤 스트림으로 돌려줍니다.
+     *
+     * @param objectName object 이름
+     * @return object 내용
+     */
+    public InputStream downloadObject(String objectName) {
+        try {
+            DataBuffer buffer = DataBufferUtils.join(webClient.get()
+                            .uri(uploadContext.getObjectUrl(objectName))
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class))
+                    .block();
+            if (buffer == null) {
+                return InputStream.nullInputStream();
+            }
+            return buffer.asInputStream(true);
+        } catch (Throwable e) {
+            throw new InvalidAccessObjectStorageException(e);
+        }
+    }
+
     public void deleteObject(String tokenId, String objectName) {
         try {
             webClient.delete()
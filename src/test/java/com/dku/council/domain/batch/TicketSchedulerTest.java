@@ -1,72 +1,174 @@
 package com.dku.council.domain.batch;
 
+import com.dku.council.domain.ticket.exception.NoTicketEventException;
 import com.dku.council.domain.ticket.model.dto.TicketDto;
-import com.dku.council.domain.ticket.model.entity.TicketEvent;
-import com.dku.council.domain.ticket.repository.TicketEventRepository;
 import com.dku.council.domain.ticket.repository.TicketMemoryRepository;
-import com.dku.council.domain.ticket.repository.TicketRepository;
-import com.dku.council.domain.user.model.entity.User;
-import com.dku.council.domain.user.repository.UserRepository;
-import com.dku.council.mock.TicketEventMock;
-import com.dku.council.mock.UserMock;
-import org.assertj.core.api.Assertions;
+import com.dku.council.domain.ticket.service.TicketFlushService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TicketSchedulerTest {
 
     @Mock
-    private TicketRepository persistenceRepository;
+    private TicketMemoryRepository memoryRepository;
 
     @Mock
-    private TicketMemoryRepository memoryRepository;
+    private TicketFlushService flushService;
 
     @Mock
-    private TicketEventRepository ticketEventRepository;
+    private RedissonClient redissonClient;
 
     @Mock
-    private UserRepository userRepository;
+    private RLock lock;
 
-    @InjectMocks
     private TicketScheduler ticketScheduler;
 
+    private final List<TicketDto> chunk1 = List.of(
+            new TicketDto(1L, 1L, 4),
+            new TicketDto(2L, 1L, 5));
+    private final List<TicketDto> chunk2 = List.of(
+            new TicketDto(3L, 1L, 6));
+
+
+    @BeforeEach
+    public void setup() {
+        this.ticketScheduler = new TicketScheduler(memoryRepository, flushService, redissonClient, 2);
+        when(redissonClient.getLock(any())).thenReturn(lock);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenScannedChunks(int afterTurn) {
+        doAnswer(invocation -> {
+            Consumer<List<TicketDto>> consumer = invocation.getArgument(3);
+            consumer.accept(chunk1);
+            consumer.accept(chunk2);
+            return null;
+        }).when(memoryRepository).scanTickets(eq(1L), eq(afterTurn), eq(2), any());
+    }
+
     @Test
-    @DisplayName("메모리에 저장된 티켓을 DB에 저장")
-    void dumpToDb() {
+    @DisplayName("새로 발급된 티켓만 chunk 단위로 DB에 저장하고 반영 순번 갱신")
+    void flush() {
         // given
-        List<TicketDto> tickets = List.of(
-                new TicketDto(1L, 1L, 1),
-                new TicketDto(2L, 2L, 1),
-                new TicketDto(3L, 3L, 1));
-        User user = UserMock.createDummyMajor();
-        TicketEvent ticketEvent = TicketEventMock.createDummy();
+        when(lock.tryLock()).thenReturn(true);
+        when(memoryRepository.getReservedEventIds()).thenReturn(Set.of(1L));
+        when(flushService.getFlushedTurn(1L)).thenReturn(3);
+        when(memoryRepository.getLastTurn(1L)).thenReturn(6);
+        when(flushService.saveTickets(eq(1L), any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).size());
+        givenScannedChunks(3);
+
+        // when
+        ticketScheduler.flush();
 
-        when(memoryRepository.flushAllTickets()).thenReturn(tickets);
-        when(userRepository.getReferenceById(any())).thenReturn(user);
-        when(ticketEventRepository.getReferenceById(any())).thenReturn(ticketEvent);
+        // then
+        verify(flushService).saveTickets(1L, chunk1);
+        verify(flushService).saveTickets(1L, chunk2);
+        verify(flushService).updateFlushedTurn(1L, 6);
+        verify(memoryRepository, never()).removeTickets(any(), any());
+    }
+
+    @Test
+    @DisplayName("새로 발급된 티켓이 없으면 반영 순번 유지")
+    void flushNothing() {
+        // given
+        when(lock.tryLock()).thenReturn(true);
+        when(memoryRepository.getReservedEventIds()).thenReturn(Set.of(1L));
+        when(flushService.getFlushedTurn(1L)).thenReturn(6);
+        when(memoryRepository.getLastTurn(1L)).thenReturn(6);
+
+        // when
+        ticketScheduler.flush();
+
+        // then
+        verify(flushService, never()).saveTickets(any(), any());
+        verify(flushService, never()).updateFlushedTurn(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("삭제된 이벤트는 건너뜀")
+    void flushDeletedEvent() {
+        // given
+        when(lock.tryLock()).thenReturn(true);
+        when(memoryRepository.getReservedEventIds()).thenReturn(Set.of(1L));
+        when(flushService.getFlushedTurn(1L)).thenThrow(new NoTicketEventException());
+
+        // when
+        ticketScheduler.flush();
+
+        // then
+        verify(memoryRepository, never()).scanTickets(any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("메모리에 저장된 티켓을 모두 DB에 저장하고 메모리에서 제거")
+    void dumpToDb() {
+        // given
+        when(memoryRepository.getReservedEventIds()).thenReturn(Set.of(1L));
+        when(flushService.getFlushedTurn(1L)).thenReturn(3);
+        when(memoryRepository.getLastTurn(1L)).thenReturn(null);
+        givenScannedChunks(0);
 
         // when
         ticketScheduler.dumpToDb();
 
         // then
-        verify(persistenceRepository, Mockito.times(3)).save(argThat(ticket -> {
-            Assertions.assertThat(ticket.getUser().getId()).isEqualTo(user.getId());
-            Assertions.assertThat(ticket.getEvent().getId()).isEqualTo(ticketEvent.getId());
-            Assertions.assertThat(ticket.getTurn()).isEqualTo(1);
-            return true;
-        }));
+        verify(flushService).saveTickets(1L, chunk1);
+        verify(flushService).saveTickets(1L, chunk2);
+        verify(memoryRepository).removeTickets(1L, List.of(1L, 2L));
+        verify(memoryRepository).removeTickets(1L, List.of(3L));
+        verify(flushService).updateFlushedTurn(1L, 6);
+        verify(lock).lock();
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 반영중이면 건너뜀")
+    void flushLocked() {
+        // given
+        when(lock.tryLock()).thenReturn(false);
+
+        // when
+        ticketScheduler.flush();
+
+        // then
+        verify(memoryRepository, never()).getReservedEventIds();
+        verify(lock, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("이미 저장된 순번 때문에 실패한 chunk는 다시 저장")
+    void flushDuplicatedChunk() {
+        // given
+        when(lock.tryLock()).thenReturn(true);
+        when(memoryRepository.getReservedEventIds()).thenReturn(Set.of(1L));
+        when(flushService.getFlushedTurn(1L)).thenReturn(3);
+        when(memoryRepository.getLastTurn(1L)).thenReturn(6);
+        when(flushService.saveTickets(1L, chunk1))
+                .thenThrow(new DataIntegrityViolationException("duplicated"))
+                .thenReturn(1);
+        when(flushService.saveTickets(1L, chunk2)).thenReturn(1);
+        givenScannedChunks(3);
+
+        // when
+        ticketScheduler.flush();
+
+        // then
+        verify(flushService, times(2)).saveTickets(1L, chunk1);
+        verify(flushService).updateFlushedTurn(1L, 6);
+        verify(lock).unlock();
     }
-}
\ No newline at end of file
+}
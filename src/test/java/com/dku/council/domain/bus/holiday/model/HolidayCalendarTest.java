@@ -0,0 +1,42 @@
+package com.dku.council.domain.bus.holiday.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HolidayCalendarTest {
+
+    @Test
+    @DisplayName("일요일과 지정된 휴일만 휴일로 표시하는지?")
+    void isHoliday() {
+        // given
+        HolidayCalendar calendar = new HolidayCalendar(2023, List.of(
+                LocalDate.of(2023, 3, 1),
+                LocalDate.of(2023, 12, 25),
+                LocalDate.of(2024, 1, 1) // 다른 연도는 무시
+        ));
+
+        // when & then
+        assertThat(calendar.isHoliday(LocalDate.of(2023, 1, 1))).isTrue(); // 일요일
+        assertThat(calendar.isHoliday(LocalDate.of(2023, 12, 31))).isTrue(); // 일요일
+        assertThat(calendar.isHoliday(LocalDate.of(2023, 3, 1))).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2023, 12, 25))).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2023, 3, 2))).isFalse();
+        assertThat(calendar.isHoliday(LocalDate.of(2023, 3, 4))).isFalse(); // 토요일
+    }
+
+    @Test
+    @DisplayName("다른 연도의 날짜를 조회하는 경우")
+    void isHolidayWithOtherYear() {
+        // given
+        HolidayCalendar calendar = new HolidayCalendar(2023, List.of());
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> calendar.isHoliday(LocalDate.of(2024, 1, 1)));
+    }
+}
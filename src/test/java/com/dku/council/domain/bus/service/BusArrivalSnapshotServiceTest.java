@@ -0,0 +1,131 @@
+package com.dku.council.domain.bus.service;
+
+import com.dku.council.domain.bus.model.BusArrivalSnapshot;
+import com.dku.council.domain.bus.model.BusArrivalUpdatedEvent;
+import com.dku.council.domain.bus.model.BusStation;
+import com.dku.council.domain.bus.model.CachedBusArrivals;
+import com.dku.council.mock.BusArrivalMock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static com.dku.council.global.config.redis.RedisKeys.BUS_ARRIVAL_CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BusArrivalSnapshotServiceTest {
+
+    private static final Instant NOW = Instant.ofEpochSecond(1_000_000_000);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BusArrivalSnapshotService service;
+
+
+    @BeforeEach
+    public void setup() {
+        this.service = new BusArrivalSnapshotService(redisTemplate, listenerContainer, objectMapper, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("도착 정보를 반영하고 다른 서버에 전달")
+    void publish() {
+        // given
+        BusArrivalSnapshot snapshot = createSnapshot(NOW);
+
+        // when
+        service.publish(BusStation.DKU_GATE, snapshot);
+
+        // then
+        assertThat(service.find(BusStation.DKU_GATE)).containsSame(snapshot);
+        assertThat(service.find(BusStation.BEAR_STATUE)).isEmpty();
+        verify(redisTemplate).convertAndSend(eq(BUS_ARRIVAL_CHANNEL), any(String.class));
+        verify(eventPublisher).publishEvent(any(BusArrivalUpdatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("더 오래된 도착 정보로는 바꾸지 않음")
+    void ignoreOlderSnapshot() {
+        // given
+        BusArrivalSnapshot latest = createSnapshot(NOW);
+        service.update(BusStation.DKU_GATE, latest);
+
+        // when
+        boolean updated = service.update(BusStation.DKU_GATE, createSnapshot(NOW.minusSeconds(10)));
+
+        // then
+        assertThat(updated).isFalse();
+        assertThat(service.find(BusStation.DKU_GATE)).containsSame(latest);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 보낸 도착 정보 반영")
+    void receiveFromOtherNode() {
+        // given
+        BusArrivalSnapshotService otherNode = new BusArrivalSnapshotService(redisTemplate, listenerContainer,
+                objectMapper, eventPublisher);
+        otherNode.publish(BusStation.BEAR_STATUE, createSnapshot(NOW));
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(BUS_ARRIVAL_CHANNEL), message.capture());
+
+        // when
+        service.onMessage(toMessage(message.getValue()), null);
+
+        // then
+        BusArrivalSnapshot received = service.find(BusStation.BEAR_STATUE).orElseThrow();
+        assertThat(received.getCapturedAt()).isEqualTo(NOW);
+        assertThat(received.getArrivals().getArrivals()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("자신이 보낸 도착 정보는 무시")
+    void ignoreOwnMessage() {
+        // given
+        service.publish(BusStation.DKU_GATE, createSnapshot(NOW));
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(BUS_ARRIVAL_CHANNEL), message.capture());
+        BusArrivalSnapshotService otherNode = new BusArrivalSnapshotService(redisTemplate, listenerContainer,
+                objectMapper, eventPublisher);
+
+        // when
+        service.onMessage(toMessage(message.getValue()), null);
+        otherNode.onMessage(toMessage("invalid"), null);
+
+        // then
+        verify(eventPublisher).publishEvent(any(BusArrivalUpdatedEvent.class));
+        assertThat(otherNode.find(BusStation.DKU_GATE)).isEmpty();
+    }
+
+    private static BusArrivalSnapshot createSnapshot(Instant capturedAt) {
+        return new BusArrivalSnapshot(new CachedBusArrivals(capturedAt, BusArrivalMock.createList(3)));
+    }
+
+    private static DefaultMessage toMessage(String body) {
+        return new DefaultMessage(BUS_ARRIVAL_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,6 @@
 package com.dku.council.domain.bus.service;
 
+import com.dku.council.domain.bus.model.BusArrivalSnapshot;
 import com.dku.council.domain.bus.model.BusStation;
 import com.dku.council.domain.bus.model.CachedBusArrivals;
 import com.dku.council.domain.bus.model.dto.ResponseBusArrivalDto;
@@ -12,10 +13,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -23,12 +27,15 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class BusServiceTest {
 
+    private static final Duration SNAPSHOT_MAX_AGE = Duration.ofMinutes(2);
+
     private final Clock clock = ClockUtil.create();
     private BusService service;
 
@@ -38,9 +45,13 @@ class BusServiceTest {
     @Mock
     private BusArrivalRepository memoryRepository;
 
+    @Mock
+    private BusArrivalSnapshotService snapshotService;
+
     @BeforeEach
     public void setup() {
-        this.service = new BusService(clock, openApiBusService, memoryRepository);
+        this.service = new BusService(clock, openApiBusService, memoryRepository, snapshotService,
+                SNAPSHOT_MAX_AGE);
     }
 
     @Test
@@ -58,6 +69,7 @@ class BusServiceTest {
 
         // then
         verify(openApiBusService).retrieveBusArrival(station);
+        verify(snapshotService).publish(eq(station), any());
         assertThat(dto.getCapturedAt().getEpochSecond()).isEqualTo(now.getEpochSecond());
         assertThat(dto.getBusArrivalList().size()).isEqualTo(5);
     }
@@ -104,4 +116,86 @@ class BusServiceTest {
         assertThat(dto.getBusArrivalList().get(1).getPredictTime1()).isEqualTo(0);
         assertThat(dto.getBusArrivalList().get(1).getPredictTime2()).isEqualTo(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("도착 정보를 갱신할 때 마지막으로 캐시된 정보를 함께 넘기는지")
+    void refreshBusArrival() {
+        // given
+        BusStation station = BusStation.DKU_GATE;
+        Instant now = Instant.now(clock);
+        CachedBusArrivals lastGood = new CachedBusArrivals(now.minusSeconds(30), BusArrivalMock.createList(2));
+        CachedBusArrivals fetched = new CachedBusArrivals(now, BusArrivalMock.createList(3));
+        CachedBusArrivals cached = new CachedBusArrivals(now, fetched.getArrivals());
+        when(memoryRepository.getArrivals(station.name(), now)).thenReturn(Optional.of(lastGood));
+        when(openApiBusService.retrieveBusArrival(station, lastGood)).thenReturn(Mono.just(fetched));
+        when(memoryRepository.cacheArrivals(station.name(), fetched, now)).thenReturn(cached);
+
+        // when
+        CachedBusArrivals result = service.refreshBusArrival(station).block();
+
+        // then
+        assertThat(result).isSameAs(cached);
+        ArgumentCaptor<BusArrivalSnapshot> captor = ArgumentCaptor.forClass(BusArrivalSnapshot.class);
+        verify(snapshotService).publish(eq(station), captor.capture());
+        assertThat(captor.getValue().getArrivals()).isSameAs(cached);
+    }
+
+    @Test
+    @DisplayName("서버 메모리에 도착 정보가 있으면 Redis를 조회하지 않는지")
+    void listBusArrivalFromSnapshot() {
+        // given
+        BusStation station = BusStation.DKU_GATE;
+        Instant now = Instant.now(clock);
+        CachedBusArrivals cached = new CachedBusArrivals(now.minusSeconds(10), BusArrivalMock.createList(3));
+        when(snapshotService.find(station)).thenReturn(Optional.of(new BusArrivalSnapshot(cached)));
+
+        // when
+        ResponseBusArrivalDto dto = service.listBusArrival(station);
+
+        // then
+        verify(memoryRepository, never()).getArrivals(any(), any());
+        assertThat(dto.getBusArrivalList().size()).isEqualTo(3);
+        assertThat(dto.getBusArrivalList().get(0).getPredictTime1())
+                .isEqualTo(BusArrivalMock.PREDICT_TIME_SEC1 - 10);
+    }
+
+    @Test
+    @DisplayName("서버 메모리의 도착 정보가 너무 오래되었으면 Redis에서 다시 가져오는지")
+    void listBusArrivalWithOldSnapshot() {
+        // given
+        BusStation station = BusStation.DKU_GATE;
+        Instant now = Instant.now(clock);
+        CachedBusArrivals old = new CachedBusArrivals(now.minus(SNAPSHOT_MAX_AGE).minusSeconds(1),
+                BusArrivalMock.createList(1));
+        CachedBusArrivals cached = new CachedBusArrivals(now, BusArrivalMock.createList(3));
+        when(snapshotService.find(station)).thenReturn(Optional.of(new BusArrivalSnapshot(old)));
+        when(memoryRepository.getArrivals(station.name(), now)).thenReturn(Optional.of(cached));
+
+        // when
+        ResponseBusArrivalDto dto = service.listBusArrival(station);
+
+        // then
+        verify(snapshotService).update(eq(station), any());
+        assertThat(dto.getBusArrivalList().size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 시각에 조회하면 만들어둔 응답을 재사용하는지")
+    void reuseRenderedResponse() {
+        // given
+        Instant now = Instant.now(clock);
+        BusArrivalSnapshot snapshot = new BusArrivalSnapshot(
+                new CachedBusArrivals(now.minusSeconds(5), BusArrivalMock.createList(2)));
+
+        // when
+        ResponseBusArrivalDto first = snapshot.toResponse(now);
+        ResponseBusArrivalDto second = snapshot.toResponse(now);
+        ResponseBusArrivalDto later = snapshot.toResponse(now.plusSeconds(1));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(later).isNotSameAs(first);
+        assertThat(later.getBusArrivalList().get(0).getPredictTime1())
+                .isEqualTo(BusArrivalMock.PREDICT_TIME_SEC1 - 6);
+    }
+}
@@ -0,0 +1,62 @@
+package com.dku.council.domain.bus.service;
+
+import com.dku.council.domain.bus.holiday.service.HolidayParser;
+import com.dku.council.domain.bus.holiday.service.HolidayService;
+import com.dku.council.util.test.FullIntegrationTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매번 휴일 목록을 계산하던 기존 방식과 미리 계산한 휴일 달력의 조회 시간을 비교한다.
+ */
+@Slf4j
+@FullIntegrationTest
+class HolidayCalendarBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final HolidayService service = new HolidayService(new HolidayParser());
+
+    @Test
+    @DisplayName("휴일 조회 - 매번 계산 vs 미리 계산한 달력")
+    void compare() {
+        LocalDate start = LocalDate.of(2023, 1, 1);
+        Predicate<LocalDate> recompute = date -> date.getDayOfWeek() == DayOfWeek.SUNDAY
+                || service.getHolidays(date.getYear()).contains(date);
+        Predicate<LocalDate> calendar = service::isHoliday;
+
+        for (int i = 0; i < 365; i++) {
+            LocalDate date = start.plusDays(i);
+            assertThat(calendar.test(date)).isEqualTo(recompute.test(date));
+        }
+
+        run(recompute, start, WARMUP);
+        run(calendar, start, WARMUP);
+        long recomputeNanos = run(recompute, start, ITERATIONS);
+        long calendarNanos = run(calendar, start, ITERATIONS);
+
+        log.info("isHoliday x{}: recompute={}ns/op, calendar={}ns/op", ITERATIONS,
+                recomputeNanos / ITERATIONS, calendarNanos / ITERATIONS);
+    }
+
+    private static long run(Predicate<LocalDate> isHoliday, LocalDate start, int iterations) {
+        int holidays = 0;
+        long begin = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if (isHoliday.test(start.plusDays(i % 365))) {
+                holidays++;
+            }
+        }
+        long elapsed = System.nanoTime() - begin;
+        assertThat(holidays).isPositive();
+        return elapsed;
+    }
+}
@@ -1,6 +1,7 @@
 package com.dku.council.domain.bus.service;
 
 import com.dku.council.domain.bus.holiday.model.Holiday;
+import com.dku.council.domain.bus.holiday.model.HolidayCalendar;
 import com.dku.council.domain.bus.holiday.service.HolidayParser;
 import com.dku.council.domain.bus.holiday.service.HolidayService;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +20,8 @@ import java.util.Set;
 import static com.dku.council.domain.bus.holiday.model.Holiday.SubstitutionType.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -161,6 +164,43 @@ class HolidayServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("휴일 정보는 한 번만 읽고, 연도별 달력을 재사용하는지?")
+    void reuseCalendar() {
+        // given
+        when(parser.parse(any())).thenReturn(new ArrayList<>(List.of(
+                new Holiday(MonthDay.of(3, 1), NONE)
+        )));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            service.isHoliday(LocalDate.of(2023, 3, 1));
+            service.isHoliday(LocalDate.of(2024, 3, 1));
+        }
+
+        // then
+        verify(parser, times(1)).parse(any());
+        assertThat(service.getCalendar(2023)).isSameAs(service.getCalendar(2023));
+    }
+
+    @Test
+    @DisplayName("새해 달력을 미리 계산하고 오래된 달력은 버리는지?")
+    void prepareCalendars() {
+        // given
+        when(parser.parse(any())).thenReturn(new ArrayList<>(List.of(
+                new Holiday(MonthDay.of(3, 1), NONE)
+        )));
+        HolidayCalendar old = service.getCalendar(2021);
+        HolidayCalendar lastYear = service.getCalendar(2022);
+
+        // when
+        service.prepareCalendars(2023);
+
+        // then
+        assertThat(service.getCalendar(2022)).isSameAs(lastYear);
+        assertThat(service.getCalendar(2021)).isNotSameAs(old);
+    }
+
     private void test(List<Holiday> holidays, List<LocalDate> testSet, Boolean... expected) {
         // given
         when(parser.parse(any())).thenReturn(new ArrayList<>(holidays));
@@ -24,6 +24,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -44,6 +46,7 @@ class CommentRepositoryTest {
 
     private User user1, user2;
     private GeneralForum post1, post2, post3, post4;
+    private List<Comment> comments1;
 
     @BeforeEach
     void setUp() {
@@ -72,7 +75,7 @@ class CommentRepositoryTest {
         List<Comment> comments = CommentMock.createList(post1, List.of(user1, user2), 10);
         comments.get(8).updateStatus(CommentStatus.DELETED);
         comments.get(9).updateStatus(CommentStatus.DELETED);
-        repository.saveAll(comments);
+        comments1 = repository.saveAll(comments);
 
         List<Comment> comments2 = CommentMock.createList(post2, List.of(user1, user2), 7);
         comments2.get(5).updateStatus(CommentStatus.DELETED);
@@ -108,6 +111,35 @@ class CommentRepositoryTest {
         assertThat(actual5.getTotalElements()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("커서로 댓글 조회 테스트 - 작성 시각이 같으면 ID 순으로 빠짐없이 가져오는가")
+    void findAllByPostIdAfter() {
+        // given
+        List<Long> expected = comments1.subList(0, 8).stream()
+                .map(Comment::getId)
+                .sorted()
+                .collect(Collectors.toList());
+
+        // when
+        List<Comment> page1 = repository.findAllByPostIdAfter(post1.getId(), null, null, PageRequest.of(0, 3));
+        Comment last1 = page1.get(page1.size() - 1);
+        List<Comment> page2 = repository.findAllByPostIdAfter(post1.getId(),
+                last1.getCreatedAt(), last1.getId(), PageRequest.of(0, 3));
+        Comment last2 = page2.get(page2.size() - 1);
+        List<Comment> page3 = repository.findAllByPostIdAfter(post1.getId(),
+                last2.getCreatedAt(), last2.getId(), PageRequest.of(0, 3));
+        List<Comment> deleted = repository.findAllByPostIdAfter(post4.getId(), null, null, PageRequest.of(0, 3));
+
+        // then
+        List<Long> actual = Stream.of(page1, page2, page3)
+                .flatMap(List::stream)
+                .map(Comment::getId)
+                .collect(Collectors.toList());
+        assertThat(page3).hasSize(2);
+        assertThat(actual).containsExactlyElementsOf(expected);
+        assertThat(deleted).isEmpty();
+    }
+
     @Test
     @DisplayName("포스트 아이디와 유저 아이디로 댓글 조회 테스트")
     void findAllByPostIdAndUserId() {
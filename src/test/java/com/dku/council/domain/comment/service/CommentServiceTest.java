@@ -7,12 +7,15 @@ import com.dku.council.domain.comment.repository.CommentLogRepository;
 import com.dku.council.domain.comment.repository.CommentRepository;
 import com.dku.council.domain.like.model.LikeTarget;
 import com.dku.council.domain.like.service.LikeService;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.repository.post.PostRepository;
 import com.dku.council.domain.post.service.DummyPage;
 import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.domain.user.repository.UserRepository;
+import com.dku.council.global.error.exception.BadRequestException;
 import com.dku.council.global.error.exception.NotGrantedException;
+import com.dku.council.global.model.Cursor;
 import com.dku.council.mock.CommentMock;
 import com.dku.council.mock.NewsMock;
 import com.dku.council.mock.UserMock;
@@ -23,14 +26,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -71,6 +78,7 @@ class CommentServiceTest {
 
         // then
         assertThat(created).isEqualTo(comment.getId());
+        verify(postRepository).increaseCommentCount(post.getId(), 1);
     }
 
     @Test
@@ -125,6 +133,23 @@ class CommentServiceTest {
         // then
         assertThat(deleted).isEqualTo(comment.getId());
         assertThat(comment.getStatus()).isEqualTo(CommentStatus.DELETED);
+        verify(postRepository).increaseCommentCount(comment.getPost().getId(), -1);
+    }
+
+    @Test
+    @DisplayName("이미 삭제된 댓글을 삭제하면 댓글 개수는 줄어들지 않음")
+    void deleteAlreadyDeleted() {
+        // given
+        User user = UserMock.createDummyMajor(10L);
+        Comment comment = CommentMock.createWithId(user);
+        comment.updateStatus(CommentStatus.DELETED);
+        when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
+
+        // when
+        service.delete(comment.getId(), user.getId(), false);
+
+        // then
+        verify(postRepository, never()).increaseCommentCount(any(), anyInt());
     }
 
     @Test
@@ -169,15 +194,61 @@ class CommentServiceTest {
 
         when(commentRepository.findAllByPostId(11L, Pageable.unpaged())).thenReturn(comments);
         when(postRepository.findById(11L)).thenReturn(Optional.ofNullable(post));
-        when(likeService.getCountOfLikes(comment.getId(), LikeTarget.COMMENT)).thenReturn(10);
-        when(likeService.isLiked(any(), any(), eq(LikeTarget.COMMENT))).thenReturn(eq(true));
+        when(likeService.getCountsOfLikes(List.of(comment.getId()), LikeTarget.COMMENT))
+                .thenReturn(Map.of(comment.getId(), 10));
+        when(likeService.areLiked(List.of(comment.getId()), 1L, LikeTarget.COMMENT))
+                .thenReturn(Map.of(comment.getId(), true));
 
         // when
         Page<CommentDto> list = service.list(11L, 1L, Pageable.unpaged(),
                 (ent, dto) -> new CustomCommentDto(ent, dto, author));
 
         // then
-        assertThat(list.toList().get(0).getAuthor()).isEqualTo(author);
+        CommentDto dto = list.toList().get(0);
+        assertThat(dto.getAuthor()).isEqualTo(author);
+        assertThat(dto.getLikes()).isEqualTo(10);
+        assertThat(dto.isLiked()).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("커서 기반 댓글 목록 - 한 개를 더 조회해 다음 페이지 여부와 커서를 만드는가")
+    void listByCursor() {
+        // given
+        Post post = NewsMock.createDummy();
+        User user = UserMock.createDummyMajor();
+        List<Comment> rows = List.of(
+                CommentMock.createWithId(post, user),
+                CommentMock.createWithId(post, user),
+                CommentMock.createWithId(post, user));
+        Comment last = rows.get(1);
+        Cursor cursor = new Cursor(LocalDateTime.of(2022, 1, 1, 0, 0), 5L);
+
+        when(postRepository.findById(11L)).thenReturn(Optional.of(post));
+        when(commentRepository.findAllByPostIdAfter(eq(11L), eq(cursor.getCreatedAt()), eq(5L), any()))
+                .thenReturn(rows);
+
+        // when
+        ResponseCursorPage<CommentDto> page = service.listByCursor(11L, 1L, cursor.encode(), 2, null);
+
+        // then
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.isHasNext()).isTrue();
+        Cursor next = Cursor.decode(page.getNextCursor());
+        assertThat(next.getCreatedAt()).isEqualTo(last.getCreatedAt());
+        assertThat(next.getId()).isEqualTo(last.getId());
+        verify(commentRepository).findAllByPostIdAfter(eq(11L), eq(cursor.getCreatedAt()), eq(5L),
+                eq(PageRequest.of(0, 3)));
+    }
+
+    @Test
+    @DisplayName("커서 기반 댓글 목록 - 잘못된 커서")
+    void failedListByCursorWithInvalidCursor() {
+        // given
+        when(postRepository.findById(11L)).thenReturn(Optional.of(NewsMock.createDummy()));
+
+        // when & then
+        assertThrows(BadRequestException.class,
+                () -> service.listByCursor(11L, 1L, "invalid", 20, null));
     }
 
     private static class CustomCommentDto extends CommentDto {
@@ -1,5 +1,6 @@
 package com.dku.council.domain.like.repository.impl;
 
+import com.dku.council.domain.like.model.LikeChangeResult;
 import com.dku.council.domain.like.model.LikeEntry;
 import com.dku.council.domain.like.model.LikeState;
 import com.dku.council.global.config.redis.RedisKeys;
@@ -35,57 +36,100 @@ class LikeRedisRepositoryTest extends AbstractContainerRedisTest {
     void like() {
         // given
         PostLikeKey key = new PostLikeKey();
+        key.setLiked(redisTemplate, false);
+        key.setCount(redisTemplate, "10");
 
         // when
-        repository.like(key.elementId, key.userId, POST);
+        LikeChangeResult result = repository.changeLikeState(key.elementId, key.userId, POST, LikeState.LIKED);
 
         // then
+        assertThat(result.isChanged()).isEqualTo(true);
+        assertThat(result.getCount()).isEqualTo(11);
         assertThat(key.getLike(redisTemplate)).isEqualTo(LikeState.LIKED.name());
         assertThat(key.isLiked(redisTemplate)).isEqualTo(true);
+        assertThat(key.getCount(redisTemplate)).isEqualTo("11");
     }
 
     @Test
-    @DisplayName("중복 추가시 덮어쓰기")
-    void addDuplicatedPostLike() {
+    @DisplayName("이미 좋아요한 경우 개수가 바뀌지 않음")
+    void likeAlreadyLiked() {
         // given
         PostLikeKey key = new PostLikeKey();
-        key.putLike(redisTemplate, "0");
+        key.setLiked(redisTemplate, true);
+        key.setCount(redisTemplate, "10");
 
         // when
-        repository.like(key.elementId, key.userId, POST);
+        LikeChangeResult result = repository.changeLikeState(key.elementId, key.userId, POST, LikeState.LIKED);
 
         // then
-        assertThat(key.getLike(redisTemplate)).isEqualTo(LikeState.LIKED.name());
-        assertThat(key.isLiked(redisTemplate)).isEqualTo(true);
+        assertThat(result.isChanged()).isEqualTo(false);
+        assertThat(result.getCount()).isEqualTo(10);
+        assertThat(key.getLike(redisTemplate)).isEqualTo(null);
+        assertThat(key.getCount(redisTemplate)).isEqualTo("10");
     }
 
     @Test
-    @DisplayName("좋아요 취소 처리 - Entity가 있을 때")
+    @DisplayName("좋아요 취소 처리")
     void cancelLike() {
         // given
         PostLikeKey key = new PostLikeKey();
-        repository.like(key.elementId, key.userId, POST);
+        key.setLiked(redisTemplate, true);
+        key.setCount(redisTemplate, "10");
 
         // when
-        repository.cancelLike(key.elementId, key.userId, POST);
+        LikeChangeResult result = repository.changeLikeState(key.elementId, key.userId, POST, LikeState.CANCELLED);
 
         // then
+        assertThat(result.isChanged()).isEqualTo(true);
+        assertThat(result.getCount()).isEqualTo(9);
         assertThat(key.getLike(redisTemplate)).isEqualTo(LikeState.CANCELLED.name());
         assertThat(key.isLiked(redisTemplate)).isEqualTo(false);
     }
 
     @Test
-    @DisplayName("좋아요 취소 처리 - Entity가 없을 때")
-    void cancelLikeWhenNoEntry() {
+    @DisplayName("좋아요 개수가 캐싱되어있지 않으면 아무것도 바꾸지 않음")
+    void likeNoCachedCount() {
         // given
         PostLikeKey key = new PostLikeKey();
+        key.setLiked(redisTemplate, false);
 
         // when
-        repository.cancelLike(key.elementId, key.userId, POST);
+        LikeChangeResult result = repository.changeLikeState(key.elementId, key.userId, POST, LikeState.LIKED);
 
         // then
-        assertThat(key.getLike(redisTemplate)).isEqualTo(LikeState.CANCELLED.name());
+        assertThat(result).isNull();
         assertThat(key.isLiked(redisTemplate)).isEqualTo(false);
+        assertThat(key.getCount(redisTemplate)).isEqualTo(null);
+    }
+
+    @Test
+    @DisplayName("좋아요 여부가 캐싱되어있지 않으면 아무것도 바꾸지 않음")
+    void likeNoCachedState() {
+        // given
+        PostLikeKey key = new PostLikeKey();
+        key.setCount(redisTemplate, "10");
+
+        // when
+        LikeChangeResult result = repository.changeLikeState(key.elementId, key.userId, POST, LikeState.LIKED);
+
+        // then
+        assertThat(result).isNull();
+        assertThat(key.getLike(redisTemplate)).isEqualTo(null);
+        assertThat(key.getCount(redisTemplate)).isEqualTo("10");
+    }
+
+    @Test
+    @DisplayName("좋아요 여부가 이미 캐싱되어있으면 덮어쓰지 않음")
+    void setIsLikedIfAbsent() {
+        // given
+        PostLikeKey key = new PostLikeKey();
+        key.setLiked(redisTemplate, true);
+
+        // when
+        repository.setIsLikedIfAbsent(key.elementId, key.userId, POST, false);
+
+        // then
+        assertThat(key.isLiked(redisTemplate)).isEqualTo(true);
     }
 
     @Test
@@ -170,31 +214,79 @@ class LikeRedisRepositoryTest extends AbstractContainerRedisTest {
     }
 
     @Test
-    @DisplayName("좋아요 수 증가")
-    void increaseLikes() {
+    @DisplayName("좋아요 수가 이미 캐싱되어있으면 덮어쓰지 않음")
+    void setLikeCountAlreadyCached() {
         // given
         PostLikeKey key = new PostLikeKey();
-        key.setCount(redisTemplate, "10");
+        key.setCount(redisTemplate, "3");
 
         // when
-        repository.increaseLikeCount(key.elementId, POST);
+        repository.setLikeCount(key.elementId, 8, POST, Duration.ofHours(1));
 
         // then
-        assertThat(key.getCount(redisTemplate)).isEqualTo("11");
+        assertThat(key.getCount(redisTemplate)).isEqualTo("3");
     }
 
     @Test
-    @DisplayName("좋아요 수 감소")
-    void decreaseLikes() {
+    @DisplayName("여러 좋아요 여부 한 번에 가져오기 - 캐싱안된 요소는 제외")
+    void areLiked() {
         // given
-        PostLikeKey key = new PostLikeKey();
-        key.setCount(redisTemplate, "10");
+        PostLikeKey liked = new PostLikeKey(1L, 100L);
+        PostLikeKey cancelled = new PostLikeKey(2L, 100L);
+        liked.setLiked(redisTemplate, true);
+        cancelled.setLiked(redisTemplate, false);
 
         // when
-        repository.decreaseLikeCount(key.elementId, POST);
+        Map<Long, Boolean> result = repository.areLiked(List.of(1L, 2L, 3L), 100L, POST);
 
         // then
-        assertThat(key.getCount(redisTemplate)).isEqualTo("9");
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(1L, true, 2L, false));
+    }
+
+    @Test
+    @DisplayName("여러 좋아요 여부 한 번에 캐싱 - 이미 캐싱된 요소는 덮어쓰지 않음")
+    void setAllIsLikedIfAbsent() {
+        // given
+        PostLikeKey cached = new PostLikeKey(1L, 100L);
+        PostLikeKey noCached = new PostLikeKey(2L, 100L);
+        cached.setLiked(redisTemplate, true);
+
+        // when
+        repository.setAllIsLikedIfAbsent(Map.of(1L, false, 2L, true), 100L, POST);
+
+        // then
+        assertThat(cached.isLiked(redisTemplate)).isEqualTo(true);
+        assertThat(noCached.isLiked(redisTemplate)).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("여러 좋아요 수 한 번에 가져오기 - 캐싱안된 요소는 제외")
+    void getCachedLikeCounts() {
+        // given
+        new PostLikeKey(1L, 100L).setCount(redisTemplate, "3");
+        new PostLikeKey(2L, 100L).setCount(redisTemplate, "0");
+
+        // when
+        Map<Long, Integer> result = repository.getCachedLikeCounts(List.of(1L, 2L, 3L), POST);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3, 2L, 0));
+    }
+
+    @Test
+    @DisplayName("여러 좋아요 수 한 번에 캐싱 - 이미 캐싱된 요소는 덮어쓰지 않음")
+    void setLikeCounts() {
+        // given
+        PostLikeKey cached = new PostLikeKey(1L, 100L);
+        PostLikeKey noCached = new PostLikeKey(2L, 100L);
+        cached.setCount(redisTemplate, "3");
+
+        // when
+        repository.setLikeCounts(Map.of(1L, 8, 2L, 5), POST, Duration.ofHours(1));
+
+        // then
+        assertThat(cached.getCount(redisTemplate)).isEqualTo("3");
+        assertThat(noCached.getCount(redisTemplate)).isEqualTo("5");
     }
 
     @Test
@@ -204,7 +296,7 @@ class LikeRedisRepositoryTest extends AbstractContainerRedisTest {
         final int count = 10;
         for (int i = 0; i < count; i++) {
             PostLikeKey key = new PostLikeKey(i + 100L, 100L);
-            repository.like(key.elementId, key.userId, POST);
+            like(key);
         }
 
         // when
@@ -223,30 +315,70 @@ class LikeRedisRepositoryTest extends AbstractContainerRedisTest {
     }
 
     @Test
-    @DisplayName("캐싱된 모든 좋아요 가져오고 삭제가 잘 되는지?")
-    void getAllPostLikesAndClear() {
+    @DisplayName("캐싱된 좋아요를 사용자 단위로 나눠서 가져오고 삭제가 잘 되는지?")
+    void drainLikes() {
         // given
         final int count = 10;
         for (int i = 0; i < count; i++) {
             PostLikeKey key = new PostLikeKey(i + 100L, i + 100L);
-            repository.like(key.elementId, key.userId, POST);
+            like(key);
         }
 
         // when
-        Map<Long, List<LikeEntry>> likes = repository.getAllLikesAndClear(POST);
+        Map<Long, List<LikeEntry>> first = repository.drainLikes(POST, 6);
+        boolean remainingAfterFirst = repository.hasLikes(POST);
+        Map<Long, List<LikeEntry>> second = repository.drainLikes(POST, 6);
+        Map<Long, List<LikeEntry>> third = repository.drainLikes(POST, 6);
 
         // then
+        assertThat(remainingAfterFirst).isTrue();
+        assertThat(repository.hasLikes(POST)).isFalse();
+        assertThat(first.size()).isEqualTo(6);
+        assertThat(second.size()).isEqualTo(4);
+        assertThat(third).isEmpty();
+        assertThat(first.keySet()).doesNotContainAnyElementsOf(second.keySet());
+
+        for (Map.Entry<Long, List<LikeEntry>> ent : first.entrySet()) {
+            assertThat(ent.getValue()).containsExactly(new LikeEntry(ent.getKey(), LikeState.LIKED));
+        }
+
         String key = combine(RedisKeys.LIKE_USERS_KEY, POST);
-        Long size = redisTemplate.opsForHash().size(key);
-        assertThat(size).isEqualTo(0);
+        assertThat(redisTemplate.opsForSet().size(key)).isEqualTo(0);
 
         for (int i = 0; i < count; i++) {
             key = combine(RedisKeys.LIKE_KEY, POST, i + 100L);
-            size = redisTemplate.opsForHash().size(key);
+            Long size = redisTemplate.opsForHash().size(key);
             assertThat(size).isEqualTo(0);
         }
+    }
 
-        assertThat(likes.size()).isEqualTo(count);
+    @Test
+    @DisplayName("가져온 좋아요를 되돌릴 때, 새로 기록된 상태는 유지되는지?")
+    void restoreLikes() {
+        // given
+        PostLikeKey key = new PostLikeKey(100L, 100L);
+        PostLikeKey otherKey = new PostLikeKey(101L, 100L);
+        like(key);
+        like(otherKey);
+        Map<Long, List<LikeEntry>> likes = repository.drainLikes(POST, 10);
+        otherKey.setLiked(redisTemplate, true);
+        repository.changeLikeState(otherKey.elementId, otherKey.userId, POST, LikeState.CANCELLED);
+
+        // when
+        repository.restoreLikes(likes, POST);
+
+        // then
+        assertThat(key.getLike(redisTemplate)).isEqualTo(LikeState.LIKED.name());
+        assertThat(otherKey.getLike(redisTemplate)).isEqualTo(LikeState.CANCELLED.name());
+
+        String usersKey = combine(RedisKeys.LIKE_USERS_KEY, POST);
+        assertThat(redisTemplate.opsForSet().isMember(usersKey, "100")).isEqualTo(true);
+    }
+
+    private void like(PostLikeKey key) {
+        key.setLiked(redisTemplate, false);
+        key.setCount(redisTemplate, "0");
+        repository.changeLikeState(key.elementId, key.userId, POST, LikeState.LIKED);
     }
 
     private static class PostLikeKey {
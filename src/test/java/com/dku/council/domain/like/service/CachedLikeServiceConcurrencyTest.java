@@ -83,6 +83,6 @@ class CachedLikeServiceConcurrencyTest extends AbstractContainerRedisTest {
 
         // then
         assertThat(service.getCountOfLikes(post.getId(), POST)).isEqualTo(THREAD_COUNT);
-        assertThat(memoryRepository.getAllLikesAndClear(POST).size()).isEqualTo(THREAD_COUNT);
+        assertThat(memoryRepository.drainLikes(POST, THREAD_COUNT).size()).isEqualTo(THREAD_COUNT);
     }
 }
\ No newline at end of file
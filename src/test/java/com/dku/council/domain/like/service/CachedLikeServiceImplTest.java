@@ -1,5 +1,9 @@
 package com.dku.council.domain.like.service;
 
+import com.dku.council.domain.like.exception.LikeStateNotCachedException;
+import com.dku.council.domain.like.model.LikeChangeResult;
+import com.dku.council.domain.like.model.LikeCount;
+import com.dku.council.domain.like.model.LikeDumpResult;
 import com.dku.council.domain.like.model.LikeEntry;
 import com.dku.council.domain.like.model.LikeState;
 import com.dku.council.domain.like.model.entity.LikeElement;
@@ -28,7 +32,9 @@ import java.util.stream.Stream;
 
 import static com.dku.council.domain.like.model.LikeTarget.POST;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -55,56 +61,66 @@ class CachedLikeServiceImplTest {
     }
 
     @Test
-    @DisplayName("좋아요")
-    void likeNoCached() {
+    @DisplayName("좋아요 - 좋아요 여부가 캐싱된 경우")
+    void likeCached() {
+        // given
+        when(memoryRepository.changeLikeState(10L, 10L, POST, LikeState.LIKED))
+                .thenReturn(new LikeChangeResult(true, LikeState.LIKED, 5));
+
         // when
         service.like(10L, 10L, POST);
 
         // then
-        verify(memoryRepository).like(10L, 10L, POST);
-        verify(memoryRepository).increaseLikeCount(10L, POST);
+        verify(memoryRepository).changeLikeState(10L, 10L, POST, LikeState.LIKED);
+        verify(persistenceRepository, never()).findByElementIdAndUserId(any(), any(), any());
     }
 
     @Test
-    @DisplayName("좋아요 - 이미 좋아요한 경우 무시")
-    void likeAlready() {
+    @DisplayName("좋아요 - 좋아요 여부나 개수가 캐싱안된 경우 DB에서 읽어 캐싱한 후 다시 시도")
+    void likeNoCached() {
         // given
-        when(memoryRepository.isLiked(10L, 10L, POST)).thenReturn(true);
+        when(memoryRepository.changeLikeState(10L, 10L, POST, LikeState.LIKED))
+                .thenReturn(null)
+                .thenReturn(new LikeChangeResult(true, LikeState.LIKED, 5));
+        when(persistenceRepository.findByElementIdAndUserId(10L, 10L, POST)).thenReturn(Optional.empty());
+        when(memoryRepository.getCachedLikeCount(10L, POST)).thenReturn(-1);
+        when(persistenceRepository.countByElementIdAndTarget(10L, POST)).thenReturn(4);
 
         // when
         service.like(10L, 10L, POST);
 
         // then
-        verify(memoryRepository, never()).like(10L, 10L, POST);
-        verify(memoryRepository, never()).setLikeCount(any(), eq(5), eq(POST), eq(cacheTime));
+        verify(memoryRepository).setIsLikedIfAbsent(10L, 10L, POST, false);
+        verify(memoryRepository).setLikeCount(10L, 4, POST, cacheTime);
+        verify(memoryRepository, times(2)).changeLikeState(10L, 10L, POST, LikeState.LIKED);
     }
 
     @Test
-    @DisplayName("좋아요 취소")
-    void cancelLikeNoCached() {
+    @DisplayName("좋아요 - 캐싱한 후에도 계속 반영하지 못하면 예외")
+    void likeNeverCached() {
         // given
-        when(memoryRepository.isLiked(10L, 10L, POST)).thenReturn(true);
+        when(memoryRepository.changeLikeState(10L, 10L, POST, LikeState.LIKED)).thenReturn(null);
 
         // when
-        service.cancelLike(10L, 10L, POST);
+        assertThrows(LikeStateNotCachedException.class, () -> service.like(10L, 10L, POST));
 
         // then
-        verify(memoryRepository).cancelLike(10L, 10L, POST);
-        verify(memoryRepository).decreaseLikeCount(10L, POST);
+        verify(memoryRepository, times(3)).changeLikeState(10L, 10L, POST, LikeState.LIKED);
     }
 
     @Test
-    @DisplayName("좋아요 - 좋아요를 안한경우 무시")
-    void cancelLikeAlready() {
+    @DisplayName("좋아요 취소")
+    void cancelLikeCached() {
         // given
-        when(memoryRepository.isLiked(10L, 10L, POST)).thenReturn(false);
+        when(memoryRepository.changeLikeState(10L, 10L, POST, LikeState.CANCELLED))
+                .thenReturn(new LikeChangeResult(true, LikeState.CANCELLED, 4));
 
         // when
         service.cancelLike(10L, 10L, POST);
 
         // then
-        verify(memoryRepository, never()).cancelLike(10L, 10L, POST);
-        verify(memoryRepository, never()).setLikeCount(any(), eq(5), eq(POST), eq(cacheTime));
+        verify(memoryRepository).changeLikeState(10L, 10L, POST, LikeState.CANCELLED);
+        verify(persistenceRepository, never()).findByElementIdAndUserId(any(), any(), any());
     }
 
     @Test
@@ -133,7 +149,7 @@ class CachedLikeServiceImplTest {
 
         // then
         assertThat(liked).isEqualTo(false);
-        verify(memoryRepository).setIsLiked(10L, 10L, POST, false);
+        verify(memoryRepository).setIsLikedIfAbsent(10L, 10L, POST, false);
     }
 
     @Test
@@ -149,7 +165,7 @@ class CachedLikeServiceImplTest {
 
         // then
         assertThat(liked).isEqualTo(true);
-        verify(memoryRepository).setIsLiked(5L, 10L, POST, true);
+        verify(memoryRepository).setIsLikedIfAbsent(5L, 10L, POST, true);
     }
 
     @Test
@@ -179,6 +195,66 @@ class CachedLikeServiceImplTest {
         assertThat(likes).isEqualTo(10);
     }
 
+    @Test
+    @DisplayName("여러 좋아요 개수 확인 - 캐싱안된 요소만 한 번에 DB에서 가져와 캐싱")
+    void getCountsOfLikes() {
+        // given
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(memoryRepository.getCachedLikeCounts(ids, POST)).thenReturn(Map.of(1L, 10));
+        when(persistenceRepository.countAllByElementIds(argThat(missed -> missed.size() == 2), eq(POST)))
+                .thenReturn(List.of(new LikeCount(2L, 4L)));
+
+        // when
+        Map<Long, Integer> likes = service.getCountsOfLikes(ids, POST);
+
+        // then
+        assertThat(likes).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 10, 2L, 4, 3L, 0));
+        verify(memoryRepository).setLikeCounts(Map.of(2L, 4, 3L, 0), POST, cacheTime);
+    }
+
+    @Test
+    @DisplayName("여러 좋아요 개수 확인 - 모두 캐싱된 경우 DB 조회 안함")
+    void getCountsOfLikesCached() {
+        // given
+        List<Long> ids = List.of(1L, 2L);
+        when(memoryRepository.getCachedLikeCounts(ids, POST)).thenReturn(Map.of(1L, 10, 2L, 3));
+
+        // when
+        Map<Long, Integer> likes = service.getCountsOfLikes(ids, POST);
+
+        // then
+        assertThat(likes).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 10, 2L, 3));
+        verify(persistenceRepository, never()).countAllByElementIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("여러 좋아요 여부 확인 - 캐싱안된 요소만 한 번에 DB에서 가져와 캐싱")
+    void areLiked() {
+        // given
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(memoryRepository.areLiked(ids, 10L, POST)).thenReturn(Map.of(1L, false));
+        when(persistenceRepository.findLikedElementIds(argThat(missed -> missed.size() == 2), eq(10L), eq(POST)))
+                .thenReturn(List.of(3L));
+
+        // when
+        Map<Long, Boolean> liked = service.areLiked(ids, 10L, POST);
+
+        // then
+        assertThat(liked).containsExactlyInAnyOrderEntriesOf(Map.of(1L, false, 2L, false, 3L, true));
+        verify(memoryRepository).setAllIsLikedIfAbsent(Map.of(2L, false, 3L, true), 10L, POST);
+    }
+
+    @Test
+    @DisplayName("여러 좋아요 여부 확인 - 빈 목록은 조회하지 않음")
+    void areLikedEmpty() {
+        // when
+        Map<Long, Boolean> liked = service.areLiked(List.of(), 10L, POST);
+
+        // then
+        assertThat(liked).isEmpty();
+        verifyNoInteractions(memoryRepository, persistenceRepository);
+    }
+
     @Test
     @DisplayName("좋아요 누른 요소들 조회")
     void getLikedElementIds() {
@@ -199,12 +275,8 @@ class CachedLikeServiceImplTest {
 
         // then
         assertThat(actual.getTotalElements()).isEqualTo(10);
-        verify(persistenceRepository, times(10)).save(any(LikeElement.class));
-
-        for (int i = 10; i < 20; i++) {
-            Long l = (long) i;
-            verify(persistenceRepository).deleteByElementIdAndUserId(l, 6L, POST);
-        }
+        verify(persistenceRepository).deleteAllByElementIdsAndUserId(elementIdsOf(likeEntries), 6L, POST);
+        verify(persistenceRepository).saveAll(argThat(likes -> sizeOf(likes) == 10));
     }
 
     @Test
@@ -223,39 +295,78 @@ class CachedLikeServiceImplTest {
 
         // then
         assertThat(size).isEqualTo(10);
-        verify(persistenceRepository, times(10)).save(any(LikeElement.class));
-
-        for (int i = 10; i < 20; i++) {
-            Long l = (long) i;
-            verify(persistenceRepository).deleteByElementIdAndUserId(l, 6L, POST);
-        }
+        verify(persistenceRepository).deleteAllByElementIdsAndUserId(elementIdsOf(likeEntries), 6L, POST);
+        verify(persistenceRepository).saveAll(argThat(likes -> sizeOf(likes) == 10));
     }
 
     @Test
-    @DisplayName("Memory에 캐시된 좋아요를 DB로 dump")
-    void dumpToDB() {
+    @DisplayName("Memory에 캐시된 좋아요를 chunk 단위로 DB로 dump")
+    void dumpChunkToDB() {
         // given
         List<LikeEntry> likes = makeLikeEntryList();
 
-        when(memoryRepository.getAllLikesAndClear(POST)).thenReturn(Map.of(6L, likes, 7L, likes));
+        when(memoryRepository.drainLikes(POST, 100)).thenReturn(Map.of(6L, likes, 7L, likes));
+        when(memoryRepository.hasLikes(POST)).thenReturn(true);
         when(userRepository.getReferenceById(any()))
                 .thenAnswer(inv -> UserMock.createDummyMajor(inv.getArgument(0)));
 
         // when
-        service.dumpToDB(POST);
+        LikeDumpResult result = service.dumpChunkToDB(POST, 100);
 
         // then
-        verify(persistenceRepository, times(20)).save(any(LikeElement.class));
+        assertThat(result.getUsers()).isEqualTo(2);
+        assertThat(result.getEntries()).isEqualTo(40);
+        assertThat(result.isRemaining()).isTrue();
+        verify(persistenceRepository).deleteAllByElementIdsAndUserId(elementIdsOf(likes), 6L, POST);
+        verify(persistenceRepository).deleteAllByElementIdsAndUserId(elementIdsOf(likes), 7L, POST);
+        verify(persistenceRepository).saveAll(argThat(elements -> sizeOf(elements) == 20));
+        verify(persistenceRepository).flush();
+    }
 
-        for (int i = 10; i < 20; i++) {
-            Long l = (long) i;
-            verify(persistenceRepository).deleteByElementIdAndUserId(l, 6L, POST);
-        }
+    @Test
+    @DisplayName("Memory에 캐시된 좋아요가 없으면 아무것도 하지 않음")
+    void dumpChunkToDBEmpty() {
+        // given
+        when(memoryRepository.drainLikes(POST, 100)).thenReturn(Map.of());
+
+        // when
+        LikeDumpResult result = service.dumpChunkToDB(POST, 100);
+
+        // then
+        assertThat(result.getUsers()).isEqualTo(0);
+        assertThat(result.getEntries()).isEqualTo(0);
+        assertThat(result.isRemaining()).isFalse();
+        verify(persistenceRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 가져갔더라도 남은 좋아요가 있으면 계속 처리하도록 알림")
+    void dumpChunkToDBTakenByOthers() {
+        // given
+        when(memoryRepository.drainLikes(POST, 100)).thenReturn(Map.of());
+        when(memoryRepository.hasLikes(POST)).thenReturn(true);
+
+        // when
+        LikeDumpResult result = service.dumpChunkToDB(POST, 100);
+
+        // then
+        assertThat(result.getUsers()).isEqualTo(0);
+        assertThat(result.isRemaining()).isTrue();
+        verify(persistenceRepository, never()).saveAll(any());
+    }
+
+    private static List<Long> elementIdsOf(List<LikeEntry> likes) {
+        return likes.stream()
+                .map(LikeEntry::getElementId)
+                .collect(Collectors.toList());
+    }
 
-        for (int i = 10; i < 20; i++) {
-            Long l = (long) i;
-            verify(persistenceRepository).deleteByElementIdAndUserId(l, 7L, POST);
+    private static int sizeOf(Iterable<?> iterable) {
+        int size = 0;
+        for (Object ignored : iterable) {
+            size++;
         }
+        return size;
     }
 
     private static List<LikeEntry> makeLikeEntryList() {
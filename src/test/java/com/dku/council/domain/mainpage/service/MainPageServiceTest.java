@@ -2,6 +2,7 @@ package com.dku.council.domain.mainpage.service;
 
 import com.dku.council.domain.mainpage.exception.CarouselNotFoundException;
 import com.dku.council.domain.mainpage.exception.InvalidCarouselTypeException;
+import com.dku.council.domain.mainpage.model.CarouselChangedEvent;
 import com.dku.council.domain.mainpage.model.dto.request.RequestCarouselImageDto;
 import com.dku.council.domain.mainpage.model.dto.response.CarouselImageResponse;
 import com.dku.council.domain.mainpage.model.entity.CarouselImage;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.MediaType;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -27,6 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +47,9 @@ public class MainPageServiceTest {
     @Mock
     private FileUploadService.Context context;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MainPageService service;
 
@@ -75,6 +81,7 @@ public class MainPageServiceTest {
 
         // then
         assertThat(uploadedFile.getFileId()).isEqualTo("fileId");
+        verify(eventPublisher).publishEvent(any(CarouselChangedEvent.class));
     }
 
     @Test
@@ -0,0 +1,149 @@
+package com.dku.council.domain.mainpage.service;
+
+import com.dku.council.domain.mainpage.model.CarouselChangedEvent;
+import com.dku.council.domain.mainpage.model.MainPageSnapshot;
+import com.dku.council.domain.mainpage.model.dto.PostSummary;
+import com.dku.council.domain.mainpage.model.dto.response.MainPageResponseDto;
+import com.dku.council.domain.mainpage.repository.MainPageSnapshotMemoryRepository;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.entity.posttype.GeneralForum;
+import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.mock.NewsMock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MainPageSnapshotServiceTest {
+
+    private static final Duration EXPIRES = Duration.ofMinutes(10);
+
+    @Mock
+    private MainPageService mainPageService;
+
+    @Mock
+    private MainPageSnapshotMemoryRepository memoryRepository;
+
+    private MainPageSnapshotService service;
+
+
+    @BeforeEach
+    public void setup() {
+        service = new MainPageSnapshotService(mainPageService, memoryRepository,
+                new ObjectMapper(), new SimpleMeterRegistry(), EXPIRES);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("저장된 스냅샷이 있으면 DB를 조회하지 않는다")
+    void getCachedSnapshot() {
+        // given
+        MainPageSnapshot cached = new MainPageSnapshot("{}".getBytes(StandardCharsets.UTF_8));
+        when(memoryRepository.find()).thenReturn(Optional.of(cached));
+
+        // when
+        MainPageSnapshot snapshot = service.getSnapshot();
+
+        // then
+        assertThat(snapshot).isSameAs(cached);
+        verify(mainPageService, never()).mainPageInfo();
+    }
+
+    @Test
+    @DisplayName("저장된 스냅샷이 없으면 새로 만들어 저장한다")
+    void getSnapshotWithRebuild() {
+        // given
+        News news = NewsMock.createDummy(10L);
+        MainPageResponseDto dto = new MainPageResponseDto(List.of(), List.of(new PostSummary(news)),
+                List.of(), List.of());
+        when(memoryRepository.find()).thenReturn(Optional.empty());
+        when(mainPageService.mainPageInfo()).thenReturn(dto);
+
+        // when
+        MainPageSnapshot snapshot = service.getSnapshot();
+
+        // then
+        String json = new String(snapshot.getBody(), StandardCharsets.UTF_8);
+        assertThat(json).contains("\"recentNews\":[{\"id\":10");
+        assertThat(snapshot.getEtag()).startsWith("\"").endsWith("\"");
+
+        ArgumentCaptor<MainPageSnapshot> captor = ArgumentCaptor.forClass(MainPageSnapshot.class);
+        verify(memoryRepository).save(captor.capture(), eq(EXPIRES));
+        assertThat(captor.getValue()).isSameAs(snapshot);
+    }
+
+    @Test
+    @DisplayName("같은 내용의 스냅샷은 같은 ETag를 가진다")
+    void sameEtag() {
+        // given
+        byte[] body = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        MainPageSnapshot snapshot1 = new MainPageSnapshot(body);
+        MainPageSnapshot snapshot2 = new MainPageSnapshot(body.clone());
+        MainPageSnapshot other = new MainPageSnapshot("{\"a\":2}".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(snapshot1.getEtag()).isEqualTo(snapshot2.getEtag());
+        assertThat(snapshot1.getEtag()).isNotEqualTo(other.getEtag());
+    }
+
+    @Test
+    @DisplayName("메인 페이지에 보이는 게시글이 바뀌면 스냅샷을 다시 만든다")
+    void rebuildOnPostChanged() {
+        // given
+        when(mainPageService.mainPageInfo())
+                .thenReturn(new MainPageResponseDto(List.of(), List.of(), List.of(), List.of()));
+
+        // when
+        service.onPostChanged(new PostChangedEvent(News.class, 1L));
+
+        // then
+        verify(memoryRepository, timeout(1000)).save(any(), eq(EXPIRES));
+    }
+
+    @Test
+    @DisplayName("캐러셀이 바뀌면 스냅샷을 다시 만든다")
+    void rebuildOnCarouselChanged() {
+        // given
+        when(mainPageService.mainPageInfo())
+                .thenReturn(new MainPageResponseDto(List.of(), List.of(), List.of(), List.of()));
+
+        // when
+        service.onCarouselChanged(new CarouselChangedEvent());
+
+        // then
+        verify(memoryRepository, timeout(1000)).save(any(), eq(EXPIRES));
+    }
+
+    @Test
+    @DisplayName("메인 페이지에 보이지 않는 게시글이 바뀌면 스냅샷을 유지한다")
+    void ignoreOtherPostChanged() {
+        // when
+        service.onPostChanged(new PostChangedEvent(GeneralForum.class, 1L));
+
+        // then
+        verify(mainPageService, after(200).never()).mainPageInfo();
+    }
+}
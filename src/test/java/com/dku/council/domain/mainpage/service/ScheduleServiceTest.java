@@ -4,9 +4,10 @@ import com.dku.council.domain.mainpage.model.dto.response.ScheduleResponseDto;
 import com.dku.council.domain.mainpage.model.entity.Schedule;
 import com.dku.council.domain.mainpage.repository.ScheduleRepository;
 import com.dku.council.infra.dku.model.DkuAuth;
+import com.dku.council.infra.dku.model.DkuLoginTarget;
 import com.dku.council.infra.dku.model.ScheduleInfo;
-import com.dku.council.infra.dku.scrapper.DkuAuthenticationService;
 import com.dku.council.infra.dku.scrapper.DkuScheduleService;
+import com.dku.council.infra.dku.scrapper.DkuSessionPool;
 import com.dku.council.mock.ScheduleMock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,9 +21,12 @@ import java.time.LocalDate;
 import java.time.Period;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,7 +37,7 @@ class ScheduleServiceTest {
     private ScheduleRepository scheduleRepository;
 
     @Mock
-    private DkuAuthenticationService dkuAuthenticationService;
+    private DkuSessionPool dkuSessionPool;
 
     @Mock
     private DkuScheduleService dkuScheduleService;
@@ -42,8 +46,8 @@ class ScheduleServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new ScheduleService(scheduleRepository, dkuAuthenticationService, dkuScheduleService,
-                "id", "password", Period.ofMonths(6));
+        service = new ScheduleService(scheduleRepository, dkuSessionPool, dkuScheduleService,
+                Period.ofMonths(6));
     }
 
     @Test
@@ -82,7 +86,10 @@ class ScheduleServiceTest {
             scheduleInfos.add(new ScheduleInfo("title" + i, start.plusDays(i * 2), end.plusDays(i * 2 + 1)));
         }
 
-        when(dkuAuthenticationService.loginPortal("id", "password")).thenReturn(auth);
+        when(dkuSessionPool.execute(eq(DkuLoginTarget.PORTAL), any())).thenAnswer(invocation -> {
+            Function<DkuAuth, ?> action = invocation.getArgument(1);
+            return action.apply(auth);
+        });
         when(dkuScheduleService.crawlSchedule(auth, start, end)).thenReturn(scheduleInfos);
 
         // when
@@ -0,0 +1,29 @@
+package com.dku.council.domain.post.repository.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(LegacyPostBodyRepository.class)
+class LegacyPostBodyRepositoryTest {
+
+    @Autowired
+    private LegacyPostBodyRepository repository;
+
+    @Test
+    @DisplayName("post.body 컬럼이 없는 DB에서는 빈 결과를 반환")
+    void findAllWithoutLegacyColumn() {
+        // when
+        Map<Long, String> bodies = repository.findAll(10);
+
+        // then
+        assertThat(bodies).isEmpty();
+    }
+}
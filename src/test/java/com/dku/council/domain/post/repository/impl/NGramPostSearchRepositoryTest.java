@@ -0,0 +1,184 @@
+package com.dku.council.domain.post.repository.impl;
+
+import com.dku.council.domain.post.model.entity.posttype.GeneralForum;
+import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.domain.post.repository.post.GeneralForumRepository;
+import com.dku.council.domain.post.repository.post.NewsRepository;
+import com.dku.council.domain.post.repository.spec.PostSpec;
+import com.dku.council.domain.user.model.entity.Major;
+import com.dku.council.domain.user.model.entity.User;
+import com.dku.council.domain.user.repository.MajorRepository;
+import com.dku.council.domain.user.repository.UserRepository;
+import com.dku.council.mock.GeneralForumMock;
+import com.dku.council.mock.MajorMock;
+import com.dku.council.mock.UserMock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(NGramPostSearchRepository.class)
+class NGramPostSearchRepositoryTest {
+
+    @Autowired
+    private NGramPostSearchRepository repository;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private GeneralForumRepository generalForumRepository;
+
+    @Autowired
+    private MajorRepository majorRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private News bodyMatched;
+    private News titleMatched;
+    private News notMatched;
+
+    @BeforeEach
+    void setup() {
+        Major major = majorRepository.save(MajorMock.create());
+        user = userRepository.save(UserMock.create(major));
+
+        bodyMatched = saveNews("총학생회 안내", "<p>이번 <b>축제</b> 일정을 알려드립니다.</p>");
+        titleMatched = saveNews("축제 일정 공지", "축제 관련 공지입니다.");
+        notMatched = saveNews("장학금 안내", "<p>장학금 신청 기간입니다.</p>");
+    }
+
+    private News saveNews(String title, String body) {
+        News news = News.builder()
+                .user(user)
+                .title(title)
+                .body(body)
+                .build();
+        news = newsRepository.save(news);
+        repository.index(news);
+        return news;
+    }
+
+    @Test
+    @DisplayName("검색어를 포함하는 게시글을 관련도 순으로 찾음")
+    void search() {
+        // when
+        List<Long> result = search("축제 일정");
+
+        // then
+        assertThat(result).containsExactly(titleMatched.getId(), bodyMatched.getId());
+    }
+
+    @Test
+    @DisplayName("HTML 태그는 색인하지 않음")
+    void searchIgnoresHtml() {
+        // when
+        List<Long> result = search("<p>");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어로 찾음")
+    void searchSingleCharacter() {
+        // when
+        List<Long> result = search("장");
+
+        // then
+        assertThat(result).containsExactly(notMatched.getId());
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 단어 끝 글자와도 일치함")
+    void searchSingleCharacterAtWordEnd() {
+        // given
+        News president = saveNews("학생회장 선거", "투표 일정");
+
+        // when
+        List<Long> result = search("장");
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(notMatched.getId(), president.getId());
+    }
+
+    @Test
+    @DisplayName("다른 타입의 게시글은 찾지 않음")
+    void searchOtherType() {
+        // given
+        GeneralForum forum = generalForumRepository.save(GeneralForumMock.create(user));
+        repository.index(forum);
+
+        // when
+        List<Long> news = search("body");
+        List<Long> forums = generalForumRepository.findAll(repository.search(GeneralForum.class, "body"))
+                .stream().map(GeneralForum::getId).collect(Collectors.toList());
+
+        // then
+        assertThat(news).isEmpty();
+        assertThat(forums).containsExactly(forum.getId());
+    }
+
+    @Test
+    @DisplayName("색인을 제거하면 검색되지 않음")
+    void remove() {
+        // when
+        repository.remove(List.of(titleMatched.getId()));
+
+        // then
+        assertThat(search("축제"))
+                .containsExactly(bodyMatched.getId());
+    }
+
+    @Test
+    @DisplayName("정렬을 지정하면 그 순서를 따름")
+    void searchWithSort() {
+        // when
+        List<News> result = newsRepository.findAll(repository.search(News.class, "축제"),
+                Sort.by(Sort.Direction.ASC, "id"));
+
+        // then
+        assertThat(result.stream().map(News::getId).collect(Collectors.toList()))
+                .containsExactly(bodyMatched.getId(), titleMatched.getId());
+    }
+
+    @Test
+    @DisplayName("검색 결과 전체를 대상으로 다른 조건과 페이징을 적용함")
+    void searchWithPaging() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            saveNews("축제 " + i, "본문");
+        }
+        Specification<News> spec = repository.search(News.class, "축제")
+                .and(PostSpec.withActive());
+
+        // when
+        Page<News> page = newsRepository.findAll(spec, PageRequest.of(1, 3));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(7);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(page.getContent()).hasSize(3);
+    }
+
+    private List<Long> search(String keyword) {
+        return newsRepository.findAll(repository.search(News.class, keyword), Pageable.unpaged())
+                .map(News::getId)
+                .getContent();
+    }
+}
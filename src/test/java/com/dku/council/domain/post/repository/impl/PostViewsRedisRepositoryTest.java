@@ -0,0 +1,122 @@
+package com.dku.council.domain.post.repository.impl;
+
+import com.dku.council.domain.post.model.DrainedViews;
+import com.dku.council.util.base.AbstractContainerRedisTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PostViewsRedisRepositoryTest extends AbstractContainerRedisTest {
+
+    @Autowired
+    private PostViewsRedisRepository repository;
+
+    private final Instant now = Instant.ofEpochSecond(1_000_000_000);
+
+
+    @Test
+    @DisplayName("반영되지 않은 조회수가 잘 누적되는가?")
+    void increaseViews() {
+        // when
+        repository.increaseViews(1L);
+        repository.increaseViews(1L);
+        repository.increaseViews(2L);
+
+        // then
+        Map<Long, Integer> views = repository.getBufferedViews(List.of(1L, 2L, 3L));
+        assertThat(views).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2, 2L, 1));
+    }
+
+    @Test
+    @DisplayName("반영중인 조회수도 조회수에 포함되는가?")
+    void getBufferedViewsWhileDraining() {
+        // given
+        repository.increaseViews(1L);
+        repository.drainViews(now);
+        repository.increaseViews(1L);
+        repository.drainViews(now);
+        repository.increaseViews(1L);
+
+        // when
+        Map<Long, Integer> views = repository.getBufferedViews(List.of(1L));
+
+        // then
+        assertThat(views).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3));
+    }
+
+    @Test
+    @DisplayName("묶음마다 다른 조회수를 가져가는가?")
+    void drainViewsWithUniqueRun() {
+        // given
+        repository.increaseViews(1L);
+        DrainedViews first = repository.drainViews(now);
+        repository.increaseViews(2L);
+
+        // when
+        DrainedViews second = repository.drainViews(now);
+
+        // then
+        assertThat(second.getRunId()).isNotEqualTo(first.getRunId());
+        assertThat(first.getViews()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1));
+        assertThat(second.getViews()).containsExactlyInAnyOrderEntriesOf(Map.of(2L, 1));
+        assertThat(repository.drainViews(now).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("반영이 끝난 조회수는 삭제되는가?")
+    void clearDrainedViews() {
+        // given
+        repository.increaseViews(1L);
+        repository.increaseViews(2L);
+
+        // when
+        DrainedViews drained = repository.drainViews(now);
+        repository.clearDrainedViews(drained.getRunId());
+
+        // then
+        assertThat(drained.getViews()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1, 2L, 1));
+        assertThat(repository.getBufferedViews(List.of(1L, 2L))).isEmpty();
+        assertThat(repository.findDrainedRunsBefore(now.plusSeconds(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 조회수는 한 번만 되돌려지는가?")
+    void restoreDrainedViews() {
+        // given
+        repository.increaseViews(1L);
+        DrainedViews drained = repository.drainViews(now);
+        repository.increaseViews(1L);
+
+        // when
+        repository.restoreDrainedViews(drained.getRunId());
+        repository.restoreDrainedViews(drained.getRunId());
+
+        // then
+        assertThat(repository.drainViews(now).getViews()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2));
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전에 가져간 묶음만 찾는가?")
+    void findDrainedRunsBefore() {
+        // given
+        repository.increaseViews(1L);
+        DrainedViews old = repository.drainViews(now.minusSeconds(600));
+        repository.increaseViews(1L);
+        repository.drainViews(now);
+
+        // when
+        List<String> runIds = repository.findDrainedRunsBefore(now.minusSeconds(60));
+
+        // then
+        assertThat(runIds).containsExactly(old.getRunId());
+        assertThat(repository.getDrainedViews(old.getRunId())).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1));
+    }
+}
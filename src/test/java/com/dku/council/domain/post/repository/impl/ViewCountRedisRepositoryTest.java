@@ -1,14 +1,15 @@
 package com.dku.council.domain.post.repository.impl;
 
+import com.dku.council.global.config.redis.RedisKeys;
 import com.dku.council.util.base.AbstractContainerRedisTest;
 import com.dku.council.util.test.FullIntegrationTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,65 +21,62 @@ class ViewCountRedisRepositoryTest extends AbstractContainerRedisTest {
     @Autowired
     private ViewCountRedisRepository repository;
 
+    @Autowired
+    private StringRedisTemplate redisTemplate;
 
-    @Test
-    @DisplayName("조회수 카운팅 캐시에 잘 입력되는가?")
-    void addPostLike() {
-        // given
-        String userIdentifier = "User";
-        Instant now = Instant.now();
-        Duration expiresAfter = Duration.of(100, ChronoUnit.MINUTES);
 
+    @Test
+    @DisplayName("조회 기록이 없으면 새로 추가되는가?")
+    void addIfAbsent() {
         // when
-        repository.put(10L, userIdentifier, expiresAfter, now);
+        boolean result = repository.addIfAbsent(10L, "User", Duration.of(100, ChronoUnit.MINUTES));
 
         // then
-        boolean result = repository.isAlreadyContains(10L, userIdentifier, now);
         assertThat(result).isTrue();
     }
 
     @Test
-    @DisplayName("유저가 이미 조회한 적 있는지? - 없는 경우")
-    void isAlreadyContainsNoCached() {
+    @DisplayName("이미 조회한 적 있으면 추가되지 않는가?")
+    void addIfAbsentAlreadyExists() {
         // given
-        String userIdentifier = "User";
-        Instant now = Instant.now();
+        Duration expiresAfter = Duration.of(10, ChronoUnit.MINUTES);
+        repository.addIfAbsent(10L, "User", expiresAfter);
 
         // when
-        boolean result = repository.isAlreadyContains(10L, userIdentifier, now);
+        boolean result = repository.addIfAbsent(10L, "User", expiresAfter);
 
         // then
-        assertThat(result).isEqualTo(false);
+        assertThat(result).isFalse();
     }
 
     @Test
-    @DisplayName("유저가 이미 조회한 적 있는지? - 있는 경우")
-    void isAlreadyContainsCached() {
+    @DisplayName("다른 게시글이나 다른 유저의 조회 기록과 구분되는가?")
+    void addIfAbsentOtherPair() {
         // given
-        String userIdentifier = "User";
-        Instant now = Instant.now();
+        Duration expiresAfter = Duration.of(10, ChronoUnit.MINUTES);
+        repository.addIfAbsent(10L, "User", expiresAfter);
 
         // when
-        repository.put(10L, userIdentifier, Duration.of(10, ChronoUnit.MINUTES), now);
-        boolean result = repository.isAlreadyContains(10L, userIdentifier, now);
+        boolean otherPost = repository.addIfAbsent(11L, "User", expiresAfter);
+        boolean otherUser = repository.addIfAbsent(10L, "Other", expiresAfter);
 
         // then
-        assertThat(result).isEqualTo(true);
+        assertThat(otherPost).isTrue();
+        assertThat(otherUser).isTrue();
     }
 
     @Test
-    @DisplayName("유저가 이미 조회한 적 있는지? - 있지만 만료된 경우")
-    void isAlreadyContainsExpired() {
+    @DisplayName("조회 기록에 만료시간이 설정되는가?")
+    void addIfAbsentExpires() {
         // given
-        String userIdentifier = "User";
-        Instant now = Instant.now();
         Duration expiresAfter = Duration.of(100, ChronoUnit.MINUTES);
 
         // when
-        repository.put(10L, userIdentifier, expiresAfter, now);
-        boolean result = repository.isAlreadyContains(10L, userIdentifier, now.plus(expiresAfter).plusSeconds(60));
+        repository.addIfAbsent(10L, "User", expiresAfter);
 
         // then
-        assertThat(result).isEqualTo(false);
+        String key = RedisKeys.combine(RedisKeys.POST_VIEWED_KEY, 10L, "User");
+        Long ttl = redisTemplate.getExpire(key);
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(expiresAfter.getSeconds());
     }
-}
\ No newline at end of file
+}
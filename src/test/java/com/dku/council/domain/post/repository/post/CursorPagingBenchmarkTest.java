@@ -0,0 +1,109 @@
+package com.dku.council.domain.post.repository.post;
+
+import com.dku.council.domain.post.model.entity.posttype.GeneralForum;
+import com.dku.council.domain.user.model.entity.Major;
+import com.dku.council.domain.user.model.entity.User;
+import com.dku.council.domain.user.repository.MajorRepository;
+import com.dku.council.domain.user.repository.UserRepository;
+import com.dku.council.global.base.BaseEntity;
+import com.dku.council.mock.GeneralForumMock;
+import com.dku.council.mock.MajorMock;
+import com.dku.council.mock.UserMock;
+import com.dku.council.util.FieldReflector;
+import com.dku.council.util.test.FullIntegrationTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OFFSET 페이징과 커서 페이징의 깊은 페이지 조회 시간을 비교한다.
+ */
+@Slf4j
+@DataJpaTest
+@FullIntegrationTest
+class CursorPagingBenchmarkTest {
+
+    private static final int TOTAL_POSTS = 20000;
+    private static final int PAGE_SIZE = 20;
+    private static final int REPEAT = 20;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2023, 3, 3, 3, 3);
+
+    @Autowired
+    private MajorRepository majorRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GeneralForumRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<GeneralForum> posts = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        Major major = majorRepository.save(MajorMock.create());
+        User user = userRepository.save(UserMock.create(major));
+
+        for (int i = 0; i < TOTAL_POSTS; i++) {
+            GeneralForum post = GeneralForumMock.create(user);
+            FieldReflector.inject(BaseEntity.class, post, "createdAt", BASE_TIME.plusSeconds(i));
+            posts.add(repository.save(post));
+            if (i % 1000 == 999) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("깊은 페이지에서 OFFSET 페이징과 커서 페이징 비교")
+    void deepPaging() {
+        PageRequest sorted = PageRequest.of(0, PAGE_SIZE,
+                Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+
+        for (int depth : new int[]{0, TOTAL_POSTS / 4, TOTAL_POSTS / 2, TOTAL_POSTS - PAGE_SIZE}) {
+            // 커서는 depth번째 게시글 바로 앞 게시글을 가리킨다. (최신순)
+            GeneralForum prev = depth == 0 ? null : posts.get(TOTAL_POSTS - depth);
+            LocalDateTime createdAt = prev == null ? null : prev.getCreatedAt();
+            Long id = prev == null ? null : prev.getId();
+
+            long offsetNanos = 0;
+            long cursorNanos = 0;
+            for (int i = 0; i < REPEAT; i++) {
+                long start = System.nanoTime();
+                Page<GeneralForum> offsetPage = repository.findAll(sorted.withPage(depth / PAGE_SIZE));
+                offsetNanos += System.nanoTime() - start;
+                entityManager.clear();
+
+                start = System.nanoTime();
+                List<GeneralForum> cursorPage = repository.findActiveBefore(createdAt, id, PageRequest.of(0, PAGE_SIZE));
+                cursorNanos += System.nanoTime() - start;
+                entityManager.clear();
+
+                assertThat(cursorPage).extracting(GeneralForum::getId)
+                        .containsExactlyElementsOf(offsetPage.map(GeneralForum::getId).getContent());
+            }
+
+            log.info("depth={}: offset={}us, cursor={}us", depth,
+                    offsetNanos / REPEAT / 1000, cursorNanos / REPEAT / 1000);
+        }
+    }
+}
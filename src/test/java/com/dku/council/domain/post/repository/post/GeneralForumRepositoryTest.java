@@ -5,20 +5,26 @@ import com.dku.council.domain.user.model.entity.Major;
 import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.domain.user.repository.MajorRepository;
 import com.dku.council.domain.user.repository.UserRepository;
+import com.dku.council.global.base.BaseEntity;
 import com.dku.council.mock.GeneralForumMock;
 import com.dku.council.mock.MajorMock;
 import com.dku.council.mock.NewsMock;
 import com.dku.council.mock.UserMock;
+import com.dku.council.util.FieldReflector;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -37,7 +43,10 @@ class GeneralForumRepositoryTest {
     @Autowired
     private NewsRepository newsRepository;
 
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2023, 3, 3, 3, 3);
+
     private User user1;
+    private List<GeneralForum> activePosts;
 
     @BeforeEach
     public void setup() {
@@ -58,13 +67,15 @@ class GeneralForumRepositoryTest {
             }
 
             GeneralForum post = GeneralForumMock.create(user);
+            // 두 게시글씩 같은 작성 시각을 가진다.
+            FieldReflector.inject(BaseEntity.class, post, "createdAt", BASE_TIME.plusMinutes(i / 2));
             if (i >= 20) { // blind된 게시글
                 post.blind();
             }
 
             posts.add(post);
         }
-        repository.saveAll(posts);
+        activePosts = repository.saveAll(posts).subList(0, 20);
 
         // 다른 타입의 게시글
         newsRepository.saveAll(List.of(
@@ -84,4 +95,33 @@ class GeneralForumRepositoryTest {
         // then
         assertThat(posts.getTotalElements()).isEqualTo(5);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findActiveBefore - 커서를 따라가면 Active 상태인 Post를 최신순으로 빠짐없이 가져오는가")
+    void findActiveBefore() {
+        // given
+        List<Long> expected = activePosts.stream()
+                .sorted(Comparator.comparing(GeneralForum::getCreatedAt)
+                        .thenComparing(GeneralForum::getId)
+                        .reversed())
+                .map(GeneralForum::getId)
+                .collect(Collectors.toList());
+
+        // when
+        List<Long> actual = new ArrayList<>();
+        LocalDateTime createdAt = null;
+        Long id = null;
+        List<GeneralForum> page;
+        do {
+            page = repository.findActiveBefore(createdAt, id, PageRequest.of(0, 7));
+            for (GeneralForum post : page) {
+                actual.add(post.getId());
+                createdAt = post.getCreatedAt();
+                id = post.getId();
+            }
+        } while (page.size() == 7);
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+}
@@ -1,10 +1,14 @@
 package com.dku.council.domain.post.repository.post;
 
+import com.dku.council.domain.comment.model.CommentStatus;
+import com.dku.council.domain.comment.model.entity.Comment;
+import com.dku.council.domain.comment.repository.CommentRepository;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.user.model.entity.Major;
 import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.domain.user.repository.MajorRepository;
 import com.dku.council.domain.user.repository.UserRepository;
+import com.dku.council.mock.CommentMock;
 import com.dku.council.mock.GeneralForumMock;
 import com.dku.council.mock.MajorMock;
 import com.dku.council.mock.PetitionMock;
@@ -14,11 +18,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -37,6 +44,12 @@ class PostRepositoryTest {
     @Autowired
     private GeneralForumRepository generalForumRepository;
 
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Autowired
     private PostRepository repository;
 
@@ -77,6 +90,59 @@ class PostRepositoryTest {
     }
 
 
+    @Test
+    @DisplayName("여러 게시글의 조회수를 한 번에 증가시키는지")
+    void increaseViews() {
+        // given
+        Map<Long, Integer> before = repository.findAll().stream()
+                .limit(3)
+                .collect(Collectors.toMap(Post::getId, Post::getViews));
+
+        // when
+        repository.increaseViews(before.keySet(), 5);
+
+        // then
+        for (Post post : repository.findAllById(before.keySet())) {
+            assertThat(post.getViews()).isEqualTo(before.get(post.getId()) + 5);
+        }
+    }
+
+    @Test
+    @DisplayName("댓글 개수를 증가, 감소시키는지")
+    void increaseCommentCount() {
+        // given
+        Post post = repository.findAll().get(0);
+
+        // when
+        repository.increaseCommentCount(post.getId(), 3);
+        repository.increaseCommentCount(post.getId(), -1);
+
+        // then
+        entityManager.clear();
+        Post result = repository.findByIdWithAdmin(post.getId()).orElseThrow();
+        assertThat(result.getCommentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ACTIVE 상태인 댓글 기준으로 댓글 개수를 다시 계산하는지")
+    void recountComments() {
+        // given
+        List<Post> posts = repository.findAll();
+        Post post = posts.get(0);
+        List<Comment> comments = commentRepository.saveAll(
+                CommentMock.createList(post, List.of(user1, user2), 5));
+        comments.get(0).updateStatus(CommentStatus.DELETED);
+        repository.increaseCommentCount(posts.get(1).getId(), 7);
+
+        // when
+        int updated = repository.recountComments();
+
+        // then
+        assertThat(updated).isEqualTo(posts.size());
+        assertThat(repository.findByIdWithAdmin(post.getId()).orElseThrow().getCommentCount()).isEqualTo(4);
+        assertThat(repository.findByIdWithAdmin(posts.get(1).getId()).orElseThrow().getCommentCount()).isZero();
+    }
+
     @Test
     @DisplayName("내가 작성한 게시글 개수를 정확하게 카운팅하는지")
     void countAllByUserId() {
@@ -2,9 +2,11 @@ package com.dku.council.domain.post.service;
 
 import com.dku.council.domain.like.service.impl.CachedLikeServiceImpl;
 import com.dku.council.domain.post.exception.PostNotFoundException;
+import com.dku.council.domain.post.model.PostChangedEvent;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateNewsDto;
 import com.dku.council.domain.post.model.dto.response.ResponseSingleGenericPostDto;
+import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.model.entity.posttype.News;
 import com.dku.council.domain.post.repository.post.GenericPostRepository;
 import com.dku.council.domain.post.service.post.GenericPostService;
@@ -25,12 +27,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.dku.council.domain.like.model.LikeTarget.POST;
@@ -70,6 +76,12 @@ class GenericPostServiceTest {
     @Mock
     private CachedLikeServiceImpl postLikeService;
 
+    @Mock
+    private PostSearchService searchService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private GenericPostService<News> newsService;
 
@@ -82,7 +94,8 @@ class GenericPostServiceTest {
         Page<News> allNews = new DummyPage<>(allNewsList, 20);
 
         when(newsRepository.findAll((Specification<News>) any(), (Pageable) any())).thenReturn(allNews);
-        when(postLikeService.getCountOfLikes(any(), eq(POST))).thenReturn(15);
+        when(postLikeService.getCountsOfLikes(any(), eq(POST)))
+                .thenAnswer(inv -> likesOf(inv.getArgument(0), 15));
 
         // when
         Page<SummarizedGenericPostDto> allPage = newsService.list(newsRepository, null, Pageable.unpaged(),
@@ -101,6 +114,28 @@ class GenericPostServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("요약보다 긴 본문을 요청하면 본문을 잘라서 반환하는지?")
+    public void listWithLongBody() {
+        // given
+        News news = NewsMock.createDummy(1L);
+        news.changeBody("<p>" + "a".repeat(Post.EXCERPT_LENGTH + 100) + "</p>");
+        Page<News> allNews = new DummyPage<>(List.of(news), 1);
+
+        when(newsRepository.findAll((Specification<News>) any(), (Pageable) any())).thenReturn(allNews);
+        when(postLikeService.getCountsOfLikes(any(), eq(POST)))
+                .thenAnswer(inv -> likesOf(inv.getArgument(0), 0));
+
+        // when
+        Page<SummarizedGenericPostDto> page = newsService.list(newsRepository, null, Pageable.unpaged(),
+                Post.EXCERPT_LENGTH + 50);
+
+        // then
+        assertThat(news.getExcerpt()).hasSize(Post.EXCERPT_LENGTH);
+        assertThat(news.getBodyLength()).isEqualTo(Post.EXCERPT_LENGTH + 100);
+        assertThat(page.getContent().get(0).getBody()).isEqualTo("a".repeat(Post.EXCERPT_LENGTH + 50));
+    }
+
     @Test
     @DisplayName("새롭게 잘 생성되는지?")
     public void create() {
@@ -133,6 +168,8 @@ class GenericPostServiceTest {
             assertThat(entity.getUser()).isEqualTo(user);
             return true;
         }));
+        verify(searchService).index(news);
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
     }
 
     @Test
@@ -181,6 +218,7 @@ class GenericPostServiceTest {
         News news = NewsMock.createDummy(4L);
         when(newsRepository.findById(any())).thenReturn(Optional.of(news));
         when(postLikeService.isLiked(any(), any(), eq(POST))).thenReturn(false);
+        when(viewCountService.getPostViews(news)).thenReturn(7);
 
         // when
         ResponseSingleGenericPostDto dto = newsService.findOne(newsRepository, 4L,
@@ -193,6 +231,7 @@ class GenericPostServiceTest {
         }), eq("Addr"));
 
         assertThat(dto.getId()).isEqualTo(4L);
+        assertThat(dto.getViews()).isEqualTo(7);
         assertThat(dto.isLiked()).isEqualTo(false);
         assertThat(dto.isMine()).isEqualTo(true);
     }
@@ -231,4 +270,12 @@ class GenericPostServiceTest {
         assertThrows(NotGrantedException.class, () ->
                 newsService.delete(newsRepository, 0L, 0L, false));
     }
-}
\ No newline at end of file
+
+    private static Map<Long, Integer> likesOf(Collection<Long> ids, int count) {
+        Map<Long, Integer> likes = new HashMap<>();
+        for (Long id : ids) {
+            likes.put(id, count);
+        }
+        return likes;
+    }
+}
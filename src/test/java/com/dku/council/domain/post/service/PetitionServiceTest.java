@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -61,13 +62,16 @@ public class PetitionServiceTest {
     @Mock
     private PetitionRepository repository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private PetitionService petitionService;
 
 
     @BeforeEach
     public void setup() {
         petitionService = new PetitionService(postService, petitionStatisticService,
-                postTimeMemoryRepository, repository, clock, 150,
+                postTimeMemoryRepository, repository, eventPublisher, clock, 150,
                 Duration.ofDays(30), writeCooltime);
     }
 
@@ -81,7 +85,7 @@ public class PetitionServiceTest {
 
         // when
         Page<SummarizedPetitionDto> allPage = allPost.map((ent) -> {
-            SummarizedGenericPostDto dto = new SummarizedGenericPostDto(uploadContext, 100, 15, ent);
+            SummarizedGenericPostDto dto = new SummarizedGenericPostDto(uploadContext, 100, 15, ent.getViews(), ent);
             return new SummarizedPetitionDto(dto, ent, expiresTime, 10);
         });
 
@@ -114,7 +118,8 @@ public class PetitionServiceTest {
                 eq("Addr"), any()))
                 .thenAnswer(ino -> {
                     ResponseSingleGenericPostDto dto =
-                            new ResponseSingleGenericPostDto(uploadContext, 0, false, true, petition);
+                            new ResponseSingleGenericPostDto(uploadContext, 0, petition.getViews(),
+                                    false, true, petition);
                     PostResultMapper<ResponsePetitionDto, ResponseSingleGenericPostDto, Petition> mapper =
                             ino.getArgument(5);
                     return mapper.map(dto, petition);
@@ -202,9 +207,11 @@ public class PetitionServiceTest {
         List<Petition> allPostList = PetitionMock.createListDummy("petition-", 20);
         Page<Petition> allPost = new DummyPage<>(allPostList, 20);
 
-        when(postService.makeListDto(eq(100), any(Petition.class))).thenAnswer(ino -> {
-            Petition petition = ino.getArgument(1);
-            return new SummarizedGenericPostDto(uploadContext, 100, 0, petition);
+        when(postService.makeListDtos(any(), eq(100), any())).thenAnswer(ino -> {
+            Page<Petition> posts = ino.getArgument(0);
+            PostResultMapper<SummarizedPetitionDto, SummarizedGenericPostDto, Petition> mapper = ino.getArgument(2);
+            return posts.map(petition ->
+                    mapper.map(new SummarizedGenericPostDto(uploadContext, 100, 0, 0, petition), petition));
         });
         when(repository.findAllByUserId(eq(1L), any())).thenReturn(allPost);
 
@@ -0,0 +1,91 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.PostBody;
+import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.domain.post.repository.impl.LegacyPostBodyRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.mock.NewsMock;
+import com.dku.council.util.FieldReflector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostExcerptServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private LegacyPostBodyRepository legacyBodyRepository;
+
+    @InjectMocks
+    private PostExcerptService service;
+
+
+    @Test
+    @DisplayName("요약이 없는 게시글의 요약을 채움")
+    void fillExcerpts() {
+        // given
+        News news = NewsMock.createDummy(1L);
+        FieldReflector.inject(Post.class, news, "body", new PostBody("<p>공지</p><p>내용</p>"));
+        FieldReflector.inject(Post.class, news, "excerpt", null);
+        when(postRepository.findAllWithoutExcerpt(PageRequest.of(0, 10))).thenReturn(List.of(news));
+
+        // when
+        int filled = service.fillExcerpts(10);
+
+        // then
+        assertThat(filled).isEqualTo(1);
+        assertThat(news.getExcerpt()).isEqualTo("공지 내용");
+        assertThat(news.getBodyLength()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("post 테이블에 남은 본문을 별도 테이블로 옮김")
+    void migrateBodies() {
+        // given
+        News news = NewsMock.createDummy(1L);
+        FieldReflector.inject(Post.class, news, "body", null);
+        news.markSearchIndexed();
+        when(legacyBodyRepository.findAll(10)).thenReturn(Map.of(1L, "<p>공지</p><p>내용</p>"));
+        when(postRepository.findAllById(Set.of(1L))).thenReturn(List.of(news));
+
+        // when
+        int migrated = service.migrateBodies(10);
+
+        // then
+        assertThat(migrated).isEqualTo(1);
+        assertThat(news.getBody()).isEqualTo("<p>공지</p><p>내용</p>");
+        assertThat(news.getExcerpt()).isEqualTo("공지 내용");
+        assertThat(news.getBodyLength()).isEqualTo(5);
+        assertThat(news.isSearchIndexed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("옮길 본문이 없으면 아무것도 하지 않음")
+    void migrateBodiesWithoutLegacy() {
+        // given
+        when(legacyBodyRepository.findAll(10)).thenReturn(Map.of());
+
+        // when
+        int migrated = service.migrateBodies(10);
+
+        // then
+        assertThat(migrated).isEqualTo(0);
+        verify(postRepository, never()).findAllById(any());
+    }
+}
@@ -0,0 +1,68 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.domain.post.repository.PostSearchRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.mock.NewsMock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchServiceTest {
+
+    @Mock
+    private PostSearchRepository searchRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private PostSearchService service;
+
+
+    @Test
+    @DisplayName("색인한 게시글은 색인됨으로 표시")
+    void index() {
+        // given
+        News news = NewsMock.createDummy(1L);
+
+        // when
+        service.index(news);
+
+        // then
+        verify(searchRepository).index(news);
+        assertThat(news.isSearchIndexed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("색인되지 않은 게시글을 찾아 색인함")
+    void indexPending() {
+        // given
+        News first = NewsMock.createDummy(1L);
+        News second = NewsMock.createDummy(2L);
+        List<Post> posts = List.of(first, second);
+        when(postRepository.findActiveNotSearchIndexed(PageRequest.of(0, 10))).thenReturn(posts);
+
+        // when
+        int indexed = service.indexPending(10);
+
+        // then
+        assertThat(indexed).isEqualTo(2);
+        verify(searchRepository).index(first);
+        verify(searchRepository).index(second);
+        assertThat(first.isSearchIndexed()).isTrue();
+        assertThat(second.isSearchIndexed()).isTrue();
+    }
+}
@@ -0,0 +1,130 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.ThumbnailJobStatus;
+import com.dku.council.domain.post.model.entity.PostFile;
+import com.dku.council.domain.post.model.entity.ThumbnailJob;
+import com.dku.council.domain.post.repository.post.ThumbnailJobRepository;
+import com.dku.council.util.EntityUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailJobServiceTest {
+
+    @Mock
+    private ThumbnailJobRepository repository;
+
+    private ThumbnailJobService service;
+
+
+    @BeforeEach
+    public void setup() {
+        service = new ThumbnailJobService(repository, 3);
+    }
+
+    @Test
+    @DisplayName("이미지 첨부파일에만 작업을 등록한다")
+    public void createJobs() {
+        // given
+        PostFile image = createFile("image/png");
+        PostFile text = createFile("text/plain");
+        when(repository.save(any())).thenAnswer(invocation -> {
+            ThumbnailJob job = invocation.getArgument(0);
+            EntityUtil.injectId(ThumbnailJob.class, job, 10L);
+            return job;
+        });
+
+        // when
+        List<Long> jobIds = service.createJobs(List.of(image, text));
+
+        // then
+        assertThat(jobIds).containsExactly(10L);
+        verify(repository, times(1)).save(argThat(job -> job.getPostFile() == image));
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 첨부파일에 썸네일 ID를 채운다")
+    public void complete() {
+        // given
+        PostFile file = createFile("image/png");
+        ThumbnailJob job = new ThumbnailJob(file);
+        when(repository.findWithFileById(1L)).thenReturn(Optional.of(job));
+
+        // when
+        service.complete(1L, "thumb-id.jpg");
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(ThumbnailJobStatus.DONE);
+        assertThat(file.getThumbnailId()).isEqualTo("thumb-id.jpg");
+    }
+
+    @Test
+    @DisplayName("최대 횟수만큼 실패하면 더 이상 시도하지 않는다")
+    public void fail() {
+        // given
+        ThumbnailJob job = new ThumbnailJob(createFile("image/png"));
+        when(repository.findById(1L)).thenReturn(Optional.of(job));
+
+        // when
+        service.fail(1L);
+        service.fail(1L);
+        ThumbnailJobStatus beforeLast = job.getStatus();
+        service.fail(1L);
+
+        // then
+        assertThat(beforeLast).isEqualTo(ThumbnailJobStatus.PENDING);
+        assertThat(job.getStatus()).isEqualTo(ThumbnailJobStatus.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("작업을 가져가면 첨부파일을 반환한다")
+    public void claim() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2023, 3, 1, 12, 0);
+        PostFile file = createFile("image/png");
+        when(repository.claim(1L, now, now.minusMinutes(5))).thenReturn(1);
+        when(repository.findWithFileById(1L)).thenReturn(Optional.of(new ThumbnailJob(file)));
+
+        // when
+        Optional<PostFile> result = service.claim(1L, now, now.minusMinutes(5));
+
+        // then
+        assertThat(result).containsSame(file);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 가져갔거나 끝난 작업의 첨부파일은 가져오지 않는다")
+    public void claimFailed() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2023, 3, 1, 12, 0);
+        when(repository.claim(1L, now, now.minusMinutes(5))).thenReturn(0);
+
+        // when
+        Optional<PostFile> result = service.claim(1L, now, now.minusMinutes(5));
+
+        // then
+        assertThat(result).isEmpty();
+        verify(repository, never()).findWithFileById(any());
+    }
+
+    private static PostFile createFile(String mimeType) {
+        return PostFile.builder()
+                .fileId("fileId")
+                .fileName("file")
+                .mimeType(mimeType)
+                .build();
+    }
+}
@@ -0,0 +1,224 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.ThumbnailRequestedEvent;
+import com.dku.council.domain.post.model.entity.PostFile;
+import com.dku.council.infra.nhn.exception.InvalidAccessObjectStorageException;
+import com.dku.council.infra.nhn.service.FileUploadService;
+import com.dku.council.infra.nhn.service.ObjectStorageService;
+import com.dku.council.infra.nhn.service.ObjectUploadContext;
+import com.dku.council.util.ClockUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailServiceTest {
+
+    private static final Duration RETRY_AFTER = Duration.ofMinutes(5);
+
+    @Mock
+    private ThumbnailJobService jobService;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private FileUploadService.Context uploadCtx;
+
+    @Mock
+    private ObjectStorageService storageService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final Clock clock = ClockUtil.create();
+    private ThumbnailService service;
+
+
+    @BeforeEach
+    public void setup() {
+        ObjectUploadContext uploadContext = new ObjectUploadContext("http://localhost/%s", "default");
+        service = new ThumbnailService(jobService, fileUploadService, storageService, uploadContext,
+                eventPublisher, new SimpleMeterRegistry(), clock,
+                100, new int[]{32}, "jpg", 0.8f, 1, 100, RETRY_AFTER);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("썸네일 작업을 등록하면 작업 ID로 이벤트를 발행한다")
+    public void requestThumbnails() {
+        // given
+        List<PostFile> files = List.of(createFile("image/png"));
+        when(jobService.createJobs(files)).thenReturn(List.of(1L));
+
+        // when
+        service.requestThumbnails(files);
+
+        // then
+        ArgumentCaptor<ThumbnailRequestedEvent> captor = ArgumentCaptor.forClass(ThumbnailRequestedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getJobIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("등록된 작업이 없으면 이벤트를 발행하지 않는다")
+    public void requestThumbnailsWithoutImage() {
+        // given
+        List<PostFile> files = List.of(createFile("text/plain"));
+        when(jobService.createJobs(files)).thenReturn(List.of());
+
+        // when
+        service.requestThumbnails(files);
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("기본 크기와 작은 크기의 썸네일을 만들어 업로드한다")
+    public void createThumbnails() throws IOException {
+        // given
+        PostFile file = createFile("image/png");
+        when(claim(1L)).thenReturn(Optional.of(file));
+        when(storageService.downloadObject("fileId")).thenReturn(new ByteArrayInputStream(createPng()));
+        when(fileUploadService.newContext()).thenReturn(uploadCtx);
+
+        // when
+        service.onThumbnailRequested(new ThumbnailRequestedEvent(List.of(1L)));
+
+        // then
+        ArgumentCaptor<String> thumbnailId = ArgumentCaptor.forClass(String.class);
+        verify(jobService, timeout(1000)).complete(eq(1L), thumbnailId.capture());
+        assertThat(thumbnailId.getValue()).startsWith("thumb-").endsWith(".jpg");
+
+        verify(uploadCtx).uploadFileWithName(argThat(req -> {
+            assertThat(req.getContentType()).isEqualTo(MediaType.IMAGE_JPEG);
+            return true;
+        }), eq(thumbnailId.getValue()));
+        verify(uploadCtx).uploadFileWithName(any(),
+                eq(ThumbnailService.variantName(thumbnailId.getValue(), 32)));
+    }
+
+    @Test
+    @DisplayName("이미지를 읽을 수 없으면 작업을 포기한다")
+    public void giveUpUnsupportedImage() {
+        // given
+        when(claim(1L)).thenReturn(Optional.of(createFile("image/png")));
+        when(storageService.downloadObject("fileId")).thenReturn(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+
+        // when
+        service.onThumbnailRequested(new ThumbnailRequestedEvent(List.of(1L)));
+
+        // then
+        verify(jobService, timeout(1000)).giveUp(1L);
+        verify(fileUploadService, never()).newContext();
+    }
+
+    @Test
+    @DisplayName("썸네일 생성에 실패하면 실패 횟수를 기록한다")
+    public void failedCreateThumbnail() {
+        // given
+        when(claim(1L)).thenReturn(Optional.of(createFile("image/png")));
+        when(storageService.downloadObject("fileId"))
+                .thenThrow(new InvalidAccessObjectStorageException(new IOException()));
+
+        // when
+        service.onThumbnailRequested(new ThumbnailRequestedEvent(List.of(1L)));
+
+        // then
+        verify(jobService, timeout(1000)).fail(1L);
+        verify(jobService, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 가져갔거나 이미 끝난 작업은 처리하지 않는다")
+    public void skipFinishedJob() {
+        // given
+        when(claim(1L)).thenReturn(Optional.empty());
+
+        // when
+        service.onThumbnailRequested(new ThumbnailRequestedEvent(List.of(1L)));
+
+        // then
+        verify(jobService, timeout(1000)).claim(1L, now(), staleBefore());
+        verify(storageService, after(100).never()).downloadObject(any());
+    }
+
+    @Test
+    @DisplayName("오래 진행되지 않은 작업을 다시 큐에 넣는다")
+    public void retryStalledJobs() {
+        // given
+        when(jobService.findStalledJobs(staleBefore(), 100)).thenReturn(List.of(1L, 2L));
+        when(jobService.claim(any(), any(), any())).thenReturn(Optional.empty());
+
+        // when
+        int submitted = service.retryStalledJobs();
+
+        // then
+        assertThat(submitted).isEqualTo(2);
+        verify(jobService, timeout(1000)).claim(1L, now(), staleBefore());
+        verify(jobService, timeout(1000)).claim(2L, now(), staleBefore());
+    }
+
+    @Test
+    @DisplayName("작은 크기 썸네일 이름은 확장자 앞에 크기를 붙인다")
+    public void variantName() {
+        assertThat(ThumbnailService.variantName("thumb-abc.jpg", 64)).isEqualTo("thumb-abc_64.jpg");
+        assertThat(ThumbnailService.variantName("thumb-abc", 64)).isEqualTo("thumb-abc_64");
+    }
+
+    private Optional<PostFile> claim(Long jobId) {
+        return jobService.claim(jobId, now(), staleBefore());
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private LocalDateTime staleBefore() {
+        return now().minus(RETRY_AFTER);
+    }
+
+    private static PostFile createFile(String mimeType) {
+        return PostFile.builder()
+                .fileId("fileId")
+                .fileName("image.png")
+                .mimeType(mimeType)
+                .build();
+    }
+
+    private static byte[] createPng() throws IOException {
+        BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outStream);
+        return outStream.toByteArray();
+    }
+}
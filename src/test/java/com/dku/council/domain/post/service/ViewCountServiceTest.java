@@ -1,7 +1,11 @@
 package com.dku.council.domain.post.service;
 
+import com.dku.council.domain.post.model.DrainedViews;
 import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.repository.PostViewsMemoryRepository;
 import com.dku.council.domain.post.repository.ViewCountMemoryRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.post.repository.post.PostViewsFlushRepository;
 import com.dku.council.util.ClockUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,51 +17,136 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ViewCountServiceTest {
 
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(10);
+
     private final Clock clock = ClockUtil.create();
     private ViewCountService service;
 
     @Mock
     private ViewCountMemoryRepository memoryRepository;
 
+    @Mock
+    private PostViewsMemoryRepository viewsMemoryRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostViewsFlushRepository flushRepository;
+
     @Mock
     private Post post;
 
 
     @BeforeEach
     public void setup() {
-        this.service = new ViewCountService(memoryRepository, clock, Duration.of(10, ChronoUnit.MINUTES));
+        this.service = new ViewCountService(clock, memoryRepository, viewsMemoryRepository, postRepository,
+                flushRepository, Duration.of(10, ChronoUnit.MINUTES), DRAIN_TIMEOUT, Duration.ofDays(1));
     }
 
     @Test
     @DisplayName("조회수가 잘 올라가는지? - 최근에 조회한 적 없는 경우")
     void increasePostViewsNoCached() {
         // given
-        when(memoryRepository.isAlreadyContains(any(), any(), any())).thenReturn(false);
+        when(post.getId()).thenReturn(3L);
+        when(memoryRepository.addIfAbsent(any(), any(), any())).thenReturn(true);
 
         // when
         service.increasePostViews(post, "Address");
 
         // then
-        verify(post).increaseViewCount();
+        verify(viewsMemoryRepository).increaseViews(3L);
     }
 
     @Test
     @DisplayName("조회수가 잘 올라가는지? - 최근에 조회한 적 있는 경우")
     void increasePostViewsCached() {
         // given
-        when(memoryRepository.isAlreadyContains(any(), any(), any())).thenReturn(true);
+        when(memoryRepository.addIfAbsent(any(), any(), any())).thenReturn(false);
 
         // when
         service.increasePostViews(post, "Address");
 
         // then
-        verify(post, never()).increaseViewCount();
+        verify(viewsMemoryRepository, never()).increaseViews(any());
+    }
+
+    @Test
+    @DisplayName("조회수 가져오기 - DB에 반영되지 않은 조회수 포함")
+    void getPostViews() {
+        // given
+        when(post.getId()).thenReturn(3L);
+        when(post.getViews()).thenReturn(10);
+        when(viewsMemoryRepository.getBufferedViews(List.of(3L))).thenReturn(Map.of(3L, 4));
+
+        // when
+        int views = service.getPostViews(post);
+
+        // then
+        assertThat(views).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("메모리의 조회수를 증가량별로 묶어서 DB에 반영")
+    void dumpToDB() {
+        // given
+        when(viewsMemoryRepository.drainViews(clock.instant()))
+                .thenReturn(new DrainedViews("run", Map.of(1L, 2, 2L, 2, 3L, 5)));
+
+        // when
+        int posts = service.dumpToDB();
+
+        // then
+        assertThat(posts).isEqualTo(3);
+        verify(postRepository).increaseViews(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))), eq(2));
+        verify(postRepository).increaseViews(List.of(3L), 5);
+        verify(flushRepository).save(argThat(flush -> flush.getRunId().equals("run")));
+        verify(viewsMemoryRepository).clearDrainedViews("run");
+    }
+
+    @Test
+    @DisplayName("메모리에 조회수가 없으면 아무것도 하지 않음")
+    void dumpToDBEmpty() {
+        // given
+        when(viewsMemoryRepository.drainViews(clock.instant())).thenReturn(new DrainedViews("run", Map.of()));
+
+        // when
+        int posts = service.dumpToDB();
+
+        // then
+        assertThat(posts).isEqualTo(0);
+        verify(postRepository, never()).increaseViews(any(), anyInt());
+        verify(flushRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("정리되지 않은 묶음은 반영 기록이 있으면 삭제하고, 없으면 되돌린다")
+    void recoverDrainedViews() {
+        // given
+        when(viewsMemoryRepository.findDrainedRunsBefore(clock.instant().minus(DRAIN_TIMEOUT)))
+                .thenReturn(List.of("applied", "notApplied"));
+        when(flushRepository.existsByRunId("applied")).thenReturn(true);
+        when(flushRepository.existsByRunId("notApplied")).thenReturn(false);
+
+        // when
+        int runs = service.recoverDrainedViews();
+
+        // then
+        assertThat(runs).isEqualTo(2);
+        verify(viewsMemoryRepository).clearDrainedViews("applied");
+        verify(viewsMemoryRepository, never()).restoreDrainedViews("applied");
+        verify(viewsMemoryRepository).restoreDrainedViews("notApplied");
+        verify(viewsMemoryRepository, never()).clearDrainedViews("notApplied");
+        verify(postRepository, never()).increaseViews(any(), anyInt());
     }
-}
\ No newline at end of file
+}
@@ -22,7 +22,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.dku.council.domain.like.model.LikeTarget.POST;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -69,7 +72,8 @@ class GeneralForumServiceTest {
         Page<GeneralForum> allGeneralForum = new DummyPage<>(allForumList, 20);
 
         when(generalForumRepository.findAll((Specification<GeneralForum>) any(), (Pageable) any())).thenReturn(allGeneralForum);
-        when(postLikeService.getCountOfLikes(any(), eq(POST))).thenReturn(15);
+        when(postLikeService.getCountsOfLikes(any(), eq(POST)))
+                .thenAnswer(inv -> likesOf(inv.getArgument(0), 15));
 
         // when
         Page<SummarizedGenericPostDto> allPage = generalForumService.list(generalForumRepository, null,
@@ -88,4 +92,12 @@ class GeneralForumServiceTest {
             assertThat(dto.getAuthor()).isEqualTo(generalForum.getUser().getNickname());
         }
     }
-}
\ No newline at end of file
+
+    private static Map<Long, Integer> likesOf(Collection<Long> ids, int count) {
+        Map<Long, Integer> likes = new HashMap<>();
+        for (Long id : ids) {
+            likes.put(id, count);
+        }
+        return likes;
+    }
+}
@@ -1,10 +1,13 @@
 package com.dku.council.domain.ticket.controller;
 
 import com.dku.council.domain.ticket.model.dto.TicketEventDto;
+import com.dku.council.domain.ticket.model.dto.TicketQueueResult;
 import com.dku.council.domain.ticket.model.dto.request.RequestEnrollDto;
 import com.dku.council.domain.ticket.model.dto.request.RequestNewTicketEventDto;
+import com.dku.council.domain.ticket.model.dto.response.ResponseTicketQueueDto;
 import com.dku.council.domain.ticket.model.dto.response.ResponseTicketTurnDto;
 import com.dku.council.domain.ticket.service.TicketEventService;
+import com.dku.council.domain.ticket.service.TicketQueueService;
 import com.dku.council.domain.ticket.service.TicketService;
 import com.dku.council.infra.naver.service.CaptchaService;
 import com.dku.council.mock.TicketEventMock;
@@ -43,6 +46,9 @@ class TicketControllerTest extends AbstractAuthControllerTest {
     @MockBean
     private TicketEventService ticketEventService;
 
+    @MockBean
+    private TicketQueueService ticketQueueService;
+
     @MockBean
     private CaptchaService captchaService;
 
@@ -174,4 +180,42 @@ class TicketControllerTest extends AbstractAuthControllerTest {
                 .andExpect(jsonPath("$.turn").value(5));
         verify(captchaService).verifyCaptcha("KEY", "VALUE");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("티켓 신청 대기열 등록하기")
+    void enqueue() throws Exception {
+        // given
+        RequestEnrollDto dto = new RequestEnrollDto(5L,
+                "KEY", "VALUE");
+
+        when(ticketQueueService.enqueue(eq(USER_ID), eq(5L), any()))
+                .thenReturn(ResponseTicketQueueDto.waiting(12));
+
+        // when
+        ResultActions actions = mvc.perform(post("/ticket/queue").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("WAITING"))
+                .andExpect(jsonPath("$.position").value(12));
+        verify(captchaService).verifyCaptcha("KEY", "VALUE");
+    }
+
+    @Test
+    @DisplayName("티켓 신청 대기 상태 조회")
+    void queueStatus() throws Exception {
+        // given
+        when(ticketQueueService.getStatus(USER_ID, 5L))
+                .thenReturn(ResponseTicketQueueDto.of(TicketQueueResult.enrolled(7)));
+
+        // when
+        ResultActions actions = mvc.perform(get("/ticket/queue/5"));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ENROLLED"))
+                .andExpect(jsonPath("$.turn").value(7));
+    }
+}
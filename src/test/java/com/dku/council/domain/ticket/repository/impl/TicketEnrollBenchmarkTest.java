@@ -0,0 +1,146 @@
+package com.dku.council.domain.ticket.repository.impl;
+
+import com.dku.council.domain.ticket.exception.AlreadyRequestedTicketException;
+import com.dku.council.global.config.redis.RedisKeys;
+import com.dku.council.util.base.AbstractContainerRedisTest;
+import com.dku.council.util.test.FullIntegrationTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dku.council.global.config.redis.RedisKeys.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 티켓팅 오픈 직후처럼 수천 건의 발급 요청이 동시에 들어오는 상황에서의 처리량을 측정합니다.
+ * 기존 방식(이벤트별 분산 락 + 개별 명령)과 Lua script 방식을 같은 조건에서 비교하여 로그로 남깁니다.
+ */
+@Slf4j
+@SpringBootTest
+@FullIntegrationTest
+class TicketEnrollBenchmarkTest extends AbstractContainerRedisTest {
+
+    private static final int USER_COUNT = 5000;
+    private static final int DUPLICATED_PER_USER = 2;
+    private static final int THREAD_COUNT = 200;
+
+    @Autowired
+    private TicketRedisRepository repository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    private final Duration expiresAfter = Duration.ofHours(1);
+
+
+    @Test
+    @DisplayName("동시 티켓팅 처리량 비교 - 분산 락 vs Lua script")
+    void compareThroughput() throws Exception {
+        // when
+        Result locked = run(1L, this::enrollWithLock);
+        Result scripted = run(2L, (userId, eventId) -> repository.enroll(userId, eventId, expiresAfter));
+
+        // then
+        log.info("Ticket enroll benchmark (requests={}, threads={})", USER_COUNT * DUPLICATED_PER_USER, THREAD_COUNT);
+        log.info("  lock   : {} ms, {} ops/s", locked.elapsedMillis, locked.opsPerSecond());
+        log.info("  script : {} ms, {} ops/s", scripted.elapsedMillis, scripted.opsPerSecond());
+
+        assertThat(scripted.turns).hasSize(USER_COUNT);
+        assertThat(scripted.duplicated.get()).isEqualTo(USER_COUNT * (DUPLICATED_PER_USER - 1));
+        for (int turn = 1; turn <= USER_COUNT; turn++) {
+            assertThat(scripted.turns).contains(turn);
+        }
+    }
+
+    private Result run(Long eventId, Enroller enroller) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(USER_COUNT * DUPLICATED_PER_USER);
+        Result result = new Result();
+
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            for (int i = 0; i < DUPLICATED_PER_USER; i++) {
+                long user = userId;
+                executor.submit(() -> {
+                    try {
+                        ready.await();
+                        result.turns.add(enroller.enroll(user, eventId));
+                    } catch (AlreadyRequestedTicketException e) {
+                        result.duplicated.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+        }
+
+        long start = System.nanoTime();
+        ready.countDown();
+        done.await();
+        result.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        executor.shutdown();
+        return result;
+    }
+
+    /**
+     * 기존 발급 방식. 이벤트별 분산 락을 잡은 상태에서 명령을 하나씩 실행한다.
+     */
+    private int enrollWithLock(Long userId, Long eventId) throws InterruptedException {
+        String key = RedisKeys.combine(TICKET_KEY, eventId);
+        RLock lock = redissonClient.getLock(key + ":lock");
+
+        if (!lock.tryLock(20, 3, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Can't acquire lock");
+        }
+        try {
+            String nextIdKey = RedisKeys.combine(TICKET_NEXT_KEY, eventId);
+            Long turn = redisTemplate.opsForValue().increment(nextIdKey);
+            redisTemplate.expire(nextIdKey, expiresAfter);
+
+            if (!redisTemplate.opsForHash().putIfAbsent(key, userId.toString(), String.valueOf(turn))) {
+                throw new AlreadyRequestedTicketException();
+            }
+            redisTemplate.opsForSet().add(TICKET_RESERVATION_SET_KEY, eventId.toString());
+            return turn == null ? -1 : turn.intValue();
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Enroller {
+        int enroll(Long userId, Long eventId) throws InterruptedException;
+    }
+
+    private static class Result {
+        private final Set<Integer> turns = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger duplicated = new AtomicInteger();
+        private long elapsedMillis;
+
+        private long opsPerSecond() {
+            return USER_COUNT * DUPLICATED_PER_USER * 1000L / Math.max(elapsedMillis, 1);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.dku.council.domain.ticket.repository.impl;
+
+import com.dku.council.domain.ticket.model.dto.TicketQueueEntry;
+import com.dku.council.domain.ticket.model.dto.TicketQueueResult;
+import com.dku.council.util.base.AbstractContainerRedisTest;
+import com.dku.council.util.test.FullIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@FullIntegrationTest
+class TicketQueueRedisRepositoryTest extends AbstractContainerRedisTest {
+
+    @Autowired
+    private TicketQueueRedisRepository repository;
+
+    private final Instant now = Instant.ofEpochMilli(1_700_000_000_000L);
+
+    @Test
+    @DisplayName("등록 순서대로 대기 순서가 정해지는가")
+    void enqueue() {
+        // when
+        long[] positions = {
+                repository.enqueue(1L, 10L, now),
+                repository.enqueue(1L, 11L, now.plusMillis(1)),
+                repository.enqueue(1L, 12L, now.plusMillis(2)),
+                repository.enqueue(1L, 10L, now.plusMillis(3))
+        };
+
+        // then
+        assertThat(positions).containsExactly(0, 1, 2, 0);
+        assertThat(repository.getPosition(1L, 12L)).isEqualTo(2L);
+        assertThat(repository.getPosition(1L, 13L)).isNull();
+        assertThat(repository.getQueuedEventIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("대기열 앞에서부터 꺼내는가")
+    void poll() {
+        // given
+        repository.enqueue(1L, 10L, now);
+        repository.enqueue(1L, 11L, now.plusMillis(1));
+        repository.enqueue(1L, 12L, now.plusMillis(2));
+
+        // when
+        List<TicketQueueEntry> entries = repository.poll(1L, 2, now);
+
+        // then
+        assertThat(entries).containsExactly(
+                new TicketQueueEntry(10L, now),
+                new TicketQueueEntry(11L, now.plusMillis(1))
+        );
+        assertThat(repository.getPosition(1L, 12L)).isEqualTo(0L);
+        assertThat(repository.getResult(1L, 10L)).isEqualTo(TicketQueueResult.admitting());
+        assertThat(repository.getQueuedEventIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("대기열이 비면 대기중인 이벤트에서 제거되는가")
+    void pollAll() {
+        // given
+        repository.enqueue(1L, 10L, now);
+
+        // when
+        List<TicketQueueEntry> entries = repository.poll(1L, 5, now);
+
+        // then
+        assertThat(entries).hasSize(1);
+        assertThat(repository.getQueuedEventIds()).isEmpty();
+        assertThat(repository.poll(1L, 5, now)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처리 결과 저장 및 조회")
+    void saveResult() {
+        // when
+        repository.saveResult(1L, 10L, TicketQueueResult.enrolled(3), Duration.ofHours(1));
+        repository.saveResult(1L, 11L, TicketQueueResult.failed("NotAttendingException"), Duration.ofHours(1));
+
+        // then
+        assertThat(repository.getResult(1L, 10L)).isEqualTo(TicketQueueResult.enrolled(3));
+        assertThat(repository.getResult(1L, 11L)).isEqualTo(TicketQueueResult.failed("NotAttendingException"));
+        assertThat(repository.getResult(1L, 12L)).isNull();
+    }
+
+    @Test
+    @DisplayName("결과가 저장되지 않고 오래 남은 사용자는 원래 순서로 대기열에 되돌리는가")
+    void requeueStaleAdmissions() {
+        // given
+        repository.enqueue(1L, 10L, now);
+        repository.enqueue(1L, 11L, now.plusMillis(1));
+        repository.enqueue(1L, 12L, now.plusMillis(2));
+        repository.poll(1L, 2, now);
+        repository.saveResult(1L, 11L, TicketQueueResult.enrolled(1), Duration.ofHours(1));
+
+        // when
+        int requeued = repository.requeueStaleAdmissions(now.plusSeconds(60));
+
+        // then
+        assertThat(requeued).isEqualTo(1);
+        assertThat(repository.getPosition(1L, 10L)).isEqualTo(0L);
+        assertThat(repository.getPosition(1L, 12L)).isEqualTo(1L);
+        assertThat(repository.getResult(1L, 10L)).isNull();
+        assertThat(repository.getResult(1L, 11L)).isEqualTo(TicketQueueResult.enrolled(1));
+        assertThat(repository.requeueStaleAdmissions(now.plusSeconds(60))).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("최근에 꺼낸 사용자는 되돌리지 않는가")
+    void requeueRecentAdmissions() {
+        // given
+        repository.enqueue(1L, 10L, now);
+        repository.poll(1L, 1, now);
+
+        // when
+        int requeued = repository.requeueStaleAdmissions(now.minusSeconds(1));
+
+        // then
+        assertThat(requeued).isEqualTo(0);
+        assertThat(repository.getResult(1L, 10L)).isEqualTo(TicketQueueResult.admitting());
+    }
+}
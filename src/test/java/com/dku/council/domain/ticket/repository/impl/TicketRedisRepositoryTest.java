@@ -2,15 +2,20 @@ package com.dku.council.domain.ticket.repository.impl;
 
 import com.dku.council.domain.ticket.exception.AlreadyRequestedTicketException;
 import com.dku.council.domain.ticket.model.dto.TicketDto;
+import com.dku.council.global.config.redis.RedisKeys;
 import com.dku.council.util.base.AbstractContainerRedisTest;
 import com.dku.council.util.test.FullIntegrationTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -22,6 +27,9 @@ class TicketRedisRepositoryTest extends AbstractContainerRedisTest {
     @Autowired
     private TicketRedisRepository repository;
 
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
     private final Duration dummyDuration = Duration.ofHours(1);
 
     @Test
@@ -55,6 +63,21 @@ class TicketRedisRepositoryTest extends AbstractContainerRedisTest {
                 repository.enroll(1L, 1L, dummyDuration));
     }
 
+    @Test
+    @DisplayName("중복 티켓팅은 순번을 소모하지 않음")
+    void enrollDuplicatedNotConsumeTurn() {
+        // given
+        repository.enroll(1L, 1L, dummyDuration);
+        assertThrows(AlreadyRequestedTicketException.class, () ->
+                repository.enroll(1L, 1L, dummyDuration));
+
+        // when
+        int turn = repository.enroll(2L, 1L, dummyDuration);
+
+        // then
+        assertThat(turn).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("티켓팅 데이터 강제 캐싱")
     void saveMyTicket() {
@@ -70,54 +93,120 @@ class TicketRedisRepositoryTest extends AbstractContainerRedisTest {
     }
 
     @Test
-    @DisplayName("티켓팅 데이터 모두 flush")
-    void flushAllTickets() {
+    @DisplayName("티켓팅 데이터 chunk 단위로 훑기")
+    void scanTickets() {
         // given
-        List<TicketDto> expected = List.of(
-                new TicketDto(1L, 1L, 1),
-                new TicketDto(1L, 2L, 1),
-                new TicketDto(2L, 1L, 2),
-                new TicketDto(2L, 2L, 2),
-                new TicketDto(3L, 1L, 3),
-                new TicketDto(3L, 3L, 1)
-        );
-        for (TicketDto ticket : expected) {
-            repository.enroll(ticket.getUserId(), ticket.getEventId(), dummyDuration);
+        List<TicketDto> expected = new ArrayList<>();
+        for (long userId = 1; userId <= 7; userId++) {
+            int turn = repository.enroll(userId, 1L, dummyDuration);
+            expected.add(new TicketDto(userId, 1L, turn));
         }
+        repository.enroll(1L, 2L, dummyDuration);
 
         // when
-        List<TicketDto> tickets = repository.flushAllTickets();
+        List<List<TicketDto>> chunks = new ArrayList<>();
+        repository.scanTickets(1L, 0, 3, chunks::add);
 
         // then
-        for (TicketDto ticket : tickets) {
-            int getResult = repository.getMyTicket(ticket.getUserId(), ticket.getEventId());
-            assertThat(getResult).isEqualTo(-1);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(3));
+        assertThat(chunks.stream().flatMap(List::stream))
+                .containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("티켓팅 데이터 훑을 때 반영된 순번 이하는 제외")
+    void scanTicketsAfterTurn() {
+        // given
+        for (long userId = 1; userId <= 5; userId++) {
+            repository.enroll(userId, 1L, dummyDuration);
         }
-        assertThat(tickets).containsExactlyInAnyOrderElementsOf(expected);
+
+        // when
+        List<TicketDto> tickets = new ArrayList<>();
+        repository.scanTickets(1L, 3, 10, tickets::addAll);
+
+        // then
+        assertThat(tickets).containsExactlyInAnyOrder(
+                new TicketDto(4L, 1L, 4),
+                new TicketDto(5L, 1L, 5)
+        );
+        assertThat(repository.getLastTurn(1L)).isEqualTo(5);
+        assertThat(repository.getLastTurn(2L)).isNull();
     }
 
     @Test
-    @DisplayName("티켓팅 데이터 flush이후 티켓팅하면 turn은 이어서 계속")
-    void flushAllTicketsWithNextId() {
+    @DisplayName("티켓팅 데이터 훑으면서 제거해도 빠짐없이 순번 순으로 훑기")
+    void scanTicketsWhileRemoving() {
         // given
-        List<TicketDto> expected = List.of(
+        for (long userId = 1; userId <= 7; userId++) {
+            repository.enroll(userId, 1L, dummyDuration);
+        }
+
+        // when
+        List<TicketDto> tickets = new ArrayList<>();
+        repository.scanTickets(1L, 0, 3, chunk -> {
+            tickets.addAll(chunk);
+            repository.removeTickets(1L, chunk.stream()
+                    .map(TicketDto::getUserId)
+                    .collect(Collectors.toList()));
+        });
+
+        // then
+        assertThat(tickets).extracting(TicketDto::getTurn).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        assertThat(repository.getReservedEventIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순번 색인 없이 저장된 티켓팅 데이터도 훑기")
+    void scanTicketsWithoutTurnIndex() {
+        // given
+        repository.enroll(1L, 1L, dummyDuration);
+        redisTemplate.opsForHash().put(RedisKeys.combine(RedisKeys.TICKET_KEY, 1L), "2", "2");
+
+        // when
+        List<TicketDto> tickets = new ArrayList<>();
+        repository.scanTickets(1L, 0, 10, tickets::addAll);
+
+        // then
+        assertThat(tickets).containsExactly(
                 new TicketDto(1L, 1L, 1),
-                new TicketDto(1L, 2L, 1),
-                new TicketDto(2L, 1L, 2),
-                new TicketDto(2L, 2L, 2),
-                new TicketDto(3L, 1L, 3),
-                new TicketDto(3L, 3L, 1)
+                new TicketDto(2L, 1L, 2)
         );
-        for (TicketDto ticket : expected) {
-            repository.enroll(ticket.getUserId(), ticket.getEventId(), dummyDuration);
-        }
-        repository.flushAllTickets();
+    }
+
+    @Test
+    @DisplayName("티켓팅 데이터 제거 - 모두 제거되면 예약 이벤트에서도 제거")
+    void removeTickets() {
+        // given
+        repository.enroll(1L, 1L, dummyDuration);
+        repository.enroll(2L, 1L, dummyDuration);
+        repository.enroll(1L, 2L, dummyDuration);
+
+        // when
+        repository.removeTickets(1L, List.of(1L));
+        Set<Long> eventsAfterFirst = repository.getReservedEventIds();
+        repository.removeTickets(1L, List.of(2L));
+
+        // then
+        assertThat(eventsAfterFirst).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(repository.getReservedEventIds()).containsExactly(2L);
+        assertThat(repository.getMyTicket(1L, 1L)).isEqualTo(-1);
+        assertThat(repository.getMyTicket(1L, 2L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("티켓팅 데이터 제거 이후 티켓팅하면 turn은 이어서 계속")
+    void removeTicketsWithNextId() {
+        // given
+        repository.enroll(1L, 1L, dummyDuration);
+        repository.enroll(2L, 1L, dummyDuration);
+        repository.removeTickets(1L, List.of(1L, 2L));
 
         // when
-        int turn = repository.enroll(1L, 1L, dummyDuration);
+        int turn = repository.enroll(3L, 1L, dummyDuration);
 
         // then
-        assertThat(turn).isEqualTo(4);
+        assertThat(turn).isEqualTo(3);
     }
 
     @Test
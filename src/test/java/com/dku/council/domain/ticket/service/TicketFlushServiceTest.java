@@ -0,0 +1,98 @@
+package com.dku.council.domain.ticket.service;
+
+import com.dku.council.domain.ticket.exception.NoTicketEventException;
+import com.dku.council.domain.ticket.model.dto.TicketDto;
+import com.dku.council.domain.ticket.model.entity.Ticket;
+import com.dku.council.domain.ticket.model.entity.TicketEvent;
+import com.dku.council.domain.ticket.repository.TicketEventRepository;
+import com.dku.council.domain.ticket.repository.TicketRepository;
+import com.dku.council.domain.user.model.entity.User;
+import com.dku.council.domain.user.repository.UserRepository;
+import com.dku.council.mock.TicketEventMock;
+import com.dku.council.mock.UserMock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketFlushServiceTest {
+
+    @Mock
+    private TicketRepository persistenceRepository;
+
+    @Mock
+    private TicketEventRepository ticketEventRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private TicketFlushService service;
+
+    @Test
+    @DisplayName("티켓 chunk 저장 - 이미 저장된 순번은 건너뜀")
+    void saveTickets() {
+        // given
+        List<TicketDto> tickets = List.of(
+                new TicketDto(1L, 1L, 1),
+                new TicketDto(2L, 1L, 2),
+                new TicketDto(3L, 1L, 3));
+        User user = UserMock.createDummyMajor();
+        TicketEvent event = TicketEventMock.createDummy(1L, "name");
+
+        when(persistenceRepository.findTurnsByEventIdAndTurnIn(1L, List.of(1, 2, 3))).thenReturn(List.of(2));
+        when(ticketEventRepository.getReferenceById(1L)).thenReturn(event);
+        when(userRepository.getReferenceById(any())).thenReturn(user);
+
+        // when
+        int saved = service.saveTickets(1L, tickets);
+
+        // then
+        assertThat(saved).isEqualTo(2);
+        verify(persistenceRepository).saveAll(argThat((List<Ticket> entities) -> {
+            assertThat(entities).extracting(Ticket::getTurn).containsExactly(1, 3);
+            assertThat(entities).allSatisfy(ticket -> assertThat(ticket.getEvent()).isEqualTo(event));
+            return true;
+        }));
+    }
+
+    @Test
+    @DisplayName("반영 순번 갱신 - 작은 순번으로는 갱신하지 않음")
+    void updateFlushedTurn() {
+        // given
+        TicketEvent event = TicketEventMock.createDummy(1L, "name");
+        when(ticketEventRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        // when
+        service.updateFlushedTurn(1L, 10);
+        service.updateFlushedTurn(1L, 5);
+
+        // then
+        assertThat(event.getFlushedTurn()).isEqualTo(10);
+        assertThat(service.getFlushedTurn(1L)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("반영 순번 조회 - 없는 이벤트")
+    void getFlushedTurnNoEvent() {
+        // given
+        when(ticketEventRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(NoTicketEventException.class, () ->
+                service.getFlushedTurn(1L));
+    }
+}
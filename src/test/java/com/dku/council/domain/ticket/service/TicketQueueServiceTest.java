@@ -0,0 +1,205 @@
+package com.dku.council.domain.ticket.service;
+
+import com.dku.council.domain.ticket.exception.AfterTicketPeriodException;
+import com.dku.council.domain.ticket.model.TicketQueueStatus;
+import com.dku.council.domain.ticket.model.dto.TicketQueueEntry;
+import com.dku.council.domain.ticket.model.dto.TicketQueueResult;
+import com.dku.council.domain.ticket.model.dto.response.ResponseTicketQueueDto;
+import com.dku.council.domain.ticket.model.dto.response.ResponseTicketTurnDto;
+import com.dku.council.domain.ticket.repository.TicketQueueMemoryRepository;
+import com.dku.council.domain.user.exception.NotAttendingException;
+import com.dku.council.util.ClockUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketQueueServiceTest {
+
+    private static final Duration RESULT_EXPIRES = Duration.ofHours(1);
+    private static final Duration ADMIT_TIMEOUT = Duration.ofMinutes(1);
+
+    private final Clock clock = ClockUtil.create();
+
+    @Mock
+    private TicketQueueMemoryRepository memoryRepository;
+
+    @Mock
+    private TicketService ticketService;
+
+    private TicketQueueService service;
+
+
+    @BeforeEach
+    public void setup() {
+        this.service = new TicketQueueService(clock, memoryRepository, ticketService, RESULT_EXPIRES, ADMIT_TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("대기열 등록")
+    void enqueue() {
+        // given
+        Instant now = Instant.now();
+        when(memoryRepository.enqueue(1L, 2L, now)).thenReturn(10L);
+
+        // when
+        ResponseTicketQueueDto dto = service.enqueue(2L, 1L, now);
+
+        // then
+        assertThat(dto.getStatus()).isEqualTo(TicketQueueStatus.WAITING);
+        assertThat(dto.getPosition()).isEqualTo(10L);
+        verify(ticketService).findEnrollableEvent(1L, now);
+    }
+
+    @Test
+    @DisplayName("대기열 등록 - 이미 처리된 경우 결과 반환")
+    void enqueueAlreadyAdmitted() {
+        // given
+        Instant now = Instant.now();
+        when(memoryRepository.getResult(1L, 2L)).thenReturn(TicketQueueResult.enrolled(3));
+
+        // when
+        ResponseTicketQueueDto dto = service.enqueue(2L, 1L, now);
+
+        // then
+        assertThat(dto.getStatus()).isEqualTo(TicketQueueStatus.ENROLLED);
+        assertThat(dto.getTurn()).isEqualTo(3);
+        verify(memoryRepository, never()).enqueue(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대기열 등록 - 신청 기간이 아닌 경우 등록하지 않음")
+    void failedEnqueueByPeriod() {
+        // given
+        Instant now = Instant.now();
+        when(ticketService.findEnrollableEvent(1L, now)).thenThrow(new AfterTicketPeriodException());
+
+        // when & then
+        assertThrows(AfterTicketPeriodException.class, () ->
+                service.enqueue(2L, 1L, now));
+        verify(memoryRepository, never()).enqueue(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대기 상태 조회 - 대기중")
+    void getStatusWaiting() {
+        // given
+        when(memoryRepository.getPosition(1L, 2L)).thenReturn(4L);
+
+        // when
+        ResponseTicketQueueDto dto = service.getStatus(2L, 1L);
+
+        // then
+        assertThat(dto.getStatus()).isEqualTo(TicketQueueStatus.WAITING);
+        assertThat(dto.getPosition()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("대기 상태 조회 - 처리 완료")
+    void getStatusAdmitted() {
+        // given
+        when(memoryRepository.getPosition(1L, 2L)).thenReturn(null);
+        when(memoryRepository.getResult(1L, 2L)).thenReturn(TicketQueueResult.failed("NotAttendingException"));
+
+        // when
+        ResponseTicketQueueDto dto = service.getStatus(2L, 1L);
+
+        // then
+        assertThat(dto.getStatus()).isEqualTo(TicketQueueStatus.FAILED);
+        assertThat(dto.getFailedCode()).isEqualTo("NotAttendingException");
+    }
+
+    @Test
+    @DisplayName("대기 상태 조회 - 입장 처리중")
+    void getStatusAdmitting() {
+        // given
+        when(memoryRepository.getPosition(1L, 2L)).thenReturn(null);
+        when(memoryRepository.getResult(1L, 2L)).thenReturn(TicketQueueResult.admitting());
+
+        // when
+        ResponseTicketQueueDto dto = service.getStatus(2L, 1L);
+
+        // then
+        assertThat(dto.getStatus()).isEqualTo(TicketQueueStatus.ADMITTING);
+        assertThat(dto.getPosition()).isEqualTo(-1L);
+        assertThat(dto.getTurn()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("대기 상태 조회 - 등록하지 않음")
+    void getStatusNone() {
+        // given
+        when(memoryRepository.getPosition(1L, 2L)).thenReturn(null);
+        when(memoryRepository.getResult(1L, 2L)).thenReturn(null);
+
+        // when
+        ResponseTicketQueueDto dto = service.getStatus(2L, 1L);
+
+        // then
+        assertThat(dto.getStatus()).isEqualTo(TicketQueueStatus.NONE);
+    }
+
+    @Test
+    @DisplayName("대기열 입장 - 등록 시각 기준으로 신청하고 결과 저장")
+    void admit() {
+        // given
+        Instant enqueuedAt = Instant.now();
+        List<TicketQueueEntry> entries = List.of(
+                new TicketQueueEntry(2L, enqueuedAt),
+                new TicketQueueEntry(3L, enqueuedAt.plusSeconds(1))
+        );
+        when(memoryRepository.poll(1L, 10, clock.instant())).thenReturn(entries);
+        when(ticketService.enroll(2L, 1L, enqueuedAt)).thenReturn(new ResponseTicketTurnDto(1));
+        when(ticketService.enroll(3L, 1L, enqueuedAt.plusSeconds(1))).thenThrow(new NotAttendingException());
+
+        // when
+        int admitted = service.admit(1L, 10);
+
+        // then
+        assertThat(admitted).isEqualTo(2);
+        verify(memoryRepository).saveResult(1L, 2L, TicketQueueResult.enrolled(1), RESULT_EXPIRES);
+        verify(memoryRepository).saveResult(1L, 3L, TicketQueueResult.failed("NotAttendingException"), RESULT_EXPIRES);
+    }
+
+    @Test
+    @DisplayName("대기열 입장 - 예상치 못한 오류도 실패로 저장")
+    void admitUnexpected() {
+        // given
+        Instant enqueuedAt = Instant.now();
+        when(memoryRepository.poll(1L, 10, clock.instant())).thenReturn(List.of(new TicketQueueEntry(2L, enqueuedAt)));
+        when(ticketService.enroll(eq(2L), eq(1L), any())).thenThrow(new IllegalStateException());
+
+        // when
+        service.admit(1L, 10);
+
+        // then
+        verify(memoryRepository).saveResult(1L, 2L, TicketQueueResult.failed("IllegalStateException"), RESULT_EXPIRES);
+    }
+
+    @Test
+    @DisplayName("입장 처리중인 채로 오래 남은 사용자를 대기열에 되돌림")
+    void requeueStaleAdmissions() {
+        // given
+        when(memoryRepository.requeueStaleAdmissions(clock.instant().minus(ADMIT_TIMEOUT))).thenReturn(3);
+
+        // when
+        int requeued = service.requeueStaleAdmissions();
+
+        // then
+        assertThat(requeued).isEqualTo(3);
+    }
+}
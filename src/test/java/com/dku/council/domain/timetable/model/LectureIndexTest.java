@@ -0,0 +1,133 @@
+package com.dku.council.domain.timetable.model;
+
+import com.dku.council.domain.timetable.model.dto.TimePromise;
+import com.dku.council.domain.timetable.model.dto.response.LectureTemplateDto;
+import com.dku.council.domain.timetable.model.entity.LectureTemplate;
+import com.dku.council.util.ObjectMapperGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LectureIndexTest {
+
+    private final ObjectMapper mapper = ObjectMapperGenerator.create();
+    private LectureIndex index;
+
+
+    @BeforeEach
+    void setup() {
+        index = LectureIndex.build(mapper, List.of(
+                lecture("고급자료구조", "SW융합 소프트웨어학과", 3, 3,
+                        new TimePromise(LocalTime.of(9, 0), LocalTime.of(10, 30), DayOfWeek.MONDAY, "2공학관")),
+                lecture("자료구조", "SW융합 소프트웨어학과", 2, 3,
+                        new TimePromise(LocalTime.of(13, 0), LocalTime.of(14, 30), DayOfWeek.TUESDAY, "2공학관")),
+                lecture("대학영어1", null, 0, 2,
+                        new TimePromise(LocalTime.of(9, 0), LocalTime.of(11, 0), DayOfWeek.TUESDAY, "인문관")),
+                lecture("Java Programming", "SW융합 소프트웨어학과", 1, 3,
+                        new TimePromise(LocalTime.of(15, 0), LocalTime.of(17, 0), DayOfWeek.FRIDAY, "2공학관"))
+        ));
+    }
+
+    @Test
+    @DisplayName("수업명으로 시작하는 수업이 먼저 검색된다")
+    void searchPrefixFirst() {
+        // when
+        List<String> names = search(LectureSearchCondition.builder().keyword("자료구조").build());
+
+        // then
+        assertThat(names).containsExactly("자료구조", "고급자료구조");
+    }
+
+    @Test
+    @DisplayName("초성과 글자를 섞어서 검색")
+    void searchChoseong() {
+        // when
+        List<String> choseong = search(LectureSearchCondition.builder().keyword("ㅈㄹㄱㅈ").build());
+        List<String> mixed = search(LectureSearchCondition.builder().keyword("대ㅎ영").build());
+
+        // then
+        assertThat(choseong).containsExactly("자료구조", "고급자료구조");
+        assertThat(mixed).containsExactly("대학영어1");
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백은 무시하고 검색")
+    void searchIgnoreCaseAndWhitespace() {
+        // when
+        List<String> names = search(LectureSearchCondition.builder().keyword("java pro").build());
+
+        // then
+        assertThat(names).containsExactly("Java Programming");
+    }
+
+    @Test
+    @DisplayName("학과, 학년, 학점으로 필터링")
+    void searchWithFilters() {
+        // when
+        List<String> byGrade = search(LectureSearchCondition.builder()
+                .major("SW융합 소프트웨어학과").grade(3).build());
+        List<String> byCredit = search(LectureSearchCondition.builder().credit(2).build());
+
+        // then
+        assertThat(byGrade).containsExactly("고급자료구조");
+        assertThat(byCredit).containsExactly("대학영어1");
+    }
+
+    @Test
+    @DisplayName("요일과 시간 범위로 필터링")
+    void searchWithTime() {
+        // when
+        List<String> byDay = search(LectureSearchCondition.builder().day(DayOfWeek.TUESDAY).build());
+        List<String> byTime = search(LectureSearchCondition.builder()
+                .day(DayOfWeek.TUESDAY)
+                .from(LocalTime.of(12, 0))
+                .to(LocalTime.of(15, 0))
+                .build());
+
+        // then
+        assertThat(byDay).containsExactly("자료구조", "대학영어1");
+        assertThat(byTime).containsExactly("자료구조");
+    }
+
+    @Test
+    @DisplayName("수업 시간은 미리 파싱되어 있다")
+    void preparsedTimes() {
+        // when
+        List<LectureTemplateDto> result = index.search(LectureSearchCondition.builder().keyword("영어").build());
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getTimes()).containsExactly(
+                new TimePromise(LocalTime.of(9, 0), LocalTime.of(11, 0), DayOfWeek.TUESDAY, "인문관"));
+        assertThat(index.search(LectureSearchCondition.builder().keyword("영어").build()).get(0))
+                .isSameAs(result.get(0));
+    }
+
+    private List<String> search(LectureSearchCondition condition) {
+        return index.search(condition).stream()
+                .map(LectureTemplateDto::getName)
+                .collect(Collectors.toList());
+    }
+
+    private LectureTemplate lecture(String name, String major, int grade, int credit, TimePromise time) {
+        return LectureTemplate.builder()
+                .lectureId("539250")
+                .category("전공")
+                .name(name)
+                .professor("professor")
+                .classNumber(1)
+                .credit(credit)
+                .major(major)
+                .grade(grade)
+                .timesJson(TimePromise.serialize(mapper, List.of(time)))
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.dku.council.domain.timetable.service;
+
+import com.dku.council.domain.timetable.model.LectureCatalogVersion;
+import com.dku.council.domain.timetable.model.LectureIndex;
+import com.dku.council.domain.timetable.model.LectureReloadedEvent;
+import com.dku.council.domain.timetable.repository.LectureTemplateRepository;
+import com.dku.council.mock.LectureMock;
+import com.dku.council.util.ObjectMapperGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LectureIndexServiceTest {
+
+    @Mock
+    private LectureTemplateRepository repository;
+
+    private LectureIndexService service;
+
+
+    @BeforeEach
+    void setup() {
+        service = new LectureIndexService(ObjectMapperGenerator.create(), repository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("색인은 처음 사용할 때 한 번만 만든다")
+    void buildOnce() {
+        // given
+        when(repository.findAll()).thenReturn(LectureMock.createLectureTemplateList());
+
+        // when
+        LectureIndex first = service.getIndex();
+        LectureIndex second = service.getIndex();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.size()).isEqualTo(4);
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("수업 목록을 다시 가져오면 색인을 교체한다")
+    void rebuildOnReloaded() {
+        // given
+        when(repository.findAll()).thenReturn(LectureMock.createLectureTemplateList(), List.of());
+        LectureIndex before = service.getIndex();
+
+        // when
+        service.onLectureReloaded(new LectureReloadedEvent());
+
+        // then
+        assertThat(service.getIndex()).isNotSameAs(before);
+        assertThat(service.getIndex().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB의 수업 목록이 바뀐 경우에만 색인을 다시 만든다")
+    void refreshIfChanged() {
+        // given
+        LectureCatalogVersion version = new LectureCatalogVersion(10L, 10L, LocalDateTime.of(2023, 3, 1, 0, 0));
+        LectureCatalogVersion updated = new LectureCatalogVersion(10L, 10L, LocalDateTime.of(2023, 3, 2, 0, 0));
+        when(repository.findVersion()).thenReturn(version, version, updated);
+        when(repository.findAll()).thenReturn(LectureMock.createLectureTemplateList());
+        service.getIndex();
+
+        // when
+        boolean unchanged = service.refreshIfChanged();
+        boolean changed = service.refreshIfChanged();
+
+        // then
+        assertThat(unchanged).isFalse();
+        assertThat(changed).isTrue();
+        verify(repository, times(2)).findAll();
+    }
+}
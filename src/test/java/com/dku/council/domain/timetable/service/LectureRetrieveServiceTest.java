@@ -1,13 +1,16 @@
 package com.dku.council.domain.timetable.service;
 
+import com.dku.council.domain.timetable.model.LectureReloadedEvent;
 import com.dku.council.domain.timetable.model.dto.TimePromise;
 import com.dku.council.domain.timetable.model.entity.LectureTemplate;
 import com.dku.council.domain.timetable.repository.LectureTemplateRepository;
 import com.dku.council.infra.dku.model.DkuAuth;
+import com.dku.council.infra.dku.model.DkuLoginTarget;
 import com.dku.council.infra.dku.model.MajorSubject;
 import com.dku.council.infra.dku.model.Subject;
-import com.dku.council.infra.dku.scrapper.DkuAuthenticationService;
 import com.dku.council.infra.dku.scrapper.DkuLectureService;
+import com.dku.council.infra.dku.scrapper.DkuSessionPool;
+import com.dku.council.util.EntityUtil;
 import com.dku.council.util.ObjectMapperGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,23 +19,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.util.LinkedMultiValueMap;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class LectureRetrieveServiceTest {
 
     @Mock
-    private DkuAuthenticationService dkuAuthenticationService;
+    private DkuSessionPool dkuSessionPool;
 
     @Mock
     private DkuLectureService dkuLectureService;
@@ -40,13 +48,16 @@ class LectureRetrieveServiceTest {
     @Mock
     private LectureTemplateRepository lectureTemplateRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private final ObjectMapper objectMapper = ObjectMapperGenerator.create();
     private LectureRetrieveService service;
 
     @BeforeEach
     void setUp() {
-        service = new LectureRetrieveService(objectMapper, dkuAuthenticationService, dkuLectureService,
-                lectureTemplateRepository, "id", "password");
+        service = new LectureRetrieveService(objectMapper, dkuSessionPool, dkuLectureService,
+                lectureTemplateRepository, eventPublisher);
     }
 
     @Test
@@ -58,19 +69,105 @@ class LectureRetrieveServiceTest {
 
         List<Subject> subjects = createSubjects();
 
-        when(dkuAuthenticationService.loginWebInfo("id", "password")).thenReturn(auth);
+        givenSession(auth);
         when(dkuLectureService.crawlLecture(auth, yearMonth)).thenReturn(subjects);
+        when(lectureTemplateRepository.findAll()).thenReturn(List.of());
 
         // when
         service.reloadLectures(yearMonth);
 
         // then
-        verify(lectureTemplateRepository).deleteAll();
+        verify(lectureTemplateRepository, never()).deleteAll();
+        verify(lectureTemplateRepository, never()).deleteAllByIdInBatch(any());
         verify(lectureTemplateRepository).saveAll(checkSubjects(subjects));
+        verify(eventPublisher).publishEvent(any(LectureReloadedEvent.class));
+    }
+
+    @Test
+    @DisplayName("바뀐 수업만 추가, 수정, 삭제한다.")
+    void reloadLecturesWithDiff() {
+        // given
+        YearMonth yearMonth = YearMonth.of(2022, 9);
+        DkuAuth auth = new DkuAuth(new LinkedMultiValueMap<>());
+
+        List<Subject> subjects = createSubjects();
+        LectureTemplate unchanged = toLecture(subjects.get(0), subjects.get(0).getProfessor(), 1L);
+        LectureTemplate changed = toLecture(subjects.get(1), "이전교수", 2L);
+        LectureTemplate removed = LectureTemplate.builder()
+                .lectureId("999999")
+                .classNumber(1)
+                .name("폐강수업")
+                .build();
+        EntityUtil.injectId(LectureTemplate.class, removed, 3L);
+
+        givenSession(auth);
+        when(dkuLectureService.crawlLecture(auth, yearMonth)).thenReturn(subjects);
+        when(lectureTemplateRepository.findAll()).thenReturn(List.of(unchanged, changed, removed));
+
+        // when
+        service.reloadLectures(yearMonth);
+
+        // then
+        assertThat(changed.getProfessor()).isEqualTo(subjects.get(1).getProfessor());
+        verify(lectureTemplateRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(lectureTemplateRepository).saveAll(checkSubjects(subjects.subList(2, 3)));
+        verify(eventPublisher).publishEvent(any(LectureReloadedEvent.class));
+    }
+
+    @Test
+    @DisplayName("바뀐 수업이 없으면 DB에 반영하지 않는다.")
+    void reloadLecturesWithoutChanges() {
+        // given
+        YearMonth yearMonth = YearMonth.of(2022, 9);
+        DkuAuth auth = new DkuAuth(new LinkedMultiValueMap<>());
+
+        List<Subject> subjects = createSubjects();
+        List<LectureTemplate> existing = new ArrayList<>();
+        for (int i = 0; i < subjects.size(); i++) {
+            existing.add(toLecture(subjects.get(i), subjects.get(i).getProfessor(), (long) i));
+        }
+
+        givenSession(auth);
+        when(dkuLectureService.crawlLecture(auth, yearMonth)).thenReturn(subjects);
+        when(lectureTemplateRepository.findAll()).thenReturn(existing);
+
+        // when
+        service.reloadLectures(yearMonth);
+
+        // then
+        verify(lectureTemplateRepository, never()).deleteAllByIdInBatch(any());
+        verify(lectureTemplateRepository).saveAll(List.of());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private LectureTemplate toLecture(Subject subject, String professor, Long id) {
+        List<TimePromise> times = subject.getTimes().stream()
+                .map(t -> new TimePromise(t.getFrom(), t.getTo(), t.getDayOfWeek(), t.getPlace()))
+                .collect(Collectors.toList());
+
+        LectureTemplate.LectureTemplateBuilder builder = LectureTemplate.builder()
+                .lectureId(subject.getId())
+                .category(subject.getCategory())
+                .name(subject.getName())
+                .professor(professor)
+                .classNumber(subject.getClassNumber())
+                .credit(subject.getCredit())
+                .timesJson(TimePromise.serialize(objectMapper, times));
+
+        if (subject instanceof MajorSubject) {
+            MajorSubject majorSubject = (MajorSubject) subject;
+            builder.major(majorSubject.getMajor())
+                    .grade(majorSubject.getGrade());
+        }
+
+        LectureTemplate lecture = builder.build();
+        EntityUtil.injectId(LectureTemplate.class, lecture, id);
+        return lecture;
     }
 
     private Iterable<LectureTemplate> checkSubjects(List<Subject> subjects) {
         return argThat(lectures -> {
+            assertThat(lectures).hasSize(subjects.size());
             for (int i = 0; i < subjects.size(); i++) {
                 LectureTemplate lecture = ((List<LectureTemplate>) lectures).get(i);
                 Subject subject = subjects.get(i);
@@ -159,4 +256,11 @@ class LectureRetrieveServiceTest {
                                 .build())
         );
     }
-}
\ No newline at end of file
+
+    private void givenSession(DkuAuth auth) {
+        when(dkuSessionPool.execute(eq(DkuLoginTarget.WEBINFO), any())).thenAnswer(invocation -> {
+            Function<DkuAuth, ?> action = invocation.getArgument(1);
+            return action.apply(auth);
+        });
+    }
+}
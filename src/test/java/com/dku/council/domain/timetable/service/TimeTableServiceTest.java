@@ -1,9 +1,10 @@
 package com.dku.council.domain.timetable.service;
 
-import com.dku.council.domain.post.service.DummyPage;
 import com.dku.council.domain.timetable.exception.TimeConflictException;
 import com.dku.council.domain.timetable.exception.TimeTableNotFoundException;
 import com.dku.council.domain.timetable.exception.TooSmallTimeException;
+import com.dku.council.domain.timetable.model.LectureIndex;
+import com.dku.council.domain.timetable.model.LectureSearchCondition;
 import com.dku.council.domain.timetable.model.TimeScheduleType;
 import com.dku.council.domain.timetable.model.dto.TimePromise;
 import com.dku.council.domain.timetable.model.dto.request.CreateTimeTableRequestDto;
@@ -15,10 +16,8 @@ import com.dku.council.domain.timetable.model.dto.response.TimeTableDto;
 import com.dku.council.domain.timetable.model.entity.LectureTemplate;
 import com.dku.council.domain.timetable.model.entity.TimeSchedule;
 import com.dku.council.domain.timetable.model.entity.TimeTable;
-import com.dku.council.domain.timetable.repository.LectureTemplateRepository;
 import com.dku.council.domain.timetable.repository.TimeScheduleRepository;
 import com.dku.council.domain.timetable.repository.TimeTableRepository;
-import com.dku.council.domain.timetable.repository.spec.LectureTemplateSpec;
 import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.domain.user.repository.UserRepository;
 import com.dku.council.mock.LectureMock;
@@ -35,8 +34,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
@@ -60,7 +59,7 @@ class TimeTableServiceTest {
     private TimeTableRepository timeTableRepository;
 
     @Mock
-    private LectureTemplateRepository lectureTemplateRepository;
+    private LectureIndexService lectureIndexService;
 
     @Mock
     private TimeScheduleRepository timeScheduleRepository;
@@ -75,7 +74,7 @@ class TimeTableServiceTest {
 
     @BeforeEach
     void setup() {
-        service = new TimeTableService(mapper, userRepository, lectureTemplateRepository, timeTableRepository, timeScheduleRepository);
+        service = new TimeTableService(mapper, userRepository, lectureIndexService, timeTableRepository, timeScheduleRepository);
         table = TimeTableMock.createDummy();
 
         schedules = LectureMock.createLectureList();
@@ -96,13 +95,11 @@ class TimeTableServiceTest {
     void listLectures() {
         // given
         List<LectureTemplate> lectures = LectureMock.createLectureTemplateList();
-        Specification<LectureTemplate> spec = LectureTemplateSpec.withTitle("");
         Pageable pageable = Pageable.unpaged();
-        Page<LectureTemplate> pages = new DummyPage<>(lectures);
-        given(lectureTemplateRepository.findAll(spec, pageable)).willReturn(pages);
+        given(lectureIndexService.getIndex()).willReturn(LectureIndex.build(mapper, lectures));
 
         // when
-        Page<LectureTemplateDto> actual = service.listLectures(spec, pageable);
+        Page<LectureTemplateDto> actual = service.listLectures(LectureSearchCondition.ALL, pageable);
 
         // then
         List<LectureTemplateDto> lectureDtos = lectures.stream()
@@ -111,6 +108,22 @@ class TimeTableServiceTest {
         assertThat(actual).containsExactlyInAnyOrderElementsOf(lectureDtos);
     }
 
+    @Test
+    @DisplayName("수업 목록 페이징")
+    void listLecturesWithPaging() {
+        // given
+        List<LectureTemplate> lectures = LectureMock.createLectureTemplateList();
+        given(lectureIndexService.getIndex()).willReturn(LectureIndex.build(mapper, lectures));
+
+        // when
+        Page<LectureTemplateDto> actual = service.listLectures(LectureSearchCondition.ALL, PageRequest.of(1, 3));
+
+        // then
+        assertThat(actual.getTotalElements()).isEqualTo(lectures.size());
+        assertThat(actual.getContent()).hasSize(lectures.size() - 3);
+        assertThat(actual.getContent().get(0).getName()).isEqualTo(lectures.get(3).getName());
+    }
+
     @Test
     @DisplayName("시간표 목록 조회")
     void list() {
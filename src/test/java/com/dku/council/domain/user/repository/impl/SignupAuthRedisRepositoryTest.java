@@ -1,13 +1,9 @@
 package com.dku.council.domain.user.repository.impl;
 
 import com.dku.council.global.config.redis.RedisKeys;
-import com.dku.council.global.model.CacheObject;
 import com.dku.council.util.ClockUtil;
 import com.dku.council.util.base.AbstractContainerRedisTest;
 import com.dku.council.util.test.FullIntegrationTest;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +17,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -37,9 +34,6 @@ class SignupAuthRedisRepositoryTest extends AbstractContainerRedisTest {
     @Value("${app.auth.signup-expires}")
     private Duration expires;
 
-    @Autowired
-    private ObjectMapper objectMapper;
-
     private Instant now;
     private final Clock clock = ClockUtil.create();
     private final String token = "12345";
@@ -53,35 +47,33 @@ class SignupAuthRedisRepositoryTest extends AbstractContainerRedisTest {
 
     @Test
     @DisplayName("Auth 저장이 잘 되는가")
-    void setAuthPayload() throws JsonProcessingException {
+    void setAuthPayload() {
         // given
-        String key = repository.makeEntryKey(token, auth);
-        ClockUtil.create();
+        String key = RedisKeys.combine(RedisKeys.SIGNUP_AUTH_KEY, repository.makeEntryKey(token, auth));
 
         // when
         TestClass data = new TestClass();
         repository.setAuthPayload(token, auth, data, now);
 
         // then
-        Object o = redisTemplate.opsForHash().get(RedisKeys.SIGNUP_AUTH_KEY, key);
-        assertThat(getAuth(o).getValue()).isEqualTo(data);
+        Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
+        assertThat(ttl).isBetween(expires.getSeconds() - 5, expires.getSeconds());
+        assertThat(repository.getAuthPayload(token, auth, TestClass.class, now)).contains(data);
     }
 
     @Test
     @DisplayName("Auth 중복 저장시 덮어쓰기")
-    void setAuthPayloadTwice() throws JsonProcessingException {
+    void setAuthPayloadTwice() {
         // given
         TestClass data = new TestClass();
         TestClass data2 = new TestClass(5);
-        String key = repository.makeEntryKey(token, auth);
 
         // when
         repository.setAuthPayload(token, auth, data, now);
         repository.setAuthPayload(token, auth, data2, now);
 
         // then
-        Object o = redisTemplate.opsForHash().get(RedisKeys.SIGNUP_AUTH_KEY, key);
-        assertThat(getAuth(o).getValue()).isEqualTo(data2);
+        assertThat(repository.getAuthPayload(token, auth, TestClass.class, now)).contains(data2);
     }
 
     @Test
@@ -124,8 +116,8 @@ class SignupAuthRedisRepositoryTest extends AbstractContainerRedisTest {
         boolean result = repository.deleteAuthPayload(token, auth);
 
         // then
-        Long size = redisTemplate.opsForHash().size(RedisKeys.SIGNUP_AUTH_KEY);
-        assertThat(size).isEqualTo(0);
+        String key = RedisKeys.combine(RedisKeys.SIGNUP_AUTH_KEY, repository.makeEntryKey(token, auth));
+        assertThat(redisTemplate.hasKey(key)).isFalse();
         assertThat(result).isTrue();
     }
 
@@ -139,12 +131,6 @@ class SignupAuthRedisRepositoryTest extends AbstractContainerRedisTest {
         assertThat(result).isFalse();
     }
 
-    private CacheObject<TestClass> getAuth(Object o) throws JsonProcessingException {
-        String str = (String) o;
-        JavaType type = objectMapper.getTypeFactory().constructParametricType(CacheObject.class, TestClass.class);
-        return objectMapper.readValue(str, type);
-    }
-
     private static class TestClass {
         public String stringValue;
         public int intValue;
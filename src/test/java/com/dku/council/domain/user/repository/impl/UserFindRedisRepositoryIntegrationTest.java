@@ -0,0 +1,96 @@
+package com.dku.council.domain.user.repository.impl;
+
+import com.dku.council.domain.user.model.SMSAuth;
+import com.dku.council.global.config.redis.RedisKeys;
+import com.dku.council.util.ClockUtil;
+import com.dku.council.util.base.AbstractContainerRedisTest;
+import com.dku.council.util.test.FullIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@FullIntegrationTest
+class UserFindRedisRepositoryIntegrationTest extends AbstractContainerRedisTest {
+
+    private final Clock clock = ClockUtil.create();
+
+    @Autowired
+    private UserFindRedisRepository repository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Value("${app.auth.find-expires}")
+    private Duration expires;
+
+    @Test
+    @DisplayName("Auth 저장이 잘 되는가")
+    void setPwdAuthCode() {
+        // given
+        Instant now = Instant.now(clock);
+
+        // when
+        repository.setAuthCode("token", "code", "phone", now);
+
+        // then
+        String key = RedisKeys.combine(RedisKeys.USER_FIND_AUTH_KEY, "token");
+        Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
+        assertThat(ttl).isBetween(expires.getSeconds() - 5, expires.getSeconds());
+    }
+
+    @Test
+    @DisplayName("Auth 조회가 잘 되는가")
+    void getPwdAuthCode() {
+        // given
+        Instant now = Instant.now(clock);
+        repository.setAuthCode("token", "code", "phone", now);
+
+        // when
+        Optional<SMSAuth> auth = repository.getAuthCode("token", now);
+
+        // then
+        assertThat(auth.orElseThrow().getCode()).isEqualTo("code");
+        assertThat(auth.orElseThrow().getPhone()).isEqualTo("phone");
+    }
+
+    @Test
+    @DisplayName("만료된 Auth는 조회되지 않는가")
+    void getPwdAuthCodeExpired() {
+        // given
+        Instant now = Instant.now(clock);
+        repository.setAuthCode("token", "code", "phone", now);
+
+        // when
+        Optional<SMSAuth> auth = repository.getAuthCode("token", now.plus(expires).plusSeconds(1));
+
+        // then
+        assertThat(auth).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Auth 삭제가 잘 되는가")
+    void deletePwdAuthCode() {
+        // given
+        Instant now = Instant.now(clock);
+        repository.setAuthCode("token", "code", "phone", now);
+
+        // when
+        boolean removed = repository.remove("token");
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(repository.getAuthCode("token", now)).isEmpty();
+    }
+}
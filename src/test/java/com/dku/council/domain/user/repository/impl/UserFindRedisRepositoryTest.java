@@ -2,110 +2,136 @@ package com.dku.council.domain.user.repository.impl;
 
 import com.dku.council.domain.user.model.SMSAuth;
 import com.dku.council.global.config.redis.RedisKeys;
-import com.dku.council.global.model.CacheObject;
 import com.dku.council.util.ClockUtil;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class UserFindRedisRepositoryTest {
 
+    private static final byte[] KEY = RedisKeys.combine(RedisKeys.USER_FIND_AUTH_KEY, "token")
+            .getBytes(StandardCharsets.UTF_8);
+
     private final Clock clock = ClockUtil.create();
+    private final Duration expires = Duration.ofMinutes(5);
 
     @Mock
     private StringRedisTemplate redisTemplate;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private RedisConnection connection;
 
     @Mock
-    private HashOperations<String, Object, Object> ops;
+    private RedisStringCommands stringCommands;
 
     @Mock
-    private TypeFactory typeFactory;
+    private RedisKeyCommands keyCommands;
 
     private UserFindRedisRepository repository;
 
     @BeforeEach
     public void setup() {
-        repository = new UserFindRedisRepository(redisTemplate, objectMapper, Duration.ofDays(1));
+        repository = new UserFindRedisRepository(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry(), expires);
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(inv -> inv.<RedisCallback<?>>getArgument(0).doInRedis(connection));
     }
 
     @Test
     @DisplayName("Auth 저장이 잘 되는가")
-    void setPwdAuthCode() throws JsonProcessingException {
+    void setPwdAuthCode() {
         // given
         Instant now = Instant.now(clock);
-        when(redisTemplate.opsForHash()).thenReturn(ops);
-        when(objectMapper.writeValueAsString(argThat(arg -> {
-            SMSAuth auth = ((CacheObject<SMSAuth>) arg).getValue();
-            return auth.getCode().equals("code") && auth.getPhone().equals("phone");
-        }))).thenReturn("json");
+        when(connection.stringCommands()).thenReturn(stringCommands);
 
         // when
         repository.setAuthCode("token", "code", "phone", now);
 
         // then
-        verify(ops).put(
-                eq(RedisKeys.USER_FIND_AUTH_KEY),
-                eq("token"),
-                eq("json"));
+        ArgumentCaptor<Expiration> expiration = ArgumentCaptor.forClass(Expiration.class);
+        verify(stringCommands).set(eq(KEY), any(), expiration.capture(), eq(SetOption.upsert()));
+        assertThat(expiration.getValue().getExpirationTimeInMilliseconds()).isEqualTo(expires.toMillis());
     }
 
     @Test
     @DisplayName("Auth 조회가 잘 되는가")
-    void getPwdAuthCode() throws JsonProcessingException {
+    void getPwdAuthCode() {
         // given
         Instant now = Instant.now(clock);
-        String token = "token";
-        String json = "json";
-        SMSAuth expected = new SMSAuth("code", "phone");
-        CacheObject<SMSAuth> obj = new CacheObject<>(now.plusSeconds(1), expected);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        byte[] saved = saveAuthCode(now);
+        when(stringCommands.get(KEY)).thenReturn(saved);
 
-        when(redisTemplate.opsForHash()).thenReturn(ops);
-        when(ops.get(RedisKeys.USER_FIND_AUTH_KEY, token)).thenReturn(json);
-        when(objectMapper.getTypeFactory()).thenReturn(typeFactory);
-        when(typeFactory.constructType((Class) any())).thenReturn(null);
-        when(objectMapper.readValue(eq(json), (JavaType) isNull())).thenReturn(obj);
+        // when
+        Optional<SMSAuth> auth = repository.getAuthCode("token", now);
+
+        // then
+        assertThat(auth.orElseThrow().getCode()).isEqualTo("code");
+        assertThat(auth.orElseThrow().getPhone()).isEqualTo("phone");
+    }
+
+    @Test
+    @DisplayName("만료된 Auth는 조회되지 않고 삭제되는가")
+    void getPwdAuthCodeExpired() {
+        // given
+        Instant now = Instant.now(clock);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        byte[] saved = saveAuthCode(now);
+        when(stringCommands.get(KEY)).thenReturn(saved);
 
         // when
-        Optional<SMSAuth> auth = repository.getAuthCode(token, now);
+        Optional<SMSAuth> auth = repository.getAuthCode("token", now.plus(expires).plusSeconds(1));
 
         // then
-        assertThat(auth.orElseThrow()).isEqualTo(expected);
+        assertThat(auth).isEmpty();
+        verify(keyCommands).del(KEY);
     }
 
     @Test
     @DisplayName("Auth 삭제가 잘 되는가")
     void deletePwdAuthCode() {
         // given
-        String token = "token";
-        when(redisTemplate.opsForHash()).thenReturn(ops);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(keyCommands.del(KEY)).thenReturn(1L);
 
         // when
-        repository.remove(token);
+        boolean removed = repository.remove("token");
 
         // then
-        verify(ops).delete(RedisKeys.USER_FIND_AUTH_KEY, token);
+        assertThat(removed).isTrue();
+    }
+
+    private byte[] saveAuthCode(Instant now) {
+        repository.setAuthCode("token", "code", "phone", now);
+
+        ArgumentCaptor<byte[]> value = ArgumentCaptor.forClass(byte[].class);
+        verify(stringCommands).set(eq(KEY), value.capture(), any(), any());
+        return value.getValue();
     }
-}
\ No newline at end of file
+}
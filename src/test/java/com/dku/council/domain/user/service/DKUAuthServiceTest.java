@@ -11,8 +11,9 @@ import com.dku.council.domain.user.repository.MajorRepository;
 import com.dku.council.domain.user.repository.SignupAuthRepository;
 import com.dku.council.domain.user.repository.UserRepository;
 import com.dku.council.infra.dku.model.DkuAuth;
+import com.dku.council.infra.dku.model.DkuLoginTarget;
 import com.dku.council.infra.dku.model.StudentInfo;
-import com.dku.council.infra.dku.scrapper.DkuAuthenticationService;
+import com.dku.council.infra.dku.scrapper.DkuSessionPool;
 import com.dku.council.infra.dku.scrapper.DkuStudentService;
 import com.dku.council.mock.MajorMock;
 import com.dku.council.mock.UserMock;
@@ -44,7 +45,7 @@ class DKUAuthServiceTest {
     private DkuStudentService crawlerService;
 
     @Mock
-    private DkuAuthenticationService authenticationService;
+    private DkuSessionPool sessionPool;
 
     @Mock
     private UserRepository userRepository;
@@ -63,7 +64,7 @@ class DKUAuthServiceTest {
     @BeforeEach
     public void setup() {
         this.service = new DKUAuthService(clock, crawlerService,
-                authenticationService, userRepository, userInfoService,
+                sessionPool, userRepository, userInfoService,
                 dkuAuthRepository, majorRepository);
     }
 
@@ -123,7 +124,7 @@ class DKUAuthServiceTest {
                 "", "");
         RequestDkuStudentDto dto = new RequestDkuStudentDto(id, pwd);
 
-        when(authenticationService.loginWebInfo(id, pwd)).thenReturn(auth);
+        when(sessionPool.login(DkuLoginTarget.WEBINFO, id, pwd)).thenReturn(auth);
         when(crawlerService.crawlStudentInfo(auth)).thenReturn(info);
         when(userRepository.findByStudentId(id)).thenReturn(Optional.empty());
 
@@ -164,7 +165,7 @@ class DKUAuthServiceTest {
                 "major", "department");
         RequestDkuStudentDto dto = new RequestDkuStudentDto(id, pwd);
 
-        when(authenticationService.loginWebInfo(id, pwd)).thenReturn(auth);
+        when(sessionPool.login(DkuLoginTarget.WEBINFO, id, pwd)).thenReturn(auth);
         when(crawlerService.crawlStudentInfo(auth)).thenReturn(info);
         when(majorRepository.findByName(info.getMajorName(), info.getDepartmentName()))
                 .thenReturn(Optional.of(MajorMock.create(info.getMajorName(), info.getDepartmentName())));
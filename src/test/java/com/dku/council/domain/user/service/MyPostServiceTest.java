@@ -6,6 +6,7 @@ import com.dku.council.domain.like.service.LikeService;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.post.service.ViewCountService;
 import com.dku.council.mock.NewsMock;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +38,9 @@ class MyPostServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private ViewCountService viewCountService;
+
     @InjectMocks
     private MyPostService myPostService;
 
@@ -53,8 +58,8 @@ class MyPostServiceTest {
                 .thenReturn(likedIds);
         when(postRepository.findPageById(likedIds.getContent(), pageable))
                 .thenReturn(dtos);
-        when(likeService.getCountOfLikes(any(), eq(LikeTarget.POST)))
-                .thenReturn(5);
+        when(likeService.getCountsOfLikes(any(), eq(LikeTarget.POST)))
+                .thenReturn(Map.of());
 
         // when
         Page<SummarizedGenericPostDto> posts = myPostService.listMyLikedPosts(1L, pageable, 100);
@@ -0,0 +1,152 @@
+package com.dku.council.global.base;
+
+import com.dku.council.global.cache.CacheCodec;
+import com.dku.council.util.base.AbstractContainerRedisTest;
+import com.dku.council.util.test.FullIntegrationTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@FullIntegrationTest
+class AbstractKeyValueCacheRepositoryTest extends AbstractContainerRedisTest {
+
+    private static final String ROOT_KEY = "testCache";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Instant now = Instant.ofEpochSecond(1_000_000_000);
+
+    private TestCacheRepository repository;
+
+
+    @BeforeEach
+    public void setup() {
+        repository = new TestCacheRepository(redisTemplate, objectMapper, meterRegistry, false);
+    }
+
+    @Test
+    @DisplayName("키마다 별도 key로 저장하고 TTL 설정")
+    void setWithTtl() {
+        // when
+        repository.set("1", new Payload("a", 1), now, Duration.ofMinutes(10));
+        repository.set("2", new Payload("b", 2), now);
+
+        // then
+        assertThat(redisTemplate.getExpire(ROOT_KEY + ":1")).isBetween(590L, 600L);
+        assertThat(redisTemplate.getExpire(ROOT_KEY + ":2")).isEqualTo(-1L);
+        assertThat(repository.get("1", Payload.class, now)).contains(new Payload("a", 1));
+        assertThat(repository.get("2", Payload.class, now)).contains(new Payload("b", 2));
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지났으면 조회되지 않고 삭제")
+    void getExpired() {
+        // given
+        repository.set("1", new Payload("a", 1), now, Duration.ofMinutes(10));
+
+        // when
+        boolean present = repository.get("1", Payload.class, now.plusSeconds(601)).isPresent();
+
+        // then
+        assertThat(present).isFalse();
+        assertThat(redisTemplate.hasKey(ROOT_KEY + ":1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 키를 한 번에 저장하고 조회")
+    void setAllAndGetAll() {
+        // given
+        repository.setAll(Map.of(
+                "1", new Payload("a", 1),
+                "2", new Payload("b", 2)
+        ), now, Duration.ofMinutes(10));
+
+        // when
+        Map<String, Payload> result = repository.getAll(List.of("1", "2", "3"), Payload.class, now);
+
+        // then
+        assertThat(result).containsOnly(
+                Map.entry("1", new Payload("a", 1)),
+                Map.entry("2", new Payload("b", 2))
+        );
+        assertThat(redisTemplate.getExpire(ROOT_KEY + ":2")).isBetween(590L, 600L);
+    }
+
+    @Test
+    @DisplayName("압축 codec으로 저장하고 조회")
+    void compressed() {
+        // given
+        TestCacheRepository compressed = new TestCacheRepository(redisTemplate, objectMapper, meterRegistry, true);
+        Payload payload = new Payload("a".repeat(1000), 1);
+
+        // when
+        compressed.set("1", payload, now);
+
+        // then
+        assertThat(compressed.get("1", Payload.class, now)).contains(payload);
+        assertThat(redisTemplate.opsForValue().size(ROOT_KEY + ":1")).isLessThan(200L);
+    }
+
+    @Test
+    @DisplayName("hit/miss 횟수 기록")
+    void metrics() {
+        // given
+        repository.set("1", new Payload("a", 1), now);
+
+        // when
+        repository.get("1", Payload.class, now);
+        repository.get("2", Payload.class, now);
+        repository.get("3", Payload.class, now);
+
+        // then
+        assertThat(meterRegistry.counter("cache.redis.requests", "cache", ROOT_KEY, "result", "hit").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.counter("cache.redis.requests", "cache", ROOT_KEY, "result", "miss").count())
+                .isEqualTo(2);
+    }
+
+    private static class TestCacheRepository extends AbstractKeyValueCacheRepository {
+        private final boolean compressed;
+
+        TestCacheRepository(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                            SimpleMeterRegistry meterRegistry, boolean compressed) {
+            super(redisTemplate, objectMapper, meterRegistry, ROOT_KEY);
+            this.compressed = compressed;
+        }
+
+        @Override
+        protected <T> CacheCodec<T> createCodec(Class<T> type) {
+            CacheCodec<T> codec = super.createCodec(type);
+            return compressed ? CacheCodec.compressed(codec) : codec;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static class Payload {
+        private final String name;
+        private final int value;
+    }
+}
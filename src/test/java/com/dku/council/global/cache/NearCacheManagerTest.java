@@ -0,0 +1,180 @@
+package com.dku.council.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static com.dku.council.global.config.redis.RedisKeys.NEAR_CACHE_INVALIDATION_CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheManagerTest {
+
+    private static final Instant NOW = Instant.ofEpochSecond(1_000_000_000);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private Clock clock;
+
+    private NearCacheManager manager;
+
+
+    @BeforeEach
+    public void setup() {
+        this.manager = new NearCacheManager(redisTemplate, listenerContainer, new SimpleMeterRegistry(), clock);
+    }
+
+    @Test
+    @DisplayName("캐싱한 값 가져오기")
+    void putAndGet() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        NearCache<String> cache = manager.create("test", 10, Duration.ofSeconds(30));
+
+        // when
+        cache.put("1", "value");
+
+        // then
+        assertThat(cache.get("1")).contains("value");
+        assertThat(cache.get("2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ttl이 지나면 만료")
+    void expiresAfterTtl() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        NearCache<String> cache = manager.create("test", 10, Duration.ofSeconds(30));
+        cache.put("1", "value");
+
+        // when
+        when(clock.instant()).thenReturn(NOW.plusSeconds(30));
+
+        // then
+        assertThat(cache.get("1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("값의 만료 시각이 ttl보다 빠르면 값의 만료 시각에 만료")
+    void expiresAtValueExpiry() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        NearCache<String> cache = manager.create("test", 10, Duration.ofSeconds(30));
+        cache.put("1", "value", NOW.plusSeconds(10));
+
+        // when
+        when(clock.instant()).thenReturn(NOW.plusSeconds(10));
+
+        // then
+        assertThat(cache.get("1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 값부터 제거")
+    void evictLeastRecentlyUsed() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        NearCache<String> cache = manager.create("test", 2, Duration.ofSeconds(30));
+        cache.put("1", "value1");
+        cache.put("2", "value2");
+        cache.get("1");
+
+        // when
+        cache.put("3", "value3");
+
+        // then
+        assertThat(cache.get("1")).contains("value1");
+        assertThat(cache.get("2")).isEmpty();
+        assertThat(cache.get("3")).contains("value3");
+    }
+
+    @Test
+    @DisplayName("invalidate하면 지우고 다른 서버에 전파")
+    void invalidate() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        NearCache<String> cache = manager.create("test", 10, Duration.ofSeconds(30));
+        cache.put("1", "value");
+
+        // when
+        cache.invalidate("1");
+
+        // then
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(NEAR_CACHE_INVALIDATION_CHANNEL), message.capture());
+        assertThat(message.getValue()).endsWith(":test:1");
+        assertThat(cache.get("1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 서버의 invalidation 메시지를 받으면 지움")
+    void onMessageFromOtherNode() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        NearCache<String> cache = manager.create("test", 10, Duration.ofSeconds(30));
+        cache.put("1", "value");
+        cache.put("2", "value");
+
+        // when
+        manager.onMessage(message("other:test:1"), null);
+
+        // then
+        assertThat(cache.get("1")).isEmpty();
+        assertThat(cache.get("2")).contains("value");
+    }
+
+    @Test
+    @DisplayName("다른 서버의 전체 invalidation 메시지를 받으면 모두 지움")
+    void onMessageInvalidateAll() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        NearCache<String> cache = manager.create("test", 10, Duration.ofSeconds(30));
+        cache.put("1", "value");
+        cache.put("2", "value");
+
+        // when
+        manager.onMessage(message("other:test:"), null);
+
+        // then
+        assertThat(cache.get("1")).isEmpty();
+        assertThat(cache.get("2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 이름의 캐시는 생성할 수 없음")
+    void createDuplicated() {
+        // given
+        manager.create("test", 10, Duration.ofSeconds(30));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () ->
+                manager.create("test", 10, Duration.ofSeconds(30)));
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(NEAR_CACHE_INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
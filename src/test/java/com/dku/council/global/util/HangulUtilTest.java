@@ -0,0 +1,29 @@
+package com.dku.council.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulUtilTest {
+
+    @Test
+    @DisplayName("완성형 한글의 초성을 가져옴")
+    void getChoseong() {
+        // when
+        String choseong = HangulUtil.toChoseong("까치 Java 힣");
+
+        // then
+        assertThat(choseong).isEqualTo("ㄲㅊ Java ㅎ");
+    }
+
+    @Test
+    @DisplayName("초성으로 쓸 수 있는 자음인지 확인")
+    void isChoseong() {
+        assertThat(HangulUtil.isChoseong('ㄱ')).isTrue();
+        assertThat(HangulUtil.isChoseong('ㅎ')).isTrue();
+        assertThat(HangulUtil.isChoseong('ㅏ')).isFalse();
+        assertThat(HangulUtil.isChoseong('가')).isFalse();
+        assertThat(HangulUtil.isChoseong('a')).isFalse();
+    }
+}
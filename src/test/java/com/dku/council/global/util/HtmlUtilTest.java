@@ -0,0 +1,48 @@
+package com.dku.council.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HtmlUtilTest {
+
+    @Test
+    @DisplayName("HTML 태그를 제거하고 공백을 합침")
+    void toExcerptStripsTags() {
+        // given
+        String html = "<p>안녕하세요</p>\n<p><b>총학생회</b>   공지입니다.</p><script>alert(1)</script>";
+
+        // when
+        String excerpt = HtmlUtil.toExcerpt(html, 100);
+
+        // then
+        assertThat(excerpt).isEqualTo("안녕하세요 총학생회 공지입니다.");
+    }
+
+    @Test
+    @DisplayName("최대 길이만큼 자름")
+    void toExcerptSlices() {
+        // when
+        String excerpt = HtmlUtil.toExcerpt("<div>abcdefg</div>", 3);
+
+        // then
+        assertThat(excerpt).isEqualTo("abc");
+    }
+
+    @Test
+    @DisplayName("서로게이트 쌍 중간에서 자르지 않음")
+    void toExcerptKeepsSurrogatePair() {
+        // when
+        String excerpt = HtmlUtil.toExcerpt("ab😀", 3);
+
+        // then
+        assertThat(excerpt).isEqualTo("ab");
+    }
+
+    @Test
+    @DisplayName("null은 null로 반환")
+    void toExcerptNull() {
+        assertThat(HtmlUtil.toExcerpt(null, 10)).isNull();
+    }
+}
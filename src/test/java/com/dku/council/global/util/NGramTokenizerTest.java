@@ -0,0 +1,41 @@
+package com.dku.council.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramTokenizerTest {
+
+    @Test
+    @DisplayName("단어를 두 글자씩 나누고 등장 횟수를 셈")
+    void tokenize() {
+        // when
+        Map<String, Integer> tokens = NGramTokenizer.tokenize("축제 일정, 축제!");
+
+        // then
+        assertThat(tokens).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "축제", 2,
+                "일정", 1
+        ));
+    }
+
+    @Test
+    @DisplayName("한 글자 단어는 그대로 토큰이 됨")
+    void tokenizeSingleCharacter() {
+        // when
+        Map<String, Integer> tokens = NGramTokenizer.tokenize("a 총학생회");
+
+        // then
+        assertThat(tokens).containsOnlyKeys("a", "총학", "학생", "생회");
+    }
+
+    @Test
+    @DisplayName("검색어는 소문자로 바꾸고 중복을 제거함")
+    void tokenizeQuery() {
+        // when & then
+        assertThat(NGramTokenizer.tokenizeQuery("DKU dku")).containsExactly("dk", "ku");
+    }
+}
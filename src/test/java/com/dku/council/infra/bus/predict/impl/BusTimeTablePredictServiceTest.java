@@ -14,13 +14,15 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class BusTimeTablePredictServiceTest {
 
     @Mock
-    private TimeTableParser parser;
+    private TimeTableLoader loader;
 
     @Mock
     private TimeTable table;
@@ -31,6 +33,14 @@ class BusTimeTablePredictServiceTest {
     @InjectMocks
     private BusTimeTablePredictService service;
 
+    private void loadTable(DayType dayType) {
+        when(loader.fingerprint()).thenReturn("v1");
+        when(loader.load()).thenReturn(TimeTableIndex.builder()
+                .put(dayType, BusStation.DKU_GATE, "11", table)
+                .build());
+        service.reloadIfChanged();
+    }
+
     @Test
     @DisplayName("다음 버스 도착 예측")
     void remainingNextBusArrival() {
@@ -40,7 +50,7 @@ class BusTimeTablePredictServiceTest {
         when(table.getFirstTime()).thenReturn(LocalTime.of(10, 0));
         when(table.getLastTime()).thenReturn(LocalTime.of(20, 0));
         when(table.remainingNextBusArrival(now.toLocalTime())).thenReturn(Duration.ZERO);
-        when(parser.parse("/bustable/weekday/dkugate/11.table")).thenReturn(table);
+        loadTable(DayType.WEEKDAY);
         when(holidayService.isHoliday(now.toLocalDate())).thenReturn(false);
 
         // when
@@ -59,7 +69,7 @@ class BusTimeTablePredictServiceTest {
         when(table.getFirstTime()).thenReturn(LocalTime.of(10, 0));
         when(table.getLastTime()).thenReturn(LocalTime.of(20, 0));
         when(table.remainingNextBusArrival(now.toLocalTime())).thenReturn(Duration.ZERO);
-        when(parser.parse("/bustable/saturday/dkugate/11.table")).thenReturn(table);
+        loadTable(DayType.SATURDAY);
         when(holidayService.isHoliday(now.toLocalDate())).thenReturn(false);
 
         // when
@@ -78,7 +88,7 @@ class BusTimeTablePredictServiceTest {
 
         when(table.getFirstTime()).thenReturn(LocalTime.of(10, 0));
         when(table.getLastTime()).thenReturn(LocalTime.of(20, 0));
-        when(parser.parse("/bustable/weekday/dkugate/11.table")).thenReturn(table);
+        loadTable(DayType.WEEKDAY);
         when(holidayService.isHoliday(now.toLocalDate())).thenReturn(false);
 
         // when
@@ -100,7 +110,7 @@ class BusTimeTablePredictServiceTest {
         when(table.getFirstTime()).thenReturn(LocalTime.of(10, 0));
         when(table.getLastTime()).thenReturn(LocalTime.of(1, 0));
         when(table.remainingNextBusArrival(now2.toLocalTime())).thenReturn(Duration.ZERO);
-        when(parser.parse("/bustable/weekday/dkugate/11.table")).thenReturn(table);
+        loadTable(DayType.WEEKDAY);
         when(holidayService.isHoliday(now.toLocalDate())).thenReturn(false);
 
         // when
@@ -111,4 +121,38 @@ class BusTimeTablePredictServiceTest {
         assertThat(time).isNull();
         assertThat(time2).isEqualTo(Duration.ZERO);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("시간표가 없는 버스")
+    void remainingNextBusArrivalWithoutTable() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2023, 3, 7, 11, 0);
+        loadTable(DayType.HOLIDAY);
+        when(holidayService.isHoliday(now.toLocalDate())).thenReturn(false);
+
+        // when
+        Duration time = service.remainingNextBusArrival("11", BusStation.DKU_GATE, now);
+
+        // then
+        assertThat(time).isNull();
+    }
+
+    @Test
+    @DisplayName("시간표 파일이 바뀌었을 때만 다시 읽는다")
+    void reloadIfChanged() {
+        // given
+        when(loader.fingerprint()).thenReturn("v1", "v1", "v2");
+        when(loader.load()).thenReturn(TimeTableIndex.EMPTY);
+
+        // when
+        boolean first = service.reloadIfChanged();
+        boolean unchanged = service.reloadIfChanged();
+        boolean changed = service.reloadIfChanged();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(unchanged).isFalse();
+        assertThat(changed).isTrue();
+        verify(loader, times(2)).load();
+    }
+}
@@ -0,0 +1,42 @@
+package com.dku.council.infra.bus.predict.impl;
+
+import com.dku.council.domain.bus.model.BusStation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeTableLoaderTest {
+
+    private final TimeTableLoader loader = new TimeTableLoader(new TimeTableParser(), "classpath:/bustable");
+
+    @Test
+    @DisplayName("모든 시간표를 읽어 인덱스를 만드는지?")
+    void load() {
+        // when
+        TimeTableIndex index = loader.load();
+
+        // then
+        assertThat(index.size()).isEqualTo(23);
+        assertThat(index.find(DayType.WEEKDAY, BusStation.DKU_GATE, "shuttle-bus")).isNotNull();
+        assertThat(index.find(DayType.SATURDAY, BusStation.BEAR_STATUE, "shuttle-bus")).isNull();
+
+        TimeTable table = index.find(DayType.WEEKDAY, BusStation.BEAR_STATUE, "24");
+        assertThat(table).isNotNull();
+        assertThat(table.getFirstTime()).isEqualTo(LocalTime.of(5, 52)); // offset -2분
+    }
+
+    @Test
+    @DisplayName("시간표 파일이 그대로면 fingerprint도 같은지?")
+    void fingerprint() {
+        // when
+        String fingerprint1 = loader.fingerprint();
+        String fingerprint2 = loader.fingerprint();
+
+        // then
+        assertThat(fingerprint1).isNotEmpty();
+        assertThat(fingerprint1).isEqualTo(fingerprint2);
+    }
+}
@@ -1,11 +1,15 @@
 package com.dku.council.infra.bus.predict.impl;
 
+import com.dku.council.infra.bus.exception.CannotGetTimeTable;
 import com.dku.council.util.FieldReflector;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalTime;
 import java.util.List;
 
@@ -46,7 +50,45 @@ class TimeTableParserTest {
         TimeTable table = parser.parse("/mockdata/bus/test-bus.table");
 
         // then
-        List<LocalTime> times = FieldReflector.get(TimeTable.class, table, "timeTables");
-        Assertions.assertThat(times).containsExactlyElementsOf(expected);
+        int[] times = FieldReflector.get(TimeTable.class, table, "timeTables");
+        Assertions.assertThat(times).containsExactly(expected.stream()
+                .mapToInt(LocalTime::toSecondOfDay)
+                .toArray());
+    }
+
+    @Test
+    @DisplayName("offset으로 자정을 넘기는 시간표")
+    void parseWithOffsetOverMidnight() {
+        // given
+        String source = "@offset PT10M\n23:40\n23:55\n";
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> parser.parse(toStream(source), "test"))
+                .isInstanceOf(CannotGetTimeTable.class);
+    }
+
+    @Test
+    @DisplayName("음수 offset")
+    void parseWithNegativeOffset() {
+        // given
+        String source = "# comment\n@offset -PT2M\n\n5:54\n6:11\n";
+
+        // when
+        TimeTable table = parser.parse(toStream(source), "test");
+
+        // then
+        Assertions.assertThat(table.getFirstTime()).isEqualTo(LocalTime.of(5, 52));
+        Assertions.assertThat(table.getLastTime()).isEqualTo(LocalTime.of(6, 9));
+    }
+
+    @Test
+    @DisplayName("시간표가 없는 경우")
+    void parseNotFound() {
+        Assertions.assertThatThrownBy(() -> parser.parse("/mockdata/bus/not-found.table"))
+                .isInstanceOf(CannotGetTimeTable.class);
+    }
+
+    private static InputStream toStream(String source) {
+        return new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8));
     }
 }
\ No newline at end of file
@@ -34,7 +34,7 @@ class GGBusProviderTest extends AbstractMockServerTest {
         mockXml("/bus/getBusArrivalList");
 
         // when
-        List<BusArrival> arrivals = service.retrieveBusArrival(BusStation.DKU_GATE);
+        List<BusArrival> arrivals = service.retrieveBusArrival(BusStation.DKU_GATE).block();
 
         // then
         assertThat(arrivals.size()).isEqualTo(2);
@@ -64,7 +64,7 @@ class GGBusProviderTest extends AbstractMockServerTest {
 
         try {
             // when
-            service.retrieveBusArrival(BusStation.DKU_GATE);
+            service.retrieveBusArrival(BusStation.DKU_GATE).block();
             fail("CannotGetBusArrivalException is not thrown.");
         } catch (CannotGetBusArrivalException e) {
             // then
@@ -79,7 +79,7 @@ class GGBusProviderTest extends AbstractMockServerTest {
         mockXml("/bus/getBusArrivalList-empty");
 
         // when
-        List<BusArrival> arrivals = service.retrieveBusArrival(BusStation.DKU_GATE);
+        List<BusArrival> arrivals = service.retrieveBusArrival(BusStation.DKU_GATE).block();
 
         // then
         assertThat(arrivals).isEmpty();
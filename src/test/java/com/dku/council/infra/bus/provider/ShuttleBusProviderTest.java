@@ -24,8 +24,8 @@ class ShuttleBusProviderTest {
     @DisplayName("빈 리스트 반환")
     void retrieveBusArrival() {
         // when
-        List<BusArrival> result = provider.retrieveBusArrival(BusStation.DKU_GATE);
-        List<BusArrival> result2 = provider.retrieveBusArrival(BusStation.BEAR_STATUE);
+        List<BusArrival> result = provider.retrieveBusArrival(BusStation.DKU_GATE).block();
+        List<BusArrival> result2 = provider.retrieveBusArrival(BusStation.BEAR_STATUE).block();
 
         // then
         assertThat(result).isEmpty();
@@ -34,7 +34,7 @@ class TownBusProviderTest extends AbstractMockServerTest {
         mockJson("/bus/kakao");
 
         // when
-        List<BusArrival> arrivals = service.retrieveBusArrival(BusStation.DKU_GATE);
+        List<BusArrival> arrivals = service.retrieveBusArrival(BusStation.DKU_GATE).block();
 
         // then
         assertThat(arrivals.size()).isEqualTo(3);
@@ -61,6 +61,6 @@ class TownBusProviderTest extends AbstractMockServerTest {
 
         // when & then
         Assertions.assertThrows(CannotGetBusArrivalException.class, () ->
-                service.retrieveBusArrival(BusStation.DKU_GATE));
+                service.retrieveBusArrival(BusStation.DKU_GATE).block());
     }
 }
\ No newline at end of file
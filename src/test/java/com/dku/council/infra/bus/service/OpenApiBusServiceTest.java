@@ -1,6 +1,8 @@
 package com.dku.council.infra.bus.service;
 
 import com.dku.council.domain.bus.model.BusStation;
+import com.dku.council.domain.bus.model.CachedBusArrivals;
+import com.dku.council.infra.bus.exception.CannotGetBusArrivalException;
 import com.dku.council.infra.bus.model.BusArrival;
 import com.dku.council.infra.bus.model.BusStatus;
 import com.dku.council.infra.bus.predict.BusArrivalPredictService;
@@ -10,6 +12,7 @@ import com.dku.council.infra.bus.provider.ShuttleBusProvider;
 import com.dku.council.infra.bus.provider.TownBusProvider;
 import com.dku.council.mock.BusArrivalMock;
 import com.dku.council.util.ClockUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,9 +20,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
@@ -32,6 +37,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class OpenApiBusServiceTest {
 
+    private static final Duration PROVIDER_TIMEOUT = Duration.ofMillis(200);
+    private static final Duration STALE_MAX_AGE = Duration.ofMinutes(10);
+
     private final Clock clock = ClockUtil.create();
 
     @Mock
@@ -52,7 +60,8 @@ class OpenApiBusServiceTest {
     @BeforeEach
     public void setup() {
         List<BusArrivalProvider> providers = List.of(ggBusProvider, townBusProvider, shuttleBusProvider);
-        service = new OpenApiBusService(clock, predictService, providers);
+        service = new OpenApiBusService(clock, predictService, providers, new SimpleMeterRegistry(),
+                PROVIDER_TIMEOUT, STALE_MAX_AGE);
 
         when(ggBusProvider.getProviderPrefix()).thenReturn("GG_");
         when(townBusProvider.getProviderPrefix()).thenReturn("T_");
@@ -64,9 +73,9 @@ class OpenApiBusServiceTest {
     public void retrieveBusArrival() {
         // given
         BusStation station = BusStation.DKU_GATE;
-        when(ggBusProvider.retrieveBusArrival(station)).thenReturn(ggBusArrival());
-        when(townBusProvider.retrieveBusArrival(station)).thenReturn(townBusArrival());
-        when(shuttleBusProvider.retrieveBusArrival(station)).thenReturn(List.of());
+        when(ggBusProvider.retrieveBusArrival(station)).thenReturn(Mono.just(ggBusArrival()));
+        when(townBusProvider.retrieveBusArrival(station)).thenReturn(Mono.just(townBusArrival()));
+        when(shuttleBusProvider.retrieveBusArrival(station)).thenReturn(Mono.just(List.of()));
 
         when(predictService.remainingNextBusArrival(any(), eq(station), any())).thenReturn(Duration.ofSeconds(80));
         when(predictService.remainingNextBusArrival(eq("102"), eq(station), any())).thenReturn(null);
@@ -88,6 +97,110 @@ class OpenApiBusServiceTest {
         assertThat(statusMap).isEmpty();
     }
 
+    @Test
+    @DisplayName("실패한 provider는 마지막으로 가져온 도착 정보를 보정해서 사용한다")
+    public void retrieveBusArrivalWithFailedProvider() {
+        // given
+        BusStation station = BusStation.DKU_GATE;
+        CachedBusArrivals lastGood = new CachedBusArrivals(clock.instant().minusSeconds(20), List.of(
+                BusArrivalMock.create("720-3", 5),
+                BusArrival.stopped("102")
+        ));
+        when(ggBusProvider.retrieveBusArrival(station))
+                .thenReturn(Mono.error(new CannotGetBusArrivalException()));
+        when(townBusProvider.retrieveBusArrival(station)).thenReturn(Mono.just(townBusArrival()));
+        when(shuttleBusProvider.retrieveBusArrival(station)).thenReturn(Mono.just(List.of()));
+        when(predictService.remainingNextBusArrival(any(), eq(station), any())).thenReturn(Duration.ofSeconds(80));
+
+        // when
+        List<BusArrival> arrivals = service.retrieveBusArrival(station, lastGood).block().getArrivals();
+
+        // then
+        BusArrival arrival = findArrival(arrivals, "720-3");
+        assertThat(arrival.getStatus()).isEqualTo(BusStatus.RUN);
+        assertThat(arrival.getPredictTimeSec1()).isEqualTo(BusArrivalMock.PREDICT_TIME_SEC1 - 20);
+        assertThat(arrival.getPredictTimeSec2()).isEqualTo(BusArrivalMock.PREDICT_TIME_SEC2 - 20);
+        assertThat(findArrival(arrivals, "102").getStatus()).isEqualTo(BusStatus.PREDICT);
+        assertThat(findArrival(arrivals, "24").getStatus()).isEqualTo(BusStatus.RUN);
+    }
+
+    @Test
+    @DisplayName("응답이 늦은 provider는 기다리지 않고 나머지 결과만 제공한다")
+    public void retrieveBusArrivalWithSlowProvider() {
+        // given
+        BusStation station = BusStation.DKU_GATE;
+        when(ggBusProvider.retrieveBusArrival(station)).thenReturn(Mono.never());
+        when(townBusProvider.retrieveBusArrival(station)).thenReturn(Mono.just(townBusArrival()));
+        when(shuttleBusProvider.retrieveBusArrival(station)).thenReturn(Mono.just(List.of()));
+        when(predictService.remainingNextBusArrival(any(), eq(station), any())).thenReturn(Duration.ofSeconds(80));
+
+        // when
+        List<BusArrival> arrivals = service.retrieveBusArrival(station, null).block(Duration.ofSeconds(5)).getArrivals();
+
+        // then
+        assertThat(findArrival(arrivals, "720-3").getStatus()).isEqualTo(BusStatus.PREDICT);
+        assertThat(findArrival(arrivals, "24").getStatus()).isEqualTo(BusStatus.RUN);
+    }
+
+    @Test
+    @DisplayName("마지막으로 가져온 도착 정보가 너무 오래되었으면 사용하지 않는다")
+    public void retrieveBusArrivalWithStaleArrivals() {
+        // given
+        BusStation station = BusStation.DKU_GATE;
+        CachedBusArrivals lastGood = new CachedBusArrivals(
+                clock.instant().minus(STALE_MAX_AGE).minusSeconds(1),
+                List.of(BusArrivalMock.create("720-3", 5)));
+        when(ggBusProvider.retrieveBusArrival(station))
+                .thenReturn(Mono.error(new CannotGetBusArrivalException()));
+        when(townBusProvider.retrieveBusArrival(station)).thenReturn(Mono.just(List.of()));
+        when(shuttleBusProvider.retrieveBusArrival(station)).thenReturn(Mono.just(List.of()));
+        when(predictService.remainingNextBusArrival(any(), eq(station), any())).thenReturn(Duration.ofSeconds(80));
+
+        // when
+        List<BusArrival> arrivals = service.retrieveBusArrival(station, lastGood).block().getArrivals();
+
+        // then
+        assertThat(findArrival(arrivals, "720-3").getStatus()).isEqualTo(BusStatus.PREDICT);
+    }
+
+    @Test
+    @DisplayName("provider가 계속 실패하면 마지막으로 응답한 시각부터 오래된 정보로 판단한다")
+    public void retrieveBusArrivalWithRepeatedlyFailedProvider() {
+        // given
+        BusStation station = BusStation.DKU_GATE;
+        Duration interval = Duration.ofMinutes(3);
+        CachedBusArrivals lastGood = new CachedBusArrivals(clock.instant(),
+                List.of(BusArrivalMock.create("720-3", 5)));
+        when(ggBusProvider.retrieveBusArrival(station))
+                .thenReturn(Mono.error(new CannotGetBusArrivalException()));
+        when(townBusProvider.retrieveBusArrival(station)).thenReturn(Mono.just(List.of()));
+        when(shuttleBusProvider.retrieveBusArrival(station)).thenReturn(Mono.just(List.of()));
+        when(predictService.remainingNextBusArrival(any(), eq(station), any())).thenReturn(Duration.ofSeconds(80));
+
+        // when
+        List<BusStatus> statuses = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Clock refreshClock = Clock.offset(clock, interval.multipliedBy(i));
+            OpenApiBusService refreshService = new OpenApiBusService(refreshClock, predictService,
+                    List.of(ggBusProvider, townBusProvider, shuttleBusProvider), new SimpleMeterRegistry(),
+                    PROVIDER_TIMEOUT, STALE_MAX_AGE);
+            lastGood = refreshService.retrieveBusArrival(station, lastGood).block();
+            statuses.add(findArrival(lastGood.getArrivals(), "720-3").getStatus());
+        }
+
+        // then
+        assertThat(statuses).containsExactly(BusStatus.RUN, BusStatus.RUN, BusStatus.RUN, BusStatus.PREDICT);
+        assertThat(lastGood.capturedAtOf("GG_")).isEqualTo(clock.instant());
+        assertThat(lastGood.capturedAtOf("T_")).isEqualTo(clock.instant().plus(interval.multipliedBy(4)));
+    }
+
+    private static BusArrival findArrival(List<BusArrival> arrivals, String busNo) {
+        return arrivals.stream()
+                .filter(arrival -> arrival.getBusNo().equals(busNo))
+                .findFirst()
+                .orElseThrow();
+    }
+
     private static HashMap<String, BusStatus> expected1() {
         HashMap<String, BusStatus> statusMap = new HashMap<>();
         statusMap.put("102", BusStatus.STOP);
@@ -4,8 +4,16 @@ import com.dku.council.infra.dku.model.DkuAuth;
 import com.dku.council.infra.dku.model.MajorSubject;
 import com.dku.council.infra.dku.model.Subject;
 import com.dku.council.util.base.AbstractMockServerTest;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.QueueDispatcher;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -28,11 +36,26 @@ class DkuLectureServiceTest extends AbstractMockServerTest {
         this.service = new DkuLectureService(webClient, path);
     }
 
+    @AfterEach
+    void afterEach() {
+        mockServer.setDispatcher(new QueueDispatcher());
+    }
+
     @Test
     void crawlLecture() {
         // given
-        mockHtml("dku/lecture-subject-response");
-        mockHtml("dku/lecture-major-response");
+        // 교양과 전공을 동시에 요청하므로 요청 순서가 아닌 구분값으로 응답한다.
+        mockServer.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) {
+                String body = request.getBody().readUtf8();
+                String file = body.contains("qrySxn=2") ?
+                        "dku/lecture-subject-response.html" : "dku/lecture-major-response.html";
+                return new MockResponse().setBody(readMockData(file))
+                        .addHeader("Content-Type", MediaType.TEXT_HTML_VALUE);
+            }
+        });
 
         List<Subject> expected = new ArrayList<>();
         expected.addAll(dummySubject());
@@ -46,6 +69,23 @@ class DkuLectureServiceTest extends AbstractMockServerTest {
         assertThat(subjects).containsExactlyInAnyOrderElementsOf(expected);
     }
 
+    @Test
+    @DisplayName("시간표 table 부분만 잘라낸다")
+    void extractTable() {
+        // given
+        String html = "<html><body><table id=\"other\"><tr><td>a</td></tr></table>" +
+                "<table id=\"target\"><tr><td><table><tr><td>b</td></tr></table></td></tr></table>" +
+                "<div>c</div></body></html>";
+
+        // when
+        String table = DkuLectureService.extractTable(html, "target");
+        String notFound = DkuLectureService.extractTable(html, "none");
+
+        // then
+        assertThat(table).isEqualTo("<table id=\"target\"><tr><td><table><tr><td>b</td></tr></table></td></tr></table>");
+        assertThat(notFound).isEqualTo(html);
+    }
+
     private static List<Subject> dummySubject() {
         List<Subject> result = new ArrayList<>();
 
@@ -0,0 +1,170 @@
+package com.dku.council.infra.dku.scrapper;
+
+import com.dku.council.infra.dku.exception.DkuFailedCrawlingException;
+import com.dku.council.infra.dku.exception.DkuLoginBusyException;
+import com.dku.council.infra.dku.model.DkuAuth;
+import com.dku.council.infra.dku.model.DkuLoginTarget;
+import com.dku.council.util.ClockUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DkuSessionPoolTest {
+
+    @Mock
+    private DkuAuthenticationService authenticationService;
+
+    private final Clock clock = ClockUtil.create();
+    private DkuSessionPool pool;
+
+
+    @BeforeEach
+    public void setup() {
+        pool = createPool(Duration.ofMinutes(20));
+    }
+
+    @Test
+    @DisplayName("유효 시간 안에는 캐시된 세션을 재사용한다")
+    public void acquireCachedSession() {
+        // given
+        DkuAuth auth = createAuth();
+        when(authenticationService.loginWebInfo("id", "password")).thenReturn(auth);
+
+        // when
+        DkuAuth first = pool.acquire(DkuLoginTarget.WEBINFO);
+        DkuAuth second = pool.acquire(DkuLoginTarget.WEBINFO);
+
+        // then
+        assertThat(first).isSameAs(auth);
+        assertThat(second).isSameAs(auth);
+        verify(authenticationService, times(1)).loginWebInfo("id", "password");
+    }
+
+    @Test
+    @DisplayName("로그인 대상마다 세션을 따로 유지한다")
+    public void acquireByTarget() {
+        // given
+        DkuAuth webinfo = createAuth();
+        DkuAuth portal = createAuth();
+        when(authenticationService.loginWebInfo("id", "password")).thenReturn(webinfo);
+        when(authenticationService.loginPortal("id", "password")).thenReturn(portal);
+
+        // when
+        DkuAuth first = pool.acquire(DkuLoginTarget.WEBINFO);
+        DkuAuth second = pool.acquire(DkuLoginTarget.PORTAL);
+
+        // then
+        assertThat(first).isSameAs(webinfo);
+        assertThat(second).isSameAs(portal);
+    }
+
+    @Test
+    @DisplayName("유효 시간이 지나면 다시 로그인한다")
+    public void acquireExpiredSession() {
+        // given
+        pool = createPool(Duration.ZERO);
+        when(authenticationService.loginWebInfo("id", "password"))
+                .thenReturn(createAuth())
+                .thenReturn(createAuth());
+
+        // when
+        DkuAuth first = pool.acquire(DkuLoginTarget.WEBINFO);
+        DkuAuth second = pool.acquire(DkuLoginTarget.WEBINFO);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        verify(authenticationService, times(2)).loginWebInfo("id", "password");
+    }
+
+    @Test
+    @DisplayName("캐시된 세션으로 크롤링에 실패하면 다시 로그인하여 한 번 더 실행한다")
+    public void executeRetryAfterLogin() {
+        // given
+        DkuAuth stale = createAuth();
+        DkuAuth fresh = createAuth();
+        when(authenticationService.loginWebInfo("id", "password"))
+                .thenReturn(stale)
+                .thenReturn(fresh);
+        pool.acquire(DkuLoginTarget.WEBINFO);
+        List<DkuAuth> used = new ArrayList<>();
+
+        // when
+        String result = pool.execute(DkuLoginTarget.WEBINFO, auth -> {
+            used.add(auth);
+            if (auth == stale) {
+                throw new DkuFailedCrawlingException("expired");
+            }
+            return "result";
+        });
+
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(used).containsExactly(stale, fresh);
+        assertThat(pool.acquire(DkuLoginTarget.WEBINFO)).isSameAs(fresh);
+    }
+
+    @Test
+    @DisplayName("새로 로그인한 세션으로도 실패하면 다시 시도하지 않는다")
+    public void executeFailedWithNewSession() {
+        // given
+        when(authenticationService.loginWebInfo("id", "password")).thenReturn(createAuth());
+
+        // when & then
+        assertThrows(DkuFailedCrawlingException.class, () ->
+                pool.execute(DkuLoginTarget.WEBINFO, auth -> {
+                    throw new DkuFailedCrawlingException("failed");
+                }));
+        verify(authenticationService, times(1)).loginWebInfo("id", "password");
+    }
+
+    @Test
+    @DisplayName("다른 계정의 로그인은 캐시하지 않는다")
+    public void loginWithoutCache() {
+        // given
+        when(authenticationService.loginWebInfo("student", "pwd")).thenReturn(createAuth());
+
+        // when
+        pool.login(DkuLoginTarget.WEBINFO, "student", "pwd");
+        pool.login(DkuLoginTarget.WEBINFO, "student", "pwd");
+
+        // then
+        verify(authenticationService, times(2)).loginWebInfo("student", "pwd");
+    }
+
+    @Test
+    @DisplayName("동시 로그인 수를 넘으면 기다리다가 실패한다")
+    public void loginRejected() {
+        // given
+        DkuSessionPool limited = new DkuSessionPool(authenticationService, clock, new SimpleMeterRegistry(),
+                "id", "password", Duration.ofMinutes(20), Duration.ZERO, 0);
+
+        // when & then
+        assertThrows(DkuLoginBusyException.class, () ->
+                limited.login(DkuLoginTarget.WEBINFO, "student", "pwd"));
+        verify(authenticationService, never()).loginWebInfo(any(), any());
+    }
+
+    private DkuSessionPool createPool(Duration maxAge) {
+        return new DkuSessionPool(authenticationService, clock, new SimpleMeterRegistry(),
+                "id", "password", maxAge, Duration.ofSeconds(1), 4);
+    }
+
+    private static DkuAuth createAuth() {
+        return new DkuAuth(new LinkedMultiValueMap<>());
+    }
+}
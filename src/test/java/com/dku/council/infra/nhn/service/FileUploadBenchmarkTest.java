@@ -0,0 +1,123 @@
+package com.dku.council.infra.nhn.service;
+
+import com.dku.council.infra.nhn.model.FileRequest;
+import com.dku.council.infra.nhn.model.UploadedFile;
+import com.dku.council.util.base.AbstractMockServerTest;
+import com.dku.council.util.test.FullIntegrationTest;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 첨부파일을 하나씩 업로드할 때와 동시에 업로드할 때의 시간을 비교한다.
+ * Object storage는 PUT마다 일정 시간 뒤에 응답하는 MockWebServer로 대신한다.
+ */
+@Slf4j
+@FullIntegrationTest
+class FileUploadBenchmarkTest extends AbstractMockServerTest {
+
+    private static final int FILE_SIZE = 4 * 1024 * 1024;
+    private static final long PUT_LATENCY_MILLIS = 100;
+    private static final int REPEAT = 3;
+
+    private final Random random = new Random(0);
+    private ObjectStorageService storageService;
+    private ObjectUploadContext uploadContext;
+    private FileUploadService service;
+
+
+    @BeforeEach
+    public void setup() {
+        mockServer.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) {
+                if ("PUT".equals(request.getMethod())) {
+                    return new MockResponse().setResponseCode(HttpStatus.CREATED.value())
+                            .setHeadersDelay(PUT_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                return new MockResponse().setResponseCode(HttpStatus.NOT_FOUND.value());
+            }
+        });
+
+        NHNTokenManager tokenManager = mock(NHNTokenManager.class);
+        when(tokenManager.getToken()).thenReturn("token");
+
+        uploadContext = new ObjectUploadContext("http://localhost:" + mockServer.getPort() + "/%s", "default");
+        storageService = new ObjectStorageService(WebClient.create(), uploadContext);
+        service = new FileUploadService(tokenManager, storageService, uploadContext, 4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("순차 업로드와 동시 업로드 비교")
+    void uploadFiles() throws IOException {
+        for (int count : new int[]{1, 2, 5, 10}) {
+            List<FileRequest> files = FileRequest.ofList(createFiles(count));
+
+            long sequentialNanos = 0;
+            long parallelNanos = 0;
+            for (int i = 0; i < REPEAT; i++) {
+                long start = System.nanoTime();
+                uploadSequentially(files);
+                sequentialNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                List<UploadedFile> uploaded = service.newContext().uploadFiles(files, "bench");
+                parallelNanos += System.nanoTime() - start;
+
+                assertThat(uploaded).hasSize(count);
+            }
+
+            log.info("files={}: sequential={}ms, parallel={}ms", count,
+                    sequentialNanos / REPEAT / 1_000_000, parallelNanos / REPEAT / 1_000_000);
+        }
+    }
+
+    /**
+     * 파일마다 존재 여부를 확인한 뒤 하나씩 업로드하던 이전 방식
+     */
+    private void uploadSequentially(List<FileRequest> files) throws IOException {
+        for (FileRequest file : files) {
+            String objectName = uploadContext.makeObjectId("bench", "bin");
+            if (!storageService.isInObject(objectName)) {
+                storageService.uploadObject("token", objectName, file.getInputStream(), file.getContentType());
+            }
+        }
+    }
+
+    private List<MultipartFile> createFiles(int count) {
+        List<MultipartFile> files = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] content = new byte[FILE_SIZE];
+            random.nextBytes(content);
+            files.add(new MockMultipartFile("files", "file" + i + ".bin",
+                    "application/octet-stream", content));
+        }
+        return files;
+    }
+}
@@ -1,12 +1,14 @@
 package com.dku.council.infra.nhn.service;
 
+import com.dku.council.infra.nhn.exception.InvalidAccessObjectStorageException;
 import com.dku.council.infra.nhn.model.FileRequest;
 import com.dku.council.infra.nhn.model.UploadedFile;
 import com.dku.council.mock.MultipartFileMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
@@ -17,6 +19,7 @@ import java.util.List;
 import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -27,7 +30,7 @@ class FileUploadServiceTest {
     private static final Pattern UUID_PATTERN = Pattern.compile("^[0-9a-f]{8}\\b-[0-9a-f]{4}\\b-[0-9a-f]{4}\\b-[0-9a-f]{4}\\b-[0-9a-f]{12}$");
 
     @Mock
-    private NHNAuthService authService;
+    private NHNTokenManager tokenManager;
 
     @Mock
     private ObjectStorageService storageService;
@@ -35,10 +38,20 @@ class FileUploadServiceTest {
     @Mock
     private ObjectUploadContext uploadContext;
 
-    @InjectMocks
     private FileUploadService service;
 
 
+    @BeforeEach
+    public void setup() {
+        service = new FileUploadService(tokenManager, storageService, uploadContext, 4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.shutdown();
+    }
+
+
     @Test
     @DisplayName("upload 로직 검증")
     public void uploadFiles() {
@@ -48,8 +61,7 @@ class FileUploadServiceTest {
         final int totalFiles = 10;
 
         List<MultipartFile> files = MultipartFileMock.createList(totalFiles, ext);
-        when(authService.requestToken()).thenReturn("token");
-        when(storageService.isInObject(any())).thenReturn(false);
+        when(tokenManager.getToken()).thenReturn("token");
         when(uploadContext.makeObjectId(any(), any())).thenReturn("fileId");
 
         // when
@@ -72,7 +84,7 @@ class FileUploadServiceTest {
         String ext = "txt";
         MultipartFile file = MultipartFileMock.create(title, ext);
 
-        when(authService.requestToken()).thenReturn("token");
+        when(tokenManager.getToken()).thenReturn("token");
         when(uploadContext.makeObjectId(any(), any())).thenReturn("fileId");
 
         //when
@@ -89,8 +101,7 @@ class FileUploadServiceTest {
         // given
         final int totalFiles = 10;
         List<MultipartFile> files = MultipartFileMock.createList(totalFiles, "txt");
-        when(authService.requestToken()).thenReturn("token");
-        when(storageService.isInObject(any())).thenReturn(false);
+        when(tokenManager.getToken()).thenReturn("token");
         when(uploadContext.makeObjectId(any(), any())).thenReturn("fileId");
 
         // when
@@ -98,13 +109,39 @@ class FileUploadServiceTest {
 
         // then
         verify(storageService, times(totalFiles)).uploadObject(eq("token"), any(), any(), eq(MediaType.TEXT_PLAIN));
+        verify(storageService, never()).isInObject(any());
+    }
+
+    @Test
+    @DisplayName("하나라도 업로드에 실패하면 업로드된 파일을 삭제한다")
+    public void failedUploadFiles() {
+        // given
+        List<MultipartFile> files = MultipartFileMock.createList(3, "txt");
+        when(tokenManager.getToken()).thenReturn("token");
+        when(uploadContext.makeObjectId(any(), any())).thenReturn("fileId1", "fileId2", "fileId3");
+        doAnswer(invocation -> {
+            if ("fileId2".equals(invocation.getArgument(1))) {
+                throw new IllegalStateException("failed");
+            }
+            return null;
+        }).when(storageService).uploadObject(eq("token"), any(), any(), any());
+
+        // when
+        FileUploadService.Context context = service.newContext();
+        List<FileRequest> requests = FileRequest.ofList(files);
+
+        // then
+        assertThrows(InvalidAccessObjectStorageException.class, () -> context.uploadFiles(requests, "prefix"));
+        verify(storageService).deleteObject("token", "fileId1");
+        verify(storageService).deleteObject("token", "fileId3");
+        verify(storageService, never()).deleteObject("token", "fileId2");
     }
 
     @Test
     @DisplayName("delete시 object storage 호출이 정확한가?")
     public void deleteFilesCallProperly() {
         // given
-        when(authService.requestToken()).thenReturn("token");
+        when(tokenManager.getToken()).thenReturn("token");
 
         // when
         service.newContext().deleteFile("fileId");
@@ -2,6 +2,7 @@ package com.dku.council.infra.nhn.service;
 
 import com.dku.council.infra.nhn.exception.CannotGetTokenException;
 import com.dku.council.infra.nhn.exception.NotInitializedException;
+import com.dku.council.infra.nhn.model.NHNToken;
 import com.dku.council.util.base.AbstractMockServerTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,7 +12,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Instant;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class NHNAuthServiceTest extends AbstractMockServerTest {
@@ -48,6 +51,20 @@ class NHNAuthServiceTest extends AbstractMockServerTest {
         service.requestToken();
     }
 
+    @Test
+    @DisplayName("성공 응답 - 토큰 만료 시각")
+    public void issueTokenWithExpiry() {
+        // given
+        mockJson("nhn/auth/response-success");
+
+        // when
+        NHNToken token = service.issueToken();
+
+        // then
+        assertThat(token.getId()).startsWith("idid");
+        assertThat(token.getExpiresAt()).isEqualTo(Instant.parse("2023-02-20T13:42:09Z"));
+    }
+
     @Test
     @DisplayName("실패 응답 - 실패 status code")
     public void failedByBadRequest() {
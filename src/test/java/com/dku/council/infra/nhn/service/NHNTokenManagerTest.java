@@ -0,0 +1,141 @@
+package com.dku.council.infra.nhn.service;
+
+import com.dku.council.infra.nhn.exception.CannotGetTokenException;
+import com.dku.council.infra.nhn.model.NHNToken;
+import com.dku.council.util.ClockUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NHNTokenManagerTest {
+
+    @Mock
+    private NHNAuthService authService;
+
+    private final Clock clock = ClockUtil.create();
+    private NHNTokenManager manager;
+
+
+    @BeforeEach
+    public void setup() {
+        manager = new NHNTokenManager(authService, clock, new SimpleMeterRegistry(),
+                Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        manager.shutdown();
+    }
+
+    @Test
+    @DisplayName("만료 전까지는 캐시된 토큰을 사용한다")
+    public void getCachedToken() {
+        // given
+        when(authService.issueToken()).thenReturn(token("token", Duration.ofHours(12)));
+
+        // when
+        String first = manager.getToken();
+        String second = manager.getToken();
+
+        // then
+        assertThat(first).isEqualTo("token");
+        assertThat(second).isEqualTo("token");
+        verify(authService, times(1)).issueToken();
+    }
+
+    @Test
+    @DisplayName("만료가 가까우면 기존 토큰을 주고 백그라운드에서 갱신한다")
+    public void refreshInBackground() {
+        // given
+        when(authService.issueToken())
+                .thenReturn(token("token1", Duration.ofMinutes(5)))
+                .thenReturn(token("token2", Duration.ofHours(12)));
+        manager.getToken();
+
+        // when
+        String token = manager.getToken();
+
+        // then
+        assertThat(token).isEqualTo("token1");
+        verify(authService, timeout(1000).times(2)).issueToken();
+    }
+
+    @Test
+    @DisplayName("곧 만료되는 토큰은 사용하지 않고 갱신을 기다린다")
+    public void waitForRefreshWhenExpired() {
+        // given
+        when(authService.issueToken())
+                .thenReturn(token("token1", Duration.ofSeconds(30)))
+                .thenReturn(token("token2", Duration.ofHours(12)));
+        manager.getToken();
+
+        // when
+        String token = manager.getToken();
+
+        // then
+        assertThat(token).isEqualTo("token2");
+    }
+
+    @Test
+    @DisplayName("동시에 갱신을 요청하면 인증 API는 한 번만 호출한다")
+    public void deduplicateRefresh() {
+        // given
+        when(authService.issueToken()).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return token("token", Duration.ofHours(12));
+        });
+
+        // when
+        CompletableFuture<NHNToken> first = manager.refresh();
+        CompletableFuture<NHNToken> second = manager.refresh();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.join().getId()).isEqualTo("token");
+        verify(authService, times(1)).issueToken();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 없으면 기본 유효 시간동안 사용한다")
+    public void defaultTtl() {
+        // given
+        when(authService.issueToken()).thenReturn(new NHNToken("token", null));
+
+        // when
+        manager.getToken();
+        String token = manager.getToken();
+
+        // then
+        assertThat(token).isEqualTo("token");
+        verify(authService, times(1)).issueToken();
+    }
+
+    @Test
+    @DisplayName("토큰을 발급받지 못하면 오류")
+    public void failedGetToken() {
+        // given
+        when(authService.issueToken()).thenThrow(new CannotGetTokenException());
+
+        // when & then
+        assertThrows(CannotGetTokenException.class, () -> manager.getToken());
+    }
+
+    private NHNToken token(String id, Duration ttl) {
+        return new NHNToken(id, Instant.now(clock).plus(ttl));
+    }
+}
@@ -1,5 +1,6 @@
 package com.dku.council.util.base;
 
+import com.dku.council.global.cache.NearCacheManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -16,6 +17,9 @@ public abstract class AbstractContainerRedisTest {
     @Autowired
     private StringRedisTemplate redisTemplate;
 
+    @Autowired(required = false)
+    private NearCacheManager nearCacheManager;
+
     static {
         REDIS_CONTAINER = new GenericContainer<>(REDIS_IMAGE)
                 .withExposedPorts(6379)
@@ -31,6 +35,9 @@ public abstract class AbstractContainerRedisTest {
                 redisTemplate.delete(key);
             }
         }
+        if (nearCacheManager != null) {
+            nearCacheManager.clearAll();
+        }
     }
 
     @DynamicPropertySource